@@ -0,0 +1,20 @@
+package ua.renamer.app.api.enums;
+
+/**
+ * An enumeration representing how files with byte-identical content are treated when numbering files.
+ * The first file in sort order is the original; every later file with the same content is a duplicate.
+ */
+public enum ContentDuplicatePolicy {
+    /**
+     * File contents are not compared.
+     */
+    IGNORE,
+    /**
+     * Duplicates are numbered as usual and marked in the preview.
+     */
+    FLAG,
+    /**
+     * Duplicates keep their name and do not consume a sequence number.
+     */
+    SKIP,
+}
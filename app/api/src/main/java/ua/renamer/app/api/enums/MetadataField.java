@@ -0,0 +1,63 @@
+package ua.renamer.app.api.enums;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Groups of metadata a caller can request from extraction.
+ * Extractors may skip work for groups that are not requested.
+ */
+public enum MetadataField {
+    /**
+     * Image or video width and height.
+     */
+    DIMENSIONS(Category.IMAGE, Category.VIDEO),
+
+    /**
+     * Image or video content creation date.
+     */
+    CONTENT_DATE(Category.IMAGE, Category.VIDEO),
+
+    /**
+     * Audio artist, album, title, year and length.
+     */
+    AUDIO_TAGS(Category.AUDIO),
+
+    /**
+     * Every tag of the file as {@code "Directory.Tag"} → description strings ({@code FileMeta.metaInfo}).
+     */
+    TAG_DUMP(Category.IMAGE, Category.VIDEO);
+
+    private static final Set<MetadataField> TYPED =
+            Collections.unmodifiableSet(EnumSet.of(DIMENSIONS, CONTENT_DATE, AUDIO_TAGS));
+    private static final Set<MetadataField> ALL = Collections.unmodifiableSet(EnumSet.allOf(MetadataField.class));
+
+    private final Set<Category> categories;
+
+    MetadataField(Category first, Category... rest) {
+        this.categories = EnumSet.of(first, rest);
+    }
+
+    /**
+     * @param category the file category
+     * @return {@code true} if files of {@code category} can carry this field
+     */
+    public boolean appliesTo(Category category) {
+        return categories.contains(category);
+    }
+
+    /**
+     * @return the typed fields shown to the user and read by transformers; everything except {@link #TAG_DUMP}
+     */
+    public static Set<MetadataField> typed() {
+        return TYPED;
+    }
+
+    /**
+     * @return every field
+     */
+    public static Set<MetadataField> all() {
+        return ALL;
+    }
+}
@@ -0,0 +1,21 @@
+package ua.renamer.app.api.enums;
+
+/**
+ * Stages a file passes through in the rename pipeline, in order.
+ */
+public enum PipelineStage {
+    /**
+     * Metadata extraction (Phase 1).
+     */
+    EXTRACT,
+
+    /**
+     * New name computation (Phase 2).
+     */
+    TRANSFORM,
+
+    /**
+     * Duplicate resolution and physical rename (Phases 2.5 and 3).
+     */
+    RENAME
+}
@@ -2,9 +2,13 @@ package ua.renamer.app.api.enums;
 
 /**
  * An enumeration representing different sources for sorting files.
+ *
+ * <p>{@link #FILE_NAME} compares names character by character ("file10" before "file2");
+ * {@link #FILE_NAME_NATURAL} compares digit runs by value and letters case-insensitively ("file2" before "file10").
  */
 public enum SortSource {
     FILE_NAME,
+    FILE_NAME_NATURAL,
     FILE_PATH,
     FILE_SIZE,
     FILE_CREATION_DATETIME,
@@ -0,0 +1,156 @@
+package ua.renamer.app.api.interfaces;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+
+/**
+ * {@link FileReadContext} over a lazily opened read-only {@link FileChannel}. Obtain via
+ * {@link FileReadContext#open(File, BasicFileAttributes)}.
+ *
+ * <p>State changes are guarded by the context's monitor; positional reads run outside it, which
+ * {@link FileChannel} allows. Once closed the channel is never reopened.
+ */
+final class ChannelFileReadContext implements FileReadContext {
+
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    private final File file;
+    private final BasicFileAttributes attributes;
+    private FileChannel channel;
+    private ByteBuffer header;
+    private int openCount;
+    private boolean closed;
+
+    ChannelFileReadContext(File file, BasicFileAttributes attributes) {
+        this.file = Objects.requireNonNull(file, "file");
+        this.attributes = Objects.requireNonNull(attributes, "attributes");
+    }
+
+    @Override
+    public File getFile() {
+        return file;
+    }
+
+    @Override
+    public BasicFileAttributes getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public synchronized ByteBuffer getHeader() throws IOException {
+        if (header == null) {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE);
+            int read = 0;
+            while (buffer.hasRemaining() && read >= 0) {
+                read = channel().read(buffer, buffer.position());
+            }
+            header = buffer.flip();
+        }
+        return header.asReadOnlyBuffer();
+    }
+
+    @Override
+    public int read(ByteBuffer target, long position) throws IOException {
+        return channel().read(target, position);
+    }
+
+    @Override
+    public InputStream newInputStream() throws IOException {
+        return new BufferedInputStream(new PositionalInputStream(getHeader()), STREAM_BUFFER_SIZE);
+    }
+
+    @Override
+    public synchronized void recordExternalOpen() {
+        openCount++;
+    }
+
+    @Override
+    public synchronized int getOpenCount() {
+        return openCount;
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException _) {
+            // Nothing was written; a failed close of a read-only channel loses no data
+        } finally {
+            channel = null;
+        }
+    }
+
+    private synchronized FileChannel channel() throws IOException {
+        if (closed) {
+            // A reader that outlived the mapping must not reopen a file nobody will close
+            throw new ClosedChannelException();
+        }
+        if (channel == null) {
+            channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            openCount++;
+        }
+        return channel;
+    }
+
+    /**
+     * Reads the buffered header first, then the rest of the file with positional channel reads.
+     */
+    private final class PositionalInputStream extends InputStream {
+
+        private final ByteBuffer headerBytes;
+        private long position;
+
+        private PositionalInputStream(ByteBuffer headerBytes) {
+            this.headerBytes = headerBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int read = read(single, 0, 1);
+            return read < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) throws IOException {
+            Objects.checkFromIndexSize(offset, length, target.length);
+            if (length == 0) {
+                return 0;
+            }
+            int read;
+            if (position < headerBytes.limit()) {
+                read = Math.min(length, headerBytes.limit() - (int) position);
+                headerBytes.get((int) position, target, offset, read);
+            } else {
+                read = channel().read(ByteBuffer.wrap(target, offset, length), position);
+                if (read < 0) {
+                    return -1;
+                }
+            }
+            position += read;
+            return read;
+        }
+
+        @Override
+        public long skip(long count) throws IOException {
+            if (count <= 0) {
+                return 0;
+            }
+            long skipped = Math.min(count, Math.max(0, channel().size() - position));
+            position += skipped;
+            return skipped;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package ua.renamer.app.api.interfaces;
+
+import ua.renamer.app.api.model.CachedFileMetadata;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link FileMetadataCache} that never stores anything. Obtain via {@link FileMetadataCache#disabled()}.
+ */
+final class DisabledFileMetadataCache implements FileMetadataCache {
+
+    static final DisabledFileMetadataCache INSTANCE = new DisabledFileMetadataCache();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private DisabledFileMetadataCache() {
+    }
+
+    @Override
+    public Optional<CachedFileMetadata> get(String absolutePath, long size, long lastModifiedMillis) {
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    @Override
+    public void put(String absolutePath, long size, long lastModifiedMillis, CachedFileMetadata metadata) {
+        // Intentionally empty
+    }
+
+    @Override
+    public void invalidate(String absolutePath) {
+        // Intentionally empty
+    }
+
+    @Override
+    public Stats getStats() {
+        return new Stats(0, misses.get(), 0);
+    }
+}
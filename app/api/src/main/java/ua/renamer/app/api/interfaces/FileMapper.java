@@ -1,8 +1,10 @@
 package ua.renamer.app.api.interfaces;
 
+import ua.renamer.app.api.enums.MetadataField;
 import ua.renamer.app.api.model.FileModel;
 
 import java.io.File;
+import java.util.Set;
 
 /**
  * Port interface for mapping a raw {@link File} to an immutable {@link FileModel}.
@@ -12,10 +14,23 @@ import java.io.File;
 public interface FileMapper {
 
     /**
-     * Maps a raw file to a fully-populated immutable model.
+     * Maps a raw file to a fully-populated immutable model with the {@linkplain MetadataField#typed() typed}
+     * metadata fields.
      *
      * @param file the file to map; must not be null and must exist
      * @return the populated file model; never null
      */
     FileModel mapFrom(File file);
+
+    /**
+     * Maps a raw file, extracting only the requested metadata groups. The default implementation ignores
+     * {@code fields} and delegates to {@link #mapFrom(File)}.
+     *
+     * @param file   the file to map; must not be null and must exist
+     * @param fields the metadata groups the caller will read; must not be null
+     * @return the populated file model; never null
+     */
+    default FileModel mapFrom(File file, Set<MetadataField> fields) {
+        return mapFrom(file);
+    }
 }
@@ -0,0 +1,73 @@
+package ua.renamer.app.api.interfaces;
+
+import ua.renamer.app.api.model.CachedFileMetadata;
+
+import java.util.Optional;
+
+/**
+ * Port interface for a cache of extracted file metadata.
+ * Entries are keyed by absolute path and are only valid while the file size and
+ * last-modified time match the values they were stored with.
+ */
+public interface FileMetadataCache {
+
+    /**
+     * Looks up cached metadata. A stored entry whose size or modification time differs
+     * from the given values is treated as stale, removed, and reported as a miss.
+     *
+     * @param absolutePath       absolute path of the file
+     * @param size               current file size in bytes
+     * @param lastModifiedMillis current last-modified time in epoch milliseconds
+     * @return the cached metadata, or empty on a miss
+     */
+    Optional<CachedFileMetadata> get(String absolutePath, long size, long lastModifiedMillis);
+
+    /**
+     * Stores metadata for the file, replacing any previous entry for the same path.
+     *
+     * @param absolutePath       absolute path of the file
+     * @param size               file size in bytes the metadata was extracted from
+     * @param lastModifiedMillis last-modified time in epoch milliseconds the metadata was extracted from
+     * @param metadata           the metadata to store; must not be null
+     */
+    void put(String absolutePath, long size, long lastModifiedMillis, CachedFileMetadata metadata);
+
+    /**
+     * Removes the entry for the given path, if any.
+     *
+     * @param absolutePath absolute path of the file
+     */
+    void invalidate(String absolutePath);
+
+    /**
+     * @return hit/miss counters and the current number of entries
+     */
+    Stats getStats();
+
+    /**
+     * Returns a cache that stores nothing and always misses.
+     *
+     * @return a no-op cache; never null
+     */
+    static FileMetadataCache disabled() {
+        return DisabledFileMetadataCache.INSTANCE;
+    }
+
+    /**
+     * Snapshot of cache counters.
+     *
+     * @param hits    number of lookups answered from the cache
+     * @param misses  number of lookups that found no valid entry
+     * @param entries number of entries currently held
+     */
+    record Stats(long hits, long misses, int entries) {
+
+        /**
+         * @return hits divided by total lookups, or 0 when there were no lookups
+         */
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
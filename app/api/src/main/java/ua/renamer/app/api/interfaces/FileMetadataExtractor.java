@@ -1,8 +1,10 @@
 package ua.renamer.app.api.interfaces;
 
+import ua.renamer.app.api.enums.MetadataField;
 import ua.renamer.app.api.model.meta.FileMeta;
 
 import java.io.File;
+import java.util.Set;
 
 /**
  * Port interface for category-specific metadata extraction strategies.
@@ -19,4 +21,30 @@ public interface FileMetadataExtractor {
      * @return the extracted metadata; never null; errors are captured inside the returned object
      */
     FileMeta extract(File file, String mimeType);
+
+    /**
+     * Extracts only the requested metadata groups. The default implementation ignores {@code fields}
+     * and extracts everything.
+     *
+     * @param file     the file to extract metadata from; must not be null
+     * @param mimeType the detected MIME type of the file; must not be null
+     * @param fields   the metadata groups the caller will read; must not be null
+     * @return the extracted metadata; never null; groups that were not requested may be absent
+     */
+    default FileMeta extract(File file, String mimeType, Set<MetadataField> fields) {
+        return extract(file, mimeType);
+    }
+
+    /**
+     * Extracts the requested metadata groups, reading through {@code context}. The default
+     * implementation extracts from {@link FileReadContext#getFile()}.
+     *
+     * @param context  the read context of the file; must not be null
+     * @param mimeType the detected MIME type of the file; must not be null
+     * @param fields   the metadata groups the caller will read; must not be null
+     * @return the extracted metadata; never null; groups that were not requested may be absent
+     */
+    default FileMeta extract(FileReadContext context, String mimeType, Set<MetadataField> fields) {
+        return extract(context.getFile(), mimeType, fields);
+    }
 }
@@ -1,9 +1,11 @@
 package ua.renamer.app.api.interfaces;
 
 import ua.renamer.app.api.enums.Category;
+import ua.renamer.app.api.enums.MetadataField;
 import ua.renamer.app.api.model.meta.FileMeta;
 
 import java.io.File;
+import java.util.Set;
 
 /**
  * Port interface for orchestrating metadata extraction from a file.
@@ -21,4 +23,33 @@ public interface FileMetadataMapper {
      * @return the extracted metadata; never null; errors are captured inside the returned object
      */
     FileMeta extract(File file, Category category, String mimeType);
+
+    /**
+     * Extracts only the requested metadata groups. The default implementation ignores {@code fields}
+     * and extracts everything.
+     *
+     * @param file     the file to extract metadata from; must not be null
+     * @param category the detected category of the file; must not be null
+     * @param mimeType the detected MIME type of the file; must not be null
+     * @param fields   the metadata groups the caller will read; must not be null
+     * @return the extracted metadata; never null; groups that were not requested may be absent
+     */
+    default FileMeta extract(File file, Category category, String mimeType, Set<MetadataField> fields) {
+        return extract(file, category, mimeType);
+    }
+
+    /**
+     * Extracts the requested metadata groups, reading through {@code context} where the extractor
+     * supports it. The default implementation extracts from {@link FileReadContext#getFile()}.
+     *
+     * @param context  the read context of the file; must not be null
+     * @param category the detected category of the file; must not be null
+     * @param mimeType the detected MIME type of the file; must not be null
+     * @param fields   the metadata groups the caller will read; must not be null
+     * @return the extracted metadata; never null; groups that were not requested may be absent
+     */
+    default FileMeta extract(FileReadContext context, Category category, String mimeType,
+                             Set<MetadataField> fields) {
+        return extract(context.getFile(), category, mimeType, fields);
+    }
 }
@@ -0,0 +1,94 @@
+package ua.renamer.app.api.interfaces;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * One file's reads during mapping: its attributes, read once, and a single read-only channel
+ * shared by MIME detection and metadata parsing.
+ *
+ * <p>The channel is opened on the first content read, so attribute-only work (directories,
+ * cache hits) never opens the file. The first bytes are buffered by {@link #getHeader()} and
+ * served again at the start of every {@link #newInputStream()}.
+ *
+ * <p>A context belongs to the thread mapping the file, but it may be closed from another thread while a
+ * reader is still using it, e.g. when an extraction outlives its deadline. Close it when the file has been
+ * mapped; a closed context stays closed, and its reads throw {@link java.nio.channels.ClosedChannelException}
+ * instead of reopening the file.
+ */
+public interface FileReadContext extends AutoCloseable {
+
+    /**
+     * Number of leading bytes buffered by {@link #getHeader()}.
+     */
+    int HEADER_SIZE = 8 * 1024;
+
+    /**
+     * Create a context over a regular file or directory whose attributes are already known.
+     *
+     * @param file       the file; must not be null
+     * @param attributes the attributes of {@code file}; must not be null
+     * @return a new context; the file is not opened yet
+     */
+    static FileReadContext open(File file, BasicFileAttributes attributes) {
+        return new ChannelFileReadContext(file, attributes);
+    }
+
+    /**
+     * @return the file this context reads; for libraries that can only read from a path
+     */
+    File getFile();
+
+    /**
+     * @return the attributes read when the context was created; never null
+     */
+    BasicFileAttributes getAttributes();
+
+    /**
+     * Return the first {@link #HEADER_SIZE} bytes of the file, or the whole file when it is shorter.
+     *
+     * @return a read-only buffer positioned at 0 with the bytes read as its limit
+     * @throws IOException if the file cannot be opened or read
+     */
+    ByteBuffer getHeader() throws IOException;
+
+    /**
+     * Read from the shared channel at an absolute position without moving any stream.
+     *
+     * @param target   buffer to fill from its position
+     * @param position file offset of the first byte to read
+     * @return number of bytes read, or {@code -1} at end of file
+     * @throws IOException if the file cannot be opened or read
+     */
+    int read(ByteBuffer target, long position) throws IOException;
+
+    /**
+     * Open a buffered stream over the whole file, starting at offset 0. The stream reuses the
+     * header buffer and reads the rest positionally from the shared channel; closing it leaves
+     * the channel open.
+     *
+     * @return a new stream; never null
+     * @throws IOException if the file cannot be opened
+     */
+    InputStream newInputStream() throws IOException;
+
+    /**
+     * Record that a caller opened {@link #getFile()} on its own because its library cannot read
+     * from this context. Counted in {@link #getOpenCount()}.
+     */
+    void recordExternalOpen();
+
+    /**
+     * @return how many times the file was opened through or around this context
+     */
+    int getOpenCount();
+
+    /**
+     * Close the shared channel, if it was opened, and refuse later reads. Closing twice has no effect.
+     */
+    @Override
+    void close();
+}
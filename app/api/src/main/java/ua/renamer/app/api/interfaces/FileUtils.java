@@ -20,6 +20,21 @@ public interface FileUtils {
      */
     void validateFile(File file);
 
+    /**
+     * Validates the file, reads its attributes and returns a {@link FileReadContext} for its content.
+     * The file itself is not opened until the context reads from it.
+     *
+     * @param file the file to read; must not be null
+     * @return a new context the caller must close; never null
+     * @throws NullPointerException                                     if file is null
+     * @throws ua.renamer.app.api.exception.FileNotFoundException       if file does not exist
+     * @throws ua.renamer.app.api.exception.FileAttributesReadException if attributes cannot be read
+     */
+    default FileReadContext openReadContext(File file) {
+        validateFile(file);
+        return FileReadContext.open(file, getBasicFileAttributes(file.toPath()));
+    }
+
     /**
      * Reads basic file attributes for the given path.
      *
@@ -62,6 +77,18 @@ public interface FileUtils {
      */
     String getFileMimeType(Path path);
 
+    /**
+     * Detects the MIME type of the file behind {@code context}. The default implementation
+     * delegates to {@link #getFileMimeType(Path)}, which opens the file again.
+     *
+     * @param context the read context of the file; must not be null
+     * @return the detected MIME type string; never null
+     * @throws ua.renamer.app.api.exception.MimeTypeNotFoundException if detection fails
+     */
+    default String getFileMimeType(FileReadContext context) {
+        return getFileMimeType(context.getFile().toPath());
+    }
+
     /**
      * Returns the creation date of the file, or a minimal fallback if not supported.
      *
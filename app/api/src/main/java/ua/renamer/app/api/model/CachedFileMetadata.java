@@ -0,0 +1,18 @@
+package ua.renamer.app.api.model;
+
+import lombok.Builder;
+import lombok.Value;
+import ua.renamer.app.api.enums.Category;
+import ua.renamer.app.api.model.meta.FileMeta;
+
+/**
+ * The expensive-to-compute part of a {@link FileModel}: detected MIME type, category and extracted metadata.
+ * Stored by {@link ua.renamer.app.api.interfaces.FileMetadataCache} so unchanged files skip detection and parsing.
+ */
+@Value
+@Builder(setterPrefix = "with")
+public class CachedFileMetadata {
+    String detectedMimeType;
+    Category category;
+    FileMeta metadata;
+}
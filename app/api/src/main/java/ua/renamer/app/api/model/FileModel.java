@@ -2,8 +2,10 @@ package ua.renamer.app.api.model;
 
 import lombok.Builder;
 import lombok.Value;
+import org.jspecify.annotations.Nullable;
 import ua.renamer.app.api.enums.Category;
 import ua.renamer.app.api.model.meta.FileMeta;
+import ua.renamer.app.api.model.meta.FileMetaHandle;
 
 import java.io.File;
 import java.time.LocalDateTime;
@@ -13,9 +15,13 @@ import java.util.Set;
 /**
  * Immutable model representing a file after metadata extraction.
  * Produced by the first phase of the rename pipeline.
+ *
+ * <p>The content metadata is reached through a {@link FileMetaHandle}: built with
+ * {@link FileModelBuilder#withMetadata(FileMeta)} it is held directly, built with a
+ * {@linkplain FileMetaHandle#lazy lazy} handle it is extracted on the first {@link #getMetadata()} call.
  */
 @Value
-@Builder(setterPrefix = "with")
+@Builder(setterPrefix = "with", toBuilder = true)
 public class FileModel {
     File file;
     boolean isFile;
@@ -29,7 +35,13 @@ public class FileModel {
     String detectedMimeType;
     Set<String> detectedExtensions;
     Category category;
-    FileMeta metadata;
+    FileMetaHandle metadataHandle;
+
+    /**
+     * Hex SHA-256 of the file content. Set only when content fingerprinting ran and another file of the
+     * same set has identical content, so equal hashes mean byte-identical files.
+     */
+    String contentHash;
 
     public Optional<LocalDateTime> getCreationDate() {
         return Optional.ofNullable(creationDate);
@@ -39,8 +51,16 @@ public class FileModel {
         return Optional.ofNullable(modificationDate);
     }
 
+    /**
+     * @return the content metadata, loading it first when the model holds a lazy handle;
+     * empty when the file was never extracted
+     */
     public Optional<FileMeta> getMetadata() {
-        return Optional.ofNullable(metadata);
+        return metadataHandle == null ? Optional.empty() : Optional.of(metadataHandle.get());
+    }
+
+    public Optional<String> getContentHash() {
+        return Optional.ofNullable(contentHash);
     }
 
     // Explicit getter for boolean field to ensure Lombok compatibility
@@ -48,4 +68,18 @@ public class FileModel {
     public boolean isFile() {
         return isFile;
     }
+
+    public static class FileModelBuilder {
+
+        /**
+         * Set metadata that was already extracted; it is held for the lifetime of the model.
+         *
+         * @param metadata the metadata; {@code null} when the file was never extracted
+         * @return this builder
+         */
+        public FileModelBuilder withMetadata(@Nullable FileMeta metadata) {
+            this.metadataHandle = metadata == null ? null : FileMetaHandle.of(metadata);
+            return this;
+        }
+    }
 }
@@ -43,6 +43,11 @@ public class PreparedFileModel {
      */
     TransformationMetadata transformationMeta;
 
+    /**
+     * Absolute path of the earlier file with identical content, if this file is a content duplicate.
+     */
+    String contentDuplicateOf;
+
     /**
      * Returns the original full filename (name + dot + extension).
      *
@@ -98,4 +103,8 @@ public class PreparedFileModel {
     public Optional<String> getErrorMessage() {
         return Optional.ofNullable(errorMessage);
     }
+
+    public Optional<String> getContentDuplicateOf() {
+        return Optional.ofNullable(contentDuplicateOf);
+    }
 }
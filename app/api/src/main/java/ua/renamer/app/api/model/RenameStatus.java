@@ -27,5 +27,10 @@ public enum RenameStatus {
     /**
      * Failed during physical rename execution.
      */
-    ERROR_EXECUTION
+    ERROR_EXECUTION,
+
+    /**
+     * Not renamed because the run was cancelled before the file was reached.
+     */
+    CANCELLED
 }
@@ -0,0 +1,18 @@
+package ua.renamer.app.api.model;
+
+/**
+ * One step of a rename recipe: a transformation mode with its configuration.
+ *
+ * <p>A recipe is an ordered list of steps. Each step transforms the name produced by the step before it,
+ * so e.g. {@code [ADD_DATETIME, CHANGE_CASE, NUMBER_FILES, CHANGE_EXTENSION]} renames every file once
+ * with the result of all four modes.
+ *
+ * <p>The config is checked against the mode when the recipe is compiled, not here, so an invalid step
+ * surfaces as per-file errors like an invalid single-mode run.
+ *
+ * @param mode   the transformation mode
+ * @param config the configuration of {@code mode}, e.g. {@link ua.renamer.app.api.model.config.AddTextConfig}
+ *               for {@link TransformationMode#ADD_TEXT}
+ */
+public record RenameStep(TransformationMode mode, Object config) {
+}
@@ -2,6 +2,7 @@ package ua.renamer.app.api.model.config;
 
 import lombok.Builder;
 import lombok.Value;
+import ua.renamer.app.api.enums.ContentDuplicatePolicy;
 import ua.renamer.app.api.enums.SortSource;
 
 /**
@@ -37,6 +38,12 @@ public class SequenceConfig implements TransformationConfig {
      */
     boolean perFolderCounting;
 
+    /**
+     * How files with byte-identical content are numbered. Defaults to {@link ContentDuplicatePolicy#IGNORE},
+     * which never reads file contents.
+     */
+    ContentDuplicatePolicy contentDuplicates;
+
     // Partial Lombok builder — Lombok adds with* methods; we override build() for validation
 
     /**
@@ -45,6 +52,7 @@ public class SequenceConfig implements TransformationConfig {
     public static class SequenceConfigBuilder {
         /**
          * Builds the {@link SequenceConfig}, validating that padding is non-negative.
+         * A missing {@code contentDuplicates} policy defaults to {@link ContentDuplicatePolicy#IGNORE}.
          *
          * @return a new {@link SequenceConfig} instance
          * @throws IllegalArgumentException if padding is negative
@@ -53,7 +61,8 @@ public class SequenceConfig implements TransformationConfig {
             if (padding < 0) {
                 throw new IllegalArgumentException("padding must be >= 0, got: " + padding);
             }
-            return new SequenceConfig(startNumber, stepValue, padding, sortSource, perFolderCounting);
+            ContentDuplicatePolicy duplicates = contentDuplicates != null ? contentDuplicates : ContentDuplicatePolicy.IGNORE;
+            return new SequenceConfig(startNumber, stepValue, padding, sortSource, perFolderCounting, duplicates);
         }
     }
 }
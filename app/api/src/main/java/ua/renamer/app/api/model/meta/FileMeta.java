@@ -15,7 +15,7 @@ import java.util.Optional;
  * Category-specific metadata (image/video/audio) may be absent depending on file type.
  */
 @Value
-@Builder(setterPrefix = "with")
+@Builder(setterPrefix = "with", toBuilder = true)
 public class FileMeta {
     private static final FileMeta EMPTY_INSTANCE = FileMeta.builder().build();
 
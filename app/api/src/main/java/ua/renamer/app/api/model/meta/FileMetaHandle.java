@@ -0,0 +1,109 @@
+package ua.renamer.app.api.model.meta;
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.ref.SoftReference;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Reference from a {@link ua.renamer.app.api.model.FileModel} to its {@link FileMeta}.
+ *
+ * <p>A handle created with {@link #of(FileMeta)} holds the metadata strongly. A handle created with
+ * {@link #lazy(Supplier)} calls its loader on the first {@link #get()} and keeps the result only softly
+ * reachable: the garbage collector may clear it under memory pressure, and the next {@link #get()} loads
+ * it again. A file set whose metadata is never read therefore never extracts or retains it.
+ * {@link #lazy(FileMeta, Supplier)} seeds such a handle with metadata that is already at hand.
+ *
+ * <p>Thread-safe; concurrent first calls load once.
+ */
+public final class FileMetaHandle {
+
+    private final @Nullable FileMeta strong;
+    private final @Nullable Supplier<FileMeta> loader;
+    private volatile SoftReference<FileMeta> cached = new SoftReference<>(null);
+
+    private FileMetaHandle(@Nullable FileMeta strong, @Nullable Supplier<FileMeta> loader) {
+        this.strong = strong;
+        this.loader = loader;
+    }
+
+    /**
+     * @param meta the already extracted metadata; must not be null
+     * @return a handle that holds {@code meta} strongly
+     */
+    public static FileMetaHandle of(FileMeta meta) {
+        return new FileMetaHandle(Objects.requireNonNull(meta, "meta must not be null"), null);
+    }
+
+    /**
+     * @param loader extracts the metadata on demand; must return a non-null value and may be called more than once
+     * @return a handle that loads through {@code loader} and holds the result softly
+     */
+    public static FileMetaHandle lazy(Supplier<FileMeta> loader) {
+        return new FileMetaHandle(null, Objects.requireNonNull(loader, "loader must not be null"));
+    }
+
+    /**
+     * @param loaded metadata that was already extracted; must not be null
+     * @param loader extracts the metadata again once the collector cleared {@code loaded}; must return a non-null value
+     * @return a lazy handle that starts out loaded with {@code loaded}, held softly
+     */
+    public static FileMetaHandle lazy(FileMeta loaded, Supplier<FileMeta> loader) {
+        FileMetaHandle handle = lazy(loader);
+        handle.cached = new SoftReference<>(Objects.requireNonNull(loaded, "loaded must not be null"));
+        return handle;
+    }
+
+    /**
+     * Return the metadata, loading it if it was never loaded or has been cleared.
+     *
+     * @return the metadata; never null
+     */
+    public FileMeta get() {
+        if (strong != null) {
+            return strong;
+        }
+        FileMeta meta = cached.get();
+        if (meta != null) {
+            return meta;
+        }
+        synchronized (this) {
+            meta = cached.get();
+            if (meta == null) {
+                meta = Objects.requireNonNull(loader.get(), "loader returned null");
+                cached = new SoftReference<>(meta);
+            }
+            return meta;
+        }
+    }
+
+    /**
+     * @return {@code true} when {@link #get()} returns without loading
+     */
+    public boolean isLoaded() {
+        return strong != null || cached.get() != null;
+    }
+
+    /**
+     * Handles holding metadata strongly are equal when their metadata is equal; lazy handles are equal
+     * only to themselves, so comparing models never triggers a load.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof FileMetaHandle other && strong != null && strong.equals(other.strong);
+    }
+
+    @Override
+    public int hashCode() {
+        return strong != null ? strong.hashCode() : System.identityHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return strong != null ? strong.toString() : "FileMetaHandle(lazy, loaded=" + isLoaded() + ")";
+    }
+}
@@ -0,0 +1,25 @@
+package ua.renamer.app.api.service;
+
+/**
+ * Cooperative cancellation signal checked by the rename pipeline between units of work.
+ * A file that is already being renamed is never interrupted; files not yet started are skipped.
+ */
+@FunctionalInterface
+public interface CancellationToken {
+
+    /**
+     * Returns whether the caller has asked the pipeline to stop.
+     *
+     * @return {@code true} once cancellation has been requested; never reverts to {@code false}
+     */
+    boolean isCancellationRequested();
+
+    /**
+     * Returns a token that is never cancelled.
+     *
+     * @return a shared token; never null
+     */
+    static CancellationToken none() {
+        return () -> false;
+    }
+}
@@ -3,6 +3,7 @@ package ua.renamer.app.api.service;
 import ua.renamer.app.api.model.FileModel;
 import ua.renamer.app.api.model.PreparedFileModel;
 import ua.renamer.app.api.model.RenameResult;
+import ua.renamer.app.api.model.RenameStep;
 import ua.renamer.app.api.model.TransformationMode;
 
 import java.io.File;
@@ -24,11 +25,54 @@ public interface FileRenameOrchestrator {
      * @param progressCallback optional callback for progress updates; may be null
      * @return the list of rename results; never null; never throws
      */
-    List<RenameResult> execute(
+    default List<RenameResult> execute(
             List<File> files,
             TransformationMode mode,
             Object config,
             ProgressCallback progressCallback
+    ) {
+        return execute(files, mode, config, progressCallback, CancellationToken.none());
+    }
+
+    /**
+     * Executes the complete rename pipeline synchronously, stopping early when cancelled.
+     * After cancellation no new file is extracted, transformed or renamed; files already renamed
+     * are reported as such and every file that was not reached is reported as
+     * {@link ua.renamer.app.api.model.RenameStatus#CANCELLED}.
+     *
+     * @param files            the files to rename; must not be null
+     * @param mode             the transformation mode to apply; must not be null
+     * @param config           the configuration for the transformation mode; must not be null
+     * @param progressCallback optional callback for progress updates; may be null
+     * @param cancellation     checked between units of work; must not be null
+     * @return one rename result per input file; never null; never throws
+     */
+    List<RenameResult> execute(
+            List<File> files,
+            TransformationMode mode,
+            Object config,
+            ProgressCallback progressCallback,
+            CancellationToken cancellation
+    );
+
+    /**
+     * Executes the complete rename pipeline for a multi-step recipe, stopping early when cancelled.
+     * The steps are compiled into one transformation applied to each file in a single pass: metadata is
+     * extracted once with the fields of all steps, and every file is deduplicated and renamed once with the
+     * name produced by the last step. A step that fails for a file stops the recipe for that file.
+     * Steps that need the whole file set (NUMBER_FILES) see the names produced by the steps before them.
+     *
+     * @param files            the files to rename; must not be null
+     * @param recipe           the steps to apply, in order; must not be null or empty
+     * @param progressCallback optional callback for progress updates; may be null
+     * @param cancellation     checked between units of work; must not be null
+     * @return one rename result per input file; never null; never throws
+     */
+    List<RenameResult> execute(
+            List<File> files,
+            List<RenameStep> recipe,
+            ProgressCallback progressCallback,
+            CancellationToken cancellation
     );
 
     /**
@@ -48,7 +92,10 @@ public interface FileRenameOrchestrator {
     );
 
     /**
-     * Phase 1 only: extracts file metadata (name, size, timestamps, EXIF, etc.) in parallel.
+     * Phase 1 only: reads file attributes (name, size, timestamps) and detects the MIME type in parallel.
+     * Content metadata (EXIF, dimensions, audio tags) is not extracted here: each model gets a lazy
+     * {@link ua.renamer.app.api.model.meta.FileMetaHandle} that extracts it on the first
+     * {@link FileModel#getMetadata()} call.
      * Used by the backend session when files are added to the session.
      * Never throws — per-file errors are captured as error FileModel entries.
      *
@@ -69,10 +116,68 @@ public interface FileRenameOrchestrator {
      * @param progressCallback optional callback for progress updates; may be null
      * @return the list of prepared file models after transformation and deduplication; never null
      */
+    default List<PreparedFileModel> computePreview(
+            List<FileModel> fileModels,
+            TransformationMode mode,
+            Object config,
+            ProgressCallback progressCallback
+    ) {
+        return computePreview(fileModels, mode, config, progressCallback, CancellationToken.none());
+    }
+
+    /**
+     * Phases 2–2.5 only, stopping early when cancelled. Once cancellation is requested no further file is
+     * transformed and an empty list is returned, so a caller that superseded the preview does not keep the
+     * work pool busy computing a result it will discard.
+     *
+     * @param fileModels       the file models produced by Phase 1; must not be null
+     * @param mode             the transformation mode to apply; must not be null
+     * @param config           the configuration for the transformation mode; must not be null
+     * @param progressCallback optional callback for progress updates; may be null
+     * @param cancellation     checked before each file is transformed; must not be null
+     * @return the prepared file models after transformation and deduplication, or an empty list when
+     * cancelled; never null
+     */
     List<PreparedFileModel> computePreview(
             List<FileModel> fileModels,
             TransformationMode mode,
             Object config,
+            ProgressCallback progressCallback,
+            CancellationToken cancellation
+    );
+
+    /**
+     * Phases 2–2.5 only for a multi-step recipe; see {@link #execute(List, List, ProgressCallback, CancellationToken)}.
+     * Never throws — per-file errors are captured in PreparedFileModel.hasError().
+     *
+     * @param fileModels       the file models produced by Phase 1; must not be null
+     * @param recipe           the steps to apply, in order; must not be null or empty
+     * @param progressCallback optional callback for progress updates; may be null
+     * @return the list of prepared file models after transformation and deduplication; never null
+     */
+    default List<PreparedFileModel> computePreview(
+            List<FileModel> fileModels,
+            List<RenameStep> recipe,
             ProgressCallback progressCallback
+    ) {
+        return computePreview(fileModels, recipe, progressCallback, CancellationToken.none());
+    }
+
+    /**
+     * Phases 2–2.5 only for a multi-step recipe, stopping early when cancelled; see
+     * {@link #computePreview(List, TransformationMode, Object, ProgressCallback, CancellationToken)}.
+     *
+     * @param fileModels       the file models produced by Phase 1; must not be null
+     * @param recipe           the steps to apply, in order; must not be null or empty
+     * @param progressCallback optional callback for progress updates; may be null
+     * @param cancellation     checked before each file is transformed; must not be null
+     * @return the prepared file models after transformation and deduplication, or an empty list when
+     * cancelled; never null
+     */
+    List<PreparedFileModel> computePreview(
+            List<FileModel> fileModels,
+            List<RenameStep> recipe,
+            ProgressCallback progressCallback,
+            CancellationToken cancellation
     );
 }
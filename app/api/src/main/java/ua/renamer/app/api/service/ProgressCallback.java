@@ -1,5 +1,7 @@
 package ua.renamer.app.api.service;
 
+import ua.renamer.app.api.enums.PipelineStage;
+
 /**
  * Functional interface for progress reporting during the rename pipeline.
  */
@@ -13,4 +15,14 @@ public interface ProgressCallback {
      * @param maxValue     the total number of items to process
      */
     void updateProgress(int currentValue, int maxValue);
+
+    /**
+     * Called when one file has completed a pipeline stage, in addition to {@link #updateProgress}.
+     * The default implementation ignores it.
+     *
+     * @param stage     the stage the file has completed
+     * @param fileBytes the file size in bytes for {@link PipelineStage#EXTRACT}; {@code 0} otherwise
+     */
+    default void stageCompleted(PipelineStage stage, long fileBytes) {
+    }
 }
@@ -0,0 +1,29 @@
+package ua.renamer.app.api.session;
+
+import org.jspecify.annotations.Nullable;
+import ua.renamer.app.api.enums.PipelineStage;
+
+import java.time.Duration;
+
+/**
+ * Sampled progress of a running task, published at a bounded rate.
+ *
+ * @param stage          the furthest pipeline stage any file has reached; {@code null} before any file was processed
+ * @param workDone       units completed
+ * @param totalWork      total units expected; {@code -1} if indeterminate
+ * @param filesDone      files that have passed through every stage; {@code -1} if unknown
+ * @param totalFiles     files submitted to the task; {@code -1} if unknown
+ * @param filesPerSecond average number of files per second that completed {@code stage}
+ * @param bytesPerSecond average number of bytes per second read during extraction
+ * @param eta            estimated time remaining; {@code null} while it cannot be estimated
+ */
+public record ProgressSnapshot(
+        @Nullable PipelineStage stage,
+        long workDone,
+        long totalWork,
+        long filesDone,
+        long totalFiles,
+        double filesPerSecond,
+        double bytesPerSecond,
+        @Nullable Duration eta) {
+}
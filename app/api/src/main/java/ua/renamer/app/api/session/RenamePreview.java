@@ -9,11 +9,27 @@ package ua.renamer.app.api.session;
  * @param newName      the proposed full filename after transformation; {@code null} if {@code hasError} is {@code true}
  * @param hasError     {@code true} if the transformation phase produced an error for this file
  * @param errorMessage a human-readable error description; {@code null} when {@code hasError} is {@code false}
+ * @param duplicateOf  {@code fileId} of the earlier file with identical content; {@code null} unless the mode
+ *                     compares file contents and this file is a duplicate
  */
 public record RenamePreview(
         String fileId,
         String originalName,
         String newName,
         boolean hasError,
-        String errorMessage) {
+        String errorMessage,
+        String duplicateOf) {
+
+    /**
+     * Creates a preview of a file that is not a content duplicate.
+     *
+     * @param fileId       stable identifier matching a {@link RenameCandidate#fileId()}
+     * @param originalName the full filename before transformation
+     * @param newName      the proposed full filename after transformation
+     * @param hasError     {@code true} if the transformation phase produced an error for this file
+     * @param errorMessage a human-readable error description
+     */
+    public RenamePreview(String fileId, String originalName, String newName, boolean hasError, String errorMessage) {
+        this(fileId, originalName, newName, hasError, errorMessage, null);
+    }
 }
@@ -1,5 +1,6 @@
 package ua.renamer.app.api.session;
 
+import ua.renamer.app.api.enums.ContentDuplicatePolicy;
 import ua.renamer.app.api.enums.SortSource;
 import ua.renamer.app.api.model.TransformationMode;
 
@@ -15,11 +16,26 @@ import ua.renamer.app.api.model.TransformationMode;
  * @param sortSource        the criterion used to order files before assigning sequence numbers; must not be null
  * @param perFolderCounting when {@code true} (default), each parent directory gets its own independent counter
  *                          starting from {@code startNumber}; when {@code false}, all files share one global counter
+ * @param contentDuplicates how files with byte-identical content are numbered; must not be null
  */
 public record SequenceParams(int startNumber, int stepValue, int paddingDigits, SortSource sortSource,
-                             boolean perFolderCounting)
+                             boolean perFolderCounting, ContentDuplicatePolicy contentDuplicates)
         implements ModeParameters {
 
+    /**
+     * Creates parameters that do not compare file contents ({@link ContentDuplicatePolicy#IGNORE}).
+     *
+     * @param startNumber       the first number in the sequence
+     * @param stepValue         the increment between successive sequence numbers
+     * @param paddingDigits     the minimum number of digits in the formatted sequence number
+     * @param sortSource        the criterion used to order files before assigning sequence numbers
+     * @param perFolderCounting whether each parent directory gets its own counter
+     */
+    public SequenceParams(int startNumber, int stepValue, int paddingDigits, SortSource sortSource,
+                          boolean perFolderCounting) {
+        this(startNumber, stepValue, paddingDigits, sortSource, perFolderCounting, ContentDuplicatePolicy.IGNORE);
+    }
+
     @Override
     public TransformationMode mode() {
         return TransformationMode.NUMBER_FILES;
@@ -36,6 +52,9 @@ public record SequenceParams(int startNumber, int stepValue, int paddingDigits,
         if (paddingDigits < 0) {
             return ValidationResult.fieldError("paddingDigits", "must be zero or greater");
         }
+        if (contentDuplicates == null) {
+            return ValidationResult.fieldError("contentDuplicates", "must not be null");
+        }
         return ValidationResult.valid();
     }
 
@@ -51,7 +70,8 @@ public record SequenceParams(int startNumber, int stepValue, int paddingDigits,
      * @return a new {@link SequenceParams} with the updated field
      */
     public SequenceParams withStartNumber(int startNumber) {
-        return new SequenceParams(startNumber, this.stepValue, this.paddingDigits, this.sortSource, this.perFolderCounting);
+        return new SequenceParams(startNumber, this.stepValue, this.paddingDigits, this.sortSource, this.perFolderCounting,
+                this.contentDuplicates);
     }
 
     /**
@@ -61,7 +81,8 @@ public record SequenceParams(int startNumber, int stepValue, int paddingDigits,
      * @return a new {@link SequenceParams} with the updated field
      */
     public SequenceParams withStepValue(int stepValue) {
-        return new SequenceParams(this.startNumber, stepValue, this.paddingDigits, this.sortSource, this.perFolderCounting);
+        return new SequenceParams(this.startNumber, stepValue, this.paddingDigits, this.sortSource, this.perFolderCounting,
+                this.contentDuplicates);
     }
 
     /**
@@ -71,7 +92,8 @@ public record SequenceParams(int startNumber, int stepValue, int paddingDigits,
      * @return a new {@link SequenceParams} with the updated field
      */
     public SequenceParams withPaddingDigits(int paddingDigits) {
-        return new SequenceParams(this.startNumber, this.stepValue, paddingDigits, this.sortSource, this.perFolderCounting);
+        return new SequenceParams(this.startNumber, this.stepValue, paddingDigits, this.sortSource, this.perFolderCounting,
+                this.contentDuplicates);
     }
 
     /**
@@ -81,7 +103,8 @@ public record SequenceParams(int startNumber, int stepValue, int paddingDigits,
      * @return a new {@link SequenceParams} with the updated field
      */
     public SequenceParams withSortSource(SortSource sortSource) {
-        return new SequenceParams(this.startNumber, this.stepValue, this.paddingDigits, sortSource, this.perFolderCounting);
+        return new SequenceParams(this.startNumber, this.stepValue, this.paddingDigits, sortSource, this.perFolderCounting,
+                this.contentDuplicates);
     }
 
     /**
@@ -92,6 +115,19 @@ public record SequenceParams(int startNumber, int stepValue, int paddingDigits,
      * @return a new {@link SequenceParams} with the updated field
      */
     public SequenceParams withPerFolderCounting(boolean perFolderCounting) {
-        return new SequenceParams(this.startNumber, this.stepValue, this.paddingDigits, this.sortSource, perFolderCounting);
+        return new SequenceParams(this.startNumber, this.stepValue, this.paddingDigits, this.sortSource, perFolderCounting,
+                this.contentDuplicates);
+    }
+
+    /**
+     * Returns a copy of this record with the given content duplicate policy.
+     *
+     * @param contentDuplicates how files with byte-identical content are numbered; must not be null for valid
+     *                          configuration
+     * @return a new {@link SequenceParams} with the updated field
+     */
+    public SequenceParams withContentDuplicates(ContentDuplicatePolicy contentDuplicates) {
+        return new SequenceParams(this.startNumber, this.stepValue, this.paddingDigits, this.sortSource,
+                this.perFolderCounting, contentDuplicates);
     }
 }
@@ -83,12 +83,13 @@ public interface SessionApi {
     List<AvailableAction> availableActions();
 
     /**
-     * Returns rich metadata for the file with the given ID, or empty if the ID is unknown.
-     * Safe to call from any thread.
+     * Loads rich metadata for the file with the given ID on the background work pool.
+     * Reading metadata may block on disk I/O, so callers on the UI thread must apply the
+     * result asynchronously instead of joining the future.
      *
      * @param fileId the stable file identifier; must not be null
-     * @return an {@link Optional} containing the metadata, or empty if unavailable; never null
+     * @return future completing with the metadata, or an empty {@link Optional} if the ID is unknown; never null
      * @throws NullPointerException if {@code fileId} is null
      */
-    Optional<FileMetadataDto> getFileMetadata(String fileId);
+    CompletableFuture<Optional<FileMetadataDto>> getFileMetadata(String fileId);
 }
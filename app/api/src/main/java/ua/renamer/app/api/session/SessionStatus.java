@@ -32,5 +32,11 @@ public enum SessionStatus {
     /**
      * A session-level error occurred (distinct from per-file errors).
      */
-    ERROR
+    ERROR,
+
+    /**
+     * The last rename execution was cancelled before every file was processed; the remaining files were left
+     * untouched.
+     */
+    CANCELLED
 }
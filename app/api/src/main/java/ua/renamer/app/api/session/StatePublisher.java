@@ -33,6 +33,16 @@ public interface StatePublisher {
      */
     void publishPreviewChanged(List<RenamePreview> preview);
 
+    /**
+     * Published when a recomputed preview covers the same files as the last published preview
+     * and only some rows changed (e.g. after a parameter update that affects a few names).
+     * Each entry replaces the row with the same {@link RenamePreview#fileId()}; rows not listed
+     * are unchanged.
+     *
+     * @param changedRows the rows whose content changed; never null or empty
+     */
+    void publishPreviewRowsChanged(List<RenamePreview> changedRows);
+
     /**
      * Published when the active transformation mode or its parameters change.
      *
@@ -45,8 +55,8 @@ public interface StatePublisher {
      * Published when a rename execution finishes.
      *
      * @param results per-file rename outcomes; never null
-     * @param status  resulting session status ({@link SessionStatus#COMPLETE}
-     *                or {@link SessionStatus#ERROR}); never null
+     * @param status  resulting session status ({@link SessionStatus#COMPLETE},
+     *                {@link SessionStatus#ERROR} or {@link SessionStatus#CANCELLED}); never null
      */
     void publishRenameComplete(List<RenameSessionResult> results, SessionStatus status);
 
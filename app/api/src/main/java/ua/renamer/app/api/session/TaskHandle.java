@@ -19,8 +19,9 @@ public interface TaskHandle<T> {
     String taskId();
 
     /**
-     * Returns a future that completes with the task result, completes exceptionally
-     * on unrecoverable error, or is cancelled. Never null.
+     * Returns a future that completes with the task result, or completes exceptionally
+     * on unrecoverable error. A cancelled task still completes normally, with the result
+     * of the work done before it stopped. Never null.
      */
     CompletableFuture<T> result();
 
@@ -59,5 +60,16 @@ public interface TaskHandle<T> {
          * @param message   human-readable description of current step; may be null
          */
         void onProgress(double workDone, double totalWork, String message);
+
+        /**
+         * Called with a sampled progress snapshot. Tasks publish snapshots at a bounded rate, so
+         * listeners may update UI state directly from here.
+         * The default implementation forwards the work counters to {@link #onProgress(double, double, String)}.
+         *
+         * @param snapshot the latest progress sample; never null
+         */
+        default void onProgress(ProgressSnapshot snapshot) {
+            onProgress(snapshot.workDone(), snapshot.totalWork(), null);
+        }
     }
 }
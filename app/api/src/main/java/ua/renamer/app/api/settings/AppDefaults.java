@@ -24,6 +24,54 @@ public class AppDefaults {
      */
     public static final LogLevel DEFAULT_LOG_LEVEL = LogLevel.INFO;
 
+    /**
+     * Number of concurrent metadata reads allowed per storage device when no user preference has been saved.
+     * Low enough to keep spinning disks and network mounts from seeking between files.
+     */
+    public static final int DEFAULT_EXTRACTION_PERMITS_PER_DEVICE = 4;
+
+    /**
+     * Lower bound accepted for the per-device extraction permit count.
+     */
+    public static final int MIN_EXTRACTION_PERMITS_PER_DEVICE = 1;
+
+    /**
+     * Upper bound accepted for the per-device extraction permit count.
+     */
+    public static final int MAX_EXTRACTION_PERMITS_PER_DEVICE = 64;
+
+    /**
+     * Number of directories renamed concurrently when no user preference has been saved.
+     * Renames within one directory always run one after another.
+     */
+    public static final int DEFAULT_RENAME_PARALLELISM = 4;
+
+    /**
+     * Lower bound accepted for the rename parallelism.
+     */
+    public static final int MIN_RENAME_PARALLELISM = 1;
+
+    /**
+     * Upper bound accepted for the rename parallelism.
+     */
+    public static final int MAX_RENAME_PARALLELISM = 64;
+
+    /**
+     * Size in KiB of the leading region read from RAW image files before falling back to a full read
+     * when no user preference has been saved. RAW files keep their EXIF block near the start.
+     */
+    public static final int DEFAULT_IMAGE_HEADER_READ_KB = 256;
+
+    /**
+     * Lower bound accepted for the image header read size; {@code 0} disables header-only reads.
+     */
+    public static final int MIN_IMAGE_HEADER_READ_KB = 0;
+
+    /**
+     * Upper bound accepted for the image header read size.
+     */
+    public static final int MAX_IMAGE_HEADER_READ_KB = 16_384;
+
     /**
      * Base filename of the persistent settings file stored in the application directory.
      */
@@ -33,4 +81,24 @@ public class AppDefaults {
      * OS-specific application directory name used under the platform config root.
      */
     public static final String APP_DIR_NAME = "Renamer";
+
+    /**
+     * Sub-directory of the application directory that holds cache files.
+     */
+    public static final String CACHE_DIR_NAME = "cache";
+
+    /**
+     * Filename of the persistent metadata cache inside {@link #CACHE_DIR_NAME}.
+     */
+    public static final String METADATA_CACHE_FILE_NAME = "metadata-cache.jsonl";
+
+    /**
+     * Maximum number of files kept in the metadata cache; the oldest entries are evicted beyond this.
+     */
+    public static final int METADATA_CACHE_MAX_ENTRIES = 250_000;
+
+    /**
+     * Metadata cache entries older than this many days are discarded.
+     */
+    public static final int METADATA_CACHE_MAX_AGE_DAYS = 90;
 }
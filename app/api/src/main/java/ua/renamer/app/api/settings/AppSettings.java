@@ -9,7 +9,7 @@ import org.jspecify.annotations.Nullable;
  * Construct via {@link #builder()} or obtain a pre-populated instance from {@link #defaults()}.
  */
 @Value
-@Builder(setterPrefix = "with")
+@Builder(setterPrefix = "with", toBuilder = true)
 public class AppSettings {
 
     /**
@@ -42,6 +42,21 @@ public class AppSettings {
      */
     LogLevel logLevel;
 
+    /**
+     * Maximum number of files whose metadata is read concurrently from one storage device.
+     */
+    int extractionPermitsPerDevice;
+
+    /**
+     * Maximum number of directories whose files are renamed concurrently.
+     */
+    int renameParallelism;
+
+    /**
+     * Size in KiB of the header region read from RAW image files; {@code 0} always reads the whole file.
+     */
+    int imageHeaderReadKb;
+
     /**
      * Return an {@link AppSettings} instance populated with all factory defaults.
      *
@@ -55,6 +70,9 @@ public class AppSettings {
                 .withCustomConfigPath(null)
                 .withLoggingEnabled(false)
                 .withLogLevel(AppDefaults.DEFAULT_LOG_LEVEL)
+                .withExtractionPermitsPerDevice(AppDefaults.DEFAULT_EXTRACTION_PERMITS_PER_DEVICE)
+                .withRenameParallelism(AppDefaults.DEFAULT_RENAME_PARALLELISM)
+                .withImageHeaderReadKb(AppDefaults.DEFAULT_IMAGE_HEADER_READ_KB)
                 .build();
     }
 }
@@ -0,0 +1,144 @@
+package ua.renamer.app.api.interfaces;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileReadContextTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    private FileReadContext open(Path path) throws IOException {
+        return FileReadContext.open(path.toFile(), Files.readAttributes(path, BasicFileAttributes.class));
+    }
+
+    @Test
+    void open_doesNotOpenTheFile() throws IOException {
+        Path file = Files.write(tempDir.resolve("a.bin"), randomBytes(16));
+
+        try (FileReadContext context = open(file)) {
+            assertThat(context.getAttributes().size()).isEqualTo(16);
+            assertThat(context.getOpenCount()).isZero();
+        }
+    }
+
+    @Test
+    void getHeader_returnsLeadingBytes() throws IOException {
+        byte[] content = randomBytes(FileReadContext.HEADER_SIZE * 3);
+        Path file = Files.write(tempDir.resolve("a.bin"), content);
+
+        try (FileReadContext context = open(file)) {
+            ByteBuffer header = context.getHeader();
+
+            assertThat(header.remaining()).isEqualTo(FileReadContext.HEADER_SIZE);
+            byte[] bytes = new byte[header.remaining()];
+            header.get(bytes);
+            assertThat(bytes).isEqualTo(Arrays.copyOf(content, FileReadContext.HEADER_SIZE));
+        }
+    }
+
+    @Test
+    void getHeader_whenFileIsShorter_returnsWholeFile() throws IOException {
+        Path file = Files.write(tempDir.resolve("a.bin"), randomBytes(10));
+
+        try (FileReadContext context = open(file)) {
+            assertThat(context.getHeader().remaining()).isEqualTo(10);
+        }
+    }
+
+    @Test
+    void newInputStream_readsWholeFileAcrossHeaderBoundary() throws IOException {
+        byte[] content = randomBytes(FileReadContext.HEADER_SIZE * 5 + 123);
+        Path file = Files.write(tempDir.resolve("a.bin"), content);
+
+        try (FileReadContext context = open(file); InputStream stream = context.newInputStream()) {
+            assertThat(stream.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    void newInputStream_supportsSkip() throws IOException {
+        byte[] content = randomBytes(FileReadContext.HEADER_SIZE * 2);
+        Path file = Files.write(tempDir.resolve("a.bin"), content);
+        int offset = FileReadContext.HEADER_SIZE + 100;
+
+        try (FileReadContext context = open(file); InputStream stream = context.newInputStream()) {
+            stream.skipNBytes(offset);
+
+            assertThat(stream.read()).isEqualTo(content[offset] & 0xFF);
+        }
+    }
+
+    @Test
+    void sharedReads_openTheFileOnce() throws IOException {
+        Path file = Files.write(tempDir.resolve("a.bin"), randomBytes(FileReadContext.HEADER_SIZE * 2));
+
+        try (FileReadContext context = open(file)) {
+            context.getHeader();
+            try (InputStream first = context.newInputStream(); InputStream second = context.newInputStream()) {
+                first.readAllBytes();
+                second.readAllBytes();
+            }
+            context.read(ByteBuffer.allocate(16), 32);
+
+            assertThat(context.getOpenCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void recordExternalOpen_isCounted() throws IOException {
+        Path file = Files.write(tempDir.resolve("a.bin"), randomBytes(16));
+
+        try (FileReadContext context = open(file)) {
+            context.getHeader();
+            context.recordExternalOpen();
+
+            assertThat(context.getOpenCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void close_laterReadsThrowInsteadOfReopening() throws IOException {
+        Path file = Files.write(tempDir.resolve("a.bin"), randomBytes(FileReadContext.HEADER_SIZE * 2));
+        FileReadContext context = open(file);
+        InputStream stream = context.newInputStream();
+        stream.readNBytes(FileReadContext.HEADER_SIZE);
+
+        context.close();
+        context.close();
+
+        assertThatThrownBy(() -> context.read(ByteBuffer.allocate(16), 0)).isInstanceOf(ClosedChannelException.class);
+        assertThatThrownBy(stream::read).isInstanceOf(ClosedChannelException.class);
+        assertThat(context.getOpenCount()).isEqualTo(1);
+    }
+
+    @Test
+    void close_beforeFirstRead_fileIsNeverOpened() throws IOException {
+        Path file = Files.write(tempDir.resolve("a.bin"), randomBytes(16));
+        FileReadContext context = open(file);
+
+        context.close();
+
+        assertThatThrownBy(context::getHeader).isInstanceOf(ClosedChannelException.class);
+        assertThat(context.getOpenCount()).isZero();
+    }
+}
@@ -0,0 +1,130 @@
+package ua.renamer.app.api.model.meta;
+
+import org.junit.jupiter.api.Test;
+import ua.renamer.app.api.model.FileModel;
+
+import java.io.File;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileMetaHandleTest {
+
+    @Test
+    void of_isLoadedAndReturnsValue() {
+        FileMeta meta = FileMeta.withError("x");
+        FileMetaHandle handle = FileMetaHandle.of(meta);
+
+        assertTrue(handle.isLoaded());
+        assertSame(meta, handle.get());
+    }
+
+    @Test
+    void lazy_loadsOnFirstGetOnly() {
+        AtomicInteger loads = new AtomicInteger();
+        FileMeta meta = FileMeta.withError("x");
+        FileMetaHandle handle = FileMetaHandle.lazy(() -> {
+            loads.incrementAndGet();
+            return meta;
+        });
+
+        assertFalse(handle.isLoaded());
+        assertEquals(0, loads.get());
+
+        assertSame(meta, handle.get());
+        assertSame(meta, handle.get());
+        assertTrue(handle.isLoaded());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void lazy_seededWithLoadedMeta_returnsItWithoutLoading() {
+        FileMeta meta = FileMeta.withError("x");
+        FileMetaHandle handle = FileMetaHandle.lazy(meta, () -> {
+            throw new AssertionError("loaded");
+        });
+
+        assertTrue(handle.isLoaded());
+        assertSame(meta, handle.get());
+    }
+
+    @Test
+    void lazy_concurrentFirstGets_loadOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        FileMetaHandle handle = FileMetaHandle.lazy(() -> {
+            loads.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return FileMeta.empty();
+        });
+
+        CompletableFuture<FileMeta> first = CompletableFuture.supplyAsync(handle::get);
+        CompletableFuture<FileMeta> second = CompletableFuture.supplyAsync(handle::get);
+        release.countDown();
+
+        assertSame(first.get(), second.get());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void lazy_loaderReturningNull_throws() {
+        FileMetaHandle handle = FileMetaHandle.lazy(() -> null);
+
+        assertThrows(NullPointerException.class, handle::get);
+    }
+
+    @Test
+    void equals_strongHandlesCompareByValue_lazyHandlesByIdentity() {
+        FileMeta meta = FileMeta.withError("x");
+        FileMetaHandle lazy = FileMetaHandle.lazy(() -> meta);
+
+        assertEquals(FileMetaHandle.of(meta), FileMetaHandle.of(FileMeta.withError("x")));
+        assertEquals(lazy, lazy);
+        assertNotEquals(lazy, FileMetaHandle.lazy(() -> meta));
+        assertNotEquals(FileMetaHandle.of(meta), lazy);
+    }
+
+    @Test
+    void toStringAndHashCode_doNotLoad() {
+        FileMetaHandle handle = FileMetaHandle.lazy(() -> {
+            throw new AssertionError("loaded");
+        });
+
+        handle.hashCode();
+        assertEquals("FileMetaHandle(lazy, loaded=false)", handle.toString());
+    }
+
+    @Test
+    void fileModel_getMetadata_loadsThroughHandle() {
+        FileMeta meta = FileMeta.withError("x");
+        FileModel model = FileModel.builder()
+                .withFile(new File("/tmp/a.jpg"))
+                .withMetadataHandle(FileMetaHandle.lazy(() -> meta))
+                .build();
+
+        assertFalse(model.getMetadataHandle().isLoaded());
+        assertSame(meta, model.getMetadata().orElseThrow());
+        assertTrue(model.getMetadataHandle().isLoaded());
+    }
+
+    @Test
+    void fileModel_withMetadataNull_hasNoMetadata() {
+        FileModel model = FileModel.builder()
+                .withFile(new File("/tmp/a.txt"))
+                .withMetadata(null)
+                .build();
+
+        assertTrue(model.getMetadata().isEmpty());
+    }
+}
@@ -107,11 +107,11 @@ class RenameSessionResultTest {
         assertEquals("permission denied", result.errorMessage());
     }
 
-    // --- RenameStatus enum: all 5 values are present ---
+    // --- RenameStatus enum: all 6 values are present ---
 
     @Test
-    void renameStatus_values_thenExactlyFiveConstants() {
-        assertEquals(5, RenameStatus.values().length);
+    void renameStatus_values_thenExactlySixConstants() {
+        assertEquals(6, RenameStatus.values().length);
     }
 
     @Test
@@ -121,7 +121,8 @@ class RenameSessionResultTest {
                 () -> assertEquals(RenameStatus.SKIPPED, RenameStatus.valueOf("SKIPPED")),
                 () -> assertEquals(RenameStatus.ERROR_EXTRACTION, RenameStatus.valueOf("ERROR_EXTRACTION")),
                 () -> assertEquals(RenameStatus.ERROR_TRANSFORMATION, RenameStatus.valueOf("ERROR_TRANSFORMATION")),
-                () -> assertEquals(RenameStatus.ERROR_EXECUTION, RenameStatus.valueOf("ERROR_EXECUTION"))
+                () -> assertEquals(RenameStatus.ERROR_EXECUTION, RenameStatus.valueOf("ERROR_EXECUTION")),
+                () -> assertEquals(RenameStatus.CANCELLED, RenameStatus.valueOf("CANCELLED"))
         );
     }
 
@@ -9,8 +9,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 class SessionStatusTest {
 
     @Test
-    void values_thenExactlySixConstants() {
-        assertEquals(6, SessionStatus.values().length);
+    void values_thenExactlySevenConstants() {
+        assertEquals(7, SessionStatus.values().length);
     }
 
     @Test
@@ -43,6 +43,11 @@ class SessionStatusTest {
         assertEquals(SessionStatus.ERROR, SessionStatus.valueOf("ERROR"));
     }
 
+    @Test
+    void valueOf_cancelled_thenReturnsCancelledConstant() {
+        assertEquals(SessionStatus.CANCELLED, SessionStatus.valueOf("CANCELLED"));
+    }
+
     @Test
     void valueOf_unknownName_thenThrowsIllegalArgumentException() {
         assertThrows(IllegalArgumentException.class,
@@ -58,6 +63,7 @@ class SessionStatusTest {
         assertEquals(3, SessionStatus.EXECUTING.ordinal());
         assertEquals(4, SessionStatus.COMPLETE.ordinal());
         assertEquals(5, SessionStatus.ERROR.ordinal());
+        assertEquals(6, SessionStatus.CANCELLED.ordinal());
     }
 
     @Test
@@ -68,6 +74,7 @@ class SessionStatusTest {
         assertEquals("EXECUTING", SessionStatus.EXECUTING.name());
         assertEquals("COMPLETE", SessionStatus.COMPLETE.name());
         assertEquals("ERROR", SessionStatus.ERROR.name());
+        assertEquals("CANCELLED", SessionStatus.CANCELLED.name());
     }
 
     @Test
@@ -78,5 +85,6 @@ class SessionStatusTest {
         assertSame(SessionStatus.EXECUTING, SessionStatus.valueOf("EXECUTING"));
         assertSame(SessionStatus.COMPLETE, SessionStatus.valueOf("COMPLETE"));
         assertSame(SessionStatus.ERROR, SessionStatus.valueOf("ERROR"));
+        assertSame(SessionStatus.CANCELLED, SessionStatus.valueOf("CANCELLED"));
     }
 }
@@ -2,13 +2,16 @@ package ua.renamer.app.backend.config;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Scopes;
+import ua.renamer.app.api.interfaces.FileMetadataCache;
 import ua.renamer.app.api.session.SessionApi;
 import ua.renamer.app.api.settings.SettingsService;
 import ua.renamer.app.backend.service.BackendExecutor;
 import ua.renamer.app.backend.service.FolderExpansionService;
 import ua.renamer.app.backend.service.impl.FolderExpansionServiceImpl;
+import ua.renamer.app.backend.service.impl.PersistentFileMetadataCache;
 import ua.renamer.app.backend.session.RenameSessionService;
 import ua.renamer.app.backend.settings.LoggingConfigService;
+import ua.renamer.app.backend.settings.PerformanceConfigService;
 import ua.renamer.app.backend.settings.SettingsServiceImpl;
 import ua.renamer.app.core.config.DIV2ServiceModule;
 import ua.renamer.app.metadata.config.DIMetadataModule;
@@ -19,6 +22,8 @@ import ua.renamer.app.metadata.config.DIMetadataModule;
  * <p>Installs {@link DIMetadataModule} and {@link DIV2ServiceModule} as sub-modules,
  * making this the composition root for all file-processing infrastructure.
  * {@link BackendExecutor} and {@link RenameSessionService} are bound as singletons.
+ * {@link FileMetadataCache} is bound here (not in the core module) because its persistent
+ * implementation needs the application directory from {@link SettingsService}.
  * {@code StatePublisher} is intentionally NOT bound here —
  * {@code app/ui}'s {@code DIUIModule} provides the JavaFX-aware implementation.
  */
@@ -31,6 +36,8 @@ public class DIBackendModule extends AbstractModule {
 
         bind(SettingsService.class).to(SettingsServiceImpl.class).in(Scopes.SINGLETON);
         bind(LoggingConfigService.class).asEagerSingleton();
+        bind(PerformanceConfigService.class).asEagerSingleton();
+        bind(FileMetadataCache.class).to(PersistentFileMetadataCache.class).in(Scopes.SINGLETON);
         bind(BackendExecutor.class).in(Scopes.SINGLETON);
         bind(SessionApi.class).to(RenameSessionService.class).in(Scopes.SINGLETON);
         bind(FolderExpansionService.class).to(FolderExpansionServiceImpl.class).in(Scopes.SINGLETON);
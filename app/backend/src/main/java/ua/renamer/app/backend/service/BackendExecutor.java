@@ -4,12 +4,14 @@ import com.google.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.Closeable;
+import java.time.Duration;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Provides a dedicated state thread and a virtual thread pool for the backend pipeline.
@@ -60,6 +62,30 @@ public class BackendExecutor implements Closeable {
         }
     }
 
+    /**
+     * Submits a state mutation to the single state thread after the given delay.
+     * The mutation is serialized with all other state changes once the delay elapses.
+     *
+     * <p>Cancelling the returned future before the delay elapses prevents the mutation from running,
+     * which makes this the building block for debouncing bursts of commands.
+     *
+     * @param <T>      the return type of the mutation
+     * @param delay    how long to wait before queueing the mutation; must not be null or negative
+     * @param mutation the state mutation to execute; must not be null
+     * @return a {@link CompletableFuture} that completes with the mutation result,
+     * or completes exceptionally if the callable throws
+     */
+    public <T> CompletableFuture<T> submitStateChangeAfter(Duration delay, Callable<T> mutation) {
+        log.debug("Scheduling state change on backend-state thread in {} ms", delay.toMillis());
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return mutation.call();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS, stateThread));
+    }
+
     /**
      * Submits I/O-bound work to the virtual thread pool.
      * Each submitted callable runs on a new virtual thread.
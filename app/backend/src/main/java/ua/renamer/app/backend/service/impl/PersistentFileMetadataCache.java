@@ -0,0 +1,518 @@
+package ua.renamer.app.backend.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import ua.renamer.app.api.enums.Category;
+import ua.renamer.app.api.interfaces.FileMetadataCache;
+import ua.renamer.app.api.model.CachedFileMetadata;
+import ua.renamer.app.api.model.meta.FileMeta;
+import ua.renamer.app.api.model.meta.category.AudioMeta;
+import ua.renamer.app.api.model.meta.category.ImageMeta;
+import ua.renamer.app.api.model.meta.category.VideoMeta;
+import ua.renamer.app.api.settings.AppDefaults;
+import ua.renamer.app.api.settings.SettingsService;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link FileMetadataCache} persisted as an append-only JSON Lines file under the application
+ * directory ({@code <app-dir>/cache/metadata-cache.jsonl}).
+ *
+ * <p>All entries live in memory; every {@link #put} and {@link #invalidate} appends one line,
+ * so the latest line for a path wins when the file is replayed on first use. The file is
+ * rewritten (compacted) via a sibling {@code .tmp} file when superseded lines outnumber live
+ * entries or when the entry limit forces eviction of the oldest entries.
+ *
+ * <p>Records are serialized before the file lock is taken, and appended lines are not flushed one by
+ * one: a flush runs {@link #FLUSH_DELAY} after the first unflushed line and on {@link #close()}.
+ * A crash therefore loses at most the writes of the last {@link #FLUSH_DELAY}, and a line cut short is
+ * skipped on load.
+ *
+ * <p>Entries older than {@link AppDefaults#METADATA_CACHE_MAX_AGE_DAYS} are dropped on load and on
+ * lookup. An entry whose size or modification time no longer matches the file is removed on lookup.
+ *
+ * <p>The cache never throws: on any I/O failure it logs a warning and continues in memory only.
+ */
+@Slf4j
+@Singleton
+public class PersistentFileMetadataCache implements FileMetadataCache, Closeable {
+
+    private static final int RECORD_VERSION = 1;
+    /**
+     * Compaction is skipped below this many superseded lines — rewriting a small file gains nothing.
+     */
+    private static final int MIN_STALE_RECORDS_FOR_COMPACTION = 1_000;
+    /**
+     * How long appended lines may stay buffered, so a burst of puts costs a single flush.
+     */
+    static final Duration FLUSH_DELAY = Duration.ofSeconds(1);
+
+    private final Path cacheFile;
+    private final int maxEntries;
+    private final Duration maxAge;
+    private final Clock clock;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final ReentrantLock fileLock = new ReentrantLock();
+
+    private volatile boolean loaded;
+    // Guarded by fileLock
+    private BufferedWriter writer;
+    private boolean flushScheduled;
+    private boolean persistenceDisabled;
+    private int staleRecords;
+
+    /**
+     * Create the cache in the {@code cache} sub-directory next to the settings file.
+     * Nothing is read until the first lookup.
+     *
+     * @param settingsService used to resolve the application directory
+     */
+    @Inject
+    public PersistentFileMetadataCache(SettingsService settingsService) {
+        this(settingsService.getSettingsFilePath()
+                        .resolveSibling(AppDefaults.CACHE_DIR_NAME)
+                        .resolve(AppDefaults.METADATA_CACHE_FILE_NAME),
+                AppDefaults.METADATA_CACHE_MAX_ENTRIES,
+                Duration.ofDays(AppDefaults.METADATA_CACHE_MAX_AGE_DAYS),
+                Clock.systemUTC());
+    }
+
+    PersistentFileMetadataCache(Path cacheFile, int maxEntries, Duration maxAge, Clock clock) {
+        this.cacheFile = cacheFile;
+        this.maxEntries = maxEntries;
+        this.maxAge = maxAge;
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<CachedFileMetadata> get(String absolutePath, long size, long lastModifiedMillis) {
+        ensureLoaded();
+        Entry entry = entries.get(absolutePath);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        if (entry.size() != size || entry.lastModified() != lastModifiedMillis || isExpired(entry)) {
+            // File changed (or entry aged out) since it was cached — the next put supersedes the old line
+            if (entries.remove(absolutePath, entry)) {
+                markStale();
+            }
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        hits.incrementAndGet();
+        return Optional.of(entry.metadata());
+    }
+
+    @Override
+    public void put(String absolutePath, long size, long lastModifiedMillis, CachedFileMetadata metadata) {
+        ensureLoaded();
+        Entry entry = new Entry(size, lastModifiedMillis, clock.millis(), metadata);
+        // Serialize outside the lock so concurrent extractions only contend on the append itself
+        String line = serialize(toJson(absolutePath, entry));
+        fileLock.lock();
+        try {
+            if (entries.put(absolutePath, entry) != null) {
+                staleRecords++;
+            }
+            append(line);
+            if (entries.size() > maxEntries) {
+                evictOldest();
+                compact();
+            } else if (shouldCompact()) {
+                compact();
+            }
+        } finally {
+            fileLock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidate(String absolutePath) {
+        ensureLoaded();
+        ObjectNode tombstone = objectMapper.createObjectNode();
+        tombstone.put("v", RECORD_VERSION);
+        tombstone.put("path", absolutePath);
+        tombstone.put("deleted", true);
+        String line = serialize(tombstone);
+        fileLock.lock();
+        try {
+            if (entries.remove(absolutePath) != null) {
+                staleRecords++;
+                append(line);
+            }
+        } finally {
+            fileLock.unlock();
+        }
+    }
+
+    @Override
+    public Stats getStats() {
+        return new Stats(hits.get(), misses.get(), entries.size());
+    }
+
+    /**
+     * Flush buffered records and release the cache file. A later write reopens it.
+     */
+    @Override
+    public void close() {
+        fileLock.lock();
+        try {
+            closeWriter();
+        } finally {
+            fileLock.unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Loading and compaction
+    // -------------------------------------------------------------------------
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        fileLock.lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            load();
+            if (entries.size() > maxEntries) {
+                evictOldest();
+                compact();
+            } else if (shouldCompact()) {
+                compact();
+            }
+            loaded = true;
+        } finally {
+            fileLock.unlock();
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(cacheFile)) {
+            log.debug("Metadata cache file not found, starting empty: {}", cacheFile);
+            return;
+        }
+        int records = 0;
+        try (BufferedReader reader = Files.newBufferedReader(cacheFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                records++;
+                readRecord(line);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to read metadata cache, continuing without persisted entries: {}", cacheFile, e);
+        }
+        entries.values().removeIf(this::isExpired);
+        staleRecords = records - entries.size();
+        log.info("Metadata cache loaded: {} entries from {} records ({})", entries.size(), records, cacheFile);
+    }
+
+    private void readRecord(String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            if (node.path("v").asInt(-1) != RECORD_VERSION) {
+                return;
+            }
+            String path = node.path("path").asText(null);
+            if (path == null) {
+                return;
+            }
+            if (node.path("deleted").asBoolean(false)) {
+                entries.remove(path);
+                return;
+            }
+            entries.put(path, fromJson(node));
+        } catch (Exception e) {
+            // A truncated last line after a crash is expected; skip it
+            log.debug("Skipping unreadable metadata cache record: {}", e.getMessage());
+        }
+    }
+
+    private boolean shouldCompact() {
+        return !persistenceDisabled
+                && staleRecords >= MIN_STALE_RECORDS_FOR_COMPACTION
+                && staleRecords > entries.size();
+    }
+
+    private void evictOldest() {
+        int target = Math.max(0, maxEntries - maxEntries / 10);
+        int toRemove = entries.size() - target;
+        if (toRemove <= 0) {
+            return;
+        }
+        entries.entrySet().stream()
+                .sorted(Comparator.comparingLong(e -> e.getValue().storedAt()))
+                .limit(toRemove)
+                .toList()
+                .forEach(e -> entries.remove(e.getKey(), e.getValue()));
+        log.info("Metadata cache evicted {} oldest entries", toRemove);
+    }
+
+    private void compact() {
+        if (persistenceDisabled) {
+            return;
+        }
+        closeWriter();
+        Path tmp = cacheFile.resolveSibling(AppDefaults.METADATA_CACHE_FILE_NAME + ".tmp");
+        try {
+            createParentDirectory();
+            try (BufferedWriter out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, Entry> e : new HashMap<>(entries).entrySet()) {
+                    out.write(objectMapper.writeValueAsString(toJson(e.getKey(), e.getValue())));
+                    out.newLine();
+                }
+            }
+            try {
+                Files.move(tmp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tmp, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+                log.debug("Files.move atomic failed with exception {}, fallback move is used", ex.getMessage());
+            }
+            staleRecords = 0;
+            log.debug("Metadata cache compacted: {} entries", entries.size());
+        } catch (IOException e) {
+            disablePersistence("compact", e);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // File append
+    // -------------------------------------------------------------------------
+
+    private String serialize(ObjectNode record) {
+        try {
+            return objectMapper.writeValueAsString(record);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize metadata cache record, keeping it in memory only: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void append(String line) {
+        if (persistenceDisabled || line == null) {
+            return;
+        }
+        try {
+            if (writer == null) {
+                createParentDirectory();
+                writer = Files.newBufferedWriter(cacheFile, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            writer.write(line);
+            writer.newLine();
+            scheduleFlush();
+        } catch (IOException e) {
+            disablePersistence("append", e);
+        }
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled) {
+            return;
+        }
+        flushScheduled = true;
+        CompletableFuture.runAsync(this::flush,
+                CompletableFuture.delayedExecutor(FLUSH_DELAY.toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    private void flush() {
+        fileLock.lock();
+        try {
+            flushScheduled = false;
+            if (writer != null) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            disablePersistence("flush", e);
+        } finally {
+            fileLock.unlock();
+        }
+    }
+
+    private void createParentDirectory() throws IOException {
+        Path dir = cacheFile.getParent();
+        if (dir != null && !Files.exists(dir)) {
+            Files.createDirectories(dir);
+        }
+    }
+
+    private void closeWriter() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.debug("Closing metadata cache writer failed: {}", e.getMessage());
+        }
+        writer = null;
+    }
+
+    private void disablePersistence(String operation, IOException e) {
+        log.warn("Metadata cache {} failed, continuing in memory only: {}", operation, cacheFile, e);
+        closeWriter();
+        persistenceDisabled = true;
+    }
+
+    private void markStale() {
+        fileLock.lock();
+        try {
+            staleRecords++;
+        } finally {
+            fileLock.unlock();
+        }
+    }
+
+    private boolean isExpired(Entry entry) {
+        return clock.millis() - entry.storedAt() > maxAge.toMillis();
+    }
+
+    // -------------------------------------------------------------------------
+    // JSON mapping
+    // -------------------------------------------------------------------------
+
+    private ObjectNode toJson(String path, Entry entry) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("v", RECORD_VERSION);
+        node.put("path", path);
+        node.put("size", entry.size());
+        node.put("mtime", entry.lastModified());
+        node.put("storedAt", entry.storedAt());
+        CachedFileMetadata metadata = entry.metadata();
+        node.put("mime", metadata.getDetectedMimeType());
+        node.put("category", metadata.getCategory() != null ? metadata.getCategory().name() : null);
+        FileMeta meta = metadata.getMetadata();
+        if (meta == null) {
+            return node;
+        }
+        meta.getImageMeta().ifPresent(image -> {
+            ObjectNode n = node.putObject("image");
+            putDate(n, "created", image.getContentCreationDate().orElse(null));
+            n.put("width", image.getWidth().orElse(null));
+            n.put("height", image.getHeight().orElse(null));
+        });
+        meta.getVideoMeta().ifPresent(video -> {
+            ObjectNode n = node.putObject("video");
+            putDate(n, "created", video.getContentCreationDate().orElse(null));
+            n.put("width", video.getWidth().orElse(null));
+            n.put("height", video.getHeight().orElse(null));
+            n.put("duration", video.getDuration().orElse(null));
+        });
+        meta.getAudioMeta().ifPresent(audio -> {
+            ObjectNode n = node.putObject("audio");
+            n.put("artist", audio.getArtistName().orElse(null));
+            n.put("album", audio.getAlbumName().orElse(null));
+            n.put("song", audio.getSongName().orElse(null));
+            n.put("year", audio.getYear().orElse(null));
+            n.put("length", audio.getLength().orElse(null));
+        });
+        ObjectNode info = node.putObject("metaInfo");
+        meta.getMetaInfo().forEach(info::put);
+        return node;
+    }
+
+    private Entry fromJson(JsonNode node) {
+        FileMeta.FileMetaBuilder meta = FileMeta.builder();
+        JsonNode image = node.path("image");
+        if (image.isObject()) {
+            meta.withImage(ImageMeta.builder()
+                    .withContentCreationDate(readDate(image, "created"))
+                    .withWidth(readInt(image, "width"))
+                    .withHeight(readInt(image, "height"))
+                    .build());
+        }
+        JsonNode video = node.path("video");
+        if (video.isObject()) {
+            meta.withVideo(VideoMeta.builder()
+                    .withContentCreationDate(readDate(video, "created"))
+                    .withWidth(readInt(video, "width"))
+                    .withHeight(readInt(video, "height"))
+                    .withDuration(readInt(video, "duration"))
+                    .build());
+        }
+        JsonNode audio = node.path("audio");
+        if (audio.isObject()) {
+            meta.withAudio(AudioMeta.builder()
+                    .withArtistName(readText(audio, "artist"))
+                    .withAlbumName(readText(audio, "album"))
+                    .withSongName(readText(audio, "song"))
+                    .withYear(readInt(audio, "year"))
+                    .withLength(readInt(audio, "length"))
+                    .build());
+        }
+        Map<String, String> metaInfo = new HashMap<>();
+        node.path("metaInfo").properties().forEach(e -> metaInfo.put(e.getKey(), e.getValue().asText()));
+        meta.withMetaInfo(Map.copyOf(metaInfo));
+
+        String rawCategory = readText(node, "category");
+        CachedFileMetadata metadata = CachedFileMetadata.builder()
+                .withDetectedMimeType(readText(node, "mime"))
+                .withCategory(rawCategory != null ? Category.valueOf(rawCategory) : Category.GENERIC)
+                .withMetadata(meta.build())
+                .build();
+        return new Entry(node.path("size").asLong(), node.path("mtime").asLong(),
+                node.path("storedAt").asLong(), metadata);
+    }
+
+    private static void putDate(ObjectNode node, String field, LocalDateTime value) {
+        node.put(field, value != null ? value.toString() : null);
+    }
+
+    private static LocalDateTime readDate(JsonNode node, String field) {
+        String raw = readText(node, field);
+        return raw != null ? LocalDateTime.parse(raw) : null;
+    }
+
+    private static Integer readInt(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asInt();
+    }
+
+    private static String readText(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    /**
+     * One cached file.
+     *
+     * @param size         file size in bytes at extraction time
+     * @param lastModified last-modified epoch millis at extraction time
+     * @param storedAt     epoch millis when the entry was written; used for age eviction
+     * @param metadata     the cached detection and extraction result
+     */
+    private record Entry(long size, long lastModified, long storedAt, CachedFileMetadata metadata) {
+    }
+}
@@ -70,6 +70,7 @@ public final class ModeParametersConverter {
                     .withPadding(p.paddingDigits())
                     .withSortSource(p.sortSource())
                     .withPerFolderCounting(p.perFolderCounting())
+                    .withContentDuplicates(p.contentDuplicates())
                     .build();
             case TruncateParams p -> TruncateConfig.builder()
                     .withNumberOfSymbols(p.numberOfSymbols())
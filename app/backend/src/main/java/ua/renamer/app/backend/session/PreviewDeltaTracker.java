@@ -0,0 +1,58 @@
+package ua.renamer.app.backend.session;
+
+import ua.renamer.app.api.session.RenamePreview;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Remembers the preview rows last sent to the UI so that a recomputed preview can be
+ * published as the set of rows that actually changed.
+ *
+ * <p>NOT thread-safe — owned by {@link RenameSessionService} and only used on the state thread.
+ */
+final class PreviewDeltaTracker {
+
+    private final Map<String, RenamePreview> published = new HashMap<>();
+
+    /**
+     * Records a preview that was published in full.
+     *
+     * @param preview the published rows; must not be null
+     */
+    void reset(List<RenamePreview> preview) {
+        published.clear();
+        preview.forEach(row -> published.put(row.fileId(), row));
+    }
+
+    /**
+     * Compares a recomputed preview with the last published one and records it as published.
+     *
+     * <p>Returns empty when the recomputed preview covers a different set of files — the caller
+     * must then publish the full list (and should call {@link #reset(List)}). Otherwise returns
+     * the rows whose content differs, which is empty when nothing changed.
+     *
+     * @param preview the recomputed rows; must not be null
+     * @return the changed rows, or empty if a full publish is required; never null
+     */
+    Optional<List<RenamePreview>> changedRows(List<RenamePreview> preview) {
+        if (preview.size() != published.size()) {
+            return Optional.empty();
+        }
+        List<RenamePreview> changed = new ArrayList<>();
+        for (RenamePreview row : preview) {
+            RenamePreview previous = published.get(row.fileId());
+            if (previous == null) {
+                return Optional.empty();
+            }
+            if (!previous.equals(row)) {
+                changed.add(row);
+            }
+        }
+        changed.forEach(row -> published.put(row.fileId(), row));
+        return Optional.of(changed);
+    }
+}
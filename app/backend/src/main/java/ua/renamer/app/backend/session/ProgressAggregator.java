@@ -0,0 +1,179 @@
+package ua.renamer.app.backend.session;
+
+import lombok.extern.slf4j.Slf4j;
+import ua.renamer.app.api.enums.PipelineStage;
+import ua.renamer.app.api.service.ProgressCallback;
+import ua.renamer.app.api.session.ProgressSnapshot;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Package-private {@link ProgressCallback} that sits between the pipeline and a {@link TaskHandleImpl}.
+ *
+ * <p>The pipeline reports every file from many virtual threads; those calls only update atomics.
+ * A single sampler thread reads them every {@link #SAMPLE_INTERVAL} and publishes a
+ * {@link ProgressSnapshot} when the work counter or stage has changed, so listeners see at most
+ * ~30 updates per second regardless of the file count. {@link #close()} stops sampling and
+ * publishes the final state.
+ */
+@Slf4j
+final class ProgressAggregator implements ProgressCallback, AutoCloseable {
+
+    /**
+     * Interval between two samples (about 30 Hz).
+     */
+    static final Duration SAMPLE_INTERVAL = Duration.ofMillis(33);
+
+    private final Consumer<ProgressSnapshot> sink;
+    private final int totalFiles;
+    private final LongSupplier nanoClock;
+    private final long startNanos;
+
+    private final AtomicInteger workDone = new AtomicInteger();
+    private volatile int totalWork = -1;
+    // Furthest stage any file has reached; stages interleave while streaming, so this only moves forward
+    private final AtomicReference<PipelineStage> stage = new AtomicReference<>();
+    private final AtomicLongArray filesPerStage = new AtomicLongArray(PipelineStage.values().length);
+    private final LongAdder bytesRead = new LongAdder();
+
+    private volatile boolean closed;
+    private Thread sampler;
+    // Guarded by "this"; starts at the initial state so nothing is published before the first report
+    private long publishedWork;
+    private PipelineStage publishedStage;
+
+    /**
+     * Creates an aggregator publishing to {@code sink}. Call {@link #start()} to begin sampling.
+     *
+     * @param sink       receives the sampled snapshots; called from the sampler thread
+     * @param totalFiles number of files submitted to the pipeline
+     */
+    ProgressAggregator(Consumer<ProgressSnapshot> sink, int totalFiles) {
+        this(sink, totalFiles, System::nanoTime);
+    }
+
+    /**
+     * Creates an aggregator with an explicit clock, for tests.
+     *
+     * @param sink       receives the sampled snapshots
+     * @param totalFiles number of files submitted to the pipeline
+     * @param nanoClock  monotonic time source in nanoseconds
+     */
+    ProgressAggregator(Consumer<ProgressSnapshot> sink, int totalFiles, LongSupplier nanoClock) {
+        this.sink = sink;
+        this.totalFiles = totalFiles;
+        this.nanoClock = nanoClock;
+        this.startNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Starts the sampler thread.
+     */
+    synchronized void start() {
+        if (sampler == null && !closed) {
+            sampler = Thread.ofVirtual().name("progress-sampler").start(this::sampleLoop);
+        }
+    }
+
+    @Override
+    public void updateProgress(int currentValue, int maxValue) {
+        // Reports from different threads can arrive out of order; never move backwards
+        workDone.accumulateAndGet(currentValue, Math::max);
+        totalWork = maxValue;
+    }
+
+    @Override
+    public void stageCompleted(PipelineStage completed, long fileBytes) {
+        filesPerStage.incrementAndGet(completed.ordinal());
+        if (fileBytes > 0) {
+            bytesRead.add(fileBytes);
+        }
+        stage.accumulateAndGet(completed, (current, next) ->
+                current == null || next.ordinal() > current.ordinal() ? next : current);
+    }
+
+    /**
+     * Stops sampling and publishes the final state if it has not been published yet.
+     */
+    @Override
+    public void close() {
+        Thread running;
+        synchronized (this) {
+            closed = true;
+            running = sampler;
+        }
+        if (running != null) {
+            running.interrupt();
+            try {
+                running.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        sample();
+    }
+
+    /**
+     * Publishes a snapshot if the work counter or stage changed since the last one.
+     */
+    synchronized void sample() {
+        long done = workDone.get();
+        PipelineStage current = stage.get();
+        if (done == publishedWork && current == publishedStage) {
+            return;
+        }
+        publishedWork = done;
+        publishedStage = current;
+        try {
+            sink.accept(snapshot(done, current));
+        } catch (RuntimeException e) {
+            log.warn("Progress listener failed", e);
+        }
+    }
+
+    private void sampleLoop() {
+        while (!closed) {
+            try {
+                Thread.sleep(SAMPLE_INTERVAL);
+            } catch (InterruptedException e) {
+                return;
+            }
+            sample();
+        }
+    }
+
+    private ProgressSnapshot snapshot(long done, PipelineStage current) {
+        long total = totalWork;
+        double seconds = (nanoClock.getAsLong() - startNanos) / 1_000_000_000.0;
+        double filesPerSecond = 0;
+        double bytesPerSecond = 0;
+        if (seconds > 0) {
+            filesPerSecond = current == null ? 0 : filesPerStage.get(current.ordinal()) / seconds;
+            bytesPerSecond = bytesRead.sum() / seconds;
+        }
+        // RENAME is the last stage, so its counter is the number of finished files
+        long filesDone = filesPerStage.get(PipelineStage.RENAME.ordinal());
+        return new ProgressSnapshot(current, done, total, filesDone, totalFiles, filesPerSecond, bytesPerSecond,
+                estimateRemaining(done, total, seconds));
+    }
+
+    /**
+     * Linear extrapolation of the elapsed time over the remaining work units.
+     */
+    private static Duration estimateRemaining(long done, long total, double seconds) {
+        if (total <= 0 || done <= 0) {
+            return null;
+        }
+        if (done >= total) {
+            return Duration.ZERO;
+        }
+        double remainingSeconds = seconds * (total - done) / done;
+        return Duration.ofMillis(Math.round(remainingSeconds * 1000));
+    }
+}
@@ -46,7 +46,8 @@ public final class RenameSessionConverter {
                 model.getOldFullName(),                        // originalName
                 hasError ? null : model.getNewFullName(),      // null when error
                 hasError,
-                model.getErrorMessage().orElse(null)           // unwrap Optional → nullable
+                model.getErrorMessage().orElse(null),          // unwrap Optional → nullable
+                model.getContentDuplicateOf().orElse(null)     // fileId of the original copy
         );
     }
 
@@ -51,13 +51,16 @@ import ua.renamer.app.backend.service.BackendExecutor;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 import static ua.renamer.app.api.session.AvailableAction.ADD_FILES;
 import static ua.renamer.app.api.session.AvailableAction.CANCEL;
@@ -79,15 +82,34 @@ import static ua.renamer.app.api.session.AvailableAction.SELECT_MODE;
  *       {@link BackendExecutor#submitStateChange(java.util.concurrent.Callable)}.
  *   <li>I/O-bound work (metadata extraction, physical rename) runs on virtual threads
  *       via {@link BackendExecutor#submitWork(java.util.concurrent.Callable)}.
+ *   <li>Preview computation also runs on the work pool as a versioned job: the state thread
+ *       captures the inputs and later applies the result only if no command has changed
+ *       files, mode, or parameters in between, so commands never queue behind a preview.
  *   <li>Read-only methods ({@link #canExecute()}, {@link #availableActions()},
  *       {@link #snapshot()}) are safe to call from any thread without locking.
+ *   <li>Execution progress goes through a {@link ProgressAggregator}, which samples the
+ *       per-file updates at a fixed rate before they reach the task's progress listeners.
  * </ul>
+ *
+ * <p>Parameter updates are validated immediately but the preview is recomputed only after
+ * {@link #PREVIEW_DEBOUNCE} without further updates, so a burst of keystrokes in a mode panel
+ * produces one recomputation. When the recomputed preview covers the same files, only the rows
+ * whose new name or error changed are published.
  */
 @Slf4j
 @Singleton
 @RequiredArgsConstructor(onConstructor_ = {@jakarta.inject.Inject})
 public class RenameSessionService implements SessionApi {
 
+    /**
+     * Quiet period after the last parameter update before the preview is recomputed.
+     */
+    static final Duration PREVIEW_DEBOUNCE = Duration.ofMillis(120);
+    /**
+     * Above this share of changed rows a full republish is cheaper for the UI than replacing rows one by one.
+     */
+    private static final double MAX_ROW_DELTA_SHARE = 0.5;
+
     private final FileRenameOrchestrator orchestrator;
     private final BackendExecutor executor;
     private final StatePublisher publisher;
@@ -99,8 +121,17 @@ public class RenameSessionService implements SessionApi {
     private final AtomicReference<SessionSnapshot> snapshotRef =
             new AtomicReference<>(emptySnapshot());
 
-    // Metadata cache — populated on the state thread, safe for concurrent reads from any thread
-    private final ConcurrentHashMap<String, FileMetadataDto> metadataCache = new ConcurrentHashMap<>();
+    // File index for metadata lookups — populated on the state thread, safe for concurrent reads from any thread.
+    // Holds the models rather than DTOs so metadata is only extracted for the files the info panel shows.
+    private final ConcurrentHashMap<String, FileModel> filesById = new ConcurrentHashMap<>();
+
+    // Preview publishing state — ONLY accessed on the state thread
+    private final PreviewDeltaTracker previewTracker = new PreviewDeltaTracker();
+    private CompletableFuture<Void> pendingPreviewRefresh;
+    private long previewVersion;
+    // Cancellation flag of the preview job on the work pool; set when a newer command supersedes it
+    private AtomicBoolean runningPreviewSuperseded;
+    private boolean filesChangedSincePublish;
 
     /**
      * Creates an empty snapshot for the initial (EMPTY) session state.
@@ -223,7 +254,7 @@ public class RenameSessionService implements SessionApi {
                 executor.submitStateChange(() -> {
                     session.addFiles(fileModels);
                     return refreshAndPublish();
-                })
+                }).thenCompose(Function.identity())
         ).exceptionally(ex -> {
             log.error("addFiles failed", ex);
             return CommandResult.failure("Failed to add files: " + ex.getMessage());
@@ -235,19 +266,23 @@ public class RenameSessionService implements SessionApi {
         Objects.requireNonNull(fileIds, "fileIds must not be null");
         return executor.submitStateChange(() -> {
             if (session.getStatus() == SessionStatus.EXECUTING) {
-                return CommandResult.failure("Cannot remove files during execution");
+                return CompletableFuture.completedFuture(
+                        CommandResult.failure("Cannot remove files during execution"));
             }
             session.removeFiles(fileIds);
             return refreshAndPublish();
-        });
+        }).thenCompose(Function.identity());
     }
 
     @Override
     public CompletableFuture<CommandResult> clearFiles() {
         return executor.submitStateChange(() -> {
+            supersedePendingPreview();
             session.clearFiles();
-            metadataCache.clear();
+            filesById.clear();
+            filesChangedSincePublish = false;
             publisher.publishFilesChanged(List.of(), List.of());
+            previewTracker.reset(List.of());
             snapshotRef.set(emptySnapshot());
             return CommandResult.succeeded();
         });
@@ -261,19 +296,12 @@ public class RenameSessionService implements SessionApi {
             ModeParameters defaults = defaultParamsFor(mode);
             session.setActiveMode(mode, defaults);
 
-            List<PreparedFileModel> preview = computePreviewIfPossible();
-            session.setLastPreview(preview);
-
-            List<RenamePreview> previewDtos = buildPreviewDtos(preview, session.getFiles(), mode);
-
             publisher.publishModeChanged(mode, defaults);
-            if (!previewDtos.isEmpty()) {
-                publisher.publishPreviewChanged(previewDtos);
-            }
-            updateSnapshotCache(previewDtos);
+            updateSnapshotCache(buildPreviewDtos(List.of(), session.getFiles(), mode));
 
-            return new ModeApiImpl<>((P) defaults, mode, this);
-        });
+            ModeApi<P> modeApi = new ModeApiImpl<>((P) defaults, mode, this);
+            return startPreviewJob().thenApply(ignored -> modeApi);
+        }).thenCompose(Function.identity());
     }
 
     @Override
@@ -295,15 +323,22 @@ public class RenameSessionService implements SessionApi {
         TaskHandleImpl<List<RenameSessionResult>> handle = new TaskHandleImpl<>(resultFuture);
 
         executor.submitStateChange(() -> {
+            supersedePendingPreview();
             session.setStatus(SessionStatus.EXECUTING);
             publisher.publishStatusChanged(SessionStatus.EXECUTING);
             return null;
         }).thenCompose(ignored ->
-                executor.submitWork(() ->
-                        orchestrator.execute(
-                                filesToRename, mode, config,
-                                (current, total) -> handle.notifyProgress(current, total, null))
-                )
+                executor.submitWork(() -> {
+                    // Per-file updates stay on the pipeline threads; listeners get ~30 samples per second
+                    ProgressAggregator progress = new ProgressAggregator(handle::notifyProgress, filesToRename.size());
+                    progress.start();
+                    try {
+                        return orchestrator.execute(
+                                filesToRename, mode, config, progress, handle::isCancellationRequested);
+                    } finally {
+                        progress.close();
+                    }
+                })
         ).thenCompose(renameResults ->
                 executor.submitStateChange(() -> {
                     List<RenameSessionResult> sessionResults = renameResults.stream()
@@ -313,7 +348,11 @@ public class RenameSessionService implements SessionApi {
                             .anyMatch(r -> r.getStatus() == RenameStatus.ERROR_EXECUTION
                                     || r.getStatus() == RenameStatus.ERROR_EXTRACTION
                                     || r.getStatus() == RenameStatus.ERROR_TRANSFORMATION);
-                    SessionStatus finalStatus = anyError ? SessionStatus.ERROR : SessionStatus.COMPLETE;
+                    boolean anyCancelled = renameResults.stream()
+                            .anyMatch(r -> r.getStatus() == RenameStatus.CANCELLED);
+                    SessionStatus finalStatus = anyError ? SessionStatus.ERROR
+                            : anyCancelled ? SessionStatus.CANCELLED
+                            : SessionStatus.COMPLETE;
 
                     session.setStatus(finalStatus);
                     publisher.publishRenameComplete(sessionResults, finalStatus);
@@ -342,9 +381,11 @@ public class RenameSessionService implements SessionApi {
     // ==================== PRIVATE HELPERS ====================
 
     @Override
-    public Optional<FileMetadataDto> getFileMetadata(String fileId) {
+    public CompletableFuture<Optional<FileMetadataDto>> getFileMetadata(String fileId) {
         Objects.requireNonNull(fileId, "fileId must not be null");
-        return Optional.ofNullable(metadataCache.get(fileId));
+        // Built per call on the work pool: loads the file's metadata if it was never read or the collector cleared it
+        return executor.submitWork(() ->
+                Optional.ofNullable(filesById.get(fileId)).map(RenameSessionService::buildMetadataDto));
     }
 
     @Override
@@ -354,7 +395,7 @@ public class RenameSessionService implements SessionApi {
             case FILES_LOADED -> List.of(ADD_FILES, REMOVE_FILES, CLEAR, SELECT_MODE);
             case MODE_CONFIGURED -> List.of(ADD_FILES, REMOVE_FILES, CLEAR, SELECT_MODE, EXECUTE);
             case EXECUTING -> List.of(CANCEL);
-            case COMPLETE, ERROR -> List.of(ADD_FILES, CLEAR, SELECT_MODE);
+            case COMPLETE, ERROR, CANCELLED -> List.of(ADD_FILES, CLEAR, SELECT_MODE);
         };
     }
 
@@ -397,10 +438,11 @@ public class RenameSessionService implements SessionApi {
 
     /**
      * Package-private — only {@link ModeApiImpl} may call this (same package).
-     * Validates the parameters, stores them if valid, recomputes the preview, and notifies the UI.
+     * Validates the parameters and stores them if valid. The preview is recomputed and published
+     * after {@link #PREVIEW_DEBOUNCE}; an update arriving within that window supersedes this one.
      *
      * @param params the updated parameters to store; must not be null
-     * @return future completing with the {@link ValidationResult}; never null
+     * @return future completing with the {@link ValidationResult} as soon as the parameters are stored; never null
      */
     CompletableFuture<ValidationResult> updateParameters(ModeParameters params) {
         Objects.requireNonNull(params, "params must not be null");
@@ -410,54 +452,138 @@ public class RenameSessionService implements SessionApi {
                 return validation;
             }
             session.setParameters(params);
-
-            List<PreparedFileModel> preview = computePreviewIfPossible();
-            session.setLastPreview(preview);
-
-            List<RenamePreview> previewDtos = preview.stream()
-                    .map(RenameSessionConverter::toPreview).toList();
-            publisher.publishPreviewChanged(previewDtos);
-            updateSnapshotCache(previewDtos);
+            schedulePreviewRefresh();
             return ValidationResult.valid();
         });
     }
 
     /**
-     * Computes a preview if a mode and params are set and the file list is non-empty.
-     * Called synchronously on the state thread — no I/O, pure transformation.
+     * Cancels any pending preview refresh and schedules a new one after {@link #PREVIEW_DEBOUNCE}.
+     * Must only be called from within a {@code submitStateChange} lambda.
+     */
+    private void schedulePreviewRefresh() {
+        long version = supersedePendingPreview();
+        pendingPreviewRefresh = executor.submitStateChangeAfter(PREVIEW_DEBOUNCE, () -> {
+            // A cancelled refresh that was already queued on the state thread still runs; skip it
+            if (version == previewVersion) {
+                pendingPreviewRefresh = null;
+                startPreviewJob();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Invalidates the pending preview refresh and any preview job still running. Every command
+     * that changes files, mode, or parameters calls this so that an older result is never applied;
+     * a running job is also asked to stop so it does not keep the work pool busy.
+     * Must only be called from within a {@code submitStateChange} lambda.
+     *
+     * @return the new preview version
+     */
+    private long supersedePendingPreview() {
+        if (pendingPreviewRefresh != null) {
+            pendingPreviewRefresh.cancel(false);
+            pendingPreviewRefresh = null;
+        }
+        if (runningPreviewSuperseded != null) {
+            runningPreviewSuperseded.set(true);
+            runningPreviewSuperseded = null;
+        }
+        return ++previewVersion;
+    }
+
+    /**
+     * Starts recomputing the preview for the current files, mode, and parameters.
+     * The inputs are captured here on the state thread; the transformation runs on the work pool;
+     * the result is applied back on the state thread only if no newer command has superseded it.
+     * When no preview can be computed (no mode, no files, or invalid parameters) the empty result
+     * is applied immediately. A computation that fails is applied as an empty preview too, so a
+     * file-list change is still published, with placeholder rows.
+     * Must only be called from within a {@code submitStateChange} lambda.
      *
-     * @return list of prepared file models; empty if preview cannot be computed
+     * @return future completing once the result has been applied or discarded; never null
      */
-    private List<PreparedFileModel> computePreviewIfPossible() {
+    private CompletableFuture<Void> startPreviewJob() {
+        long version = supersedePendingPreview();
         TransformationMode mode = session.getActiveMode();
         ModeParameters params = session.getCurrentParams();
-        List<FileModel> files = session.getFiles();
-        if (mode == null || params == null || files.isEmpty()) {
-            return List.of();
+        List<FileModel> files = List.copyOf(session.getFiles());
+        if (mode == null || params == null || files.isEmpty() || params.validate().isError()) {
+            applyPreview(List.of());
+            return CompletableFuture.completedFuture(null);
         }
-        if (params.validate().isError()) {
+        Object config = ModeParametersConverter.toConfig(params);
+        AtomicBoolean superseded = new AtomicBoolean();
+        runningPreviewSuperseded = superseded;
+
+        return executor.submitWork(() ->
+                orchestrator.computePreview(files, mode, config, null, superseded::get)
+        ).exceptionally(ex -> {
+            log.error("Preview computation failed", ex);
             return List.of();
-        }
-        return orchestrator.computePreview(files, mode, ModeParametersConverter.toConfig(params), null);
+        }).thenCompose(preview -> executor.<Void>submitStateChange(() -> {
+            if (version == previewVersion) {
+                runningPreviewSuperseded = null;
+                applyPreview(preview);
+            } else {
+                log.debug("Discarding preview computed for superseded version {}", version);
+            }
+            return null;
+        })).whenComplete((ignored, ex) -> {
+            if (ex != null) {
+                log.error("Preview job failed", ex);
+            }
+        });
     }
 
     /**
-     * Recomputes the preview, publishes the updated file list, and returns a succeeded result.
+     * Stores a freshly computed preview and publishes it. After a file-list change the files and
+     * preview are published together; otherwise the preview is published as changed rows when the
+     * file set is unchanged and few rows differ, or as a full list.
      * Must only be called from within a {@code submitStateChange} lambda.
+     *
+     * @param preview the computed preview for the current session state; must not be null
      */
-    private CommandResult refreshAndPublish() {
-        List<PreparedFileModel> preview = computePreviewIfPossible();
+    private void applyPreview(List<PreparedFileModel> preview) {
         session.setLastPreview(preview);
         List<RenamePreview> previewDtos = buildPreviewDtos(
                 preview, session.getFiles(), session.getActiveMode());
-        List<RenameCandidate> candidates = session.getFiles().stream()
-                .map(RenameSessionConverter::toCandidate).toList();
-        // Rebuild metadata cache — called on state thread; ConcurrentHashMap allows safe concurrent reads
-        metadataCache.clear();
-        session.getFiles().forEach(fm -> metadataCache.put(fm.getAbsolutePath(), buildMetadataDto(fm)));
-        publisher.publishFilesChanged(candidates, previewDtos);
         updateSnapshotCache(previewDtos);
-        return CommandResult.succeeded();
+
+        if (filesChangedSincePublish) {
+            filesChangedSincePublish = false;
+            List<RenameCandidate> candidates = session.getFiles().stream()
+                    .map(RenameSessionConverter::toCandidate).toList();
+            publisher.publishFilesChanged(candidates, previewDtos);
+            previewTracker.reset(previewDtos);
+            return;
+        }
+
+        Optional<List<RenamePreview>> changedRows = previewTracker.changedRows(previewDtos);
+        if (changedRows.isEmpty() || changedRows.get().size() > previewDtos.size() * MAX_ROW_DELTA_SHARE) {
+            publisher.publishPreviewChanged(previewDtos);
+            previewTracker.reset(previewDtos);
+        } else if (!changedRows.get().isEmpty()) {
+            log.debug("Publishing {} changed preview rows of {}", changedRows.get().size(), previewDtos.size());
+            publisher.publishPreviewRowsChanged(changedRows.get());
+        }
+    }
+
+    /**
+     * Rebuilds the file index for the new file list and starts a preview job that publishes
+     * the files together with their preview.
+     * Must only be called from within a {@code submitStateChange} lambda.
+     *
+     * @return future completing with a succeeded result once the files have been published; never null
+     */
+    private CompletableFuture<CommandResult> refreshAndPublish() {
+        // Rebuild file index — called on state thread; ConcurrentHashMap allows safe concurrent reads
+        filesById.clear();
+        session.getFiles().forEach(fm -> filesById.put(fm.getAbsolutePath(), fm));
+        filesChangedSincePublish = true;
+        updateSnapshotCache(buildPreviewDtos(List.of(), session.getFiles(), session.getActiveMode()));
+        return startPreviewJob().thenApply(ignored -> CommandResult.succeeded());
     }
 
     /**
@@ -1,5 +1,6 @@
 package ua.renamer.app.backend.session;
 
+import ua.renamer.app.api.session.ProgressSnapshot;
 import ua.renamer.app.api.session.TaskHandle;
 
 import java.util.UUID;
@@ -9,8 +10,9 @@ import java.util.concurrent.CopyOnWriteArrayList;
 /**
  * Package-private implementation of {@link TaskHandle} that wraps a {@link CompletableFuture}.
  *
- * <p>Cancellation sets a cooperative flag and calls {@link CompletableFuture#cancel(boolean) cancel(false)}
- * on the underlying future — no interrupt is sent so that mid-rename virtual threads are not corrupted.
+ * <p>Cancellation only sets a cooperative flag that the task polls — no interrupt is sent so that mid-rename
+ * virtual threads are not corrupted. The wrapped future is left alone, so the task still completes it with the
+ * results of the files processed before it stopped.
  * Progress listeners are stored in a {@link CopyOnWriteArrayList}; {@code addIfAbsent} silently drops
  * duplicate registrations as required by the interface contract.
  *
@@ -46,7 +48,6 @@ class TaskHandleImpl<T> implements TaskHandle<T> {
     @Override
     public void requestCancellation() {
         cancelRequested = true;
-        future.cancel(false);
     }
 
     @Override
@@ -76,4 +77,15 @@ class TaskHandleImpl<T> implements TaskHandle<T> {
     void notifyProgress(double done, double total, String msg) {
         listeners.forEach(l -> l.onProgress(done, total, msg));
     }
+
+    /**
+     * Notifies all registered progress listeners of a sampled progress snapshot.
+     *
+     * <p>Called from the {@link ProgressAggregator} sampler thread, at most once per sampling interval.
+     *
+     * @param snapshot the latest progress sample; must not be null
+     */
+    void notifyProgress(ProgressSnapshot snapshot) {
+        listeners.forEach(l -> l.onProgress(snapshot));
+    }
 }
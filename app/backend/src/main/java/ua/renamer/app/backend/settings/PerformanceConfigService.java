@@ -0,0 +1,59 @@
+package ua.renamer.app.backend.settings;
+
+import com.google.inject.Inject;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import ua.renamer.app.api.settings.AppSettings;
+import ua.renamer.app.api.settings.SettingsService;
+import ua.renamer.app.core.service.DirectoryRenameScheduler;
+import ua.renamer.app.core.service.ExtractionScheduler;
+import ua.renamer.app.metadata.extractor.strategy.format.image.ImageHeaderReader;
+
+/**
+ * Apply the performance-related parts of {@link AppSettings} to the core and metadata services.
+ *
+ * <p>Invoked eagerly by Guice during application startup via
+ * {@link #configure()}, and again whenever the user saves new settings via
+ * {@link #reconfigure(AppSettings)}.
+ */
+@Slf4j
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class PerformanceConfigService {
+
+    private final SettingsService settingsService;
+    private final ExtractionScheduler extractionScheduler;
+    private final DirectoryRenameScheduler renameScheduler;
+    private final ImageHeaderReader imageHeaderReader;
+
+    /**
+     * Apply performance configuration from the current {@link AppSettings}.
+     * Called automatically by Guice when the singleton is first created.
+     */
+    @Inject
+    public void configure() {
+        reconfigure(settingsService.getCurrent());
+    }
+
+    /**
+     * Reapply performance configuration after a settings change.
+     *
+     * @param settings the new settings snapshot to apply; must not be null
+     */
+    public void reconfigure(final AppSettings settings) {
+        try {
+            extractionScheduler.setPermitsPerDevice(settings.getExtractionPermitsPerDevice());
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring invalid extraction permit count: {}", e.getMessage());
+        }
+        try {
+            renameScheduler.setParallelism(settings.getRenameParallelism());
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring invalid rename parallelism: {}", e.getMessage());
+        }
+        try {
+            imageHeaderReader.setHeaderReadKb(settings.getImageHeaderReadKb());
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring invalid image header read size: {}", e.getMessage());
+        }
+    }
+}
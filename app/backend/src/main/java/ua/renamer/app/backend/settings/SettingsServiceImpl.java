@@ -123,6 +123,7 @@ public class SettingsServiceImpl implements SettingsService {
             JsonNode root = objectMapper.readTree(json);
             JsonNode general = root.path("general");
             JsonNode logging = general.path("logging");
+            JsonNode performance = general.path("performance");
             String rawLevel = logging.path("level")
                     .asText(AppDefaults.DEFAULT_LOG_LEVEL.name());
             LogLevel level = safeLogLevel(rawLevel);
@@ -141,6 +142,15 @@ public class SettingsServiceImpl implements SettingsService {
                     .withLoggingEnabled(
                             logging.path("enabled").asBoolean(false))
                     .withLogLevel(level)
+                    .withExtractionPermitsPerDevice(safeExtractionPermits(
+                            performance.path("extractionPermitsPerDevice")
+                                    .asInt(AppDefaults.DEFAULT_EXTRACTION_PERMITS_PER_DEVICE)))
+                    .withRenameParallelism(safeRenameParallelism(
+                            performance.path("renameParallelism")
+                                    .asInt(AppDefaults.DEFAULT_RENAME_PARALLELISM)))
+                    .withImageHeaderReadKb(safeImageHeaderReadKb(
+                            performance.path("imageHeaderReadKb")
+                                    .asInt(AppDefaults.DEFAULT_IMAGE_HEADER_READ_KB)))
                     .build();
         } catch (Exception e) {
             log.warn("Failed to parse settings JSON, using defaults", e);
@@ -158,6 +168,36 @@ public class SettingsServiceImpl implements SettingsService {
         }
     }
 
+    private int safeExtractionPermits(final int raw) {
+        if (raw < AppDefaults.MIN_EXTRACTION_PERMITS_PER_DEVICE
+                || raw > AppDefaults.MAX_EXTRACTION_PERMITS_PER_DEVICE) {
+            log.warn("Extraction permits {} out of range, falling back to {}",
+                    raw, AppDefaults.DEFAULT_EXTRACTION_PERMITS_PER_DEVICE);
+            return AppDefaults.DEFAULT_EXTRACTION_PERMITS_PER_DEVICE;
+        }
+        return raw;
+    }
+
+    private int safeRenameParallelism(final int raw) {
+        if (raw < AppDefaults.MIN_RENAME_PARALLELISM
+                || raw > AppDefaults.MAX_RENAME_PARALLELISM) {
+            log.warn("Rename parallelism {} out of range, falling back to {}",
+                    raw, AppDefaults.DEFAULT_RENAME_PARALLELISM);
+            return AppDefaults.DEFAULT_RENAME_PARALLELISM;
+        }
+        return raw;
+    }
+
+    private int safeImageHeaderReadKb(final int raw) {
+        if (raw < AppDefaults.MIN_IMAGE_HEADER_READ_KB
+                || raw > AppDefaults.MAX_IMAGE_HEADER_READ_KB) {
+            log.warn("Image header read size {} KB out of range, falling back to {}",
+                    raw, AppDefaults.DEFAULT_IMAGE_HEADER_READ_KB);
+            return AppDefaults.DEFAULT_IMAGE_HEADER_READ_KB;
+        }
+        return raw;
+    }
+
     private String serialize(final AppSettings s) throws IOException {
         ObjectNode root = objectMapper.createObjectNode();
         root.put("version", s.getVersion());
@@ -172,6 +212,10 @@ public class SettingsServiceImpl implements SettingsService {
         ObjectNode logging = general.putObject("logging");
         logging.put("enabled", s.isLoggingEnabled());
         logging.put("level", s.getLogLevel().name());
+        ObjectNode performance = general.putObject("performance");
+        performance.put("extractionPermitsPerDevice", s.getExtractionPermitsPerDevice());
+        performance.put("renameParallelism", s.getRenameParallelism());
+        performance.put("imageHeaderReadKb", s.getImageHeaderReadKb());
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(root);
     }
 
@@ -2,6 +2,8 @@ package ua.renamer.app.backend.integration.support;
 
 import com.google.inject.Guice;
 import com.google.inject.Injector;
+import com.google.inject.util.Modules;
+import ua.renamer.app.api.interfaces.FileMetadataCache;
 import ua.renamer.app.api.service.FileRenameOrchestrator;
 import ua.renamer.app.api.session.StatePublisher;
 import ua.renamer.app.backend.config.DIBackendModule;
@@ -18,7 +20,9 @@ public final class GuiceTestHelper {
     public static synchronized Injector getInjector() {
         if (injector == null) {
             injector = Guice.createInjector(
-                    new DIBackendModule(),
+                    // Integration tests must exercise real extraction, not entries cached by a previous run
+                    Modules.override(new DIBackendModule())
+                           .with(b -> b.bind(FileMetadataCache.class).toInstance(FileMetadataCache.disabled())),
                     b -> b.bind(StatePublisher.class).toInstance(mock(StatePublisher.class))
             );
         }
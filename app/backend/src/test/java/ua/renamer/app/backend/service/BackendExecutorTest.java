@@ -5,6 +5,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -12,6 +13,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -92,6 +94,49 @@ class BackendExecutorTest {
         }
     }
 
+    // =========================================================================
+    // Delayed state-change tests
+    // =========================================================================
+
+    @Nested
+    class DelayedStateChangeTests {
+
+        @Test
+        void givenDelay_whenSubmitStateChangeAfter_thenRunsOnStateThreadAfterDelay() throws Exception {
+            // Arrange
+            long start = System.nanoTime();
+
+            // Act
+            String threadName = executor.submitStateChangeAfter(
+                    Duration.ofMillis(50), () -> Thread.currentThread().getName()
+            ).get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertThat(threadName).isEqualTo("backend-state");
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(50);
+        }
+
+        @Test
+        void givenCancelledBeforeDelay_whenDelayElapses_thenMutationDoesNotRun() throws Exception {
+            // Arrange
+            AtomicBoolean ran = new AtomicBoolean(false);
+            CompletableFuture<Object> future = executor.submitStateChangeAfter(
+                    Duration.ofMillis(100), () -> {
+                        ran.set(true);
+                        return null;
+                    });
+
+            // Act
+            future.cancel(false);
+            // Wait past the point where the cancelled mutation would have fired
+            executor.submitStateChangeAfter(Duration.ofMillis(200), () -> null).get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertThat(future.isCancelled()).isTrue();
+            assertThat(ran).isFalse();
+        }
+    }
+
     // =========================================================================
     // Virtual-pool tests
     // =========================================================================
@@ -0,0 +1,288 @@
+package ua.renamer.app.backend.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ua.renamer.app.api.enums.Category;
+import ua.renamer.app.api.interfaces.FileMetadataCache;
+import ua.renamer.app.api.model.CachedFileMetadata;
+import ua.renamer.app.api.model.meta.FileMeta;
+import ua.renamer.app.api.model.meta.category.ImageMeta;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link PersistentFileMetadataCache}.
+ *
+ * <p>Uses a real temporary directory via {@link TempDir} and a controllable {@link Clock}
+ * so that age-based expiry can be tested without sleeping.
+ */
+class PersistentFileMetadataCacheTest {
+
+    private static final String PATH = "/photos/IMG_0001.jpg";
+    private static final long SIZE = 1024L;
+    private static final long MTIME = 1_700_000_000_000L;
+
+    @TempDir
+    Path tempDir;
+
+    private Path cacheFile;
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        cacheFile = tempDir.resolve("cache").resolve("metadata-cache.jsonl");
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    }
+
+    // -------------------------------------------------------------------------
+    // Lookup
+    // -------------------------------------------------------------------------
+
+    @Test
+    void get_emptyCache_returnsEmptyAndCountsMiss() {
+        PersistentFileMetadataCache cache = newCache(100);
+
+        Optional<CachedFileMetadata> result = cache.get(PATH, SIZE, MTIME);
+
+        assertThat(result).isEmpty();
+        assertThat(cache.getStats()).isEqualTo(new FileMetadataCache.Stats(0, 1, 0));
+    }
+
+    @Test
+    void get_afterPut_returnsStoredMetadataAndCountsHit() {
+        PersistentFileMetadataCache cache = newCache(100);
+        cache.put(PATH, SIZE, MTIME, imageMetadata());
+
+        Optional<CachedFileMetadata> result = cache.get(PATH, SIZE, MTIME);
+
+        assertThat(result).contains(imageMetadata());
+        assertThat(cache.getStats().hits()).isEqualTo(1);
+        assertThat(cache.getStats().entries()).isEqualTo(1);
+    }
+
+    @Test
+    void get_sizeChanged_returnsEmptyAndDropsEntry() {
+        PersistentFileMetadataCache cache = newCache(100);
+        cache.put(PATH, SIZE, MTIME, imageMetadata());
+
+        Optional<CachedFileMetadata> result = cache.get(PATH, SIZE + 1, MTIME);
+
+        assertThat(result).isEmpty();
+        assertThat(cache.getStats().entries()).isZero();
+    }
+
+    @Test
+    void get_modificationTimeChanged_returnsEmpty() {
+        PersistentFileMetadataCache cache = newCache(100);
+        cache.put(PATH, SIZE, MTIME, imageMetadata());
+
+        assertThat(cache.get(PATH, SIZE, MTIME + 1)).isEmpty();
+    }
+
+    @Test
+    void get_entryOlderThanMaxAge_returnsEmpty() {
+        PersistentFileMetadataCache cache = newCache(100);
+        cache.put(PATH, SIZE, MTIME, imageMetadata());
+
+        clock.advance(Duration.ofDays(31));
+
+        assertThat(cache.get(PATH, SIZE, MTIME)).isEmpty();
+    }
+
+    // -------------------------------------------------------------------------
+    // Persistence
+    // -------------------------------------------------------------------------
+
+    @Test
+    void put_newInstance_readsEntryFromDisk() {
+        PersistentFileMetadataCache cache = newCache(100);
+        cache.put(PATH, SIZE, MTIME, imageMetadata());
+        cache.close();
+
+        PersistentFileMetadataCache reloaded = newCache(100);
+
+        assertThat(reloaded.get(PATH, SIZE, MTIME)).contains(imageMetadata());
+    }
+
+    @Test
+    void put_samePathTwice_latestRecordWinsAfterReload() {
+        PersistentFileMetadataCache cache = newCache(100);
+        cache.put(PATH, SIZE, MTIME, imageMetadata());
+        CachedFileMetadata updated = genericMetadata();
+        cache.put(PATH, SIZE, MTIME + 5, updated);
+        cache.close();
+
+        PersistentFileMetadataCache reloaded = newCache(100);
+
+        assertThat(reloaded.get(PATH, SIZE, MTIME + 5)).contains(updated);
+    }
+
+    @Test
+    void invalidate_newInstance_entryStaysRemoved() {
+        PersistentFileMetadataCache cache = newCache(100);
+        cache.put(PATH, SIZE, MTIME, imageMetadata());
+        cache.invalidate(PATH);
+        cache.close();
+
+        PersistentFileMetadataCache reloaded = newCache(100);
+
+        assertThat(reloaded.get(PATH, SIZE, MTIME)).isEmpty();
+    }
+
+    @Test
+    void put_withoutClose_recordReachesDiskAfterFlushDelay() throws InterruptedException {
+        PersistentFileMetadataCache cache = newCache(100);
+        cache.put(PATH, SIZE, MTIME, imageMetadata());
+
+        // Records are buffered; the scheduled flush writes them without an explicit close
+        long deadline = System.nanoTime() + PersistentFileMetadataCache.FLUSH_DELAY.multipliedBy(5).toNanos();
+        while (newCache(100).get(PATH, SIZE, MTIME).isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertThat(newCache(100).get(PATH, SIZE, MTIME)).contains(imageMetadata());
+    }
+
+    @Test
+    void load_expiredEntriesOnDisk_areDropped() {
+        PersistentFileMetadataCache cache = newCache(100);
+        cache.put(PATH, SIZE, MTIME, imageMetadata());
+        cache.close();
+        clock.advance(Duration.ofDays(31));
+
+        PersistentFileMetadataCache reloaded = newCache(100);
+
+        assertThat(reloaded.get(PATH, SIZE, MTIME)).isEmpty();
+    }
+
+    @Test
+    void load_truncatedLastLine_isSkipped() throws IOException {
+        PersistentFileMetadataCache cache = newCache(100);
+        cache.put(PATH, SIZE, MTIME, imageMetadata());
+        cache.close();
+        Files.writeString(cacheFile, "{\"v\":1,\"path\":\"/broken", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        PersistentFileMetadataCache reloaded = newCache(100);
+
+        assertThat(reloaded.get(PATH, SIZE, MTIME)).contains(imageMetadata());
+        assertThat(reloaded.getStats().entries()).isEqualTo(1);
+    }
+
+    @Test
+    void load_unreadableDirectory_continuesInMemory() throws IOException {
+        // A regular file where the cache directory should be makes every write fail
+        Files.writeString(tempDir.resolve("blocked"), "x");
+        PersistentFileMetadataCache cache = new PersistentFileMetadataCache(
+                tempDir.resolve("blocked").resolve("metadata-cache.jsonl"), 100, Duration.ofDays(30), clock);
+
+        cache.put(PATH, SIZE, MTIME, imageMetadata());
+
+        assertThat(cache.get(PATH, SIZE, MTIME)).contains(imageMetadata());
+    }
+
+    // -------------------------------------------------------------------------
+    // Eviction
+    // -------------------------------------------------------------------------
+
+    @Test
+    void put_beyondMaxEntries_evictsOldestEntries() {
+        PersistentFileMetadataCache cache = newCache(10);
+        for (int i = 0; i < 11; i++) {
+            cache.put("/file" + i, SIZE, MTIME, genericMetadata());
+            clock.advance(Duration.ofSeconds(1));
+        }
+
+        assertThat(cache.getStats().entries()).isLessThanOrEqualTo(10);
+        assertThat(cache.get("/file0", SIZE, MTIME)).isEmpty();
+        assertThat(cache.get("/file10", SIZE, MTIME)).isPresent();
+    }
+
+    @Test
+    void put_beyondMaxEntries_compactedFileMatchesMemory() throws IOException {
+        PersistentFileMetadataCache cache = newCache(10);
+        for (int i = 0; i < 11; i++) {
+            cache.put("/file" + i, SIZE, MTIME, genericMetadata());
+            clock.advance(Duration.ofSeconds(1));
+        }
+
+        long lines = Files.readAllLines(cacheFile, StandardCharsets.UTF_8).size();
+
+        assertThat(lines).isEqualTo(cache.getStats().entries());
+    }
+
+    // -------------------------------------------------------------------------
+    // Helpers
+    // -------------------------------------------------------------------------
+
+    private PersistentFileMetadataCache newCache(int maxEntries) {
+        return new PersistentFileMetadataCache(cacheFile, maxEntries, Duration.ofDays(30), clock);
+    }
+
+    private static CachedFileMetadata imageMetadata() {
+        return CachedFileMetadata.builder()
+                                 .withDetectedMimeType("image/jpeg")
+                                 .withCategory(Category.IMAGE)
+                                 .withMetadata(FileMeta.builder()
+                                                       .withImage(ImageMeta.builder()
+                                                                           .withContentCreationDate(
+                                                                                   LocalDateTime.of(2024, 5, 1, 12, 30))
+                                                                           .withWidth(4000)
+                                                                           .withHeight(3000)
+                                                                           .build())
+                                                       .withMetaInfo(Map.of("Make", "Canon"))
+                                                       .build())
+                                 .build();
+    }
+
+    private static CachedFileMetadata genericMetadata() {
+        return CachedFileMetadata.builder()
+                                 .withDetectedMimeType("text/plain")
+                                 .withCategory(Category.GENERIC)
+                                 .withMetadata(FileMeta.builder().withMetaInfo(Map.of()).build())
+                                 .build();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant start) {
+            this.now = start;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
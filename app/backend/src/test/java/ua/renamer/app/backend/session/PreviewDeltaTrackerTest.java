@@ -0,0 +1,74 @@
+package ua.renamer.app.backend.session;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ua.renamer.app.api.session.RenamePreview;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link PreviewDeltaTracker}.
+ */
+class PreviewDeltaTrackerTest {
+
+    private static final RenamePreview ROW_A = new RenamePreview("/tmp/a.txt", "a.txt", "x_a.txt", false, null);
+    private static final RenamePreview ROW_B = new RenamePreview("/tmp/b.txt", "b.txt", "x_b.txt", false, null);
+
+    private PreviewDeltaTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new PreviewDeltaTracker();
+        tracker.reset(List.of(ROW_A, ROW_B));
+    }
+
+    @Test
+    void changedRows_identicalPreview_returnsNoRows() {
+        Optional<List<RenamePreview>> result = tracker.changedRows(List.of(ROW_A, ROW_B));
+
+        assertThat(result).hasValueSatisfying(rows -> assertThat(rows).isEmpty());
+    }
+
+    @Test
+    void changedRows_oneRowChanged_returnsOnlyThatRow() {
+        RenamePreview updatedB = new RenamePreview("/tmp/b.txt", "b.txt", "y_b.txt", false, null);
+
+        Optional<List<RenamePreview>> result = tracker.changedRows(List.of(ROW_A, updatedB));
+
+        assertThat(result).hasValueSatisfying(rows -> assertThat(rows).containsExactly(updatedB));
+    }
+
+    @Test
+    void changedRows_errorStateChanged_returnsRow() {
+        RenamePreview failedA = new RenamePreview("/tmp/a.txt", "a.txt", null, true, "bad name");
+
+        Optional<List<RenamePreview>> result = tracker.changedRows(List.of(failedA, ROW_B));
+
+        assertThat(result).hasValueSatisfying(rows -> assertThat(rows).containsExactly(failedA));
+    }
+
+    @Test
+    void changedRows_calledTwice_comparesAgainstLatestRows() {
+        RenamePreview updatedB = new RenamePreview("/tmp/b.txt", "b.txt", "y_b.txt", false, null);
+        tracker.changedRows(List.of(ROW_A, updatedB));
+
+        Optional<List<RenamePreview>> result = tracker.changedRows(List.of(ROW_A, updatedB));
+
+        assertThat(result).hasValueSatisfying(rows -> assertThat(rows).isEmpty());
+    }
+
+    @Test
+    void changedRows_differentFileCount_requiresFullPublish() {
+        assertThat(tracker.changedRows(List.of(ROW_A))).isEmpty();
+    }
+
+    @Test
+    void changedRows_differentFileIds_requiresFullPublish() {
+        RenamePreview other = new RenamePreview("/tmp/c.txt", "c.txt", "x_c.txt", false, null);
+
+        assertThat(tracker.changedRows(List.of(ROW_A, other))).isEmpty();
+    }
+}
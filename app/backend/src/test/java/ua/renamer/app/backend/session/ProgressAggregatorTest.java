@@ -0,0 +1,181 @@
+package ua.renamer.app.backend.session;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ua.renamer.app.api.enums.PipelineStage;
+import ua.renamer.app.api.session.ProgressSnapshot;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ProgressAggregator}.
+ *
+ * <p>Most tests drive {@link ProgressAggregator#sample()} directly with a controllable clock,
+ * so rates and ETA can be asserted without sleeping.
+ */
+class ProgressAggregatorTest {
+
+    private final List<ProgressSnapshot> published = new CopyOnWriteArrayList<>();
+    private final AtomicLong nanos = new AtomicLong();
+    private ProgressAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new ProgressAggregator(published::add, 100, nanos::get);
+    }
+
+    @Test
+    void sample_noProgress_publishesNothing() {
+        aggregator.sample();
+
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    void sample_manyUpdatesBetweenSamples_publishesOneSnapshot() {
+        for (int i = 1; i <= 100; i++) {
+            aggregator.updateProgress(i, 300);
+        }
+
+        aggregator.sample();
+
+        assertThat(published).hasSize(1);
+        assertThat(published.getFirst().workDone()).isEqualTo(100);
+        assertThat(published.getFirst().totalWork()).isEqualTo(300);
+    }
+
+    @Test
+    void sample_unchangedSinceLastSample_publishesNothing() {
+        aggregator.updateProgress(1, 3);
+        aggregator.sample();
+
+        aggregator.sample();
+
+        assertThat(published).hasSize(1);
+    }
+
+    @Test
+    void updateProgress_outOfOrderReports_neverMovesBackwards() {
+        aggregator.updateProgress(5, 10);
+        aggregator.updateProgress(3, 10);
+
+        aggregator.sample();
+
+        assertThat(published.getFirst().workDone()).isEqualTo(5);
+    }
+
+    @Test
+    void sample_reportsFurthestStageAndItsRate() {
+        aggregator.stageCompleted(PipelineStage.EXTRACT, 1_000);
+        aggregator.stageCompleted(PipelineStage.EXTRACT, 3_000);
+        aggregator.stageCompleted(PipelineStage.TRANSFORM, 0);
+        aggregator.stageCompleted(PipelineStage.EXTRACT, 0);
+        aggregator.updateProgress(4, 12);
+        nanos.set(Duration.ofSeconds(2).toNanos());
+
+        aggregator.sample();
+
+        ProgressSnapshot snapshot = published.getFirst();
+        assertThat(snapshot.stage()).isEqualTo(PipelineStage.TRANSFORM);
+        assertThat(snapshot.filesPerSecond()).isEqualTo(0.5);
+        assertThat(snapshot.bytesPerSecond()).isEqualTo(2_000.0);
+    }
+
+    @Test
+    void sample_countsFilesThatFinishedTheLastStage() {
+        aggregator.stageCompleted(PipelineStage.EXTRACT, 0);
+        aggregator.stageCompleted(PipelineStage.EXTRACT, 0);
+        aggregator.stageCompleted(PipelineStage.TRANSFORM, 0);
+        aggregator.stageCompleted(PipelineStage.RENAME, 0);
+        aggregator.updateProgress(4, 300);
+
+        aggregator.sample();
+
+        assertThat(published.getFirst().filesDone()).isEqualTo(1);
+        assertThat(published.getFirst().totalFiles()).isEqualTo(100);
+    }
+
+    @Test
+    void sample_halfDone_etaEqualsElapsedTime() {
+        aggregator.updateProgress(5, 10);
+        nanos.set(Duration.ofSeconds(4).toNanos());
+
+        aggregator.sample();
+
+        assertThat(published.getFirst().eta()).isEqualTo(Duration.ofSeconds(4));
+    }
+
+    @Test
+    void sample_allDone_etaIsZero() {
+        aggregator.updateProgress(10, 10);
+        nanos.set(Duration.ofSeconds(1).toNanos());
+
+        aggregator.sample();
+
+        assertThat(published.getFirst().eta()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void sample_nothingDoneYet_etaIsUnknown() {
+        aggregator.stageCompleted(PipelineStage.EXTRACT, 0);
+
+        aggregator.sample();
+
+        assertThat(published.getFirst().eta()).isNull();
+    }
+
+    @Test
+    void sample_sinkThrows_keepsPublishingLaterSamples() {
+        List<ProgressSnapshot> received = new CopyOnWriteArrayList<>();
+        ProgressAggregator failing = new ProgressAggregator(snapshot -> {
+            received.add(snapshot);
+            if (received.size() == 1) {
+                throw new IllegalStateException("listener failure");
+            }
+        }, 2, nanos::get);
+
+        failing.updateProgress(1, 2);
+        failing.sample();
+        failing.updateProgress(2, 2);
+        failing.sample();
+
+        assertThat(received).hasSize(2);
+    }
+
+    @Test
+    void close_afterConcurrentUpdates_publishesFinalState() {
+        ProgressAggregator running = new ProgressAggregator(published::add, 3_000);
+        running.start();
+
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            IntStream.rangeClosed(1, 3_000).forEach(i -> pool.submit(() -> {
+                running.stageCompleted(PipelineStage.RENAME, 0);
+                running.updateProgress(i, 3_000);
+            }));
+        }
+        running.close();
+
+        assertThat(published).isNotEmpty();
+        assertThat(published.size()).isLessThan(3_000);
+        assertThat(published.getLast().workDone()).isEqualTo(3_000);
+        assertThat(published.getLast().stage()).isEqualTo(PipelineStage.RENAME);
+        assertThat(published.getLast().filesDone()).isEqualTo(3_000);
+    }
+
+    @Test
+    void close_withoutStart_publishesPendingState() {
+        aggregator.updateProgress(2, 2);
+
+        aggregator.close();
+
+        assertThat(published).hasSize(1);
+    }
+}
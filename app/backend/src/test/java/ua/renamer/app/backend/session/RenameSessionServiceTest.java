@@ -19,6 +19,7 @@ import ua.renamer.app.api.model.meta.FileMeta;
 import ua.renamer.app.api.model.meta.category.AudioMeta;
 import ua.renamer.app.api.model.meta.category.ImageMeta;
 import ua.renamer.app.api.model.meta.category.VideoMeta;
+import ua.renamer.app.api.service.CancellationToken;
 import ua.renamer.app.api.service.FileRenameOrchestrator;
 import ua.renamer.app.api.service.ProgressCallback;
 import ua.renamer.app.api.session.AddTextParams;
@@ -41,6 +42,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -48,8 +50,11 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -130,7 +135,8 @@ class RenameSessionServiceTest {
                         org.mockito.ArgumentMatchers.any(),
                         eq(mode),
                         any(),
-                        org.mockito.ArgumentMatchers.isNull());
+                        org.mockito.ArgumentMatchers.isNull(),
+                        any());
     }
 
     private void stubComputePreviewAnyMode(List<PreparedFileModel> result) {
@@ -141,7 +147,8 @@ class RenameSessionServiceTest {
                         org.mockito.ArgumentMatchers.any(),
                         any(TransformationMode.class),
                         any(),
-                        org.mockito.ArgumentMatchers.isNull());
+                        org.mockito.ArgumentMatchers.isNull(),
+                        any());
     }
 
     @BeforeEach
@@ -329,6 +336,243 @@ class RenameSessionServiceTest {
             assertThatThrownBy(() -> service.updateParameters(null))
                     .isInstanceOf(NullPointerException.class);
         }
+
+        @Test
+        void givenBurstOfUpdates_whenUpdateParameters_thenPreviewRecomputedOnce() throws Exception {
+            // Arrange — selectMode computes the first preview
+            FileModel modelA = buildFileModel(new File("/tmp/burst_a.txt"));
+            stubExtractMetadata(List.of(modelA));
+            service.addFiles(List.of(Path.of("/tmp/burst_a.txt"))).get(5, TimeUnit.SECONDS);
+            stubComputePreviewAnyMode(List.of(buildPreparedModel(modelA)));
+            service.selectMode(TransformationMode.ADD_TEXT).get(5, TimeUnit.SECONDS);
+
+            // Act — five keystrokes well inside the debounce window
+            for (String text : List.of("a", "ab", "abc", "abcd", "abcde")) {
+                service.updateParameters(new AddTextParams(text, ItemPosition.BEGIN)).get(5, TimeUnit.SECONDS);
+            }
+
+            // Assert — one computation for selectMode, one for the whole burst
+            verify(orchestrator, after(RenameSessionService.PREVIEW_DEBOUNCE.toMillis() * 5).times(2))
+                    .computePreview(any(), any(TransformationMode.class), any(), isNull(), any());
+            assertThat(service.snapshot().currentParameters())
+                    .isEqualTo(new AddTextParams("abcde", ItemPosition.BEGIN));
+        }
+
+        @Test
+        void givenOneRowChanges_whenUpdateParameters_thenOnlyChangedRowPublished() throws Exception {
+            // Arrange
+            FileModel modelA = buildFileModel(new File("/tmp/delta_a.txt"));
+            FileModel modelB = buildFileModel(new File("/tmp/delta_b.txt"));
+            stubExtractMetadata(List.of(modelA, modelB));
+            service.addFiles(List.of(Path.of("/tmp/delta_a.txt"), Path.of("/tmp/delta_b.txt")))
+                   .get(5, TimeUnit.SECONDS);
+            PreparedFileModel prepA = buildPreparedModel(modelA);
+            PreparedFileModel prepB = buildPreparedModel(modelB);
+            PreparedFileModel prepBChanged = prepB.toBuilder().withNewName("changed").build();
+            org.mockito.Mockito.doReturn(List.of(prepA, prepB))
+                               .doReturn(List.of(prepA, prepBChanged))
+                               .when(orchestrator)
+                               .computePreview(any(), any(TransformationMode.class), any(), isNull(), any());
+            service.selectMode(TransformationMode.ADD_TEXT).get(5, TimeUnit.SECONDS);
+
+            // Act
+            service.updateParameters(new AddTextParams("x", ItemPosition.BEGIN)).get(5, TimeUnit.SECONDS);
+
+            // Assert — a single-row delta, not a second full list
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<RenamePreview>> rowsCaptor = ArgumentCaptor.forClass(List.class);
+            verify(publisher, timeout(5_000)).publishPreviewRowsChanged(rowsCaptor.capture());
+            assertThat(rowsCaptor.getValue()).singleElement()
+                                             .satisfies(row -> {
+                                                 assertThat(row.fileId()).isEqualTo(modelB.getAbsolutePath());
+                                                 assertThat(row.newName()).isEqualTo("changed.txt");
+                                             });
+            verify(publisher, times(1)).publishPreviewChanged(any(List.class));
+            assertThat(service.snapshot().preview())
+                    .extracting(RenamePreview::newName)
+                    .containsExactly("test_renamed.txt", "changed.txt");
+        }
+
+        @Test
+        void givenAllRowsChange_whenUpdateParameters_thenFullPreviewPublished() throws Exception {
+            // Arrange
+            FileModel modelA = buildFileModel(new File("/tmp/full_a.txt"));
+            stubExtractMetadata(List.of(modelA));
+            service.addFiles(List.of(Path.of("/tmp/full_a.txt"))).get(5, TimeUnit.SECONDS);
+            PreparedFileModel prepA = buildPreparedModel(modelA);
+            org.mockito.Mockito.doReturn(List.of(prepA))
+                               .doReturn(List.of(prepA.toBuilder().withNewName("changed").build()))
+                               .when(orchestrator)
+                               .computePreview(any(), any(TransformationMode.class), any(), isNull(), any());
+            service.selectMode(TransformationMode.ADD_TEXT).get(5, TimeUnit.SECONDS);
+
+            // Act
+            service.updateParameters(new AddTextParams("x", ItemPosition.BEGIN)).get(5, TimeUnit.SECONDS);
+
+            // Assert — selectMode and the refresh both publish the full list
+            verify(publisher, timeout(5_000).times(2)).publishPreviewChanged(any(List.class));
+            verify(publisher, never()).publishPreviewRowsChanged(any());
+        }
+
+        @Test
+        void givenPendingRefresh_whenSelectMode_thenDebouncedRefreshIsDropped() throws Exception {
+            // Arrange
+            FileModel modelA = buildFileModel(new File("/tmp/drop_a.txt"));
+            stubExtractMetadata(List.of(modelA));
+            service.addFiles(List.of(Path.of("/tmp/drop_a.txt"))).get(5, TimeUnit.SECONDS);
+            stubComputePreviewAnyMode(List.of(buildPreparedModel(modelA)));
+            service.selectMode(TransformationMode.ADD_TEXT).get(5, TimeUnit.SECONDS);
+            service.updateParameters(new AddTextParams("x", ItemPosition.BEGIN)).get(5, TimeUnit.SECONDS);
+
+            // Act — selecting a mode recomputes the preview itself, superseding the pending refresh
+            service.selectMode(TransformationMode.CHANGE_CASE).get(5, TimeUnit.SECONDS);
+
+            // Assert — two selectMode computations, none from the superseded update
+            verify(orchestrator, after(RenameSessionService.PREVIEW_DEBOUNCE.toMillis() * 5).times(2))
+                    .computePreview(any(), any(TransformationMode.class), any(), isNull(), any());
+        }
+    }
+
+    // =========================================================================
+    // Background preview job
+    // =========================================================================
+
+    @Nested
+    class PreviewJobTests {
+
+        @Test
+        void givenPreviewComputing_whenOtherCommandSubmitted_thenStateThreadIsNotBlocked() throws Exception {
+            // Arrange — computePreview blocks until released
+            FileModel modelA = buildFileModel(new File("/tmp/job_a.txt"));
+            stubExtractMetadata(List.of(modelA));
+            service.addFiles(List.of(Path.of("/tmp/job_a.txt"))).get(5, TimeUnit.SECONDS);
+            CountDownLatch previewStarted = new CountDownLatch(1);
+            CountDownLatch releasePreview = new CountDownLatch(1);
+            org.mockito.Mockito.doAnswer(invocation -> {
+                previewStarted.countDown();
+                releasePreview.await(5, TimeUnit.SECONDS);
+                return List.of(buildPreparedModel(modelA));
+            }).when(orchestrator).computePreview(any(), any(TransformationMode.class), any(), isNull(), any());
+            var selectFuture = service.selectMode(TransformationMode.ADD_TEXT);
+            assertThat(previewStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // Act — a state command completes while the preview is still being computed
+            AddTextParams params = new AddTextParams("x", ItemPosition.BEGIN);
+            ValidationResult result = service.updateParameters(params).get(1, TimeUnit.SECONDS);
+
+            // Assert
+            assertThat(result.ok()).isTrue();
+            assertThat(selectFuture).isNotDone();
+            releasePreview.countDown();
+            selectFuture.get(5, TimeUnit.SECONDS);
+        }
+
+        @Test
+        void givenPreviewComputing_whenFilesCleared_thenStaleResultIsDiscarded() throws Exception {
+            // Arrange
+            FileModel modelA = buildFileModel(new File("/tmp/stale_a.txt"));
+            stubExtractMetadata(List.of(modelA));
+            service.addFiles(List.of(Path.of("/tmp/stale_a.txt"))).get(5, TimeUnit.SECONDS);
+            CountDownLatch previewStarted = new CountDownLatch(1);
+            CountDownLatch releasePreview = new CountDownLatch(1);
+            org.mockito.Mockito.doAnswer(invocation -> {
+                previewStarted.countDown();
+                releasePreview.await(5, TimeUnit.SECONDS);
+                return List.of(buildPreparedModel(modelA));
+            }).when(orchestrator).computePreview(any(), any(TransformationMode.class), any(), isNull(), any());
+            var selectFuture = service.selectMode(TransformationMode.ADD_TEXT);
+            assertThat(previewStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // Act — clear while the preview job is running, then let the job finish
+            service.clearFiles().get(1, TimeUnit.SECONDS);
+            releasePreview.countDown();
+            selectFuture.get(5, TimeUnit.SECONDS);
+
+            // Assert — the outdated preview never reaches the UI or the snapshot
+            verify(publisher, never()).publishPreviewChanged(any(List.class));
+            assertThat(service.snapshot().preview()).isEmpty();
+            assertThat(service.snapshot().files()).isEmpty();
+        }
+
+        @Test
+        void givenPreviewComputing_whenFilesCleared_thenRunningJobIsCancelled() throws Exception {
+            // Arrange — computePreview spins until its cancellation token fires
+            FileModel modelA = buildFileModel(new File("/tmp/cancel_a.txt"));
+            stubExtractMetadata(List.of(modelA));
+            service.addFiles(List.of(Path.of("/tmp/cancel_a.txt"))).get(5, TimeUnit.SECONDS);
+            CountDownLatch previewStarted = new CountDownLatch(1);
+            CountDownLatch previewCancelled = new CountDownLatch(1);
+            org.mockito.Mockito.doAnswer(invocation -> {
+                CancellationToken cancellation = invocation.getArgument(4);
+                previewStarted.countDown();
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (!cancellation.isCancellationRequested() && System.nanoTime() < deadline) {
+                    Thread.onSpinWait();
+                }
+                if (cancellation.isCancellationRequested()) {
+                    previewCancelled.countDown();
+                }
+                return List.of();
+            }).when(orchestrator).computePreview(any(), any(TransformationMode.class), any(), isNull(), any());
+            var selectFuture = service.selectMode(TransformationMode.ADD_TEXT);
+            assertThat(previewStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // Act — superseding the job asks it to stop instead of waiting for it to finish
+            service.clearFiles().get(1, TimeUnit.SECONDS);
+
+            // Assert
+            assertThat(previewCancelled.await(1, TimeUnit.SECONDS)).isTrue();
+            selectFuture.get(5, TimeUnit.SECONDS);
+            verify(publisher, never()).publishPreviewChanged(any(List.class));
+        }
+
+        @Test
+        void givenPreviewThrows_whenAddFiles_thenFilesPublishedWithPlaceholders() throws Exception {
+            // Arrange — a mode is active, so adding files starts a preview job
+            FileModel modelA = buildFileModel(new File("/tmp/fail_a.txt"));
+            FileModel modelB = buildFileModel(new File("/tmp/fail_b.txt"));
+            stubExtractMetadata(List.of(modelA));
+            service.addFiles(List.of(Path.of("/tmp/fail_a.txt"))).get(5, TimeUnit.SECONDS);
+            stubComputePreviewAnyMode(List.of(buildPreparedModel(modelA)));
+            service.selectMode(TransformationMode.ADD_TEXT).get(5, TimeUnit.SECONDS);
+            org.mockito.Mockito.doThrow(new IllegalStateException("boom"))
+                               .when(orchestrator)
+                               .computePreview(any(), any(TransformationMode.class), any(), isNull(), any());
+            stubExtractMetadata(List.of(modelB));
+
+            // Act
+            CommandResult result = service.addFiles(List.of(Path.of("/tmp/fail_b.txt"))).get(5, TimeUnit.SECONDS);
+
+            // Assert — the command succeeds and the new file list still reaches the UI
+            assertThat(result.success()).isTrue();
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<RenameCandidate>> candidatesCaptor = ArgumentCaptor.forClass(List.class);
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<RenamePreview>> previewCaptor = ArgumentCaptor.forClass(List.class);
+            verify(publisher, times(2)).publishFilesChanged(candidatesCaptor.capture(), previewCaptor.capture());
+            assertThat(candidatesCaptor.getValue()).hasSize(2);
+            assertThat(previewCaptor.getValue()).hasSize(2);
+            assertThat(service.snapshot().files()).hasSize(2);
+        }
+
+        @Test
+        void givenModeSelected_whenPreviewComputed_thenRunsOffStateThread() throws Exception {
+            // Arrange
+            FileModel modelA = buildFileModel(new File("/tmp/thread_a.txt"));
+            stubExtractMetadata(List.of(modelA));
+            service.addFiles(List.of(Path.of("/tmp/thread_a.txt"))).get(5, TimeUnit.SECONDS);
+            List<String> threadNames = new java.util.concurrent.CopyOnWriteArrayList<>();
+            org.mockito.Mockito.doAnswer(invocation -> {
+                threadNames.add(Thread.currentThread().getName());
+                return List.of(buildPreparedModel(modelA));
+            }).when(orchestrator).computePreview(any(), any(TransformationMode.class), any(), isNull(), any());
+
+            // Act
+            service.selectMode(TransformationMode.ADD_TEXT).get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertThat(threadNames).hasSize(1).doesNotContain("backend-state");
+        }
     }
 
     // =========================================================================
@@ -451,7 +695,7 @@ class RenameSessionServiceTest {
             CountDownLatch executeStarted = new CountDownLatch(1);
             CountDownLatch removeDone = new CountDownLatch(1);
 
-            when(orchestrator.execute(any(List.class), any(), any(), any()))
+            when(orchestrator.execute(any(List.class), any(), any(), any(), any()))
                     .thenAnswer(invocation -> {
                         // Signal that the pipeline has entered the execute() work phase
                         executeStarted.countDown();
@@ -654,7 +898,7 @@ class RenameSessionServiceTest {
             CountDownLatch executeStarted = new CountDownLatch(1);
             CountDownLatch releaseLatch = new CountDownLatch(1);
 
-            when(orchestrator.execute(any(List.class), any(), any(), any()))
+            when(orchestrator.execute(any(List.class), any(), any(), any(), any()))
                     .thenAnswer(invocation -> {
                         executeStarted.countDown();
                         releaseLatch.await(5, TimeUnit.SECONDS);
@@ -688,7 +932,7 @@ class RenameSessionServiceTest {
                     .withErrorMessage(null)
                     .withExecutedAt(LocalDateTime.now())
                     .build();
-            when(orchestrator.execute(any(List.class), any(), any(), any()))
+            when(orchestrator.execute(any(List.class), any(), any(), any(), any()))
                     .thenReturn(List.of(successResult));
 
             // execute() and wait for completion
@@ -718,7 +962,7 @@ class RenameSessionServiceTest {
                     .withErrorMessage("Permission denied")
                     .withExecutedAt(LocalDateTime.now())
                     .build();
-            when(orchestrator.execute(any(List.class), any(), any(), any()))
+            when(orchestrator.execute(any(List.class), any(), any(), any(), any()))
                     .thenReturn(List.of(errorResult));
 
             service.execute().result().get(5, TimeUnit.SECONDS);
@@ -765,7 +1009,7 @@ class RenameSessionServiceTest {
                     .withErrorMessage(null)
                     .withExecutedAt(LocalDateTime.now())
                     .build();
-            when(orchestrator.execute(any(List.class), any(), any(), any()))
+            when(orchestrator.execute(any(List.class), any(), any(), any(), any()))
                     .thenReturn(List.of(successResult));
 
             // Act
@@ -787,7 +1031,7 @@ class RenameSessionServiceTest {
             stubComputePreviewAnyMode(List.of(buildPreparedModel(modelA)));
             service.selectMode(TransformationMode.ADD_TEXT).get(5, TimeUnit.SECONDS);
 
-            when(orchestrator.execute(any(List.class), any(), any(), any()))
+            when(orchestrator.execute(any(List.class), any(), any(), any(), any()))
                     .thenThrow(new RuntimeException("Disk full"));
 
             // Act — the future should complete exceptionally
@@ -802,6 +1046,83 @@ class RenameSessionServiceTest {
             assertThat(service.availableActions())
                     .doesNotContain(AvailableAction.CANCEL);
         }
+
+        @Test
+        void givenRunningExecute_whenCancellationRequested_thenOrchestratorSeesToken() throws Exception {
+            // Arrange
+            File fileA = new File("/tmp/exec_cancel_a.txt");
+            FileModel modelA = buildFileModel(fileA);
+            stubExtractMetadata(List.of(modelA));
+            service.addFiles(List.of(Path.of("/tmp/exec_cancel_a.txt"))).get(5, TimeUnit.SECONDS);
+            stubComputePreviewAnyMode(List.of(buildPreparedModel(modelA)));
+            service.selectMode(TransformationMode.ADD_TEXT).get(5, TimeUnit.SECONDS);
+
+            CountDownLatch running = new CountDownLatch(1);
+            AtomicBoolean sawCancellation = new AtomicBoolean();
+            when(orchestrator.execute(any(List.class), any(), any(), any(), any()))
+                    .thenAnswer(inv -> {
+                        CancellationToken token = inv.getArgument(4);
+                        running.countDown();
+                        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                        while (!token.isCancellationRequested() && System.nanoTime() < deadline) {
+                            Thread.sleep(5);
+                        }
+                        sawCancellation.set(token.isCancellationRequested());
+                        return List.of();
+                    });
+
+            // Act
+            var handle = service.execute();
+            assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+            handle.requestCancellation();
+
+            // Assert — the pipeline finishes and leaves EXECUTING
+            verify(publisher, timeout(5000)).publishRenameComplete(any(), any());
+            assertThat(sawCancellation).isTrue();
+            assertThat(service.availableActions()).doesNotContain(AvailableAction.CANCEL);
+        }
+
+        @Test
+        void givenCancelledExecute_whenPipelineStops_thenPartialResultsAndCancelledStatus() throws Exception {
+            // Arrange
+            File fileA = new File("/tmp/exec_partial_a.txt");
+            FileModel modelA = buildFileModel(fileA);
+            stubExtractMetadata(List.of(modelA));
+            service.addFiles(List.of(Path.of("/tmp/exec_partial_a.txt"))).get(5, TimeUnit.SECONDS);
+            stubComputePreviewAnyMode(List.of(buildPreparedModel(modelA)));
+            service.selectMode(TransformationMode.ADD_TEXT).get(5, TimeUnit.SECONDS);
+
+            RenameResult cancelledResult = RenameResult.builder()
+                    .withPreparedFile(buildPreparedModel(modelA))
+                    .withStatus(RenameStatus.CANCELLED)
+                    .withErrorMessage(null)
+                    .withExecutedAt(LocalDateTime.now())
+                    .build();
+            CountDownLatch running = new CountDownLatch(1);
+            when(orchestrator.execute(any(List.class), any(), any(), any(), any()))
+                    .thenAnswer(inv -> {
+                        CancellationToken token = inv.getArgument(4);
+                        running.countDown();
+                        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                        while (!token.isCancellationRequested() && System.nanoTime() < deadline) {
+                            Thread.sleep(5);
+                        }
+                        return List.of(cancelledResult);
+                    });
+
+            // Act
+            var handle = service.execute();
+            assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+            handle.requestCancellation();
+            List<RenameSessionResult> results = handle.result().get(5, TimeUnit.SECONDS);
+
+            // Assert — the future carries what the pipeline returned, and the run is not reported as COMPLETE
+            assertThat(results).singleElement()
+                               .satisfies(r -> assertThat(r.status()).isEqualTo(RenameStatus.CANCELLED));
+            verify(publisher).publishRenameComplete(any(), eq(SessionStatus.CANCELLED));
+            assertThat(service.availableActions())
+                    .contains(AvailableAction.ADD_FILES, AvailableAction.CLEAR, AvailableAction.SELECT_MODE);
+        }
     }
 
     // =========================================================================
@@ -812,8 +1133,8 @@ class RenameSessionServiceTest {
     class GetFileMetadataTests {
 
         @Test
-        void givenNoFilesLoaded_whenGetFileMetadata_thenEmpty() {
-            Optional<FileMetadataDto> result = service.getFileMetadata("/nonexistent/path.txt");
+        void givenNoFilesLoaded_whenGetFileMetadata_thenEmpty() throws Exception {
+            Optional<FileMetadataDto> result = service.getFileMetadata("/nonexistent/path.txt").get(5, TimeUnit.SECONDS);
 
             assertThat(result).isEmpty();
         }
@@ -834,7 +1155,7 @@ class RenameSessionServiceTest {
             service.addFiles(List.of(Path.of("/tmp/meta_a.txt"))).get(5, TimeUnit.SECONDS);
 
             // Act
-            Optional<FileMetadataDto> result = service.getFileMetadata(fileA.getAbsolutePath());
+            Optional<FileMetadataDto> result = service.getFileMetadata(fileA.getAbsolutePath()).get(5, TimeUnit.SECONDS);
 
             // Assert — cache populated by addFiles/refreshAndPublish
             assertThat(result).isPresent();
@@ -924,7 +1245,7 @@ class RenameSessionServiceTest {
 
             service.addFiles(List.of(Path.of("/tmp/img_meta.jpg"))).get(5, TimeUnit.SECONDS);
 
-            FileMetadataDto dto = service.getFileMetadata(fileA.getAbsolutePath()).orElseThrow();
+            FileMetadataDto dto = service.getFileMetadata(fileA.getAbsolutePath()).get(5, TimeUnit.SECONDS).orElseThrow();
 
             assertThat(dto.widthPx()).isEqualTo(1920);
             assertThat(dto.heightPx()).isEqualTo(1080);
@@ -944,7 +1265,7 @@ class RenameSessionServiceTest {
 
             service.addFiles(List.of(Path.of("/tmp/vid_meta.mp4"))).get(5, TimeUnit.SECONDS);
 
-            FileMetadataDto dto = service.getFileMetadata(fileV.getAbsolutePath()).orElseThrow();
+            FileMetadataDto dto = service.getFileMetadata(fileV.getAbsolutePath()).get(5, TimeUnit.SECONDS).orElseThrow();
 
             assertThat(dto.widthPx()).isEqualTo(1280);
             assertThat(dto.heightPx()).isEqualTo(720);
@@ -963,7 +1284,7 @@ class RenameSessionServiceTest {
 
             service.addFiles(List.of(Path.of("/tmp/aud_meta.mp3"))).get(5, TimeUnit.SECONDS);
 
-            FileMetadataDto dto = service.getFileMetadata(fileAud.getAbsolutePath()).orElseThrow();
+            FileMetadataDto dto = service.getFileMetadata(fileAud.getAbsolutePath()).get(5, TimeUnit.SECONDS).orElseThrow();
 
             assertThat(dto.audioArtist()).isEqualTo("Artist");
             assertThat(dto.audioAlbum()).isEqualTo("Album");
@@ -994,7 +1315,7 @@ class RenameSessionServiceTest {
 
             service.addFiles(List.of(Path.of("/tmp/generic_meta.bin"))).get(5, TimeUnit.SECONDS);
 
-            FileMetadataDto dto = service.getFileMetadata(fileG.getAbsolutePath()).orElseThrow();
+            FileMetadataDto dto = service.getFileMetadata(fileG.getAbsolutePath()).get(5, TimeUnit.SECONDS).orElseThrow();
 
             assertThat(dto.category()).isEqualTo("GENERIC");
         }
@@ -1028,7 +1349,7 @@ class RenameSessionServiceTest {
                     .withTransformationMeta(null)
                     .build();
             org.mockito.Mockito.lenient().doReturn(List.of(preparedResult))
-                    .when(orchestrator).computePreview(any(), any(), any(), any());
+                    .when(orchestrator).computePreview(any(), any(TransformationMode.class), any(), any());
 
             AddTextParams validParams = new AddTextParams("prefix_", ItemPosition.BEGIN);
 
@@ -1054,7 +1375,7 @@ class RenameSessionServiceTest {
             assertThat(result).isEmpty();
             // orchestrator must not be called
             org.mockito.Mockito.verify(orchestrator, org.mockito.Mockito.never())
-                    .computePreview(any(), any(), any(), any());
+                    .computePreview(any(), any(TransformationMode.class), any(), any());
         }
 
         @Test
@@ -1078,7 +1399,7 @@ class RenameSessionServiceTest {
                     .withTransformationMeta(null)
                     .build();
             org.mockito.Mockito.lenient().doReturn(List.of(errorResult))
-                    .when(orchestrator).computePreview(any(), any(), any(), any());
+                    .when(orchestrator).computePreview(any(), any(TransformationMode.class), any(), any());
 
             AddTextParams validParams = new AddTextParams("prefix_", ItemPosition.BEGIN);
 
@@ -1091,7 +1412,7 @@ class RenameSessionServiceTest {
         @Test
         void givenOrchestratorReturnsEmptyList_whenPreviewSingleFile_thenReturnsEmpty() {
             org.mockito.Mockito.lenient().doReturn(List.of())
-                    .when(orchestrator).computePreview(any(), any(), any(), any());
+                    .when(orchestrator).computePreview(any(), any(TransformationMode.class), any(), any());
 
             AddTextParams validParams = new AddTextParams("x_", ItemPosition.BEGIN);
 
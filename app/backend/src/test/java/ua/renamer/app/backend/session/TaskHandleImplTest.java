@@ -3,10 +3,14 @@ package ua.renamer.app.backend.session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import ua.renamer.app.api.enums.PipelineStage;
+import ua.renamer.app.api.session.ProgressSnapshot;
 import ua.renamer.app.api.session.TaskHandle;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -61,14 +65,15 @@ class TaskHandleImplTest {
             handle.requestCancellation();
 
             assertThat(handle.isCancellationRequested()).isTrue();
-            assertThat(handle.result().isCancelled()).isTrue();
         }
 
         @Test
-        void givenCancellationRequested_whenResult_thenFutureIsCancelled() {
+        void givenCancellationRequested_whenTaskCompletes_thenResultHoldsPartialValue() throws Exception {
             handle.requestCancellation();
+            future.complete("partial");
 
-            assertThat(future.isCancelled()).isTrue();
+            assertThat(handle.result().isCancelled()).isFalse();
+            assertThat(handle.result().get()).isEqualTo("partial");
         }
     }
 
@@ -119,6 +124,40 @@ class TaskHandleImplTest {
             assertThat(counter.get()).isZero();
         }
 
+        @Test
+        void givenLegacyListener_whenNotifySnapshot_thenReceivesWorkCounters() {
+            double[] received = new double[2];
+            handle.addProgressListener((w, t, m) -> {
+                received[0] = w;
+                received[1] = t;
+            });
+
+            handle.notifyProgress(new ProgressSnapshot(PipelineStage.RENAME, 4, 9, 1, 3, 2.0, 0.0, Duration.ofSeconds(3)));
+
+            assertThat(received[0]).isEqualTo(4.0);
+            assertThat(received[1]).isEqualTo(9.0);
+        }
+
+        @Test
+        void givenSnapshotListener_whenNotifySnapshot_thenReceivesSnapshot() {
+            AtomicReference<ProgressSnapshot> received = new AtomicReference<>();
+            handle.addProgressListener(new TaskHandle.ProgressListener() {
+                @Override
+                public void onProgress(double workDone, double totalWork, String message) {
+                }
+
+                @Override
+                public void onProgress(ProgressSnapshot snapshot) {
+                    received.set(snapshot);
+                }
+            });
+            ProgressSnapshot snapshot = new ProgressSnapshot(PipelineStage.EXTRACT, 1, 9, 0, 3, 5.0, 1024.0, null);
+
+            handle.notifyProgress(snapshot);
+
+            assertThat(received.get()).isSameAs(snapshot);
+        }
+
         @Test
         void givenNoListeners_whenNotifyProgress_thenNoException() {
             assertThatCode(() -> handle.notifyProgress(0.0, 1.0, null))
@@ -0,0 +1,106 @@
+package ua.renamer.app.backend.settings;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ua.renamer.app.api.settings.AppSettings;
+import ua.renamer.app.api.settings.SettingsService;
+import ua.renamer.app.core.service.DirectoryRenameScheduler;
+import ua.renamer.app.core.service.ExtractionScheduler;
+import ua.renamer.app.metadata.extractor.strategy.format.image.ImageHeaderReader;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link PerformanceConfigService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class PerformanceConfigServiceTest {
+
+    @Mock
+    private SettingsService settingsService;
+    @Mock
+    private ExtractionScheduler extractionScheduler;
+    @Mock
+    private DirectoryRenameScheduler renameScheduler;
+    @Mock
+    private ImageHeaderReader imageHeaderReader;
+
+    private PerformanceConfigService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PerformanceConfigService(settingsService, extractionScheduler, renameScheduler,
+                imageHeaderReader);
+    }
+
+    @Test
+    void configure_appliesPermitsFromCurrentSettings() {
+        when(settingsService.getCurrent()).thenReturn(withPermits(2));
+
+        service.configure();
+
+        verify(extractionScheduler).setPermitsPerDevice(2);
+    }
+
+    @Test
+    void reconfigure_appliesPermitsFromGivenSettings() {
+        service.reconfigure(withPermits(16));
+
+        verify(extractionScheduler).setPermitsPerDevice(16);
+    }
+
+    @Test
+    void reconfigure_whenSchedulerRejectsValue_neverThrows() {
+        doThrow(new IllegalArgumentException("out of range")).when(extractionScheduler).setPermitsPerDevice(0);
+
+        assertThatCode(() -> service.reconfigure(withPermits(0))).doesNotThrowAnyException();
+    }
+
+    @Test
+    void reconfigure_appliesRenameParallelismFromGivenSettings() {
+        service.reconfigure(AppSettings.defaults().toBuilder()
+                .withRenameParallelism(8)
+                .build());
+
+        verify(renameScheduler).setParallelism(8);
+    }
+
+    @Test
+    void reconfigure_whenPermitsRejected_stillAppliesRenameParallelism() {
+        doThrow(new IllegalArgumentException("out of range")).when(extractionScheduler).setPermitsPerDevice(0);
+
+        service.reconfigure(withPermits(0));
+
+        verify(renameScheduler).setParallelism(AppSettings.defaults().getRenameParallelism());
+    }
+
+    @Test
+    void reconfigure_appliesImageHeaderReadKbFromGivenSettings() {
+        service.reconfigure(AppSettings.defaults().toBuilder()
+                .withImageHeaderReadKb(1024)
+                .build());
+
+        verify(imageHeaderReader).setHeaderReadKb(1024);
+    }
+
+    @Test
+    void reconfigure_whenImageHeaderReadKbRejected_neverThrows() {
+        doThrow(new IllegalArgumentException("out of range")).when(imageHeaderReader).setHeaderReadKb(-1);
+
+        assertThatCode(() -> service.reconfigure(AppSettings.defaults().toBuilder()
+                .withImageHeaderReadKb(-1)
+                .build())).doesNotThrowAnyException();
+    }
+
+    private static AppSettings withPermits(int permits) {
+        return AppSettings.defaults().toBuilder()
+                .withExtractionPermitsPerDevice(permits)
+                .build();
+    }
+}
@@ -144,6 +144,153 @@ class SettingsServiceImplTest {
 
             assertThat(service.getCurrent().getCustomConfigPath()).isNull();
         }
+
+        @Test
+        void load_whenFileAbsent_returnsDefaultExtractionPermits() {
+            SettingsServiceImpl service = newService();
+
+            assertThat(service.getCurrent().getExtractionPermitsPerDevice())
+                    .isEqualTo(AppDefaults.DEFAULT_EXTRACTION_PERMITS_PER_DEVICE);
+        }
+    }
+
+    // =========================================================================
+    // load — extraction permits
+    // =========================================================================
+
+    @Nested
+    class LoadExtractionPermits {
+
+        @Test
+        void load_whenPerformanceSectionAbsent_returnsDefaultPermits() throws IOException {
+            Files.writeString(settingsFile, """
+                    {
+                      "version": 1,
+                      "general": {
+                        "language": "en",
+                        "logging": { "enabled": false, "level": "INFO" }
+                      }
+                    }
+                    """);
+
+            SettingsServiceImpl service = newService();
+
+            assertThat(service.getCurrent().getExtractionPermitsPerDevice())
+                    .isEqualTo(AppDefaults.DEFAULT_EXTRACTION_PERMITS_PER_DEVICE);
+        }
+
+        @Test
+        void load_whenPermitsOutOfRange_fallsBackToDefault() throws IOException {
+            Files.writeString(settingsFile, """
+                    {
+                      "version": 1,
+                      "general": {
+                        "language": "en",
+                        "logging": { "enabled": false, "level": "INFO" },
+                        "performance": { "extractionPermitsPerDevice": 100000 }
+                      }
+                    }
+                    """);
+
+            SettingsServiceImpl service = newService();
+
+            assertThat(service.getCurrent().getExtractionPermitsPerDevice())
+                    .isEqualTo(AppDefaults.DEFAULT_EXTRACTION_PERMITS_PER_DEVICE);
+        }
+
+        @Test
+        void load_whenPermitsValid_parsesValue() throws IOException {
+            Files.writeString(settingsFile, """
+                    {
+                      "version": 1,
+                      "general": {
+                        "language": "en",
+                        "logging": { "enabled": false, "level": "INFO" },
+                        "performance": { "extractionPermitsPerDevice": 2 }
+                      }
+                    }
+                    """);
+
+            SettingsServiceImpl service = newService();
+
+            assertThat(service.getCurrent().getExtractionPermitsPerDevice()).isEqualTo(2);
+        }
+
+        @Test
+        void load_whenRenameParallelismAbsent_returnsDefault() throws IOException {
+            Files.writeString(settingsFile, """
+                    {
+                      "version": 1,
+                      "general": {
+                        "language": "en",
+                        "logging": { "enabled": false, "level": "INFO" },
+                        "performance": { "extractionPermitsPerDevice": 2 }
+                      }
+                    }
+                    """);
+
+            SettingsServiceImpl service = newService();
+
+            assertThat(service.getCurrent().getRenameParallelism())
+                    .isEqualTo(AppDefaults.DEFAULT_RENAME_PARALLELISM);
+        }
+
+        @Test
+        void load_whenRenameParallelismOutOfRange_fallsBackToDefault() throws IOException {
+            Files.writeString(settingsFile, """
+                    {
+                      "version": 1,
+                      "general": {
+                        "language": "en",
+                        "logging": { "enabled": false, "level": "INFO" },
+                        "performance": { "renameParallelism": 0 }
+                      }
+                    }
+                    """);
+
+            SettingsServiceImpl service = newService();
+
+            assertThat(service.getCurrent().getRenameParallelism())
+                    .isEqualTo(AppDefaults.DEFAULT_RENAME_PARALLELISM);
+        }
+
+        @Test
+        void load_whenImageHeaderReadKbAbsent_returnsDefault() throws IOException {
+            Files.writeString(settingsFile, """
+                    {
+                      "version": 1,
+                      "general": {
+                        "language": "en",
+                        "logging": { "enabled": false, "level": "INFO" },
+                        "performance": { "extractionPermitsPerDevice": 2 }
+                      }
+                    }
+                    """);
+
+            SettingsServiceImpl service = newService();
+
+            assertThat(service.getCurrent().getImageHeaderReadKb())
+                    .isEqualTo(AppDefaults.DEFAULT_IMAGE_HEADER_READ_KB);
+        }
+
+        @Test
+        void load_whenImageHeaderReadKbOutOfRange_fallsBackToDefault() throws IOException {
+            Files.writeString(settingsFile, """
+                    {
+                      "version": 1,
+                      "general": {
+                        "language": "en",
+                        "logging": { "enabled": false, "level": "INFO" },
+                        "performance": { "imageHeaderReadKb": -1 }
+                      }
+                    }
+                    """);
+
+            SettingsServiceImpl service = newService();
+
+            assertThat(service.getCurrent().getImageHeaderReadKb())
+                    .isEqualTo(AppDefaults.DEFAULT_IMAGE_HEADER_READ_KB);
+        }
     }
 
     // =========================================================================
@@ -627,6 +774,42 @@ class SettingsServiceImplTest {
                     .isEqualTo(original.getCustomConfigPath());
         }
 
+        @Test
+        void saveAndLoad_roundtripsExtractionPermits() throws IOException {
+            SettingsServiceImpl service = newService();
+            AppSettings original = buildNonDefaultSettings();
+            service.save(original);
+
+            AppSettings reloaded = service.load();
+
+            assertThat(reloaded.getExtractionPermitsPerDevice())
+                    .isEqualTo(original.getExtractionPermitsPerDevice());
+        }
+
+        @Test
+        void saveAndLoad_roundtripsRenameParallelism() throws IOException {
+            SettingsServiceImpl service = newService();
+            AppSettings original = buildNonDefaultSettings();
+            service.save(original);
+
+            AppSettings reloaded = service.load();
+
+            assertThat(reloaded.getRenameParallelism())
+                    .isEqualTo(original.getRenameParallelism());
+        }
+
+        @Test
+        void saveAndLoad_roundtripsImageHeaderReadKb() throws IOException {
+            SettingsServiceImpl service = newService();
+            AppSettings original = buildNonDefaultSettings();
+            service.save(original);
+
+            AppSettings reloaded = service.load();
+
+            assertThat(reloaded.getImageHeaderReadKb())
+                    .isEqualTo(original.getImageHeaderReadKb());
+        }
+
         @Test
         void saveAndLoad_roundtripsNullCustomConfigPath() throws IOException {
             SettingsServiceImpl service = newService();
@@ -658,6 +841,9 @@ class SettingsServiceImplTest {
                     .withCustomConfigPath("/tmp/custom-logback.xml")
                     .withLoggingEnabled(true)
                     .withLogLevel(LogLevel.ERROR)
+                    .withExtractionPermitsPerDevice(7)
+                    .withRenameParallelism(3)
+                    .withImageHeaderReadKb(64)
                     .build();
         }
     }
@@ -0,0 +1,34 @@
+package ua.renamer.app.benchmarks;
+
+import org.openjdk.jmh.Main;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entry point of {@code benchmarks.jar}. Accepts the standard JMH command line and, unless a result
+ * format is given, writes the results as JSON to {@code jmh-result-<version>.json} in the working
+ * directory so runs of different releases can be compared.
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+    }
+
+    /**
+     * @param args JMH command-line arguments, e.g. a benchmark name regex or {@code -p entries=10000}
+     * @throws Exception if JMH fails to start
+     */
+    public static void main(String[] args) throws Exception {
+        List<String> jmhArgs = new ArrayList<>(List.of(args));
+        if (!jmhArgs.contains("-rf") && !jmhArgs.contains("-rff")) {
+            jmhArgs.addAll(List.of("-rf", "json", "-rff", "jmh-result-" + version() + ".json"));
+        }
+        Main.main(jmhArgs.toArray(String[]::new));
+    }
+
+    private static String version() {
+        String version = BenchmarkMain.class.getPackage().getImplementationVersion();
+        return version != null ? version : "dev";
+    }
+}
@@ -0,0 +1,129 @@
+package ua.renamer.app.benchmarks;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import ua.renamer.app.api.enums.Category;
+import ua.renamer.app.api.interfaces.FileMetadataCache;
+import ua.renamer.app.api.model.FileModel;
+import ua.renamer.app.api.model.meta.FileMeta;
+import ua.renamer.app.api.model.meta.category.ImageMeta;
+import ua.renamer.app.core.config.DIV2ServiceModule;
+import ua.renamer.app.metadata.config.DIMetadataModule;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Shared setup for the benchmark suites: the production service graph, the bundled media fixtures
+ * and synthetic file models.
+ */
+final class BenchmarkSupport {
+
+    /**
+     * Fixture formats bundled from {@code core/src/test/resources/test-data}, in round-robin order.
+     */
+    static final List<String> FORMATS = List.of("jpg", "png", "mp3", "mp4");
+
+    private static final Map<String, String> FIXTURES = Map.of(
+            "jpg", "fixtures/image/jpg/test_jpg_std_2025-12-11_21-00-35.jpg",
+            "png", "fixtures/image/png/test_png_std_2025-12-11_21-00-35.png",
+            "mp3", "fixtures/audio/mp3/test_mp3_std_2025-12-11_21-00-35.mp3",
+            "mp4", "fixtures/video/mp4/test_mp4_std_2025-12-11_21-00-35.mp4");
+
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2024, 5, 1, 12, 30);
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Create the injector the application uses for file processing. The persistent metadata cache
+     * is replaced by {@link FileMetadataCache#disabled()} so every call measures real extraction.
+     *
+     * @return a new injector; never null
+     */
+    static Injector createInjector() {
+        return Guice.createInjector(
+                new DIMetadataModule(),
+                new DIV2ServiceModule(),
+                binder -> binder.bind(FileMetadataCache.class).toInstance(FileMetadataCache.disabled()));
+    }
+
+    /**
+     * Read a bundled fixture into memory.
+     *
+     * @param format one of {@link #FORMATS}
+     * @return the fixture bytes
+     * @throws IOException if the fixture cannot be read
+     */
+    static byte[] fixture(String format) throws IOException {
+        String resource = FIXTURES.get(format);
+        if (resource == null) {
+            throw new IllegalArgumentException("Unknown fixture format: " + format);
+        }
+        try (InputStream in = BenchmarkSupport.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("Fixture not on the class path: " + resource);
+            }
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Delete a directory tree created by a benchmark.
+     *
+     * @param root the directory to delete; ignored when null or missing
+     */
+    static void deleteRecursively(Path root) {
+        if (root == null || !Files.exists(root)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Build an in-memory image file model with dates and dimensions, so every transformer has input.
+     *
+     * @param directory the parent directory of the (non-existent) file
+     * @param name      the file name without extension
+     * @return the file model; never null
+     */
+    static FileModel imageModel(String directory, String name) {
+        String path = directory + "/" + name + ".jpg";
+        return FileModel.builder()
+                        .withFile(Path.of(path).toFile())
+                        .withIsFile(true)
+                        .withFileSize(4_096L)
+                        .withName(name)
+                        .withExtension("jpg")
+                        .withAbsolutePath(path)
+                        .withCreationDate(BASE_DATE)
+                        .withModificationDate(BASE_DATE.plusHours(1))
+                        .withDetectedMimeType("image/jpeg")
+                        .withDetectedExtensions(Set.of("jpg", "jpeg"))
+                        .withCategory(Category.IMAGE)
+                        .withMetadata(FileMeta.builder()
+                                              .withImage(ImageMeta.builder()
+                                                                  .withContentCreationDate(BASE_DATE.minusDays(1))
+                                                                  .withWidth(4_000)
+                                                                  .withHeight(3_000)
+                                                                  .build())
+                                              .withMetaInfo(Map.of())
+                                              .build())
+                        .build();
+    }
+}
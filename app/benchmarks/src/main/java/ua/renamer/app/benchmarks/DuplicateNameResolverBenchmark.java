@@ -0,0 +1,68 @@
+package ua.renamer.app.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ua.renamer.app.api.model.PreparedFileModel;
+import ua.renamer.app.core.service.impl.DuplicateNameResolverImpl;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Phase 2.5 cost of {@link DuplicateNameResolverImpl#resolve(List)} on 10k, 100k and 1M entries.
+ * Files are spread over {@link #DIRECTORIES} folders and every target name is shared by
+ * {@link #FILES_PER_NAME} files, half of them in the same folder, so suffixing is always exercised.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class DuplicateNameResolverBenchmark {
+
+    static final int DIRECTORIES = 100;
+    static final int FILES_PER_NAME = 4;
+
+    @Param({"10000", "100000", "1000000"})
+    public int entries;
+
+    private DuplicateNameResolverImpl resolver;
+    private List<PreparedFileModel> models;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        resolver = BenchmarkSupport.createInjector().getInstance(DuplicateNameResolverImpl.class);
+        models = IntStream.range(0, entries)
+                          .mapToObj(this::prepared)
+                          .toList();
+    }
+
+    @Benchmark
+    public List<PreparedFileModel> resolve() {
+        return resolver.resolve(models);
+    }
+
+    private PreparedFileModel prepared(int index) {
+        // Consecutive pairs share a folder; each group of FILES_PER_NAME files shares a target name
+        int group = index / FILES_PER_NAME;
+        String directory = "/photos/folder" + (index / 2 + group) % DIRECTORIES;
+        return PreparedFileModel.builder()
+                                .withOriginalFile(BenchmarkSupport.imageModel(directory, "IMG_" + index))
+                                .withNewName("holiday_" + group)
+                                .withNewExtension("jpg")
+                                .withHasError(false)
+                                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package ua.renamer.app.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ua.renamer.app.api.model.FileModel;
+import ua.renamer.app.core.mapper.ThreadAwareFileMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Phase 1 cost per file: {@link ThreadAwareFileMapper#mapFrom(File)} with the production metadata
+ * extractors on one fixture per format.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FileMapperBenchmark {
+
+    @Param({"jpg", "png", "mp3", "mp4"})
+    public String format;
+
+    private ThreadAwareFileMapper mapper;
+    private Path directory;
+    private File file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapper = BenchmarkSupport.createInjector().getInstance(ThreadAwareFileMapper.class);
+        directory = Files.createTempDirectory("renamer-bench-mapper");
+        Path target = directory.resolve("sample." + format);
+        Files.write(target, BenchmarkSupport.fixture(format));
+        file = target.toFile();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkSupport.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public FileModel mapFrom() {
+        return mapper.mapFrom(file);
+    }
+}
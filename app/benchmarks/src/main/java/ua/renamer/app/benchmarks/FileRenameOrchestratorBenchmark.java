@@ -0,0 +1,93 @@
+package ua.renamer.app.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ua.renamer.app.api.enums.ItemPosition;
+import ua.renamer.app.api.model.RenameResult;
+import ua.renamer.app.api.model.TransformationMode;
+import ua.renamer.app.api.model.config.AddTextConfig;
+import ua.renamer.app.api.service.FileRenameOrchestrator;
+import ua.renamer.app.core.service.impl.FileRenameOrchestratorImpl;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end cost of {@link FileRenameOrchestratorImpl#execute}: extraction, transformation,
+ * deduplication and the physical rename of fixture copies in a temporary directory tree.
+ *
+ * <p>Every iteration renames a freshly written tree once, so the benchmark runs in single-shot mode
+ * and the file writes are excluded from the measurement.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class FileRenameOrchestratorBenchmark {
+
+    static final int DIRECTORIES = 10;
+
+    @Param({"1000", "10000"})
+    public int files;
+
+    private FileRenameOrchestrator orchestrator;
+    private AddTextConfig config;
+    private List<byte[]> fixtures;
+    private Path root;
+    private List<File> input;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() throws IOException {
+        orchestrator = BenchmarkSupport.createInjector().getInstance(FileRenameOrchestrator.class);
+        config = AddTextConfig.builder().withTextToAdd("renamed_").withPosition(ItemPosition.BEGIN).build();
+        fixtures = new ArrayList<>();
+        for (String format : BenchmarkSupport.FORMATS) {
+            fixtures.add(BenchmarkSupport.fixture(format));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void writeTree() throws IOException {
+        root = Files.createTempDirectory("renamer-bench-orchestrator");
+        List<Path> directories = new ArrayList<>();
+        for (int d = 0; d < DIRECTORIES; d++) {
+            directories.add(Files.createDirectory(root.resolve("folder" + d)));
+        }
+        input = new ArrayList<>(files);
+        for (int i = 0; i < files; i++) {
+            int format = i % fixtures.size();
+            Path file = directories.get(i % DIRECTORIES)
+                                   .resolve("file" + i + "." + BenchmarkSupport.FORMATS.get(format));
+            Files.write(file, fixtures.get(format));
+            input.add(file.toFile());
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteTree() {
+        BenchmarkSupport.deleteRecursively(root);
+    }
+
+    @Benchmark
+    public List<RenameResult> execute() {
+        return orchestrator.execute(input, TransformationMode.ADD_TEXT, config, null);
+    }
+}
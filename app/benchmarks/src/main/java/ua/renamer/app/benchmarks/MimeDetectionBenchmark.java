@@ -0,0 +1,71 @@
+package ua.renamer.app.benchmarks;
+
+import org.apache.tika.Tika;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ua.renamer.app.metadata.util.CommonFileUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MIME detection per file: {@link CommonFileUtils#getFileMimeType(Path)} with the signature table
+ * against a plain Tika {@code detect(path)}. The fallback rate of the signature path is printed at the
+ * end of each trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MimeDetectionBenchmark {
+
+    @Param({"jpg", "png", "mp3", "mp4"})
+    public String format;
+
+    private CommonFileUtils fileUtils;
+    private Tika tika;
+    private Path directory;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        fileUtils = BenchmarkSupport.createInjector().getInstance(CommonFileUtils.class);
+        tika = new Tika();
+        directory = Files.createTempDirectory("renamer-bench-mime");
+        file = directory.resolve("sample." + format);
+        Files.write(file, BenchmarkSupport.fixture(format));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        CommonFileUtils.MimeDetectionStats stats = fileUtils.getMimeDetectionStats();
+        System.out.printf("%n[%s] signature hits: %d, Tika fallbacks: %d, fallback rate: %.2f%%%n",
+                format, stats.signatureHits(), stats.tikaFallbacks(), stats.fallbackRate() * 100);
+        BenchmarkSupport.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public String signature() {
+        return fileUtils.getFileMimeType(file);
+    }
+
+    @Benchmark
+    public String tika() throws IOException {
+        return tika.detect(file);
+    }
+}
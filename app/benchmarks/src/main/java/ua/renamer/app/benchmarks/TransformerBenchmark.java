@@ -0,0 +1,203 @@
+package ua.renamer.app.benchmarks;
+
+import com.google.inject.Injector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ua.renamer.app.api.enums.DateFormat;
+import ua.renamer.app.api.enums.DateTimeSource;
+import ua.renamer.app.api.enums.ImageDimensionOptions;
+import ua.renamer.app.api.enums.ItemPosition;
+import ua.renamer.app.api.enums.ItemPositionExtended;
+import ua.renamer.app.api.enums.ItemPositionWithReplacement;
+import ua.renamer.app.api.enums.SortSource;
+import ua.renamer.app.api.enums.TextCaseOptions;
+import ua.renamer.app.api.enums.TimeFormat;
+import ua.renamer.app.api.enums.TruncateOptions;
+import ua.renamer.app.api.model.FileModel;
+import ua.renamer.app.api.model.PreparedFileModel;
+import ua.renamer.app.api.model.config.AddTextConfig;
+import ua.renamer.app.api.model.config.CaseChangeConfig;
+import ua.renamer.app.api.model.config.DateTimeConfig;
+import ua.renamer.app.api.model.config.ExtensionChangeConfig;
+import ua.renamer.app.api.model.config.ImageDimensionsConfig;
+import ua.renamer.app.api.model.config.ParentFolderConfig;
+import ua.renamer.app.api.model.config.RemoveTextConfig;
+import ua.renamer.app.api.model.config.ReplaceTextConfig;
+import ua.renamer.app.api.model.config.SequenceConfig;
+import ua.renamer.app.api.model.config.TruncateConfig;
+import ua.renamer.app.core.service.transformation.AddTextTransformer;
+import ua.renamer.app.core.service.transformation.CaseChangeTransformer;
+import ua.renamer.app.core.service.transformation.DateTimeTransformer;
+import ua.renamer.app.core.service.transformation.ExtensionChangeTransformer;
+import ua.renamer.app.core.service.transformation.ImageDimensionsTransformer;
+import ua.renamer.app.core.service.transformation.ParentFolderTransformer;
+import ua.renamer.app.core.service.transformation.RemoveTextTransformer;
+import ua.renamer.app.core.service.transformation.ReplaceTextTransformer;
+import ua.renamer.app.core.service.transformation.SequenceTransformer;
+import ua.renamer.app.core.service.transformation.TruncateTransformer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Phase 2 cost per file for every transformer in {@code core.service.transformation}, on an
+ * in-memory image model. {@link SequenceTransformer} only supports batches and is measured on
+ * {@link #SEQUENCE_BATCH_SIZE} files spread over ten folders.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TransformerBenchmark {
+
+    static final int SEQUENCE_BATCH_SIZE = 1_000;
+
+    private FileModel file;
+    private List<FileModel> sequenceBatch;
+
+    private AddTextTransformer addText;
+    private RemoveTextTransformer removeText;
+    private ReplaceTextTransformer replaceText;
+    private CaseChangeTransformer caseChange;
+    private DateTimeTransformer dateTime;
+    private ImageDimensionsTransformer imageDimensions;
+    private ParentFolderTransformer parentFolder;
+    private TruncateTransformer truncate;
+    private ExtensionChangeTransformer extensionChange;
+    private SequenceTransformer sequence;
+
+    private AddTextConfig addTextConfig;
+    private RemoveTextConfig removeTextConfig;
+    private ReplaceTextConfig replaceTextConfig;
+    private CaseChangeConfig caseChangeConfig;
+    private DateTimeConfig dateTimeConfig;
+    private ImageDimensionsConfig imageDimensionsConfig;
+    private ParentFolderConfig parentFolderConfig;
+    private TruncateConfig truncateConfig;
+    private ExtensionChangeConfig extensionChangeConfig;
+    private SequenceConfig sequenceConfig;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Injector injector = BenchmarkSupport.createInjector();
+        addText = injector.getInstance(AddTextTransformer.class);
+        removeText = injector.getInstance(RemoveTextTransformer.class);
+        replaceText = injector.getInstance(ReplaceTextTransformer.class);
+        caseChange = injector.getInstance(CaseChangeTransformer.class);
+        dateTime = injector.getInstance(DateTimeTransformer.class);
+        imageDimensions = injector.getInstance(ImageDimensionsTransformer.class);
+        parentFolder = injector.getInstance(ParentFolderTransformer.class);
+        truncate = injector.getInstance(TruncateTransformer.class);
+        extensionChange = injector.getInstance(ExtensionChangeTransformer.class);
+        sequence = injector.getInstance(SequenceTransformer.class);
+
+        file = BenchmarkSupport.imageModel("/photos/2024/holiday", "IMG_20240501_123000 Holiday Trip");
+        sequenceBatch = IntStream.range(0, SEQUENCE_BATCH_SIZE)
+                                 .mapToObj(i -> BenchmarkSupport.imageModel("/photos/folder" + i % 10,
+                                                                            "IMG_" + (SEQUENCE_BATCH_SIZE - i)))
+                                 .toList();
+
+        addTextConfig = AddTextConfig.builder().withTextToAdd("trip_").withPosition(ItemPosition.BEGIN).build();
+        removeTextConfig = RemoveTextConfig.builder().withTextToRemove("IMG_").withPosition(ItemPosition.BEGIN).build();
+        replaceTextConfig = ReplaceTextConfig.builder()
+                                             .withTextToReplace(" ")
+                                             .withReplacementText("_")
+                                             .withPosition(ItemPositionExtended.EVERYWHERE)
+                                             .build();
+        caseChangeConfig = CaseChangeConfig.builder().withCaseOption(TextCaseOptions.SNAKE_CASE).build();
+        dateTimeConfig = DateTimeConfig.builder()
+                                       .withSource(DateTimeSource.CONTENT_CREATION_DATE)
+                                       .withDateFormat(DateFormat.YYYY_MM_DD_DASHED)
+                                       .withTimeFormat(TimeFormat.HH_MM_SS_24_UNDERSCORED)
+                                       .withPosition(ItemPositionWithReplacement.BEGIN)
+                                       .withSeparator("_")
+                                       .build();
+        imageDimensionsConfig = ImageDimensionsConfig.builder()
+                                                     .withLeftSide(ImageDimensionOptions.WIDTH)
+                                                     .withRightSide(ImageDimensionOptions.HEIGHT)
+                                                     .withSeparator("x")
+                                                     .withPosition(ItemPositionWithReplacement.END)
+                                                     .withNameSeparator("_")
+                                                     .build();
+        parentFolderConfig = ParentFolderConfig.builder()
+                                               .withNumberOfParentFolders(2)
+                                               .withPosition(ItemPosition.BEGIN)
+                                               .withSeparator("_")
+                                               .build();
+        truncateConfig = TruncateConfig.builder()
+                                       .withNumberOfSymbols(4)
+                                       .withTruncateOption(TruncateOptions.REMOVE_SYMBOLS_FROM_END)
+                                       .build();
+        extensionChangeConfig = ExtensionChangeConfig.builder().withNewExtension("jpeg").build();
+        sequenceConfig = SequenceConfig.builder()
+                                       .withStartNumber(1)
+                                       .withStepValue(1)
+                                       .withPadding(4)
+                                       .withSortSource(SortSource.FILE_NAME)
+                                       .withPerFolderCounting(true)
+                                       .build();
+    }
+
+    @Benchmark
+    public PreparedFileModel addText() {
+        return addText.transform(file, addTextConfig);
+    }
+
+    @Benchmark
+    public PreparedFileModel removeText() {
+        return removeText.transform(file, removeTextConfig);
+    }
+
+    @Benchmark
+    public PreparedFileModel replaceText() {
+        return replaceText.transform(file, replaceTextConfig);
+    }
+
+    @Benchmark
+    public PreparedFileModel changeCase() {
+        return caseChange.transform(file, caseChangeConfig);
+    }
+
+    @Benchmark
+    public PreparedFileModel addDateTime() {
+        return dateTime.transform(file, dateTimeConfig);
+    }
+
+    @Benchmark
+    public PreparedFileModel addImageDimensions() {
+        return imageDimensions.transform(file, imageDimensionsConfig);
+    }
+
+    @Benchmark
+    public PreparedFileModel addParentFolder() {
+        return parentFolder.transform(file, parentFolderConfig);
+    }
+
+    @Benchmark
+    public PreparedFileModel truncate() {
+        return truncate.transform(file, truncateConfig);
+    }
+
+    @Benchmark
+    public PreparedFileModel changeExtension() {
+        return extensionChange.transform(file, extensionChangeConfig);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<PreparedFileModel> numberFilesBatch() {
+        return sequence.transformBatch(sequenceBatch, sequenceConfig);
+    }
+}
@@ -5,9 +5,15 @@ import com.google.inject.Singleton;
 import ua.renamer.app.api.interfaces.FileMapper;
 import ua.renamer.app.api.service.FileRenameOrchestrator;
 import ua.renamer.app.core.mapper.ThreadAwareFileMapper;
+import ua.renamer.app.core.service.ContentFingerprinter;
 import ua.renamer.app.core.service.DuplicateNameResolver;
+import ua.renamer.app.core.service.DirectoryRenameScheduler;
+import ua.renamer.app.core.service.ExtractionScheduler;
 import ua.renamer.app.core.service.RenameExecutionService;
+import ua.renamer.app.core.service.impl.ContentFingerprinterImpl;
 import ua.renamer.app.core.service.impl.DuplicateNameResolverImpl;
+import ua.renamer.app.core.service.impl.DirectoryRenameSchedulerImpl;
+import ua.renamer.app.core.service.impl.ExtractionSchedulerImpl;
 import ua.renamer.app.core.service.impl.FileRenameOrchestratorImpl;
 import ua.renamer.app.core.service.impl.RenameExecutionServiceImpl;
 import ua.renamer.app.core.service.transformation.AddTextTransformer;
@@ -37,6 +43,11 @@ public class DIV2ServiceModule extends AbstractModule {
         // Support services
         bind(DuplicateNameResolver.class).to(DuplicateNameResolverImpl.class).in(Singleton.class);
         bind(RenameExecutionService.class).to(RenameExecutionServiceImpl.class).in(Singleton.class);
+        // Stateful (per-device permits) — must be a singleton so settings changes reach every extraction
+        bind(ExtractionScheduler.class).to(ExtractionSchedulerImpl.class).in(Singleton.class);
+        bind(DirectoryRenameScheduler.class).to(DirectoryRenameSchedulerImpl.class).in(Singleton.class);
+        // Singleton so preview recomputations reuse the remembered hashes
+        bind(ContentFingerprinter.class).to(ContentFingerprinterImpl.class).in(Singleton.class);
 
         // Main orchestrator
         bind(FileRenameOrchestrator.class).to(FileRenameOrchestratorImpl.class).in(Singleton.class);
@@ -5,9 +5,13 @@ import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import ua.renamer.app.api.enums.AppMimeTypes;
 import ua.renamer.app.api.enums.Category;
+import ua.renamer.app.api.enums.MetadataField;
 import ua.renamer.app.api.interfaces.FileMapper;
+import ua.renamer.app.api.interfaces.FileMetadataCache;
 import ua.renamer.app.api.interfaces.FileMetadataMapper;
+import ua.renamer.app.api.interfaces.FileReadContext;
 import ua.renamer.app.api.interfaces.FileUtils;
+import ua.renamer.app.api.model.CachedFileMetadata;
 import ua.renamer.app.api.model.FileModel;
 import ua.renamer.app.api.model.meta.FileMeta;
 
@@ -16,10 +20,20 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Maps {@link java.io.File} instances to {@link ua.renamer.app.api.model.meta.FileMeta} using
  * a category-aware strategy and a thread-safe MIME-extension cache.
+ *
+ * <p>MIME detection and metadata extraction for regular files are skipped when the
+ * {@link FileMetadataCache} holds an entry with the file's current size and modification time.
+ * Cache entries always carry the {@linkplain MetadataField#typed() typed} fields: only extractions
+ * that requested all of them are stored, and requests for the tag dump bypass the cache.
+ *
+ * <p>Each file is read through one {@link FileReadContext}: its attributes are read once, and MIME
+ * detection and metadata extraction share a single open channel. {@link #getReadStats()} reports
+ * how many opens that took per file.
  */
 @RequiredArgsConstructor(onConstructor_ = {@Inject})
 public class ThreadAwareFileMapper implements FileMapper {
@@ -27,13 +41,36 @@ public class ThreadAwareFileMapper implements FileMapper {
 
     private final FileUtils fileUtils;
     private final FileMetadataMapper fileMetadataMapper;
+    private final FileMetadataCache metadataCache;
+    private final LongAdder filesMapped = new LongAdder();
+    private final LongAdder fileOpens = new LongAdder();
 
     @Override
     public FileModel mapFrom(File file) {
-        fileUtils.validateFile(file);
+        return mapFrom(file, MetadataField.typed());
+    }
+
+    @Override
+    public FileModel mapFrom(File file, Set<MetadataField> fields) {
+        try (FileReadContext context = fileUtils.openReadContext(file)) {
+            FileModel model = toFileModel(context, fields);
+            filesMapped.increment();
+            fileOpens.add(context.getOpenCount());
+            return model;
+        }
+    }
 
+    /**
+     * @return the number of files mapped and the number of times they were opened
+     */
+    public ReadStats getReadStats() {
+        return new ReadStats(filesMapped.sum(), fileOpens.sum());
+    }
+
+    private FileModel toFileModel(FileReadContext context, Set<MetadataField> fields) {
+        var file = context.getFile();
         var path = file.toPath();
-        var attributes = fileUtils.getBasicFileAttributes(path);
+        var attributes = context.getAttributes();
 
         var isFile = attributes.isRegularFile();
         var fileSize = attributes.size();
@@ -45,12 +82,13 @@ public class ThreadAwareFileMapper implements FileMapper {
         var creationDate = fileUtils.getFileCreationDate(attributes);
         var modificationDate = fileUtils.getFileModificationDate(attributes);
 
-        // Only detect MIME type for regular files
-        var mimeType = isFile ? fileUtils.getFileMimeType(path) : "application/x-directory";
-        var category = determineCategory(mimeType);
+        var detected = isFile
+                ? detectRegularFile(context, absolutePath, fileSize, attributes.lastModifiedTime().toMillis(), fields)
+                : detect(context, "application/x-directory", fields);
+        var mimeType = detected.getDetectedMimeType();
+        var category = detected.getCategory();
         var detectedExtensions = resolveDetectedExtensions(mimeType);
-        var rawMeta = fileMetadataMapper.extract(file, category, mimeType);
-        var fileMeta = Optional.ofNullable(rawMeta).orElse(FileMeta.empty());
+        var fileMeta = detected.getMetadata();
 
         return FileModel.builder()
                 .withFile(file)
@@ -68,6 +106,32 @@ public class ThreadAwareFileMapper implements FileMapper {
                 .build();
     }
 
+    private CachedFileMetadata detectRegularFile(FileReadContext context, String absolutePath, long size,
+                                                 long lastModified, Set<MetadataField> fields) {
+        if (MetadataField.typed().containsAll(fields)) {
+            var cached = metadataCache.get(absolutePath, size, lastModified);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+        var detected = detect(context, fileUtils.getFileMimeType(context), fields);
+        // Failed extractions may be transient (locked file, network hiccup) — retry them next time
+        if (fields.containsAll(MetadataField.typed()) && detected.getMetadata().getErrors().isEmpty()) {
+            metadataCache.put(absolutePath, size, lastModified, detected);
+        }
+        return detected;
+    }
+
+    private CachedFileMetadata detect(FileReadContext context, String mimeType, Set<MetadataField> fields) {
+        var category = determineCategory(mimeType);
+        var rawMeta = fileMetadataMapper.extract(context, category, mimeType, fields);
+        return CachedFileMetadata.builder()
+                .withDetectedMimeType(mimeType)
+                .withCategory(category)
+                .withMetadata(Optional.ofNullable(rawMeta).orElse(FileMeta.empty()))
+                .build();
+    }
+
     private Category determineCategory(String mimeType) {
         if (StringUtils.isBlank(mimeType)) {
             return Category.GENERIC;
@@ -95,4 +159,20 @@ public class ThreadAwareFileMapper implements FileMapper {
     private Set<String> findExtensions(String mimeType) {
         return AppMimeTypes.getExtensionsByMimeString(mimeType);
     }
+
+    /**
+     * Snapshot of file read counters.
+     *
+     * @param files number of files mapped
+     * @param opens number of times those files were opened, including opens by extraction libraries
+     */
+    public record ReadStats(long files, long opens) {
+
+        /**
+         * @return opens divided by files, or 0 when no file was mapped
+         */
+        public double opensPerFile() {
+            return files == 0 ? 0.0 : (double) opens / files;
+        }
+    }
 }
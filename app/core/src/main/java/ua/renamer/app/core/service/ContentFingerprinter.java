@@ -0,0 +1,80 @@
+package ua.renamer.app.core.service;
+
+import ua.renamer.app.api.model.FileModel;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Finds files with byte-identical content within one set of files.
+ *
+ * <p>Files are compared in tiers so that contents are read only when cheaper checks collide:
+ * files are first bucketed by size, files sharing a size are hashed over their head and tail,
+ * and only files whose partial hashes also collide are hashed in full.
+ */
+public interface ContentFingerprinter {
+
+    /**
+     * Start fingerprinting a new set of files. Files can be added while the rest of the set is
+     * still being extracted; partial hashes start as soon as two files share a size.
+     *
+     * @param executor runs the hashing tasks; must stay open until {@link Session#finish()} returns
+     * @return a new session; never null
+     */
+    Session start(ExecutorService executor);
+
+    /**
+     * Fingerprint a complete set of files.
+     *
+     * @param models   the files to compare
+     * @param executor runs the hashing tasks
+     * @return {@code models} in the same order, with {@link FileModel#getContentHash()} set on every file
+     * that has a content twin in the set
+     */
+    default List<FileModel> fingerprint(List<FileModel> models, ExecutorService executor) {
+        Session session = start(executor);
+        models.forEach(session::add);
+        return withContentHashes(models, session.finish());
+    }
+
+    /**
+     * Copy content hashes onto file models.
+     *
+     * @param models the files of a finished session
+     * @param hashes content hash by absolute path, as returned by {@link Session#finish()}
+     * @return {@code models} in the same order; files without an entry are returned unchanged
+     */
+    static List<FileModel> withContentHashes(List<FileModel> models, Map<String, String> hashes) {
+        if (hashes.isEmpty()) {
+            return models;
+        }
+        return models.stream()
+                .map(model -> {
+                    String hash = model == null ? null : hashes.get(model.getAbsolutePath());
+                    return hash == null ? model : model.toBuilder().withContentHash(hash).build();
+                })
+                .toList();
+    }
+
+    /**
+     * One set of files being fingerprinted. {@link #add} is thread-safe.
+     */
+    interface Session {
+
+        /**
+         * Add an extracted file to the set. Directories, empty files and failed extractions are ignored.
+         *
+         * @param model the extracted file
+         */
+        void add(FileModel model);
+
+        /**
+         * Wait for all hashing to complete.
+         *
+         * @return hex SHA-256 of the content by absolute path, for every file that has at least one
+         * byte-identical twin in the set; never null
+         */
+        Map<String, String> finish();
+    }
+}
@@ -0,0 +1,57 @@
+package ua.renamer.app.core.service;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Runs Phase 3 rename batches — one batch per parent directory — concurrently.
+ * Renames in different directories are independent, except that a folder must not be renamed
+ * while files below it are still being renamed; a batch therefore waits for every earlier
+ * batch of a directory below its own.
+ */
+public interface DirectoryRenameScheduler {
+
+    /**
+     * Start scheduling the batches of one pipeline run.
+     * The run uses the parallelism configured at the time of this call.
+     *
+     * @param executor the executor the batches run on
+     * @return a new run; never null
+     */
+    Run start(ExecutorService executor);
+
+    /**
+     * Change how many directory batches may rename at the same time.
+     * Runs that already started keep their limit.
+     *
+     * @param parallelism new number of concurrent batches; must be within the bounds defined in
+     *                    {@link ua.renamer.app.api.settings.AppDefaults}
+     * @throws IllegalArgumentException if the value is out of range
+     */
+    void setParallelism(int parallelism);
+
+    /**
+     * @return the current number of directory batches allowed to rename at the same time
+     */
+    int getParallelism();
+
+    /**
+     * Scheduling state of one pipeline run. Not thread-safe: submit batches from a single thread.
+     */
+    interface Run {
+
+        /**
+         * Schedule the rename of one directory batch.
+         * Batches must be submitted deepest directory first, so that the batches of every directory
+         * below {@code directory} have already been submitted.
+         *
+         * @param directory the parent directory shared by all files of the batch
+         * @param batch     the renames to perform
+         * @param <T>       the batch result type
+         * @return future completing with the batch result
+         */
+        <T> CompletableFuture<T> submit(Path directory, Supplier<T> batch);
+    }
+}
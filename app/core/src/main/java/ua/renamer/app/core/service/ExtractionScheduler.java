@@ -0,0 +1,39 @@
+package ua.renamer.app.core.service;
+
+import java.io.File;
+import java.util.function.Supplier;
+
+/**
+ * Limits how many files are read concurrently from the same storage device.
+ * Keeps spinning disks and network mounts at a sane queue depth instead of letting
+ * every virtual thread hit the disk at once.
+ */
+public interface ExtractionScheduler {
+
+    /**
+     * Run the task while holding one permit of the device that stores the file.
+     * Blocks the calling thread until a permit is free.
+     *
+     * @param file the file the task reads; used to pick the device
+     * @param task the read to perform
+     * @param <T>  the task result type
+     * @return the task result
+     * @throws java.util.concurrent.CancellationException if interrupted while waiting for a permit
+     */
+    <T> T runOnDevice(File file, Supplier<T> task);
+
+    /**
+     * Change the number of concurrent reads allowed per device.
+     * Reads that already hold a permit finish under the old limit.
+     *
+     * @param permits new permit count per device; must be within the bounds defined in
+     *                {@link ua.renamer.app.api.settings.AppDefaults}
+     * @throws IllegalArgumentException if the value is out of range
+     */
+    void setPermitsPerDevice(int permits);
+
+    /**
+     * @return the current number of concurrent reads allowed per device
+     */
+    int getPermitsPerDevice();
+}
@@ -2,6 +2,13 @@ package ua.renamer.app.core.service;
 
 import ua.renamer.app.api.model.PreparedFileModel;
 import ua.renamer.app.api.model.RenameResult;
+import ua.renamer.app.api.model.RenameStatus;
+import ua.renamer.app.api.service.CancellationToken;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service for executing physical file renames.
@@ -16,4 +23,43 @@ public interface RenameExecutionService {
      * @return Result with status and error information if failed
      */
     RenameResult execute(PreparedFileModel preparedFile);
+
+    /**
+     * Execute physical renames for a batch of files sharing a parent directory, in list order.
+     * Implementations may check for existing files against one listing per directory instead of
+     * probing the disk per file. Once {@code cancellation} is requested the remaining files are
+     * not touched and reported as {@link RenameStatus#CANCELLED}.
+     *
+     * @param batch        Files to rename
+     * @param cancellation Checked before each file
+     * @param onResult     Called with each result as soon as the file has been processed
+     * @return Results in batch order
+     */
+    default List<RenameResult> executeBatch(List<PreparedFileModel> batch, CancellationToken cancellation,
+                                            Consumer<RenameResult> onResult) {
+        List<RenameResult> results = new ArrayList<>(batch.size());
+        for (PreparedFileModel preparedFile : batch) {
+            RenameResult result = cancellation.isCancellationRequested()
+                    ? cancelled(preparedFile)
+                    : execute(preparedFile);
+            onResult.accept(result);
+            results.add(result);
+        }
+        return results;
+    }
+
+    /**
+     * Build the result for a file that was not renamed because the run was cancelled.
+     *
+     * @param preparedFile File that was skipped
+     * @return Result with {@link RenameStatus#CANCELLED}
+     */
+    static RenameResult cancelled(PreparedFileModel preparedFile) {
+        return RenameResult.builder()
+                .withPreparedFile(preparedFile)
+                .withStatus(RenameStatus.CANCELLED)
+                .withErrorMessage("Cancelled before rename")
+                .withExecutedAt(LocalDateTime.now())
+                .build();
+    }
 }
@@ -0,0 +1,244 @@
+package ua.renamer.app.core.service.impl;
+
+import jakarta.inject.Inject;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import ua.renamer.app.api.model.FileModel;
+import ua.renamer.app.core.service.ContentFingerprinter;
+import ua.renamer.app.core.service.ExtractionScheduler;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+
+/**
+ * {@link ContentFingerprinter} that hashes with SHA-256 in three tiers: size buckets, a partial hash over
+ * the first and last {@link #PARTIAL_CHUNK_SIZE} bytes, and a full hash only for files whose partial hashes
+ * collide. Files no larger than two chunks are covered completely by the partial hash and never read twice.
+ *
+ * <p>Reads go through {@link ExtractionScheduler}, so hashing shares the per-device read limit with
+ * metadata extraction. Hashes are remembered per path, size and modification time, so recomputing a
+ * preview over the same files does not read them again.
+ */
+@Slf4j
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class ContentFingerprinterImpl implements ContentFingerprinter {
+
+    /**
+     * Bytes hashed from each end of a file for the partial hash.
+     */
+    static final int PARTIAL_CHUNK_SIZE = 64 * 1024;
+
+    private static final int FULL_READ_BUFFER_SIZE = 256 * 1024;
+    private static final int MAX_CACHED_HASHES = 10_000;
+
+    private final ExtractionScheduler extractionScheduler;
+
+    private final Map<HashKey, String> hashCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<HashKey, String> eldest) {
+                    return size() > MAX_CACHED_HASHES;
+                }
+            });
+
+    @Override
+    public Session start(ExecutorService executor) {
+        return new TieredSession(executor);
+    }
+
+    /**
+     * SHA-256 of {@code [0, size)}, or of the first and last {@link #PARTIAL_CHUNK_SIZE} bytes when
+     * {@code full} is {@code false} and the file is larger than two chunks.
+     */
+    static String digest(Path path, long size, boolean full) throws IOException {
+        MessageDigest sha256 = newSha256();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (full || size <= 2L * PARTIAL_CHUNK_SIZE) {
+                update(sha256, channel, ByteBuffer.allocate((int) Math.min(size, FULL_READ_BUFFER_SIZE)), 0, size);
+            } else {
+                ByteBuffer buffer = ByteBuffer.allocate(PARTIAL_CHUNK_SIZE);
+                update(sha256, channel, buffer, 0, PARTIAL_CHUNK_SIZE);
+                update(sha256, channel, buffer, size - PARTIAL_CHUNK_SIZE, PARTIAL_CHUNK_SIZE);
+            }
+        }
+        return HexFormat.of().formatHex(sha256.digest());
+    }
+
+    private static void update(MessageDigest digest, FileChannel channel, ByteBuffer buffer,
+                               long position, long length) throws IOException {
+        long end = position + length;
+        while (position < end) {
+            buffer.clear().limit((int) Math.min(buffer.capacity(), end - position));
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                // The file shrank since it was extracted; hash what is left
+                return;
+            }
+            position += read;
+            digest.update(buffer.flip());
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to provide SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private @Nullable String hash(FileModel model, boolean full) {
+        HashKey key = HashKey.of(model, full);
+        String cached = key == null ? null : hashCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            String hash = extractionScheduler.runOnDevice(model.getFile(), () -> {
+                try {
+                    return digest(model.getFile().toPath(), model.getFileSize(), full);
+                } catch (IOException e) {
+                    log.debug("Failed to hash '{}': {}", model.getAbsolutePath(), e.getMessage());
+                    return null;
+                }
+            });
+            if (key != null && hash != null) {
+                hashCache.put(key, hash);
+            }
+            return hash;
+        } catch (CancellationException _) {
+            return null;
+        }
+    }
+
+    /**
+     * Groups candidates by a hash; candidates whose hash could not be computed are dropped.
+     */
+    private static Map<String, List<Candidate>> groupBy(List<Candidate> candidates,
+                                                        Function<Candidate, @Nullable String> hashOf) {
+        Map<String, List<Candidate>> groups = new LinkedHashMap<>();
+        for (Candidate candidate : candidates) {
+            String hash = hashOf.apply(candidate);
+            if (hash != null) {
+                groups.computeIfAbsent(hash, _ -> new ArrayList<>(2)).add(candidate);
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Cache key of one hash of one file version.
+     *
+     * @param path         absolute path
+     * @param size         file size in bytes
+     * @param modification modification date as extracted
+     * @param full         whether this is the full-content hash
+     */
+    private record HashKey(String path, long size, LocalDateTime modification, boolean full) {
+
+        static @Nullable HashKey of(FileModel model, boolean full) {
+            return model.getModificationDate()
+                    .map(modified -> new HashKey(model.getAbsolutePath(), model.getFileSize(), modified, full))
+                    .orElse(null);
+        }
+    }
+
+    /**
+     * A file whose size collides with another file of the set.
+     */
+    private static final class Candidate {
+        private final FileModel model;
+        private CompletableFuture<String> partial;
+        private CompletableFuture<String> full;
+
+        private Candidate(FileModel model) {
+            this.model = model;
+        }
+    }
+
+    private final class TieredSession implements Session {
+
+        private final ExecutorService executor;
+        private final Map<Long, List<FileModel>> bySize = new HashMap<>();
+        private final List<Candidate> candidates = new ArrayList<>();
+        private int files;
+
+        private TieredSession(ExecutorService executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public synchronized void add(FileModel model) {
+            if (model == null || !model.isFile() || model.getFileSize() <= 0) {
+                return;
+            }
+            files++;
+            List<FileModel> bucket = bySize.computeIfAbsent(model.getFileSize(), _ -> new ArrayList<>(2));
+            bucket.add(model);
+            if (bucket.size() == 2) {
+                // The first file of the size was alone until now
+                startPartialHash(bucket.getFirst());
+            }
+            if (bucket.size() >= 2) {
+                startPartialHash(model);
+            }
+        }
+
+        private void startPartialHash(FileModel model) {
+            Candidate candidate = new Candidate(model);
+            candidate.partial = CompletableFuture.supplyAsync(() -> hash(model, false), executor);
+            candidates.add(candidate);
+        }
+
+        @Override
+        public Map<String, String> finish() {
+            List<Candidate> sizeCollisions;
+            synchronized (this) {
+                sizeCollisions = List.copyOf(candidates);
+            }
+
+            List<Candidate> partialCollisions = new ArrayList<>();
+            for (List<Candidate> group : groupBy(sizeCollisions, c -> c.partial.join()).values()) {
+                if (group.size() < 2) {
+                    continue;
+                }
+                for (Candidate candidate : group) {
+                    FileModel model = candidate.model;
+                    candidate.full = model.getFileSize() <= 2L * PARTIAL_CHUNK_SIZE
+                            ? candidate.partial
+                            : CompletableFuture.supplyAsync(() -> hash(model, true), executor);
+                }
+                partialCollisions.addAll(group);
+            }
+
+            Map<String, String> hashes = new HashMap<>();
+            groupBy(partialCollisions, c -> c.full.join()).forEach((hash, group) -> {
+                if (group.size() > 1) {
+                    group.forEach(candidate -> hashes.put(candidate.model.getAbsolutePath(), hash));
+                }
+            });
+            log.debug("Content fingerprinting: {} files, {} partial hashes, {} full hashes, {} duplicates",
+                    files, sizeCollisions.size(), partialCollisions.size(), hashes.size());
+            return hashes;
+        }
+    }
+}
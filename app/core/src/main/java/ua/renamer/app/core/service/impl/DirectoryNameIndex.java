@@ -0,0 +1,137 @@
+package ua.renamer.app.core.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * In-memory view of the entry names of one directory, used by Phase 3 to check for existing files
+ * without a {@code stat} call per candidate name.
+ *
+ * <p>The index is filled by a single directory listing and must be kept up to date by reporting every
+ * rename performed in the directory via {@link #renamed(Path, Path)}. When the directory cannot be
+ * listed the index falls back to probing the disk for each lookup.
+ *
+ * <p>Not thread-safe; one index belongs to one directory batch.
+ */
+@Slf4j
+final class DirectoryNameIndex {
+
+    /**
+     * Entry names (folded to lower case when the directory is case-insensitive); {@code null} when probing.
+     */
+    private final Set<String> names;
+    private final boolean caseInsensitive;
+
+    private DirectoryNameIndex(Set<String> names, boolean caseInsensitive) {
+        this.names = names;
+        this.caseInsensitive = caseInsensitive;
+    }
+
+    /**
+     * Create an index that answers every lookup with {@link Files#exists}.
+     *
+     * @return a probing index; never null
+     */
+    static DirectoryNameIndex probing() {
+        return new DirectoryNameIndex(null, false);
+    }
+
+    /**
+     * List {@code directory} once and index its entry names.
+     *
+     * @param directory the directory to list; may be null for paths without a parent
+     * @return the index, or a {@linkplain #probing() probing} index if the directory cannot be listed
+     */
+    static DirectoryNameIndex list(Path directory) {
+        if (directory == null) {
+            return probing();
+        }
+        Set<String> listed = new HashSet<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            for (Path entry : entries) {
+                listed.add(entry.getFileName().toString());
+            }
+        } catch (IOException | SecurityException e) {
+            log.debug("Cannot list '{}', probing the disk per file: {}", directory, e.getMessage());
+            return probing();
+        }
+
+        boolean caseInsensitive = isCaseInsensitive(directory, listed);
+        if (!caseInsensitive) {
+            return new DirectoryNameIndex(listed, false);
+        }
+        Set<String> folded = HashSet.newHashSet(listed.size());
+        listed.forEach(name -> folded.add(fold(name)));
+        return new DirectoryNameIndex(folded, true);
+    }
+
+    /**
+     * @param path a path inside the indexed directory
+     * @return true if an entry with the file name of {@code path} exists
+     */
+    boolean contains(Path path) {
+        if (names == null) {
+            return Files.exists(path);
+        }
+        Path fileName = path.getFileName();
+        return fileName != null && names.contains(key(fileName.toString()));
+    }
+
+    /**
+     * Record a completed rename inside the indexed directory.
+     *
+     * @param from the old path
+     * @param to   the new path
+     */
+    void renamed(Path from, Path to) {
+        if (names == null) {
+            return;
+        }
+        names.remove(key(from.getFileName().toString()));
+        names.add(key(to.getFileName().toString()));
+    }
+
+    private String key(String name) {
+        return caseInsensitive ? fold(name) : name;
+    }
+
+    private static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Detect case-insensitivity with one probe: look up an existing name with its case swapped.
+     * Falls back to the directory's own name when no listed entry contains letters.
+     */
+    private static boolean isCaseInsensitive(Path directory, Set<String> listed) {
+        for (String name : listed) {
+            String swapped = swapCase(name);
+            if (!swapped.equals(name)) {
+                return !listed.contains(swapped) && Files.exists(directory.resolve(swapped));
+            }
+        }
+        Path ownName = directory.getFileName();
+        Path parent = directory.getParent();
+        if (ownName == null || parent == null) {
+            return false;
+        }
+        String swapped = swapCase(ownName.toString());
+        return !swapped.equals(ownName.toString()) && Files.exists(parent.resolve(swapped));
+    }
+
+    private static String swapCase(String name) {
+        StringBuilder swapped = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            swapped.append(Character.isUpperCase(c) ? Character.toLowerCase(c) : Character.toUpperCase(c));
+        }
+        return swapped.toString();
+    }
+}
@@ -0,0 +1,106 @@
+package ua.renamer.app.core.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import ua.renamer.app.api.settings.AppDefaults;
+import ua.renamer.app.core.service.DirectoryRenameScheduler;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * {@link DirectoryRenameScheduler} that bounds concurrent batches with one {@link Semaphore} per run.
+ *
+ * <p>Every submitted batch is registered with all of its ancestor directories. When the batch of a
+ * directory is submitted it collects the batches registered with it and starts only after they have
+ * finished — successfully or not, because a failed child batch must not block the parent forever.
+ * A batch waiting for its children does not hold a permit.
+ */
+@Slf4j
+public class DirectoryRenameSchedulerImpl implements DirectoryRenameScheduler {
+
+    /**
+     * Sentinel for files without a parent directory (same convention as the orchestrator).
+     */
+    private static final Path NO_PARENT = Path.of("");
+
+    private volatile int parallelism = AppDefaults.DEFAULT_RENAME_PARALLELISM;
+
+    @Override
+    public Run start(ExecutorService executor) {
+        return new DirectoryRun(executor, new Semaphore(parallelism, true));
+    }
+
+    @Override
+    public void setParallelism(int parallelism) {
+        if (parallelism < AppDefaults.MIN_RENAME_PARALLELISM || parallelism > AppDefaults.MAX_RENAME_PARALLELISM) {
+            throw new IllegalArgumentException("Rename parallelism must be between "
+                    + AppDefaults.MIN_RENAME_PARALLELISM + " and "
+                    + AppDefaults.MAX_RENAME_PARALLELISM + ", got: " + parallelism);
+        }
+        if (parallelism == this.parallelism) {
+            return;
+        }
+        log.info("Rename parallelism changed: {} -> {}", this.parallelism, parallelism);
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    private static final class DirectoryRun implements Run {
+        private final ExecutorService executor;
+        private final Semaphore permits;
+        // Batches not yet claimed by the batch of an ancestor directory, keyed by that ancestor
+        private final Map<Path, List<CompletableFuture<?>>> pendingBelow = new HashMap<>();
+
+        DirectoryRun(ExecutorService executor, Semaphore permits) {
+            this.executor = executor;
+            this.permits = permits;
+        }
+
+        @Override
+        public <T> CompletableFuture<T> submit(Path directory, Supplier<T> batch) {
+            List<CompletableFuture<?>> below = pendingBelow.remove(directory);
+            CompletableFuture<Void> childrenDone = below == null
+                    ? CompletableFuture.completedFuture(null)
+                    : CompletableFuture.allOf(below.toArray(CompletableFuture[]::new));
+
+            CompletableFuture<T> result = childrenDone
+                    .handle((ignored, ex) -> null)
+                    .thenApplyAsync(ignored -> runWithPermit(directory, batch), executor);
+
+            for (Path ancestor = directory.getParent(); ancestor != null; ancestor = ancestor.getParent()) {
+                pendingBelow.computeIfAbsent(ancestor, k -> new ArrayList<>()).add(result);
+            }
+            if (!directory.equals(NO_PARENT) && !directory.isAbsolute()) {
+                // Relative directories are all below the files that have no parent at all
+                pendingBelow.computeIfAbsent(NO_PARENT, k -> new ArrayList<>()).add(result);
+            }
+            return result;
+        }
+
+        private <T> T runWithPermit(Path directory, Supplier<T> batch) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted while waiting to rename in: " + directory);
+            }
+            try {
+                return batch.get();
+            } finally {
+                permits.release();
+            }
+        }
+    }
+}
@@ -4,103 +4,140 @@ import lombok.extern.slf4j.Slf4j;
 import ua.renamer.app.api.model.PreparedFileModel;
 import ua.renamer.app.core.service.DuplicateNameResolver;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of DuplicateNameResolver that appends suffixes to duplicate target names.
  * Uses pattern: " (01)", " (02)", etc.
+ *
+ * <p>The returned list keeps the input order: each renamed model takes the position of the model it replaces.
+ * Files in different directories are never duplicates, so every directory is resolved on its own, and the
+ * directories of large sets are resolved in parallel. Within a collision group a counter continues from the
+ * last suffix it handed out; a suffix is only skipped when another file of the directory already targets it.
  */
 @Slf4j
 public class DuplicateNameResolverImpl implements DuplicateNameResolver {
 
     private static final int NO_COLLISION_GROUP_SIZE = 1;
 
-    private static java.nio.file.Path parentOf(PreparedFileModel model) {
-        java.nio.file.Path raw = model.getOriginalFile().getFile().toPath().getParent();
+    /**
+     * Minimum number of models for which directories are resolved in parallel.
+     */
+    private static final int PARALLEL_THRESHOLD = 10_000;
+
+    private static Path parentOf(PreparedFileModel model) {
+        Path raw = model.getOriginalFile().getFile().toPath().getParent();
         // null parent means filesystem root; use empty path as sentinel
-        return (raw != null) ? raw : java.nio.file.Path.of("");
+        return (raw != null) ? raw : Path.of("");
     }
 
     @Override
     public List<PreparedFileModel> resolve(List<PreparedFileModel> models) {
-        // Group by (parentDir, targetName) — files in different directories are never duplicates
-        Map<NameKey, List<PreparedFileModel>> nameGroups = models.stream()
-                .collect(Collectors.groupingBy(model ->
-                        new NameKey(parentOf(model), model.getNewFullName())));
+        // Group input positions by parent directory — files in different directories are never duplicates
+        Map<Path, List<Integer>> directories = new HashMap<>();
+        for (int i = 0; i < models.size(); i++) {
+            directories.computeIfAbsent(parentOf(models.get(i)), dir -> new ArrayList<>()).add(i);
+        }
 
-        // Track used names to prevent re-collision
-        Set<NameKey> usedNames = new HashSet<>(nameGroups.keySet());
+        PreparedFileModel[] result = models.toArray(PreparedFileModel[]::new);
+        Stream<List<Integer>> batches = directories.values().stream();
+        if (models.size() >= PARALLEL_THRESHOLD && directories.size() > 1) {
+            // Each directory writes only its own positions of the result
+            batches = batches.parallel();
+        }
+        batches.forEach(positions -> resolveDirectory(result, positions));
+
+        return new ArrayList<>(Arrays.asList(result));
+    }
 
-        // Process each group
-        List<PreparedFileModel> result = new ArrayList<>();
+    /**
+     * Resolve the duplicates among the models at {@code positions}, which all share one parent directory,
+     * replacing renamed models in place.
+     */
+    private void resolveDirectory(PreparedFileModel[] models, List<Integer> positions) {
+        if (positions.size() == NO_COLLISION_GROUP_SIZE) {
+            return;
+        }
+
+        // Groups in order of their first file, so suffixes do not depend on hash order
+        Map<String, List<Integer>> nameGroups = LinkedHashMap.newLinkedHashMap(positions.size());
+        for (int position : positions) {
+            nameGroups.computeIfAbsent(models[position].getNewFullName(), name -> new ArrayList<>(1)).add(position);
+        }
+        if (nameGroups.size() == positions.size()) {
+            return;
+        }
 
-        for (Map.Entry<NameKey, List<PreparedFileModel>> entry : nameGroups.entrySet()) {
-            List<PreparedFileModel> group = entry.getValue();
+        // Track used names to prevent re-collision
+        Set<String> usedNames = new HashSet<>(nameGroups.keySet());
+        StringBuilder nameBuilder = new StringBuilder();
 
+        for (Map.Entry<String, List<Integer>> entry : nameGroups.entrySet()) {
+            List<Integer> group = entry.getValue();
             if (group.size() == NO_COLLISION_GROUP_SIZE) {
-                // No collision
-                result.add(group.getFirst());
                 continue;
             }
 
             // Multiple files with same target name in the same directory - keep first, append suffixes to rest
             log.debug("Found {} files with duplicate target name '{}' in '{}'",
-                    group.size(), entry.getKey().newFullName(), entry.getKey().parentDir());
+                    group.size(), entry.getKey(), parentOf(models[group.getFirst()]));
 
-            // Calculate padding for duplicate suffixes
-            // Strategy: infer padding from the base name if it's numeric, otherwise use group size
-            int digits = calculateSuffixPadding(group);
+            int digits = calculateSuffixPadding(models[group.getFirst()].getNewName(), group.size());
             int counter = 1;
             boolean isFirst = true;
 
-            for (PreparedFileModel model : group) {
+            for (int position : group) {
+                PreparedFileModel model = models[position];
                 // Skip files that already have errors
                 if (model.isHasError()) {
-                    result.add(model);
                     continue;
                 }
 
                 // Keep first file with original name, add suffixes to rest
                 if (isFirst) {
-                    result.add(model);
                     isFirst = false;
-                    log.debug("Keeping original name: {}", model.getNewFullName());
                     continue;
                 }
 
-                // Generate unique name for subsequent duplicates
-                java.nio.file.Path parentDir = parentOf(model);
+                String extension = model.getNewExtension();
                 String uniqueName;
-                String uniqueFullName;
                 do {
-                    String suffix = String.format(" (%0" + digits + "d)", counter);
+                    uniqueName = appendSuffix(nameBuilder, model.getNewName(), counter, digits);
                     counter++;
-                    uniqueName = model.getNewName() + suffix;
-                    uniqueFullName = model.getNewExtension().isEmpty()
-                            ? uniqueName
-                            : uniqueName + "." + model.getNewExtension();
-                } while (usedNames.contains(new NameKey(parentDir, uniqueFullName)));
-
-                usedNames.add(new NameKey(parentDir, uniqueFullName));
+                } while (!usedNames.add(extension.isEmpty() ? uniqueName : uniqueName + "." + extension));
 
-                // Create updated model using toBuilder
-                PreparedFileModel updated = model.toBuilder()
+                models[position] = model.toBuilder()
                         .withNewName(uniqueName)
                         .build();
 
-                result.add(updated);
-
-                log.debug("Resolved duplicate: {} -> {}",
-                        model.getNewFullName(), updated.getNewFullName());
+                if (log.isDebugEnabled()) {
+                    log.debug("Resolved duplicate: {} -> {}",
+                            model.getNewFullName(), models[position].getNewFullName());
+                }
             }
         }
+    }
 
-        return result;
+    /**
+     * Build {@code name + " (" + counter + ")"} with {@code counter} zero-padded to {@code digits} digits.
+     */
+    private static String appendSuffix(StringBuilder builder, String name, int counter, int digits) {
+        builder.setLength(0);
+        builder.append(name).append(" (");
+        String number = Integer.toString(counter);
+        for (int i = number.length(); i < digits; i++) {
+            builder.append('0');
+        }
+        return builder.append(number).append(')').toString();
     }
 
     /**
@@ -120,31 +157,43 @@ public class DuplicateNameResolverImpl implements DuplicateNameResolver {
      * - "999" with 100 files → not zero-padded, len(100)=3 → " (001)"
      * - "100" with 2 files → not zero-padded, len(2)=1 → " (1)"
      *
-     * @param group List of files with the same target name
+     * @param baseName  target name of the first file of the group
+     * @param groupSize number of files with the same target name
      * @return Number of digits to use for padding
      */
-    private int calculateSuffixPadding(List<PreparedFileModel> group) {
-        if (group.isEmpty()) {
-            return 1;
-        }
-
-        PreparedFileModel firstModel = group.getFirst();
-        String baseName = firstModel.getNewName();
-
+    private static int calculateSuffixPadding(String baseName, int groupSize) {
         // Calculate natural padding based on group size (total number of files)
-        int groupSizePadding = String.valueOf(group.size()).length();
+        int groupSizePadding = digitCount(groupSize);
 
         // If base name is zero-padded numeric (starts with '0' and is all digits)
         // use its length as minimum padding to maintain visual consistency
-        if (baseName.matches("\\d+") && baseName.startsWith("0")) {
-            int baseNamePadding = baseName.length();
-            return Math.max(baseNamePadding, groupSizePadding);
+        if (isZeroPaddedNumber(baseName)) {
+            return Math.max(baseName.length(), groupSizePadding);
         }
 
         // For non-zero-padded names, use group size padding
         return groupSizePadding;
     }
 
-    private record NameKey(java.nio.file.Path parentDir, String newFullName) {
+    private static boolean isZeroPaddedNumber(String name) {
+        if (name.isEmpty() || name.charAt(0) != '0') {
+            return false;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int digitCount(int value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
     }
 }
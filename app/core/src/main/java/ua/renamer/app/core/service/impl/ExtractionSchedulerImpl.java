@@ -0,0 +1,91 @@
+package ua.renamer.app.core.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import ua.renamer.app.api.settings.AppDefaults;
+import ua.renamer.app.core.service.ExtractionScheduler;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * {@link ExtractionScheduler} backed by one fair {@link Semaphore} per storage device.
+ *
+ * <p>The device of a file is its {@link java.nio.file.FileStore}, resolved once per parent
+ * directory and cached, because {@link Files#getFileStore(Path)} scans the mount table.
+ * When the store cannot be resolved the path root is used as the device key.
+ */
+@Slf4j
+public class ExtractionSchedulerImpl implements ExtractionScheduler {
+
+    private final Map<Path, Object> deviceByDirectory = new ConcurrentHashMap<>();
+    private volatile Map<Object, Semaphore> permitsByDevice = new ConcurrentHashMap<>();
+    private volatile int permitsPerDevice = AppDefaults.DEFAULT_EXTRACTION_PERMITS_PER_DEVICE;
+
+    @Override
+    public <T> T runOnDevice(File file, Supplier<T> task) {
+        Semaphore permits = permitsFor(file);
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting to read: " + file.getAbsolutePath());
+        }
+        try {
+            return task.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public void setPermitsPerDevice(int permits) {
+        if (permits < AppDefaults.MIN_EXTRACTION_PERMITS_PER_DEVICE
+                || permits > AppDefaults.MAX_EXTRACTION_PERMITS_PER_DEVICE) {
+            throw new IllegalArgumentException("Extraction permits per device must be between "
+                    + AppDefaults.MIN_EXTRACTION_PERMITS_PER_DEVICE + " and "
+                    + AppDefaults.MAX_EXTRACTION_PERMITS_PER_DEVICE + ", got: " + permits);
+        }
+        if (permits == permitsPerDevice) {
+            return;
+        }
+        log.info("Extraction permits per device changed: {} -> {}", permitsPerDevice, permits);
+        permitsPerDevice = permits;
+        // In-flight reads release to the semaphore they acquired; new reads use fresh ones
+        permitsByDevice = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public int getPermitsPerDevice() {
+        return permitsPerDevice;
+    }
+
+    private Semaphore permitsFor(File file) {
+        Object device = deviceKey(file.toPath().toAbsolutePath());
+        // Read the map before the count: the setter publishes the count first, so a new map implies the new count
+        Map<Object, Semaphore> current = permitsByDevice;
+        int permits = permitsPerDevice;
+        return current.computeIfAbsent(device, k -> new Semaphore(permits, true));
+    }
+
+    private Object deviceKey(Path path) {
+        Path dir = path.getParent();
+        return dir == null ? path : deviceByDirectory.computeIfAbsent(dir, ExtractionSchedulerImpl::resolveDevice);
+    }
+
+    private static Object resolveDevice(Path dir) {
+        try {
+            return Files.getFileStore(dir);
+        } catch (IOException | SecurityException e) {
+            log.debug("Cannot resolve file store for {}, grouping by root: {}", dir, e.getMessage());
+            Path root = dir.getRoot();
+            return root != null ? root : dir;
+        }
+    }
+}
@@ -3,10 +3,16 @@ package ua.renamer.app.core.service.impl;
 import jakarta.inject.Inject;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import ua.renamer.app.api.enums.ContentDuplicatePolicy;
+import ua.renamer.app.api.enums.DateTimeSource;
+import ua.renamer.app.api.enums.MetadataField;
+import ua.renamer.app.api.enums.PipelineStage;
+import ua.renamer.app.api.enums.SortSource;
 import ua.renamer.app.api.model.FileModel;
 import ua.renamer.app.api.model.PreparedFileModel;
 import ua.renamer.app.api.model.RenameResult;
 import ua.renamer.app.api.model.RenameStatus;
+import ua.renamer.app.api.model.RenameStep;
 import ua.renamer.app.api.model.TransformationMode;
 import ua.renamer.app.api.model.config.AddTextConfig;
 import ua.renamer.app.api.model.config.CaseChangeConfig;
@@ -18,10 +24,16 @@ import ua.renamer.app.api.model.config.RemoveTextConfig;
 import ua.renamer.app.api.model.config.ReplaceTextConfig;
 import ua.renamer.app.api.model.config.SequenceConfig;
 import ua.renamer.app.api.model.config.TruncateConfig;
+import ua.renamer.app.api.model.meta.FileMeta;
+import ua.renamer.app.api.model.meta.FileMetaHandle;
+import ua.renamer.app.api.service.CancellationToken;
 import ua.renamer.app.api.service.FileRenameOrchestrator;
 import ua.renamer.app.api.service.ProgressCallback;
 import ua.renamer.app.core.mapper.ThreadAwareFileMapper;
+import ua.renamer.app.core.service.ContentFingerprinter;
+import ua.renamer.app.core.service.DirectoryRenameScheduler;
 import ua.renamer.app.core.service.DuplicateNameResolver;
+import ua.renamer.app.core.service.ExtractionScheduler;
 import ua.renamer.app.core.service.FileTransformationService;
 import ua.renamer.app.core.service.RenameExecutionService;
 import ua.renamer.app.core.service.transformation.AddTextTransformer;
@@ -36,27 +48,78 @@ import ua.renamer.app.core.service.transformation.SequenceTransformer;
 import ua.renamer.app.core.service.transformation.TruncateTransformer;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Main orchestrator for the file rename pipeline.
  * Implements 4-phase pipeline: Extract → Transform → Deduplicate → Execute
  * Uses virtual threads for I/O-bound parallel operations.
+ *
+ * <p>{@link #execute} streams files through the phases one parent directory at a time:
+ * while the current directory is being renamed, the following directories are already being
+ * extracted and transformed, bounded by {@link #STREAMING_WINDOW_SIZE} files in flight.
+ * Modes that need the whole file set (NUMBER_FILES) fall back to a barrier for the
+ * transformation stage only.
+ *
+ * <p>Directory batches are renamed concurrently through {@link DirectoryRenameScheduler}; a batch
+ * starts only after the batches of all directories below it have finished.
+ *
+ * <p>{@link #execute} extracts only the metadata fields the selected mode reads, so e.g. ADD_TEXT never
+ * parses file contents. {@link #extractMetadata} reads only file attributes and the MIME type and gives each
+ * model a {@linkplain FileMetaHandle#lazy lazy} handle that extracts the {@linkplain MetadataField#typed() typed}
+ * fields when they are first read; {@link #computePreview} loads them in parallel for the modes that read them.
+ *
+ * <p>A recipe of several {@link RenameStep}s is compiled into one {@link CompiledRecipe} that chains the
+ * transformers per file, so the whole recipe costs one extraction (with the union of the steps' metadata
+ * fields), one deduplication and one rename per file. A single-mode run is a one-step recipe.
+ *
+ * <p>When NUMBER_FILES compares file contents, {@link ContentFingerprinter} hashes colliding files while the
+ * rest of the set is still being extracted, and the hashes are attached to the file models before numbering.
+ *
+ * <p>Cancellation is cooperative: the {@link CancellationToken} is checked before each file is
+ * extracted, before each batch is handed to the rename stage and before each rename. Queued tasks
+ * return immediately once it is set, so the executor closes as soon as the files in progress finish.
  */
 @Slf4j
 @RequiredArgsConstructor(onConstructor_ = {@Inject})
 public class FileRenameOrchestratorImpl implements FileRenameOrchestrator {
 
+    /**
+     * Maximum number of files that may be extracted/transformed ahead of the rename stage.
+     * A single directory larger than the window is still admitted as a whole, because
+     * duplicate resolution needs every target name of that directory.
+     */
+    static final int STREAMING_WINDOW_SIZE = 512;
+
+    /**
+     * Number of progress units per file in {@link #execute}: extract, transform and rename.
+     */
+    private static final int PROGRESS_UNITS_PER_FILE = 3;
+
     private final ThreadAwareFileMapper fileMapper;
     private final DuplicateNameResolver duplicateResolver;
     private final RenameExecutionService renameExecutor;
+    private final ExtractionScheduler extractionScheduler;
+    private final DirectoryRenameScheduler renameScheduler;
+    private final ContentFingerprinter contentFingerprinter;
 
     // Individual transformers - no registry needed with pattern matching
     private final AddTextTransformer addTextTransformer;
@@ -71,26 +134,31 @@ public class FileRenameOrchestratorImpl implements FileRenameOrchestrator {
     private final ExtensionChangeTransformer extensionChangeTransformer;
 
     @Override
-    public List<RenameResult> execute(List<File> files, TransformationMode mode, Object config, ProgressCallback progressCallback) {
-        log.info("Starting rename pipeline for {} files with mode {}", files.size(), mode);
-
-        try (ExecutorService virtualExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
-
-            // PHASE 1: Extract metadata (Always Parallel)
-            List<FileModel> fileModels = extractMetadataParallel(files, virtualExecutor, progressCallback);
-            log.debug("(execute) Phase 1 complete: {} file models extracted", fileModels.size());
+    public List<RenameResult> execute(List<File> files, TransformationMode mode, Object config,
+                                      ProgressCallback progressCallback, CancellationToken cancellation) {
+        return execute(files, List.of(new RenameStep(mode, config)), progressCallback, cancellation);
+    }
 
-            // PHASE 2: Apply transformation (Conditional)
-            List<PreparedFileModel> prepared = applyTransformation(fileModels, mode, config, virtualExecutor, progressCallback);
-            log.debug("(execute) Phase 2 complete: {} files prepared", prepared.size());
+    @Override
+    public List<RenameResult> execute(List<File> files, List<RenameStep> recipe,
+                                      ProgressCallback progressCallback, CancellationToken cancellation) {
+        log.info("Starting rename pipeline for {} files with recipe {}", files.size(), modesOf(recipe));
 
-            // PHASE 2.5: Resolve duplicates (Always Sequential)
-            prepared = duplicateResolver.resolve(prepared);
-            log.debug("(execute) Phase 2.5 complete: {} files after deduplication", prepared.size());
+        try (ExecutorService virtualExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
 
-            // PHASE 3: Execute renames (depth-ordered to avoid parent-before-child race)
-            List<RenameResult> results = executeRenamesOrdered(prepared, progressCallback);
-            log.info("Pipeline complete: {} results", results.size());
+            // Validate config up front so a misconfigured run fails before touching any file
+            TransformationPlan plan = compile(recipe);
+            StreamingProgress progress = new StreamingProgress(files.size() * PROGRESS_UNITS_PER_FILE, progressCallback);
+            progress.report();
+
+            List<RenameResult> results = plan.requiresWholeSet()
+                    ? executeWithTransformBarrier(files, plan, virtualExecutor, progress, cancellation)
+                    : executeStreaming(files, plan, virtualExecutor, progress, cancellation);
+            if (cancellation.isCancellationRequested()) {
+                log.info("Pipeline cancelled: {} results", results.size());
+            } else {
+                log.info("Pipeline complete: {} results", results.size());
+            }
 
             // Log summary
             logResultsSummary(results);
@@ -134,11 +202,25 @@ public class FileRenameOrchestratorImpl implements FileRenameOrchestrator {
             List<FileModel> fileModels,
             TransformationMode mode,
             Object config,
-            ProgressCallback progressCallback) {
-        log.info("(computePreview) Phases 2-2.5: computing preview for {} files, mode={}", fileModels.size(), mode);
+            ProgressCallback progressCallback,
+            CancellationToken cancellation) {
+        return computePreview(fileModels, List.of(new RenameStep(mode, config)), progressCallback, cancellation);
+    }
+
+    @Override
+    public List<PreparedFileModel> computePreview(
+            List<FileModel> fileModels,
+            List<RenameStep> recipe,
+            ProgressCallback progressCallback,
+            CancellationToken cancellation) {
+        log.info("(computePreview) Phases 2-2.5: computing preview for {} files, recipe={}", fileModels.size(), modesOf(recipe));
         try (ExecutorService virtualExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
             List<PreparedFileModel> prepared =
-                    applyTransformation(fileModels, mode, config, virtualExecutor, progressCallback);
+                    applyTransformation(fileModels, compile(recipe), virtualExecutor, progressCallback, cancellation);
+            if (cancellation.isCancellationRequested()) {
+                log.info("(computePreview) Cancelled; discarding partial preview");
+                return List.of();
+            }
             log.debug("(computePreview) Phase 2 complete: {} files prepared", prepared.size());
             prepared = duplicateResolver.resolve(prepared);
             log.debug("(computePreview) Phase 2.5 complete: {} files after dedup", prepared.size());
@@ -165,33 +247,291 @@ public class FileRenameOrchestratorImpl implements FileRenameOrchestrator {
 
         updateProgress(0, total, progressCallback);
 
-        return files.parallelStream().map(file -> CompletableFuture.supplyAsync(() -> {
-            try {
-                FileModel model = fileMapper.mapFrom(file);
-                int current = completed.incrementAndGet();
-                updateProgress(current, total, progressCallback);
-                return model;
-            } catch (Exception e) {
-                log.error("Failed to extract metadata for: {}", file.getAbsolutePath(), e);
-                int current = completed.incrementAndGet();
-                updateProgress(current, total, progressCallback);
-
-                // Return error FileModel that will propagate as error through pipeline
-                return FileModel.builder()
-                        .withFile(file)
-                        .withName(file.getName())
-                        .withExtension("")
-                        .withAbsolutePath(file.getAbsolutePath())
-                        .withIsFile(false)  // Mark as problematic
-                        .withFileSize(0L)
-                        .build();
+        // Submit everything first, then join on the caller thread — joining inside a parallel stream
+        // would park common-pool workers. Disk concurrency is bounded by extractionScheduler, not here.
+        List<CompletableFuture<FileModel>> futures = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> {
+                    FileModel model = withLazyMetadata(extractSingle(file, Set.of()));
+                    int current = completed.incrementAndGet();
+                    updateProgress(current, total, progressCallback);
+                    return model;
+                }, executor))
+                .toList();
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * Gives a model mapped without content fields a handle that extracts its typed metadata on first read,
+     * and again after the garbage collector cleared it. Models of categories no typed field applies to keep
+     * their empty metadata. Typed metadata the mapper already served from its cache seeds the handle.
+     */
+    private FileModel withLazyMetadata(FileModel model) {
+        if (!model.isFile() || MetadataField.typed().stream().noneMatch(field -> field.appliesTo(model.getCategory()))) {
+            return model;
+        }
+        File file = model.getFile();
+        Supplier<FileMeta> loader = () -> extractSingle(file, MetadataField.typed())
+                .getMetadata()
+                .orElseGet(() -> FileMeta.withError("Metadata extraction failed"));
+        // Without typed fields requested the mapper returns empty metadata unless its cache had an entry
+        FileMetaHandle handle = model.getMetadata()
+                .filter(meta -> !FileMeta.empty().equals(meta))
+                .map(meta -> FileMetaHandle.lazy(meta, loader))
+                .orElseGet(() -> FileMetaHandle.lazy(loader));
+        return model.toBuilder()
+                .withMetadataHandle(handle)
+                .build();
+    }
+
+    private FileModel extractSingle(File file, Set<MetadataField> fields) {
+        try {
+            return extractionScheduler.runOnDevice(file, () -> fileMapper.mapFrom(file, fields));
+        } catch (Exception e) {
+            log.error("Failed to extract metadata for: {}", file.getAbsolutePath(), e);
+
+            // Return error FileModel that will propagate as error through pipeline
+            return FileModel.builder()
+                    .withFile(file)
+                    .withName(file.getName())
+                    .withExtension("")
+                    .withAbsolutePath(file.getAbsolutePath())
+                    .withIsFile(false)  // Mark as problematic
+                    .withFileSize(0L)
+                    .build();
+        }
+    }
+
+    // ==================== STREAMING PIPELINE ====================
+
+    /**
+     * Streams files through Extract → Transform → Deduplicate → Rename one directory batch at a time.
+     * Batches are admitted into the look-ahead window until {@link #STREAMING_WINDOW_SIZE} files are in
+     * flight (extracting, transforming, or waiting to be renamed); each transformed batch is handed to
+     * the rename scheduler while the following batches keep extracting.
+     * After cancellation no further batch is admitted or renamed; the files of those batches are
+     * reported as cancelled.
+     */
+    private List<RenameResult> executeStreaming(List<File> files, TransformationPlan plan,
+                                                ExecutorService executor, StreamingProgress progress,
+                                                CancellationToken cancellation) {
+        List<DirectoryBatch<File>> batches = partitionByDirectory(files, File::toPath);
+        log.debug("(executeStreaming) {} files in {} directory batches", files.size(), batches.size());
+
+        DirectoryRenameScheduler.Run renameRun = renameScheduler.start(executor);
+        List<CompletableFuture<List<RenameResult>>> renames = new ArrayList<>(batches.size());
+        Deque<DirectoryBatch<CompletableFuture<PreparedFileModel>>> extracting = new ArrayDeque<>();
+        Deque<PendingRename> renaming = new ArrayDeque<>();
+        int inFlightFiles = 0;
+        int nextBatch = 0;
+
+        while ((nextBatch < batches.size() || !extracting.isEmpty()) && !cancellation.isCancellationRequested()) {
+            // Finished renames free their window slots
+            while (!renaming.isEmpty() && renaming.peekFirst().future().isDone()) {
+                inFlightFiles -= renaming.removeFirst().files();
+            }
+
+            // Fill the window; an empty window always admits the next batch so oversized directories still run
+            while (nextBatch < batches.size()
+                    && (inFlightFiles == 0 || inFlightFiles + batches.get(nextBatch).items().size() <= STREAMING_WINDOW_SIZE)) {
+                DirectoryBatch<File> batch = batches.get(nextBatch++);
+                extracting.addLast(new DirectoryBatch<>(batch.directory(), batch.items().stream()
+                        .map(file -> CompletableFuture.supplyAsync(
+                                () -> extractAndTransform(file, plan, progress, cancellation), executor))
+                        .toList()));
+                inFlightFiles += batch.items().size();
+            }
+
+            if (extracting.isEmpty()) {
+                // The window is full of batches waiting to be renamed; wait for the oldest one
+                PendingRename oldest = renaming.removeFirst();
+                oldest.future().join();
+                inFlightFiles -= oldest.files();
+                continue;
+            }
+
+            DirectoryBatch<CompletableFuture<PreparedFileModel>> head = extracting.getFirst();
+            List<PreparedFileModel> prepared = head.items().stream().map(CompletableFuture::join).toList();
+            if (cancellation.isCancellationRequested()) {
+                // Some files of the head batch may have been skipped; report the whole batch below
+                break;
             }
-        }, executor)).map(CompletableFuture::join).toList();
+            extracting.removeFirst();
+            CompletableFuture<List<RenameResult>> renamed = renameRun.submit(
+                    head.directory(), () -> resolveAndRename(prepared, progress, cancellation));
+            renames.add(renamed);
+            renaming.addLast(new PendingRename(prepared.size(), renamed));
+        }
+
+        List<RenameResult> results = new ArrayList<>(files.size());
+        renames.forEach(renamed -> results.addAll(renamed.join()));
+        // Batches are handed to the rename stage in order, so everything from here on was never renamed
+        int firstNotSubmitted = nextBatch - extracting.size();
+        batches.subList(firstNotSubmitted, batches.size())
+                .forEach(batch -> batch.items().forEach(file -> results.add(buildCancelledResult(file))));
+        return results;
+    }
+
+    /**
+     * Barrier variant for modes whose transformation needs the complete file set (e.g. NUMBER_FILES sorting).
+     * Extraction and transformation run to completion first; deduplication and renaming still run per directory.
+     * Cancellation before the rename stage reports every file as cancelled.
+     */
+    private List<RenameResult> executeWithTransformBarrier(List<File> files, TransformationPlan plan,
+                                                           ExecutorService executor, StreamingProgress progress,
+                                                           CancellationToken cancellation) {
+        ContentFingerprinter.Session fingerprints = plan.comparesContent() ? contentFingerprinter.start(executor) : null;
+        List<FileModel> fileModels = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> {
+                    if (cancellation.isCancellationRequested()) {
+                        return null;
+                    }
+                    FileModel model = extractSingle(file, plan.metadataFields());
+                    if (fingerprints != null) {
+                        fingerprints.add(model);
+                    }
+                    progress.advance(PipelineStage.EXTRACT, model.getFileSize());
+                    return model;
+                }, executor))
+                .toList()
+                .stream()
+                .map(CompletableFuture::join)
+                .toList();
+        if (cancellation.isCancellationRequested()) {
+            return files.stream().map(this::buildCancelledResult).toList();
+        }
+        log.debug("(executeWithTransformBarrier) Phase 1 complete: {} file models extracted", fileModels.size());
+        if (fingerprints != null) {
+            fileModels = ContentFingerprinter.withContentHashes(fileModels, fingerprints.finish());
+        }
+
+        log.debug("Using sequential transformation for NUMBER_FILES mode");
+        List<PreparedFileModel> prepared = plan.transformBatch(fileModels, executor);
+        progress.advanceAll(PipelineStage.TRANSFORM, prepared.size());
+        log.debug("(executeWithTransformBarrier) Phase 2 complete: {} files prepared", prepared.size());
+        if (cancellation.isCancellationRequested()) {
+            return files.stream().map(this::buildCancelledResult).toList();
+        }
+
+        DirectoryRenameScheduler.Run renameRun = renameScheduler.start(executor);
+        List<CompletableFuture<List<RenameResult>>> renames =
+                partitionByDirectory(prepared, PreparedFileModel::getOldPath).stream()
+                        .map(batch -> renameRun.submit(batch.directory(),
+                                () -> resolveAndRename(batch.items(), progress, cancellation)))
+                        .toList();
+
+        List<RenameResult> results = new ArrayList<>(prepared.size());
+        renames.forEach(renamed -> results.addAll(renamed.join()));
+        return results;
+    }
+
+    /**
+     * Phase 1 + Phase 2 for one file.
+     *
+     * @return the prepared file, or {@code null} if the run was cancelled before the file was processed
+     */
+    private PreparedFileModel extractAndTransform(File file, TransformationPlan plan, StreamingProgress progress,
+                                                  CancellationToken cancellation) {
+        if (cancellation.isCancellationRequested()) {
+            return null;
+        }
+        FileModel model = extractSingle(file, plan.metadataFields());
+        progress.advance(PipelineStage.EXTRACT, model.getFileSize());
+        if (cancellation.isCancellationRequested()) {
+            return null;
+        }
+        PreparedFileModel prepared = plan.transform(model);
+        progress.advance(PipelineStage.TRANSFORM, 0L);
+        return prepared;
+    }
+
+    /**
+     * Phase 2.5 + Phase 3 for a single directory batch. Files in one batch share a parent,
+     * so no batch contains both a folder and its children. Renames within the batch stay sequential
+     * and share one listing of the directory.
+     */
+    private List<RenameResult> resolveAndRename(List<PreparedFileModel> batch, StreamingProgress progress,
+                                                CancellationToken cancellation) {
+        List<PreparedFileModel> resolved = duplicateResolver.resolve(batch);
+        return renameExecutor.executeBatch(resolved, cancellation,
+                result -> progress.advance(PipelineStage.RENAME, 0L));
+    }
+
+    /**
+     * Groups items by parent directory, ordering groups deepest-first so that children are always
+     * submitted before their parent folders. Within a group the input order is preserved.
+     */
+    private static <T> List<DirectoryBatch<T>> partitionByDirectory(List<T> items, Function<T, Path> pathOf) {
+        Map<Path, List<T>> groups = new LinkedHashMap<>();
+        for (T item : items) {
+            Path parent = pathOf.apply(item).getParent();
+            // null parent means filesystem root; use empty path as sentinel (same as DuplicateNameResolverImpl)
+            groups.computeIfAbsent(parent != null ? parent : Path.of(""), k -> new ArrayList<>()).add(item);
+        }
+        return groups.entrySet().stream()
+                .sorted(Comparator.comparingInt((Map.Entry<Path, List<T>> e) -> e.getKey().getNameCount()).reversed())
+                .map(e -> new DirectoryBatch<>(e.getKey(), e.getValue()))
+                .toList();
     }
 
     // ==================== PHASE 2: TRANSFORMATION ====================
 
-    private List<PreparedFileModel> applyTransformation(List<FileModel> fileModels, TransformationMode mode, Object config, ExecutorService executor, ProgressCallback progressCallback) {
+    /**
+     * Phase 2 for a preview. Once {@code cancellation} is requested the remaining files are skipped and the
+     * returned list is incomplete; the caller must check the token and discard it.
+     */
+    private List<PreparedFileModel> applyTransformation(List<FileModel> fileModels, TransformationPlan plan, ExecutorService executor,
+                                                        ProgressCallback progressCallback, CancellationToken cancellation) {
+        if (plan.requiresWholeSet() && !plan.metadataFields().isEmpty()) {
+            // The batch transformer reads metadata on one thread; load what is not loaded yet in parallel
+            loadMetadata(fileModels, executor, cancellation);
+        }
+        if (cancellation.isCancellationRequested()) {
+            return List.of();
+        }
+        if (plan.requiresWholeSet()) {
+            // Sequence mode always uses sequential processing
+            log.debug("Using sequential transformation for NUMBER_FILES mode");
+            List<FileModel> models = plan.comparesContent()
+                    ? contentFingerprinter.fingerprint(fileModels, executor)
+                    : fileModels;
+            return plan.transformBatch(models, executor);
+        }
+        return applyTransformationParallel(fileModels, plan, executor, progressCallback, cancellation);
+    }
+
+    private static void loadMetadata(List<FileModel> fileModels, ExecutorService executor, CancellationToken cancellation) {
+        fileModels.stream()
+                .filter(model -> model.getMetadataHandle() != null && !model.getMetadataHandle().isLoaded())
+                .map(model -> CompletableFuture.runAsync(() -> {
+                    if (!cancellation.isCancellationRequested()) {
+                        model.getMetadata();
+                    }
+                }, executor))
+                .toList()
+                .forEach(CompletableFuture::join);
+    }
+
+    /**
+     * Compile a recipe into the plan applied to each file: the stage itself for a single step, otherwise
+     * a {@link CompiledRecipe} chaining the stages.
+     *
+     * @throws IllegalArgumentException when the recipe is empty or a step's config does not match its mode
+     */
+    private TransformationPlan compile(List<RenameStep> recipe) {
+        if (recipe.isEmpty()) {
+            throw new IllegalArgumentException("Recipe must contain at least one step");
+        }
+        List<TransformationStage<?>> stages = recipe.stream()
+                .<TransformationStage<?>>map(step -> resolveStage(step.mode(), step.config()))
+                .toList();
+        return stages.size() == 1 ? stages.getFirst() : new CompiledRecipe(stages);
+    }
+
+    private static List<TransformationMode> modesOf(List<RenameStep> recipe) {
+        return recipe.stream().map(RenameStep::mode).toList();
+    }
+
+    private TransformationStage<?> resolveStage(TransformationMode mode, Object config) {
         // Pattern matching provides compile-time exhaustiveness checking
         // and runtime config type validation
         final String configClassName = config == null ? "null" : config.getClass().getName();
@@ -200,104 +540,95 @@ public class FileRenameOrchestratorImpl implements FileRenameOrchestrator {
                 if (!(config instanceof AddTextConfig typedConfig)) {
                     throw new IllegalArgumentException("ADD_TEXT requires AddTextConfig, got: " + configClassName);
                 }
-                yield applyTransformationParallel(fileModels, addTextTransformer, typedConfig, executor, progressCallback);
+                yield new TransformationStage<>(addTextTransformer, typedConfig, false);
             }
             case REMOVE_TEXT -> {
                 if (!(config instanceof RemoveTextConfig typedConfig)) {
                     throw new IllegalArgumentException("REMOVE_TEXT requires RemoveTextConfig, got: " + configClassName);
                 }
-                yield applyTransformationParallel(fileModels, removeTextTransformer, typedConfig, executor, progressCallback);
+                yield new TransformationStage<>(removeTextTransformer, typedConfig, false);
             }
             case REPLACE_TEXT -> {
                 if (!(config instanceof ReplaceTextConfig typedConfig)) {
                     throw new IllegalArgumentException("REPLACE_TEXT requires ReplaceTextConfig, got: " + configClassName);
                 }
-                yield applyTransformationParallel(fileModels, replaceTextTransformer, typedConfig, executor, progressCallback);
+                yield new TransformationStage<>(replaceTextTransformer, typedConfig, false);
             }
             case CHANGE_CASE -> {
                 if (!(config instanceof CaseChangeConfig typedConfig)) {
                     throw new IllegalArgumentException("CHANGE_CASE requires CaseChangeConfig, got: " + configClassName);
                 }
-                yield applyTransformationParallel(fileModels, caseChangeTransformer, typedConfig, executor, progressCallback);
+                yield new TransformationStage<>(caseChangeTransformer, typedConfig, false);
             }
             case ADD_DATETIME -> {
                 if (!(config instanceof DateTimeConfig typedConfig)) {
                     throw new IllegalArgumentException("ADD_DATETIME requires DateTimeConfig, got: " + configClassName);
                 }
-                yield applyTransformationParallel(fileModels, dateTimeTransformer, typedConfig, executor, progressCallback);
+                yield new TransformationStage<>(dateTimeTransformer, typedConfig, false);
             }
             case ADD_DIMENSIONS -> {
                 if (!(config instanceof ImageDimensionsConfig typedConfig)) {
                     throw new IllegalArgumentException("ADD_DIMENSIONS requires ImageDimensionsConfig, got: " + configClassName);
                 }
-                yield applyTransformationParallel(fileModels, imageDimensionsTransformer, typedConfig, executor, progressCallback);
+                yield new TransformationStage<>(imageDimensionsTransformer, typedConfig, false);
             }
             case NUMBER_FILES -> {
                 if (!(config instanceof SequenceConfig typedConfig)) {
                     throw new IllegalArgumentException("NUMBER_FILES requires SequenceConfig, got: " + configClassName);
                 }
-                // Sequence mode always uses sequential processing
-                log.debug("Using sequential transformation for NUMBER_FILES mode");
-                yield sequenceTransformer.transformBatch(fileModels, typedConfig);
+                // Sequence numbering sorts the whole set — needs a barrier before transformation
+                yield new TransformationStage<>(sequenceTransformer, typedConfig, true);
             }
             case ADD_FOLDER_NAME -> {
                 if (!(config instanceof ParentFolderConfig typedConfig)) {
                     throw new IllegalArgumentException("ADD_FOLDER_NAME requires ParentFolderConfig, got: " + configClassName);
                 }
-                yield applyTransformationParallel(fileModels, parentFolderTransformer, typedConfig, executor, progressCallback);
+                yield new TransformationStage<>(parentFolderTransformer, typedConfig, false);
             }
             case TRIM_NAME -> {
                 if (!(config instanceof TruncateConfig typedConfig)) {
                     throw new IllegalArgumentException("TRIM_NAME requires TruncateConfig, got: " + configClassName);
                 }
-                yield applyTransformationParallel(fileModels, truncateTransformer, typedConfig, executor, progressCallback);
+                yield new TransformationStage<>(truncateTransformer, typedConfig, false);
             }
             case CHANGE_EXTENSION -> {
                 if (!(config instanceof ExtensionChangeConfig typedConfig)) {
                     throw new IllegalArgumentException("CHANGE_EXTENSION requires ExtensionChangeConfig, got: " + configClassName);
                 }
-                yield applyTransformationParallel(fileModels, extensionChangeTransformer, typedConfig, executor, progressCallback);
+                yield new TransformationStage<>(extensionChangeTransformer, typedConfig, false);
             }
         };
     }
 
-    private <C> List<PreparedFileModel> applyTransformationParallel(List<FileModel> fileModels, FileTransformationService<C> transformer, C config, ExecutorService executor, ProgressCallback progressCallback) {
+    private List<PreparedFileModel> applyTransformationParallel(List<FileModel> fileModels, TransformationPlan plan, ExecutorService executor,
+                                                                ProgressCallback progressCallback, CancellationToken cancellation) {
         int total = fileModels.size();
         AtomicInteger completed = new AtomicInteger(0);
 
         updateProgress(0, total, progressCallback);
 
-        return fileModels.parallelStream().map(model -> CompletableFuture.supplyAsync(() -> {
-            PreparedFileModel result = transformer.transform(model, config);
+        return transformEach(fileModels, model -> {
+            if (cancellation.isCancellationRequested()) {
+                // Skipped; the caller discards the whole list once cancelled
+                return null;
+            }
+            PreparedFileModel result = plan.transform(model);
             int current = completed.incrementAndGet();
             updateProgress(current, total, progressCallback);
             return result;
-        }, executor)).map(CompletableFuture::join).toList();
+        }, executor);
     }
 
-    // ==================== PHASE 3: PHYSICAL RENAME ====================
-
-    private List<RenameResult> executeRenamesOrdered(List<PreparedFileModel> prepared, ProgressCallback progressCallback) {
-        int total = prepared.size();
-        AtomicInteger completed = new AtomicInteger(0);
-
-        updateProgress(0, total, progressCallback);
-
-        // Sort deepest paths first so children are renamed before their parent folders.
-        // This prevents NoSuchFileException when a parent is renamed before its children.
-        List<PreparedFileModel> ordered = prepared.stream()
-                .sorted(Comparator.comparingInt(
-                        (PreparedFileModel p) -> p.getOldPath().getNameCount()
-                ).reversed())
+    /**
+     * Transforms every model on its own task of {@code executor}, keeping the input order.
+     */
+    private static List<PreparedFileModel> transformEach(List<FileModel> models,
+                                                         Function<FileModel, PreparedFileModel> transform,
+                                                         ExecutorService executor) {
+        List<CompletableFuture<PreparedFileModel>> futures = models.stream()
+                .map(model -> CompletableFuture.supplyAsync(() -> transform.apply(model), executor))
                 .toList();
-
-        // Sequential stream respects the sort order; parallelStream() would not.
-        return ordered.stream().map(preparedFile -> {
-            RenameResult result = renameExecutor.execute(preparedFile);
-            int current = completed.incrementAndGet();
-            updateProgress(current, total, progressCallback);
-            return result;
-        }).toList();
+        return futures.stream().map(CompletableFuture::join).toList();
     }
 
     // ==================== UTILITIES ====================
@@ -312,26 +643,26 @@ public class FileRenameOrchestratorImpl implements FileRenameOrchestrator {
         long success = results.stream().filter(Objects::nonNull).filter(RenameResult::isSuccess).count();
         long skipped = results.stream().filter(Objects::nonNull).filter(r -> r.getStatus() == RenameStatus.SKIPPED).count();
         long errors = results.stream().filter(Objects::nonNull).filter(r -> r.getStatus().name().startsWith("ERROR")).count();
+        long cancelled = results.stream().filter(Objects::nonNull).filter(r -> r.getStatus() == RenameStatus.CANCELLED).count();
 
-        log.info("Results summary: {} success, {} skipped, {} errors", success, skipped, errors);
+        log.info("Results summary: {} success, {} skipped, {} errors, {} cancelled", success, skipped, errors, cancelled);
     }
 
-    private RenameResult buildErrorResult(File file, String errorMessage) {
-        FileModel errorModel = FileModel.builder()
-                .withFile(file)
-                .withName(file.getName())
-                .withExtension("")
-                .withAbsolutePath(file.getAbsolutePath())
-                .withIsFile(true)
-                .withFileSize(0L)
-                .withCreationDate(null)
-                .withModificationDate(null)
-                .withDetectedMimeType("")
-                .withMetadata(null)
+    private RenameResult buildCancelledResult(File file) {
+        PreparedFileModel unprocessed = PreparedFileModel.builder()
+                .withOriginalFile(buildBareFileModel(file))
+                .withNewName(file.getName())
+                .withNewExtension("")
+                .withHasError(false)
+                .withErrorMessage(null)
+                .withTransformationMeta(null)
                 .build();
+        return RenameExecutionService.cancelled(unprocessed);
+    }
 
+    private RenameResult buildErrorResult(File file, String errorMessage) {
         PreparedFileModel preparedError = PreparedFileModel.builder()
-                .withOriginalFile(errorModel)
+                .withOriginalFile(buildBareFileModel(file))
                 .withNewName(file.getName())
                 .withNewExtension("")
                 .withHasError(true)
@@ -346,4 +677,251 @@ public class FileRenameOrchestratorImpl implements FileRenameOrchestrator {
                 .withExecutedAt(LocalDateTime.now())
                 .build();
     }
+
+    /**
+     * File model for a file that never went through metadata extraction.
+     */
+    private static FileModel buildBareFileModel(File file) {
+        return FileModel.builder()
+                .withFile(file)
+                .withName(file.getName())
+                .withExtension("")
+                .withAbsolutePath(file.getAbsolutePath())
+                .withIsFile(true)
+                .withFileSize(0L)
+                .withCreationDate(null)
+                .withModificationDate(null)
+                .withDetectedMimeType("")
+                .withMetadata(null)
+                .build();
+    }
+
+    /**
+     * What the pipeline applies to each file: one stage, or a compiled recipe of several.
+     */
+    private interface TransformationPlan {
+
+        PreparedFileModel transform(FileModel model);
+
+        /**
+         * @param executor runs the per-file work of the batch in parallel
+         */
+        List<PreparedFileModel> transformBatch(List<FileModel> models, ExecutorService executor);
+
+        /**
+         * @return whether the plan must see all files at once (barrier stage)
+         */
+        boolean requiresWholeSet();
+
+        /**
+         * @return the metadata fields the plan reads
+         */
+        Set<MetadataField> metadataFields();
+
+        /**
+         * @return whether the plan needs {@link FileModel#getContentHash() content hashes}
+         */
+        boolean comparesContent();
+    }
+
+    /**
+     * A transformer bound to its validated, typed configuration.
+     *
+     * @param transformer    the transformer for the selected mode
+     * @param config         the configuration already checked against the mode
+     * @param requiresWholeSet whether the transformer must see all files at once (barrier stage)
+     * @param <C>            the configuration type
+     */
+    private record TransformationStage<C>(FileTransformationService<C> transformer, C config, boolean requiresWholeSet)
+            implements TransformationPlan {
+
+        @Override
+        public PreparedFileModel transform(FileModel model) {
+            return transformer.transform(model, config);
+        }
+
+        @Override
+        public List<PreparedFileModel> transformBatch(List<FileModel> models, ExecutorService executor) {
+            return transformer.transformBatch(models, config);
+        }
+
+        /**
+         * @return the metadata fields the transformer reads with this configuration
+         */
+        @Override
+        public Set<MetadataField> metadataFields() {
+            return switch (config) {
+                case DateTimeConfig dateTime when dateTime.getSource() == DateTimeSource.CONTENT_CREATION_DATE
+                        || dateTime.isUseFallbackDateTime() -> Set.of(MetadataField.CONTENT_DATE);
+                case ImageDimensionsConfig _ -> Set.of(MetadataField.DIMENSIONS);
+                case SequenceConfig sequence
+                        when sequence.getSortSource() == SortSource.FILE_CONTENT_CREATION_DATETIME ->
+                        Set.of(MetadataField.CONTENT_DATE);
+                case SequenceConfig sequence when sequence.getSortSource() == SortSource.IMAGE_WIDTH
+                        || sequence.getSortSource() == SortSource.IMAGE_HEIGHT -> Set.of(MetadataField.DIMENSIONS);
+                default -> Set.of();
+            };
+        }
+
+        /**
+         * @return whether the transformer needs {@link FileModel#getContentHash() content hashes}
+         */
+        @Override
+        public boolean comparesContent() {
+            return config instanceof SequenceConfig sequence
+                    && sequence.getContentDuplicates() != ContentDuplicatePolicy.IGNORE;
+        }
+    }
+
+    /**
+     * Several stages applied one after another to each file in a single pass. Every stage after the first
+     * transforms a copy of the original model renamed to the previous stage's result; the final result
+     * refers to the original model again. A file whose stage fails skips the remaining stages.
+     *
+     * <p>Whole-set stages make the recipe a barrier: the per-file stages before them run for the whole set,
+     * then the whole-set stage sees every file that has not failed, with the names produced so far.
+     * Per-file stages of a barrier recipe still transform the files in parallel on the pipeline's executor.
+     *
+     * @param stages the stages in recipe order; at least two
+     */
+    private record CompiledRecipe(List<TransformationStage<?>> stages) implements TransformationPlan {
+
+        @Override
+        public PreparedFileModel transform(FileModel model) {
+            FileModel input = model;
+            PreparedFileModel prepared = null;
+            for (TransformationStage<?> stage : stages) {
+                prepared = stage.transform(input);
+                if (prepared.isHasError()) {
+                    break;
+                }
+                input = renamedTo(model, prepared);
+            }
+            return prepared.toBuilder().withOriginalFile(model).build();
+        }
+
+        @Override
+        public List<PreparedFileModel> transformBatch(List<FileModel> models, ExecutorService executor) {
+            List<PreparedFileModel> results = new ArrayList<>(models.size());
+            // Maps each stage input to the model it was derived from; transformers may reorder their output
+            Map<FileModel, FileModel> originals = new IdentityHashMap<>(models.size());
+            for (FileModel model : models) {
+                originals.put(model, model);
+            }
+            List<FileModel> inputs = models;
+
+            for (int i = 0; i < stages.size(); i++) {
+                TransformationStage<?> stage = stages.get(i);
+                List<PreparedFileModel> prepared = stage.requiresWholeSet()
+                        ? stage.transformBatch(inputs, executor)
+                        : transformEach(inputs, stage::transform, executor);
+                boolean lastStage = i == stages.size() - 1;
+                List<FileModel> nextInputs = new ArrayList<>(prepared.size());
+                Map<FileModel, FileModel> nextOriginals = new IdentityHashMap<>(prepared.size());
+                for (PreparedFileModel result : prepared) {
+                    FileModel original = originals.get(result.getOriginalFile());
+                    if (lastStage || result.isHasError()) {
+                        results.add(result.toBuilder().withOriginalFile(original).build());
+                    } else {
+                        FileModel next = renamedTo(original, result);
+                        nextInputs.add(next);
+                        nextOriginals.put(next, original);
+                    }
+                }
+                inputs = nextInputs;
+                originals = nextOriginals;
+            }
+            return results;
+        }
+
+        @Override
+        public boolean requiresWholeSet() {
+            return stages.stream().anyMatch(TransformationStage::requiresWholeSet);
+        }
+
+        @Override
+        public Set<MetadataField> metadataFields() {
+            Set<MetadataField> fields = EnumSet.noneOf(MetadataField.class);
+            stages.forEach(stage -> fields.addAll(stage.metadataFields()));
+            return fields;
+        }
+
+        @Override
+        public boolean comparesContent() {
+            return stages.stream().anyMatch(TransformationStage::comparesContent);
+        }
+
+        private static FileModel renamedTo(FileModel original, PreparedFileModel prepared) {
+            return original.toBuilder()
+                    .withName(prepared.getNewName())
+                    .withExtension(prepared.getNewExtension())
+                    .build();
+        }
+    }
+
+    /**
+     * Items that share one parent directory.
+     *
+     * @param directory the common parent; empty path for files without a parent
+     * @param items     the items in input order
+     * @param <T>       the item type
+     */
+    private record DirectoryBatch<T>(Path directory, List<T> items) {
+    }
+
+    /**
+     * A directory batch handed to the rename scheduler that still occupies streaming window slots.
+     *
+     * @param files  number of files in the batch
+     * @param future completes when the batch has been renamed
+     */
+    private record PendingRename(int files, CompletableFuture<List<RenameResult>> future) {
+    }
+
+    /**
+     * Single monotonic progress counter shared by all streaming stages.
+     * Each file contributes {@link #PROGRESS_UNITS_PER_FILE} units (extract, transform, rename).
+     */
+    private static final class StreamingProgress {
+        private final int total;
+        private final ProgressCallback callback;
+        private final AtomicInteger completed = new AtomicInteger(0);
+
+        StreamingProgress(int total, ProgressCallback callback) {
+            this.total = total;
+            this.callback = callback;
+        }
+
+        void report() {
+            if (callback != null) {
+                callback.updateProgress(completed.get(), total);
+            }
+        }
+
+        /**
+         * One file has completed {@code stage}.
+         *
+         * @param fileBytes the file size for {@link PipelineStage#EXTRACT}; 0 otherwise
+         */
+        void advance(PipelineStage stage, long fileBytes) {
+            int current = completed.incrementAndGet();
+            if (callback != null) {
+                callback.updateProgress(current, total);
+                callback.stageCompleted(stage, fileBytes);
+            }
+        }
+
+        /**
+         * {@code files} files have completed {@code stage} at once (barrier transformation).
+         */
+        void advanceAll(PipelineStage stage, int files) {
+            int current = completed.addAndGet(files);
+            if (callback != null) {
+                callback.updateProgress(current, total);
+                for (int i = 0; i < files; i++) {
+                    callback.stageCompleted(stage, 0L);
+                }
+            }
+        }
+    }
 }
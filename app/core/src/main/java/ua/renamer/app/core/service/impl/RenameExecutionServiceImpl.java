@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import ua.renamer.app.api.model.PreparedFileModel;
 import ua.renamer.app.api.model.RenameResult;
 import ua.renamer.app.api.model.RenameStatus;
+import ua.renamer.app.api.service.CancellationToken;
 import ua.renamer.app.core.service.RenameExecutionService;
 import ua.renamer.app.core.service.validator.impl.NameValidator;
 
@@ -14,9 +15,17 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Implementation of RenameExecutionService that performs physical file renames.
+ *
+ * <p>Batch execution lists each parent directory once and resolves disk conflicts against that
+ * {@link DirectoryNameIndex} in memory; single-file execution probes the disk directly.
  */
 @Slf4j
 @RequiredArgsConstructor(onConstructor_ = {@Inject})
@@ -28,6 +37,33 @@ public class RenameExecutionServiceImpl implements RenameExecutionService {
 
     @Override
     public RenameResult execute(PreparedFileModel preparedFile) {
+        return execute(preparedFile, DirectoryNameIndex.probing());
+    }
+
+    @Override
+    public List<RenameResult> executeBatch(List<PreparedFileModel> batch, CancellationToken cancellation,
+                                           Consumer<RenameResult> onResult) {
+        Map<Path, DirectoryNameIndex> indexes = new HashMap<>();
+        List<RenameResult> results = new ArrayList<>(batch.size());
+        for (PreparedFileModel preparedFile : batch) {
+            if (cancellation.isCancellationRequested()) {
+                RenameResult result = RenameExecutionService.cancelled(preparedFile);
+                onResult.accept(result);
+                results.add(result);
+                continue;
+            }
+            Path parent = preparedFile.getOldPath().getParent();
+            DirectoryNameIndex index = parent == null
+                    ? DirectoryNameIndex.probing()
+                    : indexes.computeIfAbsent(parent, DirectoryNameIndex::list);
+            RenameResult result = execute(preparedFile, index);
+            onResult.accept(result);
+            results.add(result);
+        }
+        return results;
+    }
+
+    private RenameResult execute(PreparedFileModel preparedFile, DirectoryNameIndex index) {
         // Skip if already has error from previous phases
         if (preparedFile.isHasError()) {
             log.debug("Skipping file with error: {}", preparedFile.getOldFullName());
@@ -77,7 +113,7 @@ public class RenameExecutionServiceImpl implements RenameExecutionService {
             log.debug("Renaming: {} -> {}", oldPath.getFileName(), newPath.getFileName());
 
             // Check if source file exists
-            if (!Files.exists(oldPath)) {
+            if (!index.contains(oldPath)) {
                 return RenameResult.builder()
                         .withPreparedFile(preparedFile)
                         .withStatus(RenameStatus.ERROR_EXECUTION)
@@ -90,7 +126,7 @@ public class RenameExecutionServiceImpl implements RenameExecutionService {
 
             // Resolve disk conflict: retry with suffix if target already exists
             if (!isCaseChange) {
-                Path resolvedPath = resolveConflictWithDisk(newPath);
+                Path resolvedPath = resolveConflictWithDisk(newPath, index);
                 if (resolvedPath == null) {
                     return RenameResult.builder()
                             .withPreparedFile(preparedFile)
@@ -119,6 +155,7 @@ public class RenameExecutionServiceImpl implements RenameExecutionService {
                 Files.move(oldPath, newPath);
             }
 
+            index.renamed(oldPath, newPath);
             log.info("Successfully renamed: {} -> {}",
                     oldPath.getFileName(), newPath.getFileName());
 
@@ -155,10 +192,11 @@ public class RenameExecutionServiceImpl implements RenameExecutionService {
      * numbered suffixes: {@code name (001).ext}, {@code name (002).ext}, …
      *
      * @param targetPath the originally desired target path
+     * @param index      names currently present in the target directory
      * @return a conflict-free path, or {@code null} if all 999 attempts are taken
      */
-    private Path resolveConflictWithDisk(Path targetPath) {
-        if (!Files.exists(targetPath)) {
+    private Path resolveConflictWithDisk(Path targetPath, DirectoryNameIndex index) {
+        if (!index.contains(targetPath)) {
             return targetPath;
         }
 
@@ -172,11 +210,15 @@ public class RenameExecutionServiceImpl implements RenameExecutionService {
         String ext = (dotIndex > 0) ? fullName.substring(dotIndex) : "";
         Path parent = targetPath.getParent();
         int digits = String.valueOf(MAX_SUFFIX_ATTEMPTS).length(); // 3
+        StringBuilder candidateName = new StringBuilder(baseName.length() + digits + 3 + ext.length());
 
         for (int i = 1; i <= MAX_SUFFIX_ATTEMPTS; i++) {
-            String suffix = String.format(" (%0" + digits + "d)", i);
-            Path candidate = parent.resolve(baseName + suffix + ext);
-            if (!Files.exists(candidate)) {
+            candidateName.setLength(0);
+            candidateName.append(baseName).append(" (");
+            String number = Integer.toString(i);
+            candidateName.repeat('0', digits - number.length()).append(number).append(')').append(ext);
+            Path candidate = parent.resolve(candidateName.toString());
+            if (!index.contains(candidate)) {
                 return candidate;
             }
         }
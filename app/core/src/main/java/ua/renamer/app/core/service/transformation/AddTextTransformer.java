@@ -17,6 +17,9 @@ import java.util.Map;
 @Slf4j
 public class AddTextTransformer implements FileTransformationService<AddTextConfig> {
 
+    private final BatchTransformationMetadata<AddTextConfig> batchMetadata =
+            new BatchTransformationMetadata<>(AddTextTransformer::buildMetadata);
+
     @Override
     public PreparedFileModel transform(FileModel input, AddTextConfig config) {
         if (config == null) {
@@ -38,7 +41,7 @@ public class AddTextTransformer implements FileTransformationService<AddTextConf
                     .withNewExtension(input.getExtension())
                     .withHasError(false)
                     .withErrorMessage(null)
-                    .withTransformationMeta(buildMetadata(config))
+                    .withTransformationMeta(batchMetadata.forConfig(config))
                     .build();
 
         } catch (Exception e) {
@@ -47,7 +50,7 @@ public class AddTextTransformer implements FileTransformationService<AddTextConf
         }
     }
 
-    private TransformationMetadata buildMetadata(AddTextConfig config) {
+    private static TransformationMetadata buildMetadata(AddTextConfig config) {
         return TransformationMetadata.builder()
                 .withMode(TransformationMode.ADD_TEXT)
                 .withAppliedAt(LocalDateTime.now())
@@ -0,0 +1,46 @@
+package ua.renamer.app.core.service.transformation;
+
+import ua.renamer.app.api.model.TransformationMetadata;
+
+import java.util.function.Function;
+
+/**
+ * Shares one {@link TransformationMetadata} across all files transformed with the same config instance.
+ *
+ * <p>The pipeline passes one config object for a whole run, so the metadata of a run is built once,
+ * when its first file is transformed, instead of once per file. Its {@code appliedAt} is therefore the
+ * time the run started transforming. Configs are immutable and compared by identity; a different config
+ * instance builds new metadata.
+ *
+ * <p>Thread-safe. Two runs alternating on one transformer only rebuild the metadata more often.
+ *
+ * @param <C> the configuration type
+ */
+final class BatchTransformationMetadata<C> {
+
+    private final Function<C, TransformationMetadata> factory;
+    private volatile Entry<C> last;
+
+    /**
+     * @param factory builds the metadata of one config
+     */
+    BatchTransformationMetadata(Function<C, TransformationMetadata> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * @param config the config the file is transformed with
+     * @return the metadata shared by every file transformed with {@code config}
+     */
+    TransformationMetadata forConfig(C config) {
+        Entry<C> entry = last;
+        if (entry == null || entry.config() != config) {
+            entry = new Entry<>(config, factory.apply(config));
+            last = entry;
+        }
+        return entry.metadata();
+    }
+
+    private record Entry<C>(C config, TransformationMetadata metadata) {
+    }
+}
@@ -19,6 +19,9 @@ import java.util.Map;
 @Slf4j
 public class CaseChangeTransformer implements FileTransformationService<CaseChangeConfig> {
 
+    private final BatchTransformationMetadata<CaseChangeConfig> batchMetadata =
+            new BatchTransformationMetadata<>(CaseChangeTransformer::buildMetadata);
+
     @Override
     public PreparedFileModel transform(FileModel input, CaseChangeConfig config) {
         if (config == null) {
@@ -41,7 +44,7 @@ public class CaseChangeTransformer implements FileTransformationService<CaseChan
                     .withNewExtension(input.getExtension())
                     .withHasError(false)
                     .withErrorMessage(null)
-                    .withTransformationMeta(buildMetadata(config))
+                    .withTransformationMeta(batchMetadata.forConfig(config))
                     .build();
 
         } catch (Exception e) {
@@ -50,7 +53,7 @@ public class CaseChangeTransformer implements FileTransformationService<CaseChan
         }
     }
 
-    private TransformationMetadata buildMetadata(CaseChangeConfig config) {
+    private static TransformationMetadata buildMetadata(CaseChangeConfig config) {
         return TransformationMetadata.builder()
                 .withMode(TransformationMode.CHANGE_CASE)
                 .withAppliedAt(LocalDateTime.now())
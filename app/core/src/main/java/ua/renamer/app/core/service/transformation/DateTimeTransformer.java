@@ -43,6 +43,8 @@ public class DateTimeTransformer implements FileTransformationService<DateTimeCo
     );
 
     private final DateTimeUtils dateTimeConverter;
+    private final BatchTransformationMetadata<DateTimeConfig> batchMetadata =
+            new BatchTransformationMetadata<>(DateTimeTransformer::buildMetadata);
 
     @Override
     public PreparedFileModel transform(FileModel input, DateTimeConfig config) {
@@ -105,7 +107,7 @@ public class DateTimeTransformer implements FileTransformationService<DateTimeCo
                     .withNewExtension(newExtension)
                     .withHasError(false)
                     .withErrorMessage(null)
-                    .withTransformationMeta(buildMetadata(config))
+                    .withTransformationMeta(batchMetadata.forConfig(config))
                     .build();
 
         } catch (Exception e) {
@@ -153,7 +155,7 @@ public class DateTimeTransformer implements FileTransformationService<DateTimeCo
         return AM_PM_FORMATS.contains(timeFormat);
     }
 
-    private TransformationMetadata buildMetadata(DateTimeConfig config) {
+    private static TransformationMetadata buildMetadata(DateTimeConfig config) {
         return TransformationMetadata.builder()
                 .withMode(TransformationMode.ADD_DATETIME)
                 .withAppliedAt(LocalDateTime.now())
@@ -17,6 +17,9 @@ import java.util.Map;
 @Slf4j
 public class ExtensionChangeTransformer implements FileTransformationService<ExtensionChangeConfig> {
 
+    private final BatchTransformationMetadata<ExtensionChangeConfig> batchMetadata =
+            new BatchTransformationMetadata<>(ExtensionChangeTransformer::buildMetadata);
+
     @Override
     public PreparedFileModel transform(FileModel input, ExtensionChangeConfig config) {
         if (config == null) {
@@ -48,7 +51,7 @@ public class ExtensionChangeTransformer implements FileTransformationService<Ext
                     .withNewExtension(newExtension)
                     .withHasError(false)
                     .withErrorMessage(null)
-                    .withTransformationMeta(buildMetadata(config))
+                    .withTransformationMeta(batchMetadata.forConfig(config))
                     .build();
 
         } catch (Exception e) {
@@ -57,7 +60,7 @@ public class ExtensionChangeTransformer implements FileTransformationService<Ext
         }
     }
 
-    private TransformationMetadata buildMetadata(ExtensionChangeConfig config) {
+    private static TransformationMetadata buildMetadata(ExtensionChangeConfig config) {
         return TransformationMetadata.builder()
                 .withMode(TransformationMode.CHANGE_EXTENSION)
                 .withAppliedAt(LocalDateTime.now())
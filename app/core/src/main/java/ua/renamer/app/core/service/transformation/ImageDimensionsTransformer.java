@@ -20,6 +20,9 @@ import java.util.Map;
 @Slf4j
 public class ImageDimensionsTransformer implements FileTransformationService<ImageDimensionsConfig> {
 
+    private final BatchTransformationMetadata<ImageDimensionsConfig> batchMetadata =
+            new BatchTransformationMetadata<>(ImageDimensionsTransformer::buildMetadata);
+
     @Override
     public PreparedFileModel transform(FileModel input, ImageDimensionsConfig config) {
         if (config == null) {
@@ -81,7 +84,7 @@ public class ImageDimensionsTransformer implements FileTransformationService<Ima
                     .withNewExtension(input.getExtension())
                     .withHasError(false)
                     .withErrorMessage(null)
-                    .withTransformationMeta(buildMetadata(config))
+                    .withTransformationMeta(batchMetadata.forConfig(config))
                     .build();
 
         } catch (Exception e) {
@@ -115,7 +118,7 @@ public class ImageDimensionsTransformer implements FileTransformationService<Ima
         return sb.toString();
     }
 
-    private TransformationMetadata buildMetadata(ImageDimensionsConfig config) {
+    private static TransformationMetadata buildMetadata(ImageDimensionsConfig config) {
         return TransformationMetadata.builder()
                 .withMode(TransformationMode.ADD_DIMENSIONS)
                 .withAppliedAt(LocalDateTime.now())
@@ -22,6 +22,9 @@ import java.util.Map;
 @Slf4j
 public class ParentFolderTransformer implements FileTransformationService<ParentFolderConfig> {
 
+    private final BatchTransformationMetadata<ParentFolderConfig> batchMetadata =
+            new BatchTransformationMetadata<>(ParentFolderTransformer::buildMetadata);
+
     @Override
     public PreparedFileModel transform(FileModel input, ParentFolderConfig config) {
         if (config == null) {
@@ -54,7 +57,7 @@ public class ParentFolderTransformer implements FileTransformationService<Parent
                     .withNewExtension(input.getExtension())
                     .withHasError(false)
                     .withErrorMessage(null)
-                    .withTransformationMeta(buildMetadata(config))
+                    .withTransformationMeta(batchMetadata.forConfig(config))
                     .build();
 
         } catch (Exception e) {
@@ -79,7 +82,7 @@ public class ParentFolderTransformer implements FileTransformationService<Parent
         return parentNames;
     }
 
-    private TransformationMetadata buildMetadata(ParentFolderConfig config) {
+    private static TransformationMetadata buildMetadata(ParentFolderConfig config) {
         return TransformationMetadata.builder()
                 .withMode(TransformationMode.ADD_FOLDER_NAME)
                 .withAppliedAt(LocalDateTime.now())
@@ -17,6 +17,9 @@ import java.util.Map;
 @Slf4j
 public class RemoveTextTransformer implements FileTransformationService<RemoveTextConfig> {
 
+    private final BatchTransformationMetadata<RemoveTextConfig> batchMetadata =
+            new BatchTransformationMetadata<>(RemoveTextTransformer::buildMetadata);
+
     @Override
     public PreparedFileModel transform(FileModel input, RemoveTextConfig config) {
         if (config == null) {
@@ -49,7 +52,7 @@ public class RemoveTextTransformer implements FileTransformationService<RemoveTe
                     .withNewExtension(input.getExtension())
                     .withHasError(false)
                     .withErrorMessage(null)
-                    .withTransformationMeta(buildMetadata(config))
+                    .withTransformationMeta(batchMetadata.forConfig(config))
                     .build();
 
         } catch (Exception e) {
@@ -58,7 +61,7 @@ public class RemoveTextTransformer implements FileTransformationService<RemoveTe
         }
     }
 
-    private TransformationMetadata buildMetadata(RemoveTextConfig config) {
+    private static TransformationMetadata buildMetadata(RemoveTextConfig config) {
         return TransformationMetadata.builder()
                 .withMode(TransformationMode.REMOVE_TEXT)
                 .withAppliedAt(LocalDateTime.now())
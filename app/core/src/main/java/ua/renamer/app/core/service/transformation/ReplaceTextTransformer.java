@@ -17,6 +17,9 @@ import java.util.Map;
 @Slf4j
 public class ReplaceTextTransformer implements FileTransformationService<ReplaceTextConfig> {
 
+    private final BatchTransformationMetadata<ReplaceTextConfig> batchMetadata =
+            new BatchTransformationMetadata<>(ReplaceTextTransformer::buildMetadata);
+
     @Override
     public PreparedFileModel transform(FileModel input, ReplaceTextConfig config) {
         if (config == null) {
@@ -55,7 +58,7 @@ public class ReplaceTextTransformer implements FileTransformationService<Replace
                     .withNewExtension(input.getExtension())
                     .withHasError(false)
                     .withErrorMessage(null)
-                    .withTransformationMeta(buildMetadata(config))
+                    .withTransformationMeta(batchMetadata.forConfig(config))
                     .build();
 
         } catch (Exception e) {
@@ -64,7 +67,7 @@ public class ReplaceTextTransformer implements FileTransformationService<Replace
         }
     }
 
-    private TransformationMetadata buildMetadata(ReplaceTextConfig config) {
+    private static TransformationMetadata buildMetadata(ReplaceTextConfig config) {
         return TransformationMetadata.builder()
                 .withMode(TransformationMode.REPLACE_TEXT)
                 .withAppliedAt(LocalDateTime.now())
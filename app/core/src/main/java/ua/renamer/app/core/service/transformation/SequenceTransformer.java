@@ -1,6 +1,8 @@
 package ua.renamer.app.core.service.transformation;
 
 import lombok.extern.slf4j.Slf4j;
+import ua.renamer.app.api.enums.ContentDuplicatePolicy;
+import ua.renamer.app.api.enums.SortSource;
 import ua.renamer.app.api.model.FileModel;
 import ua.renamer.app.api.model.PreparedFileModel;
 import ua.renamer.app.api.model.TransformationMetadata;
@@ -9,25 +11,47 @@ import ua.renamer.app.api.model.config.SequenceConfig;
 import ua.renamer.app.api.model.meta.FileMeta;
 import ua.renamer.app.api.model.meta.category.ImageMeta;
 import ua.renamer.app.core.service.FileTransformationService;
+import ua.renamer.app.utils.text.TextUtils;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Optional;
+import java.util.stream.IntStream;
 
 /**
  * Transformer that adds sequence numbers to filenames.
- * This transformer REQUIRES sequential execution to preserve counter order.
+ * This transformer REQUIRES the whole batch at once to preserve counter order.
+ *
+ * <p>Numbers are assigned by index after sorting, so batches of {@value #PARALLEL_THRESHOLD} or more files
+ * use the common fork/join pool: per-folder counting sorts and numbers the folders in parallel, flat counting
+ * sorts with {@link Arrays#parallelSort} and builds the results in parallel. Results are the same as sequential.
+ * Sort keys are read once per file into arrays, so comparisons never walk metadata.
+ *
+ * <p>Unless the content duplicate policy is {@link ContentDuplicatePolicy#IGNORE}, a file whose
+ * {@link FileModel#getContentHash() content hash} matches an earlier file in sort order is a duplicate:
+ * FLAG numbers it and records the original, SKIP leaves its name unchanged without consuming a number.
  */
 @Slf4j
 public class SequenceTransformer implements FileTransformationService<SequenceConfig> {
 
+    /**
+     * Minimum number of valid files for which sorting and numbering run in parallel.
+     */
+    static final int PARALLEL_THRESHOLD = 10_000;
+
+    private final BatchTransformationMetadata<SequenceConfig> batchMetadata =
+            new BatchTransformationMetadata<>(SequenceTransformer::buildMetadata);
+
     @Override
     public boolean requiresSequentialExecution() {
-        return true;  // MUST be sequential to preserve counter order
+        return true;  // Counters span the whole batch, so it must be numbered in one transformBatch() call
     }
 
     @Override
@@ -56,8 +80,8 @@ public class SequenceTransformer implements FileTransformationService<SequenceCo
                 }
             }
 
-            // Step 2: Apply sequence numbers, either per-folder or globally
-            List<PreparedFileModel> sequencedResults = new ArrayList<>();
+            // Step 2: Split into counter groups: one per folder, or one for the whole set
+            List<List<FileModel>> groups;
             if (config.isPerFolderCounting()) {
                 // Group by parent directory, preserving the order in which folders first appear
                 Map<String, List<FileModel>> grouped = new LinkedHashMap<>();
@@ -65,25 +89,29 @@ public class SequenceTransformer implements FileTransformationService<SequenceCo
                     String parent = fm.getFile().getParent() != null ? fm.getFile().getParent() : "";
                     grouped.computeIfAbsent(parent, k -> new ArrayList<>()).add(fm);
                 }
-                // Apply an independent counter to each folder group
-                for (List<FileModel> group : grouped.values()) {
-                    List<FileModel> groupSorted = sortBySource(group, config);
-                    AtomicInteger counter = new AtomicInteger(config.getStartNumber());
-                    groupSorted.stream()
-                            .map(fm -> applySequence(fm, counter, config))
-                            .forEach(sequencedResults::add);
-                }
+                groups = new ArrayList<>(grouped.values());
             } else {
-                // Flat counting: one global counter across all files
-                List<FileModel> sorted = sortBySource(validFiles, config);
-                AtomicInteger counter = new AtomicInteger(config.getStartNumber());
-                sorted.stream()
-                        .map(fm -> applySequence(fm, counter, config))
-                        .forEach(sequencedResults::add);
+                groups = List.of(validFiles);
             }
 
-            // Step 3: Combine error results and sequenced results
-            results.addAll(sequencedResults);
+            // Step 3: Sort each group; several groups are sorted in parallel, a single large one with a parallel sort
+            boolean parallel = validFiles.size() >= PARALLEL_THRESHOLD;
+            boolean parallelGroups = parallel && groups.size() > 1;
+            boolean parallelWithinGroup = parallel && !parallelGroups;
+            List<FileModel[]> sortedGroups = (parallelGroups ? groups.parallelStream() : groups.stream())
+                    .map(group -> sortBySource(group, config, parallelWithinGroup))
+                    .toList();
+
+            // Step 4: Content duplicates are detected across folders: first file in sort order by content hash
+            List<String[]> duplicatesOf = findDuplicates(sortedGroups, config);
+
+            // Step 5: Number each group with an independent counter
+            IntStream groupIndices = IntStream.range(0, sortedGroups.size());
+            (parallelGroups ? groupIndices.parallel() : groupIndices)
+                    .mapToObj(g -> numberGroup(sortedGroups.get(g), duplicatesOf == null ? null : duplicatesOf.get(g),
+                            config, parallelWithinGroup))
+                    .toList()
+                    .forEach(results::addAll);
             return results;
 
         } catch (Exception e) {
@@ -94,17 +122,56 @@ public class SequenceTransformer implements FileTransformationService<SequenceCo
         }
     }
 
-    private PreparedFileModel applySequence(FileModel input, AtomicInteger counter, SequenceConfig config) {
+    /**
+     * Number one sorted counter group. Numbers are assigned by index; under
+     * {@link ContentDuplicatePolicy#SKIP} duplicates do not consume a number.
+     *
+     * @param duplicatesOf the original's path per file, or {@code null} when duplicates are ignored
+     */
+    private List<PreparedFileModel> numberGroup(FileModel[] sorted, String[] duplicatesOf, SequenceConfig config,
+                                                boolean parallel) {
+        int[] numbers = new int[sorted.length];
+        int next = config.getStartNumber();
+        for (int i = 0; i < sorted.length; i++) {
+            if (isSkipped(duplicatesOf, i, config)) {
+                continue;
+            }
+            numbers[i] = next;
+            next += config.getStepValue();
+        }
+        IntStream indices = IntStream.range(0, sorted.length);
+        return (parallel ? indices.parallel() : indices)
+                .mapToObj(i -> applySequence(sorted[i], numbers[i], duplicatesOf == null ? null : duplicatesOf[i], config))
+                .toList();
+    }
+
+    private static boolean isSkipped(String[] duplicatesOf, int index, SequenceConfig config) {
+        return duplicatesOf != null && duplicatesOf[index] != null
+                && config.getContentDuplicates() == ContentDuplicatePolicy.SKIP;
+    }
+
+    private PreparedFileModel applySequence(FileModel input, int number, String duplicateOf, SequenceConfig config) {
         try {
-            int num = counter.getAndAdd(config.getStepValue());
-            String newName = formatSequenceNumber(num, config.getPadding());
+            if (duplicateOf != null && config.getContentDuplicates() == ContentDuplicatePolicy.SKIP) {
+                return PreparedFileModel.builder()
+                        .withOriginalFile(input)
+                        .withNewName(input.getName())
+                        .withNewExtension(input.getExtension())
+                        .withHasError(false)
+                        .withErrorMessage(null)
+                        .withTransformationMeta(batchMetadata.forConfig(config))
+                        .withContentDuplicateOf(duplicateOf)
+                        .build();
+            }
+            String newName = formatSequenceNumber(number, config.getPadding());
             return PreparedFileModel.builder()
                     .withOriginalFile(input)
                     .withNewName(newName)
                     .withNewExtension(input.getExtension())
                     .withHasError(false)
                     .withErrorMessage(null)
-                    .withTransformationMeta(buildMetadata(config))
+                    .withTransformationMeta(batchMetadata.forConfig(config))
+                    .withContentDuplicateOf(duplicateOf)
                     .build();
         } catch (Exception e) {
             log.error("Failed to apply sequence to file: {}", input.getName(), e);
@@ -112,60 +179,161 @@ public class SequenceTransformer implements FileTransformationService<SequenceCo
         }
     }
 
-    private List<FileModel> sortBySource(List<FileModel> models, SequenceConfig config) {
-        List<FileModel> sorted = new ArrayList<>(models);
-
-        switch (config.getSortSource()) {
-            case FILE_NAME -> sorted.sort(Comparator.comparing(FileModel::getName)
-                    .thenComparing(FileModel::getExtension)
-                    .thenComparing(FileModel::getAbsolutePath));
-            case FILE_PATH -> sorted.sort(Comparator.comparing(FileModel::getAbsolutePath));
-            case FILE_SIZE -> sorted.sort(Comparator.comparing(FileModel::getFileSize)
-                    .thenComparing(FileModel::getName)
-                    .thenComparing(FileModel::getAbsolutePath));
-            case FILE_CREATION_DATETIME -> sorted.sort(Comparator.<FileModel, LocalDateTime>comparing(
-                    m -> m.getCreationDate().orElse(LocalDateTime.MIN))
-                    .thenComparing(FileModel::getName)
-                    .thenComparing(FileModel::getAbsolutePath));
-            case FILE_MODIFICATION_DATETIME -> sorted.sort(Comparator.<FileModel, LocalDateTime>comparing(
-                    m -> m.getModificationDate().orElse(LocalDateTime.MIN))
-                    .thenComparing(FileModel::getName)
-                    .thenComparing(FileModel::getAbsolutePath));
-            case FILE_CONTENT_CREATION_DATETIME -> sorted.sort(Comparator.<FileModel, LocalDateTime>comparing(
-                    m -> m.getMetadata()
-                    .flatMap(FileMeta::getImageMeta)
-                    .flatMap(ImageMeta::getContentCreationDate)
-                    .orElse(LocalDateTime.MIN))
-                    .thenComparing(FileModel::getName)
-                    .thenComparing(FileModel::getAbsolutePath));
-            case IMAGE_WIDTH -> sorted.sort(Comparator.<FileModel, Integer>comparing(
-                    m -> m.getMetadata()
-                    .flatMap(FileMeta::getImageMeta)
-                    .flatMap(ImageMeta::getWidth)
-                    .orElse(0))
-                    .thenComparing(FileModel::getName)
-                    .thenComparing(FileModel::getAbsolutePath));
-            case IMAGE_HEIGHT -> sorted.sort(Comparator.<FileModel, Integer>comparing(
-                    m -> m.getMetadata()
-                    .flatMap(FileMeta::getImageMeta)
-                    .flatMap(ImageMeta::getHeight)
-                    .orElse(0))
-                    .thenComparing(FileModel::getName)
-                    .thenComparing(FileModel::getAbsolutePath));
+    /**
+     * For each file of each group, the absolute path of the earlier file with the same content, in group
+     * order and then sort order; {@code null} entries for originals and files without a hash.
+     *
+     * @return one array per group, or {@code null} when the policy ignores content duplicates
+     */
+    private static List<String[]> findDuplicates(List<FileModel[]> sortedGroups, SequenceConfig config) {
+        if (config.getContentDuplicates() == ContentDuplicatePolicy.IGNORE) {
+            return null;
+        }
+        Map<String, FileModel> originalsByHash = new HashMap<>();
+        List<String[]> duplicates = new ArrayList<>(sortedGroups.size());
+        for (FileModel[] group : sortedGroups) {
+            String[] duplicateOf = new String[group.length];
+            for (int i = 0; i < group.length; i++) {
+                FileModel input = group[i];
+                duplicateOf[i] = input.getContentHash()
+                        .map(hash -> originalsByHash.putIfAbsent(hash, input))
+                        .map(FileModel::getAbsolutePath)
+                        .orElse(null);
+            }
+            duplicates.add(duplicateOf);
         }
+        return duplicates;
+    }
 
+    private FileModel[] sortBySource(List<FileModel> models, SequenceConfig config, boolean parallel) {
+        // Decorate: read every key once, then the sort compares only the extracted arrays
+        SortKeys keys = SortKeys.extract(models, config.getSortSource(), parallel);
+        Integer[] order = new Integer[models.size()];
+        Arrays.setAll(order, Integer::valueOf);
+        // Both sorts are stable, so the result does not depend on the parallelism
+        if (parallel) {
+            Arrays.parallelSort(order, keys);
+        } else {
+            Arrays.sort(order, keys);
+        }
+        FileModel[] sorted = new FileModel[order.length];
+        Arrays.setAll(sorted, i -> models.get(order[i]));
         return sorted;
     }
 
-    private String formatSequenceNumber(int number, int padding) {
-        if (padding <= 0) {
-            return String.valueOf(number);  // No padding: raw number
+    /**
+     * Sort keys of one group, extracted once per file into arrays indexed like the group, and the comparator
+     * of those indices. Every source but {@link SortSource#FILE_PATH} breaks ties by name, names break ties by
+     * extension, and the absolute path decides last.
+     */
+    private static final class SortKeys implements Comparator<Integer> {
+
+        private final long[] primary;
+        private final int[] nanos;
+        private final String[] names;
+        private final String[] extensions;
+        private final String[] paths;
+        private final boolean natural;
+
+        private SortKeys(SortSource source, int size) {
+            boolean byName = source == SortSource.FILE_NAME || source == SortSource.FILE_NAME_NATURAL;
+            boolean byDate = source == SortSource.FILE_CREATION_DATETIME
+                    || source == SortSource.FILE_MODIFICATION_DATETIME
+                    || source == SortSource.FILE_CONTENT_CREATION_DATETIME;
+            this.primary = byName || source == SortSource.FILE_PATH ? null : new long[size];
+            this.nanos = byDate ? new int[size] : null;
+            this.names = source == SortSource.FILE_PATH ? null : new String[size];
+            this.extensions = byName ? new String[size] : null;
+            this.paths = new String[size];
+            this.natural = source == SortSource.FILE_NAME_NATURAL;
+        }
+
+        static SortKeys extract(List<FileModel> models, SortSource source, boolean parallel) {
+            SortKeys keys = new SortKeys(source, models.size());
+            IntStream indices = IntStream.range(0, models.size());
+            // Reading a key may load lazy metadata, so large groups read their keys in parallel
+            (parallel ? indices.parallel() : indices).forEach(i -> keys.read(i, models.get(i), source));
+            return keys;
+        }
+
+        private void read(int index, FileModel model, SortSource source) {
+            paths[index] = model.getAbsolutePath();
+            if (names != null) {
+                names[index] = model.getName();
+            }
+            if (extensions != null) {
+                extensions[index] = model.getExtension();
+            }
+            switch (source) {
+                case FILE_SIZE -> primary[index] = model.getFileSize();
+                case FILE_CREATION_DATETIME -> readDate(index, model.getCreationDate());
+                case FILE_MODIFICATION_DATETIME -> readDate(index, model.getModificationDate());
+                case FILE_CONTENT_CREATION_DATETIME -> readDate(index, model.getMetadata()
+                        .flatMap(FileMeta::getImageMeta)
+                        .flatMap(ImageMeta::getContentCreationDate));
+                case IMAGE_WIDTH -> primary[index] = model.getMetadata()
+                        .flatMap(FileMeta::getImageMeta)
+                        .flatMap(ImageMeta::getWidth)
+                        .orElse(0);
+                case IMAGE_HEIGHT -> primary[index] = model.getMetadata()
+                        .flatMap(FileMeta::getImageMeta)
+                        .flatMap(ImageMeta::getHeight)
+                        .orElse(0);
+                case FILE_NAME, FILE_NAME_NATURAL, FILE_PATH -> {
+                    // Keyed by the strings read above
+                }
+            }
+        }
+
+        private void readDate(int index, Optional<LocalDateTime> date) {
+            // Seconds then nanos order like LocalDateTime; files without a date sort first
+            LocalDateTime value = date.orElse(LocalDateTime.MIN);
+            primary[index] = value.toEpochSecond(ZoneOffset.UTC);
+            nanos[index] = value.getNano();
+        }
+
+        @Override
+        public int compare(Integer left, Integer right) {
+            int a = left;
+            int b = right;
+            int result = primary == null ? 0 : Long.compare(primary[a], primary[b]);
+            if (result == 0 && nanos != null) {
+                result = Integer.compare(nanos[a], nanos[b]);
+            }
+            if (result == 0 && names != null) {
+                result = natural ? TextUtils.compareNatural(names[a], names[b]) : names[a].compareTo(names[b]);
+            }
+            if (result == 0 && extensions != null) {
+                result = extensions[a].compareTo(extensions[b]);
+            }
+            return result != 0 ? result : paths[a].compareTo(paths[b]);
+        }
+    }
+
+    /**
+     * Same result as {@code String.format("%0" + padding + "d", number)}: zeros go after the sign and
+     * {@code padding} counts the sign. Built in one presized buffer instead of parsing a format per file.
+     */
+    static String formatSequenceNumber(int number, int padding) {
+        long magnitude = Math.abs((long) number);
+        int digits = 1;
+        for (long rest = magnitude / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        int sign = number < 0 ? 1 : 0;
+        int zeros = padding - sign - digits;
+        if (zeros <= 0) {
+            return Integer.toString(number);  // No padding needed: raw number
+        }
+        StringBuilder builder = new StringBuilder(padding);
+        if (sign == 1) {
+            builder.append('-');
         }
-        String format = "%0" + padding + "d";
-        return String.format(format, number);
+        builder.repeat('0', zeros);
+        return builder.append(magnitude).toString();
     }
 
-    private TransformationMetadata buildMetadata(SequenceConfig config) {
+    private static TransformationMetadata buildMetadata(SequenceConfig config) {
         return TransformationMetadata.builder()
                 .withMode(TransformationMode.NUMBER_FILES)
                 .withAppliedAt(LocalDateTime.now())
@@ -174,7 +342,8 @@ public class SequenceTransformer implements FileTransformationService<SequenceCo
                         "stepValue", config.getStepValue(),
                         "padding", config.getPadding(),
                         "sortSource", config.getSortSource().name(),
-                        "perFolderCounting", config.isPerFolderCounting()
+                        "perFolderCounting", config.isPerFolderCounting(),
+                        "contentDuplicates", config.getContentDuplicates().name()
                 ))
                 .build();
     }
@@ -18,6 +18,9 @@ import java.util.Map;
 @Slf4j
 public class TruncateTransformer implements FileTransformationService<TruncateConfig> {
 
+    private final BatchTransformationMetadata<TruncateConfig> batchMetadata =
+            new BatchTransformationMetadata<>(TruncateTransformer::buildMetadata);
+
     @Override
     public PreparedFileModel transform(FileModel input, TruncateConfig config) {
         if (config == null) {
@@ -40,7 +43,7 @@ public class TruncateTransformer implements FileTransformationService<TruncateCo
                     .withNewExtension(input.getExtension())
                     .withHasError(false)
                     .withErrorMessage(null)
-                    .withTransformationMeta(buildMetadata(config))
+                    .withTransformationMeta(batchMetadata.forConfig(config))
                     .build();
 
         } catch (Exception e) {
@@ -69,7 +72,7 @@ public class TruncateTransformer implements FileTransformationService<TruncateCo
         };
     }
 
-    private TransformationMetadata buildMetadata(TruncateConfig config) {
+    private static TransformationMetadata buildMetadata(TruncateConfig config) {
         return TransformationMetadata.builder()
                 .withMode(TransformationMode.TRIM_NAME)
                 .withAppliedAt(LocalDateTime.now())
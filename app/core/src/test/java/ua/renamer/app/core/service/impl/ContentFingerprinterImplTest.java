@@ -0,0 +1,185 @@
+package ua.renamer.app.core.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ua.renamer.app.api.model.FileModel;
+import ua.renamer.app.core.service.ContentFingerprinter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for ContentFingerprinterImpl.
+ * Tests tiered duplicate detection on real files.
+ */
+class ContentFingerprinterImplTest {
+
+    private static final int LARGE_FILE_SIZE = 3 * ContentFingerprinterImpl.PARTIAL_CHUNK_SIZE;
+
+    @TempDir
+    Path tempDir;
+
+    private ContentFingerprinterImpl fingerprinter;
+
+    @BeforeEach
+    void setUp() {
+        fingerprinter = new ContentFingerprinterImpl(new ExtractionSchedulerImpl());
+    }
+
+    @Test
+    void finish_identicalFilesWithDifferentNames_shareHash() throws IOException {
+        FileModel first = model(write("a.txt", "same content"));
+        FileModel second = model(write("b.txt", "same content"));
+        FileModel other = model(write("c.txt", "something else"));
+
+        Map<String, String> hashes = fingerprint(first, second, other);
+
+        assertEquals(2, hashes.size());
+        assertEquals(hashes.get(first.getAbsolutePath()), hashes.get(second.getAbsolutePath()));
+    }
+
+    @Test
+    void finish_sameSizeDifferentContent_returnsNoHashes() throws IOException {
+        Map<String, String> hashes = fingerprint(
+                model(write("a.txt", "content-1")),
+                model(write("b.txt", "content-2")));
+
+        assertTrue(hashes.isEmpty());
+    }
+
+    @Test
+    void finish_uniqueSizes_returnsNoHashes() throws IOException {
+        Map<String, String> hashes = fingerprint(
+                model(write("a.txt", "short")),
+                model(write("b.txt", "a little longer")));
+
+        assertTrue(hashes.isEmpty());
+    }
+
+    @Test
+    void finish_largeFilesDifferingOnlyInTheMiddle_areNotDuplicates() throws IOException {
+        byte[] content = new byte[LARGE_FILE_SIZE];
+        Arrays.fill(content, (byte) 'x');
+        FileModel first = model(write("a.bin", content));
+        content[LARGE_FILE_SIZE / 2] = 'y';
+        FileModel second = model(write("b.bin", content));
+
+        Map<String, String> hashes = fingerprint(first, second);
+
+        assertTrue(hashes.isEmpty());
+    }
+
+    @Test
+    void finish_identicalLargeFiles_shareFullHash() throws IOException {
+        byte[] content = new byte[LARGE_FILE_SIZE];
+        Arrays.fill(content, (byte) 'x');
+        FileModel first = model(write("a.bin", content));
+        FileModel second = model(write("b.bin", content));
+
+        Map<String, String> hashes = fingerprint(first, second);
+
+        assertEquals(ContentFingerprinterImpl.digest(first.getFile().toPath(), LARGE_FILE_SIZE, true),
+                hashes.get(first.getAbsolutePath()));
+        assertEquals(hashes.get(first.getAbsolutePath()), hashes.get(second.getAbsolutePath()));
+    }
+
+    @Test
+    void finish_emptyFilesAndDirectories_areIgnored() throws IOException {
+        FileModel emptyFirst = model(write("a.txt", ""));
+        FileModel emptySecond = model(write("b.txt", ""));
+        Path dir = Files.createDirectory(tempDir.resolve("dir"));
+        FileModel directory = model(dir).toBuilder().withIsFile(false).build();
+
+        Map<String, String> hashes = fingerprint(emptyFirst, emptySecond, directory, null);
+
+        assertTrue(hashes.isEmpty());
+    }
+
+    @Test
+    void fingerprint_preservesOrderAndSetsHashOnlyOnDuplicates() throws IOException {
+        List<FileModel> models = List.of(
+                model(write("a.txt", "same content")),
+                model(write("b.txt", "unique")),
+                model(write("c.txt", "same content")));
+
+        List<FileModel> result;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            result = fingerprinter.fingerprint(models, executor);
+        }
+
+        assertEquals(models.stream().map(FileModel::getAbsolutePath).toList(),
+                result.stream().map(FileModel::getAbsolutePath).toList());
+        assertTrue(result.get(0).getContentHash().isPresent());
+        assertTrue(result.get(1).getContentHash().isEmpty());
+        assertEquals(result.get(0).getContentHash(), result.get(2).getContentHash());
+    }
+
+    @Test
+    void withContentHashes_emptyMap_returnsSameList() throws IOException {
+        List<FileModel> models = List.of(model(write("a.txt", "content")));
+
+        assertSame(models, ContentFingerprinter.withContentHashes(models, Map.of()));
+    }
+
+    @Test
+    void digest_smallFile_partialEqualsFull() throws IOException {
+        Path file = write("a.txt", "small content");
+        long size = Files.size(file);
+
+        assertEquals(ContentFingerprinterImpl.digest(file, size, true),
+                ContentFingerprinterImpl.digest(file, size, false));
+    }
+
+    @Test
+    void digest_largeFile_partialDiffersFromFull() throws IOException {
+        byte[] content = new byte[LARGE_FILE_SIZE];
+        Arrays.fill(content, (byte) 'x');
+        Path file = write("a.bin", content);
+
+        assertNotEquals(ContentFingerprinterImpl.digest(file, LARGE_FILE_SIZE, true),
+                ContentFingerprinterImpl.digest(file, LARGE_FILE_SIZE, false));
+    }
+
+    private Map<String, String> fingerprint(FileModel... models) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            ContentFingerprinter.Session session = fingerprinter.start(executor);
+            Arrays.asList(models).forEach(session::add);
+            return session.finish();
+        }
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(tempDir.resolve(name), content);
+    }
+
+    private Path write(String name, byte[] content) throws IOException {
+        return Files.write(tempDir.resolve(name), content);
+    }
+
+    private static FileModel model(Path path) throws IOException {
+        File file = path.toFile();
+        return FileModel.builder()
+                .withFile(file)
+                .withIsFile(file.isFile())
+                .withFileSize(file.isFile() ? Files.size(path) : 0L)
+                .withName(file.getName())
+                .withExtension("")
+                .withAbsolutePath(file.getAbsolutePath())
+                .withModificationDate(LocalDateTime.now())
+                .build();
+    }
+}
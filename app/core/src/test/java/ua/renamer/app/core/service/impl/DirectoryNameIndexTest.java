@@ -0,0 +1,74 @@
+package ua.renamer.app.core.service.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for DirectoryNameIndex.
+ * Tests listing-based lookups, rename tracking and the probing fallback.
+ */
+class DirectoryNameIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void list_existingEntries_areContained() throws IOException {
+        Files.createFile(tempDir.resolve("photo.jpg"));
+        Files.createDirectory(tempDir.resolve("album"));
+
+        DirectoryNameIndex index = DirectoryNameIndex.list(tempDir);
+
+        assertTrue(index.contains(tempDir.resolve("photo.jpg")));
+        assertTrue(index.contains(tempDir.resolve("album")));
+        assertFalse(index.contains(tempDir.resolve("other.jpg")));
+    }
+
+    @Test
+    void list_fileCreatedAfterListing_isNotSeen() throws IOException {
+        DirectoryNameIndex index = DirectoryNameIndex.list(tempDir);
+        Files.createFile(tempDir.resolve("late.jpg"));
+
+        assertFalse(index.contains(tempDir.resolve("late.jpg")));
+    }
+
+    @Test
+    void renamed_movesNameInIndex() throws IOException {
+        Files.createFile(tempDir.resolve("old.jpg"));
+        DirectoryNameIndex index = DirectoryNameIndex.list(tempDir);
+
+        index.renamed(tempDir.resolve("old.jpg"), tempDir.resolve("new.jpg"));
+
+        assertFalse(index.contains(tempDir.resolve("old.jpg")));
+        assertTrue(index.contains(tempDir.resolve("new.jpg")));
+    }
+
+    @Test
+    void list_missingDirectory_fallsBackToProbing() throws IOException {
+        Path missing = tempDir.resolve("missing");
+        DirectoryNameIndex index = DirectoryNameIndex.list(missing);
+        Files.createDirectory(missing);
+        Files.createFile(missing.resolve("photo.jpg"));
+
+        assertTrue(index.contains(missing.resolve("photo.jpg")));
+    }
+
+    @Test
+    @DisabledOnOs({OS.MAC, OS.WINDOWS})
+    void list_caseSensitiveFileSystem_distinguishesCase() throws IOException {
+        Files.createFile(tempDir.resolve("photo.jpg"));
+
+        DirectoryNameIndex index = DirectoryNameIndex.list(tempDir);
+
+        assertFalse(index.contains(tempDir.resolve("PHOTO.jpg")));
+    }
+}
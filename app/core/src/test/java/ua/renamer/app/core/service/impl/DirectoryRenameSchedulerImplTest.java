@@ -0,0 +1,197 @@
+package ua.renamer.app.core.service.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ua.renamer.app.api.settings.AppDefaults;
+import ua.renamer.app.core.service.DirectoryRenameScheduler;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for DirectoryRenameSchedulerImpl.
+ * Tests concurrency between sibling directories, child-before-parent ordering and the parallelism bound.
+ */
+class DirectoryRenameSchedulerImplTest {
+
+    private DirectoryRenameSchedulerImpl scheduler;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new DirectoryRenameSchedulerImpl();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void submit_returnsBatchResult() {
+        DirectoryRenameScheduler.Run run = scheduler.start(executor);
+
+        assertEquals("done", run.submit(Path.of("/photos"), () -> "done").join());
+    }
+
+    @Test
+    void getParallelism_byDefault_returnsAppDefault() {
+        assertEquals(AppDefaults.DEFAULT_RENAME_PARALLELISM, scheduler.getParallelism());
+    }
+
+    @Test
+    void submit_siblingDirectories_runConcurrently() {
+        DirectoryRenameScheduler.Run run = scheduler.start(executor);
+        // Both batches must be inside the barrier at the same time, otherwise it times out
+        CyclicBarrier barrier = new CyclicBarrier(2);
+
+        CompletableFuture<Boolean> first = run.submit(Path.of("/photos/a"), () -> await(barrier));
+        CompletableFuture<Boolean> second = run.submit(Path.of("/photos/b"), () -> await(barrier));
+
+        assertTrue(first.join());
+        assertTrue(second.join());
+    }
+
+    @Test
+    void submit_parentDirectory_startsAfterSlowChildFinished() {
+        DirectoryRenameScheduler.Run run = scheduler.start(executor);
+        AtomicBoolean childDone = new AtomicBoolean();
+
+        CompletableFuture<Void> child = run.submit(Path.of("/photos/2024"), () -> {
+            sleepQuietly(50);
+            childDone.set(true);
+            return null;
+        });
+        CompletableFuture<Boolean> parent = run.submit(Path.of("/photos"), childDone::get);
+
+        child.join();
+        assertTrue(parent.join(), "Parent batch must observe the finished child batch");
+    }
+
+    @Test
+    void submit_grandparentWithoutIntermediateBatch_waitsForGrandchild() {
+        DirectoryRenameScheduler.Run run = scheduler.start(executor);
+        AtomicBoolean grandchildDone = new AtomicBoolean();
+
+        run.submit(Path.of("/a/b/c"), () -> {
+            sleepQuietly(50);
+            grandchildDone.set(true);
+            return null;
+        });
+        CompletableFuture<Boolean> grandparent = run.submit(Path.of("/a"), grandchildDone::get);
+
+        assertTrue(grandparent.join());
+    }
+
+    @Test
+    void submit_unrelatedDirectory_doesNotWaitForOtherTree() {
+        DirectoryRenameScheduler.Run run = scheduler.start(executor);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> blocked = run.submit(Path.of("/photos/2024"), () -> {
+            awaitQuietly(release);
+            return null;
+        });
+        CompletableFuture<String> other = run.submit(Path.of("/music"), () -> "music");
+
+        assertEquals("music", other.join());
+        assertFalse(blocked.isDone());
+        release.countDown();
+        blocked.join();
+    }
+
+    @Test
+    void submit_childBatchFails_parentStillRuns() {
+        DirectoryRenameScheduler.Run run = scheduler.start(executor);
+
+        CompletableFuture<String> child = run.submit(Path.of("/photos/2024"), () -> {
+            throw new IllegalStateException("boom");
+        });
+        CompletableFuture<String> parent = run.submit(Path.of("/photos"), () -> "parent");
+
+        assertThrows(CompletionException.class, child::join);
+        assertEquals("parent", parent.join());
+    }
+
+    @Test
+    void submit_manyDirectories_neverExceedsParallelism() {
+        scheduler.setParallelism(2);
+        DirectoryRenameScheduler.Run run = scheduler.start(executor);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+
+        List<CompletableFuture<Integer>> futures = IntStream.range(0, 20)
+                .mapToObj(i -> run.submit(Path.of("/dir" + i), () -> {
+                    int now = active.incrementAndGet();
+                    maxActive.accumulateAndGet(now, Math::max);
+                    sleepQuietly(5);
+                    active.decrementAndGet();
+                    return i;
+                }))
+                .toList();
+        futures.forEach(CompletableFuture::join);
+
+        assertTrue(maxActive.get() <= 2, "At most 2 batches may run at once, saw " + maxActive.get());
+    }
+
+    @Test
+    void setParallelism_validValue_isApplied() {
+        scheduler.setParallelism(8);
+
+        assertEquals(8, scheduler.getParallelism());
+    }
+
+    @Test
+    void setParallelism_belowMinimum_throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduler.setParallelism(AppDefaults.MIN_RENAME_PARALLELISM - 1));
+    }
+
+    @Test
+    void setParallelism_aboveMaximum_throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduler.setParallelism(AppDefaults.MAX_RENAME_PARALLELISM + 1));
+    }
+
+    private static boolean await(CyclicBarrier barrier) {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
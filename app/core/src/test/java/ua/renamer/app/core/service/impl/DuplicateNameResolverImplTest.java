@@ -715,6 +715,85 @@ class DuplicateNameResolverImplTest {
         assertEquals(1, result.size());
     }
 
+    // ============================================================================
+    // K. Order Stability and Large Sets
+    // ============================================================================
+
+    @Test
+    void resolve_interleavedGroupsAndDirectories_keepsInputOrder() {
+        // Given
+        List<PreparedFileModel> models = List.of(
+                createPreparedFile("a", "txt", "file", "txt", "/dir1/a.txt"),
+                createPreparedFile("b", "txt", "doc", "txt", "/dir2/b.txt"),
+                createPreparedFile("c", "txt", "file", "txt", "/dir1/c.txt"),
+                createPreparedFile("d", "txt", "unique", "txt", "/dir1/d.txt"),
+                createPreparedFile("e", "txt", "doc", "txt", "/dir2/e.txt")
+        );
+
+        // When
+        List<PreparedFileModel> result = resolver.resolve(models);
+
+        // Then - every result sits at the position of its input
+        for (int i = 0; i < models.size(); i++) {
+            assertEquals(models.get(i).getOriginalFile().getAbsolutePath(),
+                    result.get(i).getOriginalFile().getAbsolutePath());
+        }
+        assertEquals(List.of("file", "doc", "file (1)", "unique", "doc (1)"),
+                result.stream().map(PreparedFileModel::getNewName).toList());
+    }
+
+    @Test
+    void resolve_zeroPaddedNumericName_usesItsLengthAsPadding() {
+        // Given
+        List<PreparedFileModel> models = List.of(
+                createPreparedFile("a", "txt", "007", "txt", "/test/a.txt"),
+                createPreparedFile("b", "txt", "007", "txt", "/test/b.txt")
+        );
+
+        // When
+        List<PreparedFileModel> result = resolver.resolve(models);
+
+        // Then
+        assertEquals("007 (001)", result.get(1).getNewName());
+    }
+
+    @Test
+    void resolve_largeSetAcrossDirectories_resolvesEachDirectoryAndKeepsOrder() {
+        // Given - enough files to resolve directories in parallel, every directory holding one collision group
+        int directories = 50;
+        int filesPerDirectory = 400;
+        List<PreparedFileModel> models = new ArrayList<>();
+        for (int i = 0; i < filesPerDirectory; i++) {
+            for (int dir = 0; dir < directories; dir++) {
+                String path = "/dir" + dir + "/f" + i + ".txt";
+                models.add(createPreparedFile("f" + i, "txt", "same", "txt", path));
+            }
+        }
+
+        // When
+        List<PreparedFileModel> result = resolver.resolve(models);
+
+        // Then
+        assertEquals(models.size(), result.size());
+        for (int i = 0; i < models.size(); i++) {
+            assertEquals(models.get(i).getOriginalFile().getAbsolutePath(),
+                    result.get(i).getOriginalFile().getAbsolutePath());
+        }
+        // The first file of each directory keeps the name; the last one is the 399th duplicate
+        assertEquals("same", result.get(0).getNewName());
+        assertEquals("same (001)", result.get(directories).getNewName());
+        assertEquals("same (399)", result.getLast().getNewName());
+        for (int dir = 0; dir < directories; dir++) {
+            String prefix = "/dir" + dir + "/";
+            long distinct = result.stream()
+                    .filter(m -> m.getOriginalFile().getAbsolutePath().startsWith(prefix))
+                    .map(PreparedFileModel::getNewFullName)
+                    .distinct()
+                    .count();
+            assertEquals(filesPerDirectory, distinct, "Names must be unique within " + prefix);
+        }
+    }
+
     // ============================================================================
     // Utility Methods
     // ============================================================================
@@ -0,0 +1,133 @@
+package ua.renamer.app.core.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ua.renamer.app.api.settings.AppDefaults;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for ExtractionSchedulerImpl.
+ * Tests per-device permit limits, reconfiguration and interruption handling.
+ */
+class ExtractionSchedulerImplTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ExtractionSchedulerImpl scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ExtractionSchedulerImpl();
+    }
+
+    @Test
+    void runOnDevice_returnsTaskResult() {
+        String result = scheduler.runOnDevice(tempDir.resolve("a.txt").toFile(), () -> "done");
+
+        assertEquals("done", result);
+    }
+
+    @Test
+    void getPermitsPerDevice_byDefault_returnsAppDefault() {
+        assertEquals(AppDefaults.DEFAULT_EXTRACTION_PERMITS_PER_DEVICE, scheduler.getPermitsPerDevice());
+    }
+
+    @Test
+    void runOnDevice_manyConcurrentReadsOnSameDevice_neverExceedsPermits() {
+        scheduler.setPermitsPerDevice(2);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<Integer>> futures = IntStream.range(0, 50)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> scheduler.runOnDevice(
+                            tempDir.resolve("file" + i + ".txt").toFile(), () -> {
+                                int now = active.incrementAndGet();
+                                maxActive.accumulateAndGet(now, Math::max);
+                                sleepQuietly();
+                                active.decrementAndGet();
+                                return i;
+                            }), executor))
+                    .toList();
+            futures.forEach(CompletableFuture::join);
+        }
+
+        assertTrue(maxActive.get() <= 2, "At most 2 reads may run at once, saw " + maxActive.get());
+    }
+
+    @Test
+    void runOnDevice_taskThrows_permitIsReleased() {
+        scheduler.setPermitsPerDevice(1);
+        File file = tempDir.resolve("a.txt").toFile();
+
+        assertThrows(IllegalStateException.class, () -> scheduler.runOnDevice(file, () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        // A leaked permit would block forever here
+        assertEquals("ok", scheduler.runOnDevice(file, () -> "ok"));
+    }
+
+    @Test
+    void runOnDevice_interruptedWhileWaiting_throwsCancellationAndKeepsInterruptFlag() {
+        scheduler.setPermitsPerDevice(1);
+        File file = tempDir.resolve("a.txt").toFile();
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(CancellationException.class, () -> scheduler.runOnDevice(file, () -> "never"));
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void runOnDevice_fileInMissingDirectory_stillRuns() {
+        File file = new File("/definitely/missing/dir/a.txt");
+
+        assertEquals("ok", scheduler.runOnDevice(file, () -> "ok"));
+    }
+
+    @Test
+    void setPermitsPerDevice_validValue_isApplied() {
+        scheduler.setPermitsPerDevice(8);
+
+        assertEquals(8, scheduler.getPermitsPerDevice());
+    }
+
+    @Test
+    void setPermitsPerDevice_belowMinimum_throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduler.setPermitsPerDevice(AppDefaults.MIN_EXTRACTION_PERMITS_PER_DEVICE - 1));
+    }
+
+    @Test
+    void setPermitsPerDevice_aboveMaximum_throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduler.setPermitsPerDevice(AppDefaults.MAX_EXTRACTION_PERMITS_PER_DEVICE + 1));
+    }
+
+    private static void sleepQuietly() {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
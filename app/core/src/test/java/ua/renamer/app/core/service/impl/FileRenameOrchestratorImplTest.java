@@ -8,14 +8,21 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import ua.renamer.app.api.enums.Category;
 import ua.renamer.app.api.enums.ItemPosition;
+import ua.renamer.app.api.enums.MetadataField;
+import ua.renamer.app.api.enums.SortSource;
 import ua.renamer.app.api.model.FileModel;
 import ua.renamer.app.api.model.PreparedFileModel;
 import ua.renamer.app.api.model.RenameResult;
 import ua.renamer.app.api.model.RenameStatus;
+import ua.renamer.app.api.model.RenameStep;
 import ua.renamer.app.api.model.TransformationMetadata;
 import ua.renamer.app.api.model.TransformationMode;
 import ua.renamer.app.api.model.config.AddTextConfig;
+import ua.renamer.app.api.model.config.ExtensionChangeConfig;
 import ua.renamer.app.api.model.config.SequenceConfig;
+import ua.renamer.app.api.model.meta.FileMeta;
+import ua.renamer.app.api.model.meta.category.ImageMeta;
+import ua.renamer.app.api.service.CancellationToken;
 import ua.renamer.app.api.service.ProgressCallback;
 import ua.renamer.app.core.mapper.ThreadAwareFileMapper;
 import ua.renamer.app.core.service.DuplicateNameResolver;
@@ -33,22 +40,34 @@ import ua.renamer.app.core.service.transformation.TruncateTransformer;
 
 import java.io.File;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -85,7 +104,8 @@ class FileRenameOrchestratorImplTest {
     void setUp() {
         fileMapper = mock(ThreadAwareFileMapper.class);
         duplicateResolver = mock(DuplicateNameResolver.class);
-        renameExecutor = mock(RenameExecutionService.class);
+        // executeBatch keeps its default implementation, so stubbing execute() drives batch renames too
+        renameExecutor = mock(RenameExecutionService.class, CALLS_REAL_METHODS);
 
         // Create mock transformers
         addTextTransformer = mock(AddTextTransformer.class);
@@ -103,6 +123,9 @@ class FileRenameOrchestratorImplTest {
                 fileMapper,
                 duplicateResolver,
                 renameExecutor,
+                new ExtractionSchedulerImpl(),
+                new DirectoryRenameSchedulerImpl(),
+                new ContentFingerprinterImpl(new ExtractionSchedulerImpl()),
                 addTextTransformer,
                 removeTextTransformer,
                 replaceTextTransformer,
@@ -201,8 +224,8 @@ class FileRenameOrchestratorImplTest {
                 .build();
 
         // Mock Phase 1: Metadata extraction
-        when(fileMapper.mapFrom(file1)).thenReturn(model1);
-        when(fileMapper.mapFrom(file2)).thenReturn(model2);
+        when(fileMapper.mapFrom(eq(file1), any())).thenReturn(model1);
+        when(fileMapper.mapFrom(eq(file2), any())).thenReturn(model2);
 
         // Mock Phase 2: Transformation
         when(addTextTransformer.transform(model1, config)).thenReturn(prepared1);
@@ -227,7 +250,7 @@ class FileRenameOrchestratorImplTest {
         assertEquals(RenameStatus.SUCCESS, results.get(1).getStatus());
 
         // Verify all phases executed
-        verify(fileMapper, times(2)).mapFrom(any());
+        verify(fileMapper, times(2)).mapFrom(any(), any());
         verify(addTextTransformer, times(2)).transform(any(), eq(config));
         verify(duplicateResolver, times(1)).resolve(any());
         verify(renameExecutor, times(2)).execute(any());
@@ -251,7 +274,7 @@ class FileRenameOrchestratorImplTest {
                 .build();
 
         // Mock Phase 1
-        when(fileMapper.mapFrom(file1)).thenReturn(model1);
+        when(fileMapper.mapFrom(eq(file1), any())).thenReturn(model1);
 
         // Mock Phase 2 - Sequential execution
         when(sequenceTransformer.requiresSequentialExecution()).thenReturn(true);
@@ -294,7 +317,7 @@ class FileRenameOrchestratorImplTest {
                 .build();
 
         // Mock all phases
-        when(fileMapper.mapFrom(file1)).thenReturn(model1);
+        when(fileMapper.mapFrom(eq(file1), any())).thenReturn(model1);
         when(addTextTransformer.transform(model1, config)).thenReturn(prepared1);
         when(addTextTransformer.requiresSequentialExecution()).thenReturn(false);
         when(duplicateResolver.resolve(any())).thenAnswer(inv -> inv.getArgument(0));
@@ -304,7 +327,7 @@ class FileRenameOrchestratorImplTest {
         orchestrator.execute(List.of(file1), TransformationMode.ADD_TEXT, config, null);
 
         // Then - Verify Phase 1 called
-        verify(fileMapper, times(1)).mapFrom(file1);
+        verify(fileMapper, times(1)).mapFrom(eq(file1), any());
     }
 
     @Test
@@ -321,7 +344,7 @@ class FileRenameOrchestratorImplTest {
                 .build();
 
         // Mock all phases
-        when(fileMapper.mapFrom(file1)).thenReturn(model1);
+        when(fileMapper.mapFrom(eq(file1), any())).thenReturn(model1);
         when(addTextTransformer.transform(model1, config)).thenReturn(prepared1);
         when(addTextTransformer.requiresSequentialExecution()).thenReturn(false);
         when(duplicateResolver.resolve(any())).thenAnswer(inv -> inv.getArgument(0));
@@ -360,8 +383,8 @@ class FileRenameOrchestratorImplTest {
                 .build();
 
         // Mock phases
-        when(fileMapper.mapFrom(file1)).thenReturn(model1);
-        when(fileMapper.mapFrom(file2)).thenReturn(model2);
+        when(fileMapper.mapFrom(eq(file1), any())).thenReturn(model1);
+        when(fileMapper.mapFrom(eq(file2), any())).thenReturn(model2);
         when(addTextTransformer.transform(model1, config)).thenReturn(prepared1);
         when(addTextTransformer.transform(model2, config)).thenReturn(prepared2);
         when(addTextTransformer.requiresSequentialExecution()).thenReturn(false);
@@ -393,7 +416,7 @@ class FileRenameOrchestratorImplTest {
                 .build();
 
         // Mock phases
-        when(fileMapper.mapFrom(file1)).thenReturn(model1);
+        when(fileMapper.mapFrom(eq(file1), any())).thenReturn(model1);
         when(addTextTransformer.transform(model1, config)).thenReturn(prepared1);
         when(addTextTransformer.requiresSequentialExecution()).thenReturn(false);
         when(duplicateResolver.resolve(any())).thenAnswer(inv -> inv.getArgument(0));
@@ -430,7 +453,7 @@ class FileRenameOrchestratorImplTest {
         AtomicInteger phase25Order = new AtomicInteger(-1);
         AtomicInteger phase3Order = new AtomicInteger(-1);
 
-        when(fileMapper.mapFrom(file1)).thenAnswer(inv -> {
+        when(fileMapper.mapFrom(eq(file1), any())).thenAnswer(inv -> {
             phase1Order.set(callOrder.incrementAndGet());
             return model1;
         });
@@ -477,7 +500,7 @@ class FileRenameOrchestratorImplTest {
                 .withPosition(ItemPosition.BEGIN)
                 .build();
 
-        when(fileMapper.mapFrom(file1)).thenReturn(model1);
+        when(fileMapper.mapFrom(eq(file1), any())).thenReturn(model1);
         when(addTextTransformer.transform(model1, config)).thenReturn(prepared1);
         when(addTextTransformer.requiresSequentialExecution()).thenReturn(false);
         when(duplicateResolver.resolve(any())).thenAnswer(inv -> inv.getArgument(0));
@@ -506,7 +529,7 @@ class FileRenameOrchestratorImplTest {
                 .withSortSource(null)
                 .build();
 
-        when(fileMapper.mapFrom(file1)).thenReturn(model1);
+        when(fileMapper.mapFrom(eq(file1), any())).thenReturn(model1);
         when(sequenceTransformer.requiresSequentialExecution()).thenReturn(true);
         when(sequenceTransformer.transformBatch(any(), eq(config))).thenReturn(List.of(prepared1));
         when(duplicateResolver.resolve(any())).thenAnswer(inv -> inv.getArgument(0));
@@ -540,8 +563,8 @@ class FileRenameOrchestratorImplTest {
                 .build();
 
         // Mock Phase 1 - file1 fails, file2 succeeds
-        when(fileMapper.mapFrom(file1)).thenThrow(new RuntimeException("Extraction error"));
-        when(fileMapper.mapFrom(file2)).thenReturn(model2);
+        when(fileMapper.mapFrom(eq(file1), any())).thenThrow(new RuntimeException("Extraction error"));
+        when(fileMapper.mapFrom(eq(file2), any())).thenReturn(model2);
 
         // When Phase 1 fails, the orchestrator creates an error FileModel (isFile=false) for file1.
         // Stub Phase 2 + 3 for that error model so the pipeline doesn't NPE in the depth-sort.
@@ -595,7 +618,7 @@ class FileRenameOrchestratorImplTest {
                 .withPosition(ItemPosition.BEGIN)
                 .build();
 
-        when(fileMapper.mapFrom(file1)).thenReturn(model1);
+        when(fileMapper.mapFrom(eq(file1), any())).thenReturn(model1);
         when(addTextTransformer.transform(model1, config)).thenReturn(preparedWithError);
         when(addTextTransformer.requiresSequentialExecution()).thenReturn(false);
         when(duplicateResolver.resolve(any())).thenAnswer(inv -> inv.getArgument(0));
@@ -631,7 +654,7 @@ class FileRenameOrchestratorImplTest {
                 .withPosition(ItemPosition.BEGIN)
                 .build();
 
-        when(fileMapper.mapFrom(file1)).thenReturn(model1);
+        when(fileMapper.mapFrom(eq(file1), any())).thenReturn(model1);
         when(addTextTransformer.transform(model1, config)).thenReturn(prepared1);
         when(addTextTransformer.requiresSequentialExecution()).thenReturn(false);
         when(duplicateResolver.resolve(any())).thenAnswer(inv -> inv.getArgument(0));
@@ -671,9 +694,9 @@ class FileRenameOrchestratorImplTest {
                 .withPosition(ItemPosition.BEGIN)
                 .build();
 
-        when(fileMapper.mapFrom(file1)).thenReturn(model1);
-        when(fileMapper.mapFrom(file2)).thenReturn(model2);
-        when(fileMapper.mapFrom(file3)).thenReturn(model3);
+        when(fileMapper.mapFrom(eq(file1), any())).thenReturn(model1);
+        when(fileMapper.mapFrom(eq(file2), any())).thenReturn(model2);
+        when(fileMapper.mapFrom(eq(file3), any())).thenReturn(model3);
 
         when(addTextTransformer.transform(model1, config)).thenReturn(prepared1);
         when(addTextTransformer.transform(model2, config)).thenReturn(prepared2);
@@ -716,7 +739,7 @@ class FileRenameOrchestratorImplTest {
 
         ProgressCallback progressCallback = mock(ProgressCallback.class);
 
-        when(fileMapper.mapFrom(file1)).thenReturn(model1);
+        when(fileMapper.mapFrom(eq(file1), any())).thenReturn(model1);
         when(addTextTransformer.transform(model1, config)).thenReturn(prepared1);
         when(addTextTransformer.requiresSequentialExecution()).thenReturn(false);
         when(duplicateResolver.resolve(any())).thenAnswer(inv -> inv.getArgument(0));
@@ -751,8 +774,8 @@ class FileRenameOrchestratorImplTest {
 
         ProgressCallback progressCallback = mock(ProgressCallback.class);
 
-        when(fileMapper.mapFrom(file1)).thenReturn(model1);
-        when(fileMapper.mapFrom(file2)).thenReturn(model2);
+        when(fileMapper.mapFrom(eq(file1), any())).thenReturn(model1);
+        when(fileMapper.mapFrom(eq(file2), any())).thenReturn(model2);
         when(addTextTransformer.transform(model1, config)).thenReturn(prepared1);
         when(addTextTransformer.transform(model2, config)).thenReturn(prepared2);
         when(addTextTransformer.requiresSequentialExecution()).thenReturn(false);
@@ -794,7 +817,7 @@ class FileRenameOrchestratorImplTest {
                 .withPosition(ItemPosition.BEGIN)
                 .build();
 
-        when(fileMapper.mapFrom(file1)).thenReturn(model1);
+        when(fileMapper.mapFrom(eq(file1), any())).thenReturn(model1);
         when(addTextTransformer.transform(model1, config)).thenReturn(prepared1);
         when(addTextTransformer.requiresSequentialExecution()).thenReturn(false);
         when(duplicateResolver.resolve(any())).thenAnswer(inv -> inv.getArgument(0));
@@ -826,7 +849,7 @@ class FileRenameOrchestratorImplTest {
                 .withPosition(ItemPosition.BEGIN)
                 .build();
 
-        when(fileMapper.mapFrom(file1)).thenReturn(model1);
+        when(fileMapper.mapFrom(eq(file1), any())).thenReturn(model1);
         when(addTextTransformer.transform(model1, config)).thenReturn(prepared1);
         when(addTextTransformer.requiresSequentialExecution()).thenReturn(false);
         when(duplicateResolver.resolve(any())).thenAnswer(inv -> inv.getArgument(0));
@@ -856,7 +879,7 @@ class FileRenameOrchestratorImplTest {
         File file1 = createMockFile("file1.txt");
         FileModel model1 = createFileModel("file1", "txt");
 
-        when(fileMapper.mapFrom(file1)).thenReturn(model1);
+        when(fileMapper.mapFrom(eq(file1), any())).thenReturn(model1);
 
         // When - The orchestrator catches exceptions and returns error results
         List<RenameResult> results = orchestrator.execute(List.of(file1),
@@ -894,7 +917,7 @@ class FileRenameOrchestratorImplTest {
         File file1 = createMockFile("file1.txt");
         FileModel model1 = createFileModel("file1", "txt");
 
-        when(fileMapper.mapFrom(file1)).thenReturn(model1);
+        when(fileMapper.mapFrom(eq(file1), any())).thenReturn(model1);
 
         // When - Null config should be rejected by pattern matching
         List<RenameResult> results = orchestrator.execute(
@@ -919,7 +942,7 @@ class FileRenameOrchestratorImplTest {
         File file1 = createMockFile("file1.txt");
 
         // Mock catastrophic failure in Phase 1
-        when(fileMapper.mapFrom(file1)).thenThrow(new OutOfMemoryError("Test OOM"));
+        when(fileMapper.mapFrom(eq(file1), any())).thenThrow(new OutOfMemoryError("Test OOM"));
 
         AddTextConfig config = AddTextConfig.builder()
                 .withTextToAdd("test")
@@ -967,7 +990,7 @@ class FileRenameOrchestratorImplTest {
 
         // Mock all
         for (int i = 0; i < files.size(); i++) {
-            when(fileMapper.mapFrom(files.get(i))).thenReturn(models.get(i));
+            when(fileMapper.mapFrom(eq(files.get(i)), any())).thenReturn(models.get(i));
             when(addTextTransformer.transform(models.get(i), config)).thenReturn(prepared.get(i));
             when(renameExecutor.execute(prepared.get(i))).thenReturn(results.get(i));
         }
@@ -1002,7 +1025,7 @@ class FileRenameOrchestratorImplTest {
                 .withSortSource(null)
                 .build();
 
-        when(fileMapper.mapFrom(file1)).thenReturn(model1);
+        when(fileMapper.mapFrom(eq(file1), any())).thenReturn(model1);
 
         // When - Wrong config type should be rejected by pattern matching
         List<RenameResult> results = orchestrator.execute(
@@ -1057,8 +1080,8 @@ class FileRenameOrchestratorImplTest {
         AddTextConfig config = AddTextConfig.builder()
                 .withTextToAdd("renamed_").withPosition(ItemPosition.BEGIN).build();
 
-        when(fileMapper.mapFrom(parentFile)).thenReturn(parentModel);
-        when(fileMapper.mapFrom(childFile)).thenReturn(childModel);
+        when(fileMapper.mapFrom(eq(parentFile), any())).thenReturn(parentModel);
+        when(fileMapper.mapFrom(eq(childFile), any())).thenReturn(childModel);
         when(addTextTransformer.transform(parentModel, config)).thenReturn(preparedParent);
         when(addTextTransformer.transform(childModel, config)).thenReturn(preparedChild);
         when(addTextTransformer.requiresSequentialExecution()).thenReturn(false);
@@ -1102,9 +1125,9 @@ class FileRenameOrchestratorImplTest {
         AddTextConfig config = AddTextConfig.builder()
                 .withTextToAdd("X").withPosition(ItemPosition.BEGIN).build();
 
-        when(fileMapper.mapFrom(aFile)).thenReturn(aModel);
-        when(fileMapper.mapFrom(bFile)).thenReturn(bModel);
-        when(fileMapper.mapFrom(cFile)).thenReturn(cModel);
+        when(fileMapper.mapFrom(eq(aFile), any())).thenReturn(aModel);
+        when(fileMapper.mapFrom(eq(bFile), any())).thenReturn(bModel);
+        when(fileMapper.mapFrom(eq(cFile), any())).thenReturn(cModel);
         when(addTextTransformer.transform(aModel, config)).thenReturn(prepA);
         when(addTextTransformer.transform(bModel, config)).thenReturn(prepB);
         when(addTextTransformer.transform(cModel, config)).thenReturn(prepC);
@@ -1144,4 +1167,472 @@ class FileRenameOrchestratorImplTest {
                 .withMetadata(null)
                 .build();
     }
+
+    // ============================================================================
+    // K. Streaming Tests — per-directory batches
+    // ============================================================================
+
+    @Test
+    void execute_filesInTwoDirectories_duplicateResolutionRunsPerDirectory() {
+        File deepFile1 = new File("/photos/2024/a.jpg");
+        File deepFile2 = new File("/photos/2024/b.jpg");
+        File topFile = new File("/photos/c.jpg");
+        stubStreamingPipeline();
+
+        AddTextConfig config = AddTextConfig.builder()
+                .withTextToAdd("x_").withPosition(ItemPosition.BEGIN).build();
+
+        List<RenameResult> results = orchestrator.execute(
+                List.of(topFile, deepFile1, deepFile2), TransformationMode.ADD_TEXT, config, null);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PreparedFileModel>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(duplicateResolver, times(2)).resolve(batchCaptor.capture());
+        List<List<PreparedFileModel>> batches = batchCaptor.getAllValues();
+        assertEquals(List.of(deepFile1, deepFile2),
+                batches.get(0).stream().map(p -> p.getOriginalFile().getFile()).toList());
+        assertEquals(List.of(topFile),
+                batches.get(1).stream().map(p -> p.getOriginalFile().getFile()).toList());
+
+        // Results follow rename order: deeper directory first, input order inside a directory
+        assertEquals(List.of(deepFile1, deepFile2, topFile),
+                results.stream().map(r -> r.getPreparedFile().getOriginalFile().getFile()).toList());
+    }
+
+    @Test
+    void execute_moreFilesThanWindow_firstDirectoryRenamedBeforeNextIsExtracted() {
+        List<File> files = new ArrayList<>();
+        for (int i = 0; i < FileRenameOrchestratorImpl.STREAMING_WINDOW_SIZE; i++) {
+            files.add(new File("/big/dir/file" + i + ".txt"));
+        }
+        File lateFile = new File("/big/late.txt");
+        files.add(lateFile);
+        stubStreamingPipeline();
+
+        AtomicInteger callOrder = new AtomicInteger(0);
+        AtomicInteger firstRenameOrder = new AtomicInteger(-1);
+        AtomicInteger lateExtractOrder = new AtomicInteger(-1);
+        doAnswer(inv -> {
+            File file = inv.getArgument(0);
+            if (file.equals(lateFile)) {
+                lateExtractOrder.set(callOrder.incrementAndGet());
+            }
+            return createFileModel(file);
+        }).when(fileMapper).mapFrom(any(), any());
+        doAnswer(inv -> {
+            firstRenameOrder.compareAndSet(-1, callOrder.incrementAndGet());
+            return createRenameResult(inv.getArgument(0), RenameStatus.SUCCESS);
+        }).when(renameExecutor).execute(any());
+
+        AddTextConfig config = AddTextConfig.builder()
+                .withTextToAdd("x_").withPosition(ItemPosition.BEGIN).build();
+
+        List<RenameResult> results = orchestrator.execute(files, TransformationMode.ADD_TEXT, config, null);
+
+        assertEquals(files.size(), results.size());
+        assertTrue(firstRenameOrder.get() < lateExtractOrder.get(),
+                "Window is full, so the next directory must wait for the first one to be renamed");
+    }
+
+    @Test
+    void execute_filesInSiblingDirectories_renamedConcurrently() {
+        File first = new File("/photos/a/one.jpg");
+        File second = new File("/photos/b/two.jpg");
+        stubStreamingPipeline();
+
+        // Each rename waits until the other directory is renaming too; a sequential Phase 3 would time out
+        CyclicBarrier bothRenaming = new CyclicBarrier(2);
+        doAnswer(inv -> {
+            bothRenaming.await(5, TimeUnit.SECONDS);
+            return createRenameResult(inv.getArgument(0), RenameStatus.SUCCESS);
+        }).when(renameExecutor).execute(any());
+
+        AddTextConfig config = AddTextConfig.builder()
+                .withTextToAdd("x_").withPosition(ItemPosition.BEGIN).build();
+
+        List<RenameResult> results = orchestrator.execute(
+                List.of(first, second), TransformationMode.ADD_TEXT, config, null);
+
+        assertEquals(2, results.size());
+        assertTrue(results.stream().allMatch(r -> r.getStatus() == RenameStatus.SUCCESS));
+    }
+
+    @Test
+    void execute_sequenceModeWithTwoDirectories_transformBatchOnceAndResolvePerDirectory() {
+        File deepFile = new File("/photos/2024/a.jpg");
+        File topFile1 = new File("/photos/b.jpg");
+        File topFile2 = new File("/photos/c.jpg");
+        stubStreamingPipeline();
+        when(sequenceTransformer.transformBatch(any(), any())).thenAnswer(inv -> {
+            List<FileModel> models = inv.getArgument(0);
+            return models.stream().map(m -> createPreparedFile(m, "seq_" + m.getName(), false, null)).toList();
+        });
+
+        SequenceConfig config = SequenceConfig.builder()
+                .withStartNumber(1)
+                .withStepValue(1)
+                .withPadding(3)
+                .withSortSource(null)
+                .build();
+
+        List<RenameResult> results = orchestrator.execute(
+                List.of(topFile1, deepFile, topFile2), TransformationMode.NUMBER_FILES, config, null);
+
+        assertEquals(3, results.size());
+        verify(sequenceTransformer, times(1)).transformBatch(argThat(models -> models.size() == 3), eq(config));
+        verify(duplicateResolver, times(2)).resolve(any());
+        assertEquals(deepFile, results.get(0).getPreparedFile().getOriginalFile().getFile());
+    }
+
+    @Test
+    void execute_cancelledBeforeStart_nothingExtractedOrRenamed() {
+        File first = new File("/photos/a.jpg");
+        File second = new File("/photos/b.jpg");
+        stubStreamingPipeline();
+
+        AddTextConfig config = AddTextConfig.builder()
+                .withTextToAdd("x_").withPosition(ItemPosition.BEGIN).build();
+
+        List<RenameResult> results = orchestrator.execute(
+                List.of(first, second), TransformationMode.ADD_TEXT, config, null, () -> true);
+
+        assertEquals(2, results.size());
+        assertTrue(results.stream().allMatch(r -> r.getStatus() == RenameStatus.CANCELLED));
+        verify(fileMapper, never()).mapFrom(any(), any());
+        verify(renameExecutor, never()).execute(any());
+    }
+
+    @Test
+    void execute_cancelledAfterChildDirectory_parentDirectoryNotRenamed() {
+        File childFile = new File("/photos/2024/a.jpg");
+        File parentFile = new File("/photos/b.jpg");
+        stubStreamingPipeline();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        doAnswer(inv -> {
+            cancelled.set(true);
+            return createRenameResult(inv.getArgument(0), RenameStatus.SUCCESS);
+        }).when(renameExecutor).execute(any());
+
+        AddTextConfig config = AddTextConfig.builder()
+                .withTextToAdd("x_").withPosition(ItemPosition.BEGIN).build();
+
+        List<RenameResult> results = orchestrator.execute(
+                List.of(parentFile, childFile), TransformationMode.ADD_TEXT, config, null, cancelled::get);
+
+        // The parent batch waits for the child batch, so it always observes the cancellation
+        assertEquals(2, results.size());
+        assertEquals(childFile, results.get(0).getPreparedFile().getOriginalFile().getFile());
+        assertEquals(RenameStatus.SUCCESS, results.get(0).getStatus());
+        assertEquals(parentFile, results.get(1).getPreparedFile().getOriginalFile().getFile());
+        assertEquals(RenameStatus.CANCELLED, results.get(1).getStatus());
+        verify(renameExecutor, times(1)).execute(any());
+    }
+
+    @Test
+    void execute_sequenceModeCancelledBeforeStart_transformBatchNeverCalled() {
+        File file = new File("/photos/a.jpg");
+        stubStreamingPipeline();
+
+        SequenceConfig config = SequenceConfig.builder()
+                .withStartNumber(1)
+                .withStepValue(1)
+                .withPadding(3)
+                .withSortSource(null)
+                .build();
+
+        List<RenameResult> results = orchestrator.execute(
+                List.of(file), TransformationMode.NUMBER_FILES, config, null, () -> true);
+
+        assertEquals(1, results.size());
+        assertEquals(RenameStatus.CANCELLED, results.get(0).getStatus());
+        verify(sequenceTransformer, never()).transformBatch(any(), any());
+    }
+
+    @Test
+    void execute_addTextMode_extractsNoMetadataFields() {
+        File file = new File("/photos/a.jpg");
+        stubStreamingPipeline();
+
+        AddTextConfig config = AddTextConfig.builder()
+                .withTextToAdd("x_").withPosition(ItemPosition.BEGIN).build();
+
+        orchestrator.execute(List.of(file), TransformationMode.ADD_TEXT, config, null);
+
+        verify(fileMapper).mapFrom(file, Set.of());
+    }
+
+    @Test
+    void execute_sequenceModeSortedByWidth_extractsDimensionsOnly() {
+        File file = new File("/photos/a.jpg");
+        stubStreamingPipeline();
+        when(sequenceTransformer.transformBatch(any(), any())).thenAnswer(inv -> {
+            List<FileModel> models = inv.getArgument(0);
+            return models.stream().map(m -> createPreparedFile(m, "seq_" + m.getName(), false, null)).toList();
+        });
+
+        SequenceConfig config = SequenceConfig.builder()
+                .withStartNumber(1)
+                .withStepValue(1)
+                .withPadding(3)
+                .withSortSource(SortSource.IMAGE_WIDTH)
+                .build();
+
+        orchestrator.execute(List.of(file), TransformationMode.NUMBER_FILES, config, null);
+
+        verify(fileMapper).mapFrom(file, Set.of(MetadataField.DIMENSIONS));
+    }
+
+    // ============================================================================
+    // Rename Recipes
+    // ============================================================================
+
+    @Test
+    void execute_recipe_appliesStepsInOnePass() {
+        File file = new File("/photos/a.jpg");
+        stubStreamingPipeline();
+        when(extensionChangeTransformer.transform(any(), any())).thenAnswer(inv -> {
+            FileModel model = inv.getArgument(0);
+            return createPreparedFile(model, model.getName(), false, null).toBuilder().withNewExtension("md").build();
+        });
+
+        AddTextConfig addText = AddTextConfig.builder()
+                .withTextToAdd("x_").withPosition(ItemPosition.BEGIN).build();
+        ExtensionChangeConfig extension = ExtensionChangeConfig.builder().withNewExtension("md").build();
+
+        List<RenameResult> results = orchestrator.execute(List.of(file), List.of(
+                        new RenameStep(TransformationMode.ADD_TEXT, addText),
+                        new RenameStep(TransformationMode.CHANGE_EXTENSION, extension)),
+                null, CancellationToken.none());
+
+        assertEquals(1, results.size());
+        PreparedFileModel prepared = results.getFirst().getPreparedFile();
+        assertEquals("x_a.md", prepared.getNewFullName());
+        assertEquals("a", prepared.getOriginalFile().getName());
+        verify(fileMapper, times(1)).mapFrom(any(), any());
+        verify(duplicateResolver, times(1)).resolve(any());
+        verify(renameExecutor, times(1)).execute(any());
+        verify(extensionChangeTransformer).transform(argThat(model -> "x_a".equals(model.getName())), eq(extension));
+    }
+
+    @Test
+    void execute_recipeStepFails_laterStepsSkipped() {
+        File file = new File("/photos/a.jpg");
+        stubStreamingPipeline();
+        when(addTextTransformer.transform(any(), any())).thenAnswer(inv ->
+                createPreparedFile(inv.getArgument(0), "a", true, "boom"));
+
+        AddTextConfig addText = AddTextConfig.builder()
+                .withTextToAdd("x_").withPosition(ItemPosition.BEGIN).build();
+        ExtensionChangeConfig extension = ExtensionChangeConfig.builder().withNewExtension("md").build();
+
+        List<RenameResult> results = orchestrator.execute(List.of(file), List.of(
+                        new RenameStep(TransformationMode.ADD_TEXT, addText),
+                        new RenameStep(TransformationMode.CHANGE_EXTENSION, extension)),
+                null, CancellationToken.none());
+
+        assertTrue(results.getFirst().getPreparedFile().isHasError());
+        verify(extensionChangeTransformer, never()).transform(any(), any());
+    }
+
+    @Test
+    void computePreview_recipeWithSequence_numbersChainedNamesAndKeepsOriginals() {
+        FileModel first = createFileModel("b", "jpg");
+        FileModel second = createFileModel("a", "jpg");
+        when(addTextTransformer.transform(any(), any())).thenAnswer(inv -> {
+            FileModel model = inv.getArgument(0);
+            return createPreparedFile(model, "x_" + model.getName(), false, null);
+        });
+        when(sequenceTransformer.transformBatch(any(), any())).thenAnswer(inv -> {
+            // Sorted by name, so the output order differs from the input order
+            List<FileModel> models = inv.getArgument(0);
+            return models.stream()
+                    .sorted(Comparator.comparing(FileModel::getName))
+                    .map(m -> createPreparedFile(m, m.getName() + "_seq", false, null))
+                    .toList();
+        });
+        when(duplicateResolver.resolve(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        AddTextConfig addText = AddTextConfig.builder()
+                .withTextToAdd("x_").withPosition(ItemPosition.BEGIN).build();
+        SequenceConfig sequence = SequenceConfig.builder()
+                .withStartNumber(1).withStepValue(1).withPadding(3).withSortSource(null).build();
+
+        List<PreparedFileModel> preview = orchestrator.computePreview(List.of(first, second), List.of(
+                new RenameStep(TransformationMode.ADD_TEXT, addText),
+                new RenameStep(TransformationMode.NUMBER_FILES, sequence)), null);
+
+        assertEquals(2, preview.size());
+        verify(sequenceTransformer).transformBatch(argThat(models ->
+                models.stream().allMatch(m -> m.getName().startsWith("x_"))), eq(sequence));
+        assertEquals("x_a_seq", preview.get(0).getNewName());
+        assertSame(second, preview.get(0).getOriginalFile());
+        assertEquals("x_b_seq", preview.get(1).getNewName());
+        assertSame(first, preview.get(1).getOriginalFile());
+    }
+
+    @Test
+    void computePreview_recipeWithSequence_runsPerFileStagesOnExecutorThreads() {
+        List<FileModel> models = IntStream.range(0, 20).mapToObj(i -> createFileModel("f" + i, "jpg")).toList();
+        Set<Thread> transformThreads = ConcurrentHashMap.newKeySet();
+        when(addTextTransformer.transform(any(), any())).thenAnswer(inv -> {
+            transformThreads.add(Thread.currentThread());
+            FileModel model = inv.getArgument(0);
+            return createPreparedFile(model, "x_" + model.getName(), false, null);
+        });
+        when(sequenceTransformer.transformBatch(any(), any())).thenAnswer(inv -> {
+            List<FileModel> inputs = inv.getArgument(0);
+            return inputs.stream().map(m -> createPreparedFile(m, m.getName(), false, null)).toList();
+        });
+        when(duplicateResolver.resolve(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        AddTextConfig addText = AddTextConfig.builder()
+                .withTextToAdd("x_").withPosition(ItemPosition.BEGIN).build();
+        SequenceConfig sequence = SequenceConfig.builder()
+                .withStartNumber(1).withStepValue(1).withPadding(3).withSortSource(null).build();
+
+        List<PreparedFileModel> preview = orchestrator.computePreview(models, List.of(
+                new RenameStep(TransformationMode.ADD_TEXT, addText),
+                new RenameStep(TransformationMode.NUMBER_FILES, sequence)), null);
+
+        assertEquals(20, preview.size());
+        assertFalse(transformThreads.contains(Thread.currentThread()));
+        assertTrue(transformThreads.stream().allMatch(Thread::isVirtual));
+    }
+
+    @Test
+    void computePreview_recipeStepFailsBeforeSequence_failedFileSkipsLaterStages() {
+        FileModel failing = createFileModel("bad", "jpg");
+        FileModel passing = createFileModel("good", "jpg");
+        when(addTextTransformer.transform(any(), any())).thenAnswer(inv -> {
+            FileModel model = inv.getArgument(0);
+            boolean fails = model == failing;
+            return createPreparedFile(model, "x_" + model.getName(), fails, fails ? "boom" : null);
+        });
+        when(sequenceTransformer.transformBatch(any(), any())).thenAnswer(inv -> {
+            List<FileModel> inputs = inv.getArgument(0);
+            return inputs.stream().map(m -> createPreparedFile(m, m.getName() + "_seq", false, null)).toList();
+        });
+        when(duplicateResolver.resolve(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        AddTextConfig addText = AddTextConfig.builder()
+                .withTextToAdd("x_").withPosition(ItemPosition.BEGIN).build();
+        SequenceConfig sequence = SequenceConfig.builder()
+                .withStartNumber(1).withStepValue(1).withPadding(3).withSortSource(null).build();
+
+        List<PreparedFileModel> preview = orchestrator.computePreview(List.of(failing, passing), List.of(
+                new RenameStep(TransformationMode.ADD_TEXT, addText),
+                new RenameStep(TransformationMode.NUMBER_FILES, sequence)), null);
+
+        verify(sequenceTransformer).transformBatch(argThat(models ->
+                models.size() == 1 && "x_good".equals(models.getFirst().getName())), eq(sequence));
+        assertEquals(2, preview.size());
+        PreparedFileModel failed = preview.stream().filter(PreparedFileModel::isHasError).findFirst().orElseThrow();
+        assertSame(failing, failed.getOriginalFile());
+        assertTrue(preview.stream().anyMatch(p -> !p.isHasError() && "x_good_seq".equals(p.getNewName())));
+    }
+
+    @Test
+    void computePreview_cancelled_returnsEmptyWithoutTransforming() {
+        List<FileModel> models = IntStream.range(0, 5).mapToObj(i -> createFileModel("f" + i, "jpg")).toList();
+        AddTextConfig addText = AddTextConfig.builder()
+                .withTextToAdd("x_").withPosition(ItemPosition.BEGIN).build();
+
+        List<PreparedFileModel> preview = orchestrator.computePreview(
+                models, TransformationMode.ADD_TEXT, addText, null, () -> true);
+
+        assertTrue(preview.isEmpty());
+        verify(addTextTransformer, never()).transform(any(), any());
+        verify(duplicateResolver, never()).resolve(any());
+    }
+
+    @Test
+    void execute_emptyRecipe_returnsErrorResults() {
+        File file = new File("/photos/a.jpg");
+
+        List<RenameResult> results = orchestrator.execute(List.of(file), List.of(), null, CancellationToken.none());
+
+        assertEquals(1, results.size());
+        assertEquals(RenameStatus.ERROR_EXTRACTION, results.getFirst().getStatus());
+        verify(fileMapper, never()).mapFrom(any(), any());
+    }
+
+    @Test
+    void extractMetadata_defersTypedFieldsUntilFirstRead() {
+        File file = new File("/photos/a.jpg");
+        FileMeta meta = FileMeta.builder().build();
+        when(fileMapper.mapFrom(file, Set.of())).thenReturn(createFileModel(file).toBuilder()
+                .withCategory(Category.IMAGE)
+                .withMetadata(FileMeta.empty())
+                .build());
+        when(fileMapper.mapFrom(file, MetadataField.typed())).thenReturn(createFileModel(file).toBuilder()
+                .withCategory(Category.IMAGE)
+                .withMetadata(meta)
+                .build());
+
+        FileModel model = orchestrator.extractMetadata(List.of(file), null).getFirst();
+
+        verify(fileMapper).mapFrom(file, Set.of());
+        verify(fileMapper, never()).mapFrom(file, MetadataField.typed());
+        assertFalse(model.getMetadataHandle().isLoaded());
+
+        assertEquals(meta, model.getMetadata().orElseThrow());
+        assertEquals(meta, model.getMetadata().orElseThrow());
+        verify(fileMapper, times(1)).mapFrom(file, MetadataField.typed());
+    }
+
+    @Test
+    void extractMetadata_mapperServedTypedMetadata_seedsHandleWithIt() {
+        File file = new File("/photos/a.jpg");
+        FileMeta cached = FileMeta.builder().withImage(ImageMeta.builder().withWidth(1920).build()).build();
+        when(fileMapper.mapFrom(file, Set.of())).thenReturn(createFileModel(file).toBuilder()
+                .withCategory(Category.IMAGE)
+                .withMetadata(cached)
+                .build());
+
+        FileModel model = orchestrator.extractMetadata(List.of(file), null).getFirst();
+
+        assertTrue(model.getMetadataHandle().isLoaded());
+        assertSame(cached, model.getMetadata().orElseThrow());
+        verify(fileMapper, never()).mapFrom(file, MetadataField.typed());
+    }
+
+    @Test
+    void extractMetadata_categoryWithoutTypedFields_keepsMappedMetadata() {
+        File file = new File("/docs/a.txt");
+        when(fileMapper.mapFrom(file, Set.of())).thenReturn(createFileModel(file));
+
+        FileModel model = orchestrator.extractMetadata(List.of(file), null).getFirst();
+
+        assertTrue(model.getMetadata().isEmpty());
+        verify(fileMapper, never()).mapFrom(file, MetadataField.typed());
+    }
+
+    private void stubStreamingPipeline() {
+        when(fileMapper.mapFrom(any(), any())).thenAnswer(inv -> createFileModel((File) inv.getArgument(0)));
+        when(addTextTransformer.transform(any(), any())).thenAnswer(inv -> {
+            FileModel model = inv.getArgument(0);
+            // A test re-stubbing transform(...) with when() calls this answer with null matcher values
+            return model == null ? null : createPreparedFile(model, "x_" + model.getName(), false, null);
+        });
+        when(duplicateResolver.resolve(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(renameExecutor.execute(any())).thenAnswer(inv ->
+                createRenameResult(inv.getArgument(0), RenameStatus.SUCCESS));
+    }
+
+    private FileModel createFileModel(File file) {
+        String fileName = file.getName();
+        int dot = fileName.lastIndexOf('.');
+        return FileModel.builder()
+                .withFile(file)
+                .withIsFile(true)
+                .withFileSize(1024L)
+                .withName(dot > 0 ? fileName.substring(0, dot) : fileName)
+                .withExtension(dot > 0 ? fileName.substring(dot + 1) : "")
+                .withAbsolutePath(file.getAbsolutePath())
+                .withDetectedMimeType("text/plain")
+                .withDetectedExtensions(Collections.emptySet())
+                .withCategory(Category.GENERIC)
+                .withMetadata(null)
+                .build();
+    }
 }
@@ -16,6 +16,7 @@ import ua.renamer.app.api.model.RenameResult;
 import ua.renamer.app.api.model.RenameStatus;
 import ua.renamer.app.api.model.TransformationMetadata;
 import ua.renamer.app.api.model.TransformationMode;
+import ua.renamer.app.api.service.CancellationToken;
 import ua.renamer.app.core.service.validator.impl.NameValidator;
 
 import java.io.File;
@@ -23,7 +24,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -270,4 +273,87 @@ class RenameExecutionServiceImplDiskConflictTest {
         assertFalse(Files.exists(tempDir.resolve("photo (001).jpg")),
                 "no suffix should be applied when there is no conflict");
     }
+
+    // ============================================================================
+    // 5. Batch execution: conflicts resolved against one directory listing
+    // ============================================================================
+
+    @Test
+    void givenBatchTargetingSameName_whenExecuteBatch_thenIndexTracksEachRename() throws IOException {
+        // Arrange: photo.jpg already exists; three sources all want to become photo.jpg
+        Files.createFile(tempDir.resolve("photo.jpg"));
+        List<PreparedFileModel> batch = List.of(
+                createPreparedFile(createFileModel(createTempFile("a", "jpg")), "photo", "jpg"),
+                createPreparedFile(createFileModel(createTempFile("b", "jpg")), "photo", "jpg"),
+                createPreparedFile(createFileModel(createTempFile("c", "jpg")), "photo", "jpg"));
+        List<RenameResult> reported = new ArrayList<>();
+
+        // Act
+        List<RenameResult> results = service.executeBatch(batch, CancellationToken.none(), reported::add);
+
+        // Assert: every rename sees the names created by the renames before it
+        assertEquals(3, results.size());
+        assertEquals(results, reported);
+        assertTrue(results.stream().allMatch(RenameResult::isSuccess));
+        assertTrue(Files.exists(tempDir.resolve("photo (001).jpg")));
+        assertTrue(Files.exists(tempDir.resolve("photo (002).jpg")));
+        assertTrue(Files.exists(tempDir.resolve("photo (003).jpg")));
+        assertTrue(Files.exists(tempDir.resolve("photo.jpg")), "pre-existing photo.jpg must not be overwritten");
+    }
+
+    @Test
+    void givenTargetFreedByEarlierRenameInBatch_whenExecuteBatch_thenNoSuffixApplied() throws IOException {
+        // Arrange: photo.jpg moves away first, then another file takes its name
+        File occupant = createTempFile("photo", "jpg");
+        File newcomer = createTempFile("newcomer", "jpg");
+        List<PreparedFileModel> batch = List.of(
+                createPreparedFile(createFileModel(occupant), "archived", "jpg"),
+                createPreparedFile(createFileModel(newcomer), "photo", "jpg"));
+
+        // Act
+        List<RenameResult> results = service.executeBatch(batch, CancellationToken.none(), result -> {
+        });
+
+        // Assert
+        assertTrue(results.stream().allMatch(RenameResult::isSuccess));
+        assertTrue(Files.exists(tempDir.resolve("archived.jpg")));
+        assertTrue(Files.exists(tempDir.resolve("photo.jpg")));
+        assertFalse(Files.exists(tempDir.resolve("photo (001).jpg")));
+    }
+
+    @Test
+    void givenSourceMissingFromListing_whenExecuteBatch_thenExecutionError() throws IOException {
+        // Arrange: the file is deleted before the batch lists the directory
+        File sourceFile = createTempFile("gone", "jpg");
+        PreparedFileModel preparedFile = createPreparedFile(createFileModel(sourceFile), "photo", "jpg");
+        Files.delete(sourceFile.toPath());
+
+        // Act
+        List<RenameResult> results = service.executeBatch(List.of(preparedFile), CancellationToken.none(), result -> {
+        });
+
+        // Assert
+        assertEquals(RenameStatus.ERROR_EXECUTION, results.getFirst().getStatus());
+        assertEquals("Source file does not exist", results.getFirst().getErrorMessage().orElse(null));
+    }
+
+    @Test
+    void givenCancellationRequested_whenExecuteBatch_thenRemainingFilesUntouched() throws IOException {
+        // Arrange: cancellation is requested as soon as the first file has been renamed
+        File first = createTempFile("first", "jpg");
+        File second = createTempFile("second", "jpg");
+        List<PreparedFileModel> batch = List.of(
+                createPreparedFile(createFileModel(first), "renamed1", "jpg"),
+                createPreparedFile(createFileModel(second), "renamed2", "jpg"));
+        List<RenameResult> reported = new ArrayList<>();
+
+        // Act
+        List<RenameResult> results = service.executeBatch(batch, () -> !reported.isEmpty(), reported::add);
+
+        // Assert
+        assertEquals(RenameStatus.SUCCESS, results.get(0).getStatus());
+        assertEquals(RenameStatus.CANCELLED, results.get(1).getStatus());
+        assertTrue(Files.exists(tempDir.resolve("renamed1.jpg")));
+        assertTrue(Files.exists(second.toPath()), "second.jpg must not be renamed after cancellation");
+    }
 }
@@ -20,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -303,6 +304,28 @@ class AddTextTransformerTest {
         assertNotNull(metadata.getConfig());
     }
 
+    @Test
+    void testTransformationMetadata_SharedAcrossFilesOfOneConfig() {
+        // Given
+        AddTextConfig config = AddTextConfig.builder()
+                .withTextToAdd("prefix_")
+                .withPosition(ItemPosition.BEGIN)
+                .build();
+        AddTextConfig otherConfig = AddTextConfig.builder()
+                .withTextToAdd("prefix_")
+                .withPosition(ItemPosition.BEGIN)
+                .build();
+
+        // When
+        PreparedFileModel first = transformer.transform(createTestFileModel("a", "txt"), config);
+        PreparedFileModel second = transformer.transform(createTestFileModel("b", "txt"), config);
+        PreparedFileModel other = transformer.transform(createTestFileModel("c", "txt"), otherConfig);
+
+        // Then
+        assertSame(first.getTransformationMeta(), second.getTransformationMeta());
+        assertNotSame(first.getTransformationMeta(), other.getTransformationMeta());
+    }
+
     @Test
     void testTransformationMetadata_ConfigStored() {
         // Given
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import ua.renamer.app.api.enums.Category;
+import ua.renamer.app.api.enums.ContentDuplicatePolicy;
 import ua.renamer.app.api.enums.SortSource;
 import ua.renamer.app.api.model.FileModel;
 import ua.renamer.app.api.model.PreparedFileModel;
@@ -695,6 +696,62 @@ class SequenceTransformerTest {
         assertEquals("tall", results.get(2).getOriginalFile().getName());
     }
 
+    @Test
+    void givenNumberedNames_whenSortByFileNameNatural_thenDigitRunsCompareByValue() {
+        // Given — character order would put "img10" and "img2" before "Img3"
+        List<FileModel> files = List.of(
+                createTestFileModel("img10", "jpg"),
+                createTestFileModel("img2", "jpg"),
+                createTestFileModel("Img3", "jpg"),
+                createTestFileModel("img1", "jpg")
+        );
+        SequenceConfig config = SequenceConfig.builder()
+                .withStartNumber(1)
+                .withStepValue(1)
+                .withPadding(0)
+                .withSortSource(SortSource.FILE_NAME_NATURAL)
+                .build();
+
+        // When
+        List<PreparedFileModel> results = transformer.transformBatch(files, config);
+
+        // Then
+        assertEquals(List.of("img1", "img2", "Img3", "img10"),
+                results.stream().map(r -> r.getOriginalFile().getName()).toList());
+        assertEquals(List.of("1", "2", "3", "4"), results.stream().map(PreparedFileModel::getNewName).toList());
+    }
+
+    @Test
+    void givenContentDatesDifferingInNanos_whenSortByContentCreationDate_thenMissingDateFirstThenByNanos() {
+        // Given
+        LocalDateTime shot = LocalDateTime.of(2023, 6, 10, 8, 15, 0);
+        List<FileModel> files = List.of(
+                withContentCreationDate(createTestFileModel("a", "jpg"), shot.plusNanos(2)),
+                withContentCreationDate(createTestFileModel("b", "jpg"), shot.plusNanos(1)),
+                createTestFileModel("c", "jpg")
+        );
+        SequenceConfig config = SequenceConfig.builder()
+                .withStartNumber(1)
+                .withStepValue(1)
+                .withPadding(0)
+                .withSortSource(SortSource.FILE_CONTENT_CREATION_DATETIME)
+                .build();
+
+        // When
+        List<PreparedFileModel> results = transformer.transformBatch(files, config);
+
+        // Then
+        assertEquals(List.of("c", "b", "a"), results.stream().map(r -> r.getOriginalFile().getName()).toList());
+    }
+
+    private static FileModel withContentCreationDate(FileModel model, LocalDateTime date) {
+        return model.toBuilder()
+                .withMetadata(FileMeta.builder()
+                        .withImage(ImageMeta.builder().withContentCreationDate(date).build())
+                        .build())
+                .build();
+    }
+
     // ============================================================================
     // G. Sequential Counter Preservation Tests (Critical!)
     // ============================================================================
@@ -1088,4 +1145,231 @@ class SequenceTransformerTest {
         Map<String, Object> configMap = results.get(0).getTransformationMeta().getConfig();
         assertEquals(true, configMap.get("perFolderCounting"));
     }
+
+    // ============================================================================
+    // K. Content Duplicates Tests
+    // ============================================================================
+
+    private List<FileModel> filesWithOneDuplicate() {
+        return List.of(
+                createTestFileModel("a", "jpg").toBuilder().withContentHash("hash-1").build(),
+                createTestFileModel("b", "jpg"),
+                createTestFileModel("c", "jpg").toBuilder().withContentHash("hash-1").build()
+        );
+    }
+
+    private SequenceConfig contentDuplicatesConfig(ContentDuplicatePolicy policy) {
+        return SequenceConfig.builder()
+                .withStartNumber(1)
+                .withStepValue(1)
+                .withPadding(0)
+                .withSortSource(SortSource.FILE_NAME)
+                .withContentDuplicates(policy)
+                .build();
+    }
+
+    @Test
+    void givenContentDuplicatesNotSet_whenBuilt_thenPolicyIsIgnore() {
+        SequenceConfig config = SequenceConfig.builder()
+                .withSortSource(SortSource.FILE_NAME)
+                .build();
+
+        assertEquals(ContentDuplicatePolicy.IGNORE, config.getContentDuplicates());
+    }
+
+    @Test
+    void givenIgnorePolicy_whenContentHashesMatch_thenFilesAreNumberedWithoutFlag() {
+        // When
+        List<PreparedFileModel> results = transformer.transformBatch(
+                filesWithOneDuplicate(), contentDuplicatesConfig(ContentDuplicatePolicy.IGNORE));
+
+        // Then
+        assertEquals(List.of("1", "2", "3"), results.stream().map(PreparedFileModel::getNewName).toList());
+        assertTrue(results.stream().allMatch(r -> r.getContentDuplicateOf().isEmpty()));
+    }
+
+    @Test
+    void givenFlagPolicy_whenContentHashesMatch_thenLaterFileIsNumberedAndFlagged() {
+        // When
+        List<PreparedFileModel> results = transformer.transformBatch(
+                filesWithOneDuplicate(), contentDuplicatesConfig(ContentDuplicatePolicy.FLAG));
+
+        // Then — the first file in sort order is the original
+        assertEquals(List.of("1", "2", "3"), results.stream().map(PreparedFileModel::getNewName).toList());
+        assertTrue(results.get(0).getContentDuplicateOf().isEmpty());
+        assertTrue(results.get(1).getContentDuplicateOf().isEmpty());
+        assertEquals("/test/path/a.jpg", results.get(2).getContentDuplicateOf().orElseThrow());
+    }
+
+    @Test
+    void givenSkipPolicy_whenContentHashesMatch_thenDuplicateKeepsNameAndDoesNotConsumeNumber() {
+        // When
+        List<PreparedFileModel> results = transformer.transformBatch(
+                filesWithOneDuplicate(), contentDuplicatesConfig(ContentDuplicatePolicy.SKIP));
+
+        // Then
+        assertEquals("1", results.get(0).getNewName());
+        assertEquals("2", results.get(1).getNewName());
+        PreparedFileModel duplicate = results.get(2);
+        assertEquals("c", duplicate.getNewName());
+        assertFalse(duplicate.needsRename());
+        assertEquals("/test/path/a.jpg", duplicate.getContentDuplicateOf().orElseThrow());
+    }
+
+    @Test
+    void givenPerFolderCounting_whenDuplicateIsInAnotherFolder_thenItIsStillDetected() {
+        // Given
+        List<FileModel> files = List.of(
+                createTestFileModelInDir("/folder1", "a", "jpg").toBuilder().withContentHash("hash-1").build(),
+                createTestFileModelInDir("/folder2", "a", "jpg").toBuilder().withContentHash("hash-1").build()
+        );
+        SequenceConfig config = SequenceConfig.builder()
+                .withStartNumber(1)
+                .withStepValue(1)
+                .withSortSource(SortSource.FILE_NAME)
+                .withPerFolderCounting(true)
+                .withContentDuplicates(ContentDuplicatePolicy.FLAG)
+                .build();
+
+        // When
+        List<PreparedFileModel> results = transformer.transformBatch(files, config);
+
+        // Then
+        assertTrue(results.get(0).getContentDuplicateOf().isEmpty());
+        assertEquals(files.get(0).getAbsolutePath(), results.get(1).getContentDuplicateOf().orElseThrow());
+        assertEquals("FLAG", results.get(1).getTransformationMeta().getConfig().get("contentDuplicates"));
+    }
+
+    // ============================================================================
+    // Number Padding
+    // ============================================================================
+
+    @Test
+    void formatSequenceNumber_matchesStringFormat() {
+        int[] numbers = {0, 1, 7, 10, 999, 1000, -1, -42, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        for (int number : numbers) {
+            assertEquals(String.valueOf(number), SequenceTransformer.formatSequenceNumber(number, 0));
+            for (int padding = 1; padding <= 12; padding++) {
+                assertEquals(String.format("%0" + padding + "d", number),
+                        SequenceTransformer.formatSequenceNumber(number, padding),
+                        "number=" + number + ", padding=" + padding);
+            }
+        }
+    }
+
+    @Test
+    void givenBatch_whenTransformed_thenAllResultsShareOneMetadata() {
+        // Given
+        List<FileModel> files = List.of(
+                createTestFileModel("a", "jpg"),
+                createTestFileModel("b", "jpg"),
+                createTestFileModel("c", "jpg"));
+        SequenceConfig config = SequenceConfig.builder()
+                .withStartNumber(1)
+                .withStepValue(1)
+                .withPadding(3)
+                .withSortSource(SortSource.FILE_NAME)
+                .build();
+
+        // When
+        List<PreparedFileModel> results = transformer.transformBatch(files, config);
+
+        // Then
+        assertEquals(List.of("001", "002", "003"), results.stream().map(PreparedFileModel::getNewName).toList());
+        assertTrue(results.stream().allMatch(r -> r.getTransformationMeta() == results.getFirst().getTransformationMeta()));
+    }
+
+    // ============================================================================
+    // Parallel Numbering
+    // ============================================================================
+
+    @Test
+    void givenPerFolderCountingOverThreshold_whenTransformed_thenEachFolderNumberedInNameOrder() {
+        // Given — files listed in reverse name order, interleaved across folders
+        int folders = 100;
+        int filesPerFolder = SequenceTransformer.PARALLEL_THRESHOLD / folders + 20;
+        List<FileModel> files = new ArrayList<>();
+        for (int i = filesPerFolder - 1; i >= 0; i--) {
+            for (int folder = 0; folder < folders; folder++) {
+                files.add(createTestFileModelInDir("/folder" + folder, String.format("f%05d", i), "jpg"));
+            }
+        }
+        SequenceConfig config = SequenceConfig.builder()
+                .withStartNumber(1)
+                .withStepValue(1)
+                .withPadding(0)
+                .withSortSource(SortSource.FILE_NAME)
+                .withPerFolderCounting(true)
+                .build();
+
+        // When
+        List<PreparedFileModel> results = transformer.transformBatch(files, config);
+
+        // Then — folders in first-appearance order, each numbered 1..n by name
+        assertEquals(files.size(), results.size());
+        for (int folder = 0; folder < folders; folder++) {
+            for (int i = 0; i < filesPerFolder; i++) {
+                PreparedFileModel result = results.get(folder * filesPerFolder + i);
+                assertEquals("/folder" + folder + String.format("/f%05d.jpg", i), result.getOriginalFile().getAbsolutePath());
+                assertEquals(String.valueOf(i + 1), result.getNewName());
+            }
+        }
+    }
+
+    @Test
+    void givenFlatCountingOverThreshold_whenTransformed_thenNumberedInSortOrder() {
+        // Given — sizes in reverse order of the input
+        int count = SequenceTransformer.PARALLEL_THRESHOLD + 500;
+        List<FileModel> files = IntStream.range(0, count)
+                .mapToObj(i -> createTestFileModelWithSize("f" + i, "txt", count - i))
+                .toList();
+        SequenceConfig config = SequenceConfig.builder()
+                .withStartNumber(10)
+                .withStepValue(5)
+                .withPadding(6)
+                .withSortSource(SortSource.FILE_SIZE)
+                .build();
+
+        // When
+        List<PreparedFileModel> results = transformer.transformBatch(files, config);
+
+        // Then
+        assertEquals(count, results.size());
+        for (int i = 0; i < count; i++) {
+            PreparedFileModel result = results.get(i);
+            assertEquals(i + 1, result.getOriginalFile().getFileSize());
+            assertEquals(String.format("%06d", 10 + 5 * i), result.getNewName());
+        }
+    }
+
+    @Test
+    void givenSkipPolicyOverThreshold_whenDuplicatesInOtherFolders_thenNumbersNotConsumed() {
+        // Given — every folder holds a copy of "a" (same hash) and a unique "b"
+        int folders = SequenceTransformer.PARALLEL_THRESHOLD / 2 + 1;
+        List<FileModel> files = new ArrayList<>();
+        for (int folder = 0; folder < folders; folder++) {
+            files.add(createTestFileModelInDir("/folder" + folder, "a", "jpg").toBuilder().withContentHash("same").build());
+            files.add(createTestFileModelInDir("/folder" + folder, "b", "jpg"));
+        }
+        SequenceConfig config = SequenceConfig.builder()
+                .withStartNumber(1)
+                .withStepValue(1)
+                .withSortSource(SortSource.FILE_NAME)
+                .withPerFolderCounting(true)
+                .withContentDuplicates(ContentDuplicatePolicy.SKIP)
+                .build();
+
+        // When
+        List<PreparedFileModel> results = transformer.transformBatch(files, config);
+
+        // Then — only the first folder's "a" is the original; later copies keep their name and "b" gets 1
+        assertEquals("1", results.get(0).getNewName());
+        assertEquals("2", results.get(1).getNewName());
+        for (int folder = 1; folder < folders; folder++) {
+            PreparedFileModel copy = results.get(folder * 2);
+            assertEquals("a", copy.getNewName());
+            assertEquals("/folder0/a.jpg", copy.getContentDuplicateOf().orElseThrow());
+            assertEquals("1", results.get(folder * 2 + 1).getNewName());
+        }
+    }
 }
@@ -2,27 +2,49 @@ package ua.renamer.app.core.v2.mapper;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import ua.renamer.app.api.enums.Category;
+import ua.renamer.app.api.enums.MetadataField;
 import ua.renamer.app.api.interfaces.DateTimeUtils;
+import ua.renamer.app.api.interfaces.FileMetadataCache;
 import ua.renamer.app.api.interfaces.FileMetadataMapper;
+import ua.renamer.app.api.interfaces.FileReadContext;
 import ua.renamer.app.api.interfaces.FileUtils;
+import ua.renamer.app.api.model.CachedFileMetadata;
 import ua.renamer.app.api.model.FileModel;
 import ua.renamer.app.api.model.meta.FileMeta;
 import ua.renamer.app.core.mapper.ThreadAwareFileMapper;
 import ua.renamer.app.core.v2.util.TestDateTimeUtils;
 import ua.renamer.app.core.v2.util.TestFileUtils;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 /**
  * Unit tests for {@link ThreadAwareFileMapper} null-safety when the
- * {@code FileMetadataMapper} chain returns {@code null} for unrecognized file types.
+ * {@code FileMetadataMapper} chain returns {@code null} for unrecognized file types,
+ * and for its use of the {@link FileMetadataCache}.
  */
 class ThreadAwareFileMapperTest {
 
@@ -32,7 +54,7 @@ class ThreadAwareFileMapperTest {
     private ThreadAwareFileMapper createMapper(FileMetadataMapper metadataMapper) {
         DateTimeUtils dateTimeUtils = new TestDateTimeUtils();
         FileUtils fileUtils = new TestFileUtils(dateTimeUtils);
-        return new ThreadAwareFileMapper(fileUtils, metadataMapper);
+        return new ThreadAwareFileMapper(fileUtils, metadataMapper, FileMetadataCache.disabled());
     }
 
     @Test
@@ -86,4 +108,214 @@ class ThreadAwareFileMapperTest {
         assertTrue(result.getMetadata().isPresent());
         assertEquals(expectedMeta, result.getMetadata().get());
     }
+
+    // ============================================================================
+    // Metadata cache
+    // ============================================================================
+
+    private ThreadAwareFileMapper createMapper(FileMetadataMapper metadataMapper, FileMetadataCache cache) {
+        DateTimeUtils dateTimeUtils = new TestDateTimeUtils();
+        FileUtils fileUtils = new TestFileUtils(dateTimeUtils);
+        return new ThreadAwareFileMapper(fileUtils, metadataMapper, cache);
+    }
+
+    @Test
+    void givenCacheHit_whenMapped_thenMetadataMapperIsNotCalled() throws IOException {
+        // Arrange
+        Path testFile = tempDir.resolve("photo.jpg");
+        Files.writeString(testFile, "fake jpg content");
+        FileMeta cachedMeta = FileMeta.builder().withMetaInfo(Map.of("Exif/Model", "Camera")).build();
+        FileMetadataCache cache = mock(FileMetadataCache.class);
+        when(cache.get(eq(testFile.toAbsolutePath().toString()), anyLong(), anyLong()))
+                .thenReturn(Optional.of(CachedFileMetadata.builder()
+                        .withDetectedMimeType("image/jpeg")
+                        .withCategory(Category.IMAGE)
+                        .withMetadata(cachedMeta)
+                        .build()));
+        AtomicInteger extractCalls = new AtomicInteger();
+        ThreadAwareFileMapper mapper = createMapper((file, category, mimeType) -> {
+            extractCalls.incrementAndGet();
+            return FileMeta.empty();
+        }, cache);
+
+        // Act
+        FileModel result = mapper.mapFrom(testFile.toFile());
+
+        // Assert
+        assertEquals(0, extractCalls.get());
+        assertEquals("image/jpeg", result.getDetectedMimeType());
+        assertEquals(Category.IMAGE, result.getCategory());
+        assertEquals(cachedMeta, result.getMetadata().orElseThrow());
+        verify(cache, never()).put(anyString(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void givenCacheMiss_whenMapped_thenExtractedMetadataIsStoredWithFileAttributes() throws IOException {
+        // Arrange
+        Path testFile = tempDir.resolve("notes.txt");
+        Files.writeString(testFile, "hello");
+        FileMetadataCache cache = mock(FileMetadataCache.class);
+        when(cache.get(anyString(), anyLong(), anyLong())).thenReturn(Optional.empty());
+        ThreadAwareFileMapper mapper = createMapper((file, category, mimeType) -> FileMeta.empty(), cache);
+
+        // Act
+        FileModel result = mapper.mapFrom(testFile.toFile());
+
+        // Assert
+        long size = Files.size(testFile);
+        long lastModified = Files.getLastModifiedTime(testFile).toMillis();
+        verify(cache).put(eq(result.getAbsolutePath()), eq(size), eq(lastModified),
+                argThat(cached -> cached.getDetectedMimeType().equals(result.getDetectedMimeType())));
+    }
+
+    @Test
+    void givenExtractionError_whenMapped_thenResultIsNotCached() throws IOException {
+        // Arrange
+        Path testFile = tempDir.resolve("broken.jpg");
+        Files.writeString(testFile, "not really a jpg");
+        FileMetadataCache cache = mock(FileMetadataCache.class);
+        when(cache.get(anyString(), anyLong(), anyLong())).thenReturn(Optional.empty());
+        ThreadAwareFileMapper mapper = createMapper(
+                (file, category, mimeType) -> FileMeta.withError("Failed to read"), cache);
+
+        // Act
+        mapper.mapFrom(testFile.toFile());
+
+        // Assert
+        verify(cache, never()).put(anyString(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void givenDirectory_whenMapped_thenCacheIsNotConsulted() throws IOException {
+        // Arrange
+        Path dir = Files.createDirectory(tempDir.resolve("folder"));
+        FileMetadataCache cache = mock(FileMetadataCache.class);
+        ThreadAwareFileMapper mapper = createMapper((file, category, mimeType) -> FileMeta.empty(), cache);
+
+        // Act
+        FileModel result = mapper.mapFrom(dir.toFile());
+
+        // Assert
+        assertEquals("application/x-directory", result.getDetectedMimeType());
+        verifyNoInteractions(cache);
+    }
+
+    @Test
+    void givenDefaultMapping_whenMapped_thenTypedFieldsAreRequested() throws IOException {
+        // Arrange
+        Path testFile = tempDir.resolve("photo.jpg");
+        Files.writeString(testFile, "fake jpg content");
+        RecordingMetadataMapper metadataMapper = new RecordingMetadataMapper();
+        ThreadAwareFileMapper mapper = createMapper(metadataMapper, FileMetadataCache.disabled());
+
+        // Act
+        mapper.mapFrom(testFile.toFile());
+
+        // Assert
+        assertEquals(MetadataField.typed(), metadataMapper.requested);
+    }
+
+    @Test
+    void givenTagDumpRequest_whenMapped_thenCacheIsBypassed() throws IOException {
+        // Arrange
+        Path testFile = tempDir.resolve("photo.jpg");
+        Files.writeString(testFile, "fake jpg content");
+        FileMetadataCache cache = mock(FileMetadataCache.class);
+        RecordingMetadataMapper metadataMapper = new RecordingMetadataMapper();
+        ThreadAwareFileMapper mapper = createMapper(metadataMapper, cache);
+
+        // Act
+        mapper.mapFrom(testFile.toFile(), MetadataField.all());
+
+        // Assert
+        assertEquals(MetadataField.all(), metadataMapper.requested);
+        verify(cache, never()).get(anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    void givenPartialRequest_whenMapped_thenResultIsNotCached() throws IOException {
+        // Arrange
+        Path testFile = tempDir.resolve("photo.jpg");
+        Files.writeString(testFile, "fake jpg content");
+        FileMetadataCache cache = mock(FileMetadataCache.class);
+        when(cache.get(anyString(), anyLong(), anyLong())).thenReturn(Optional.empty());
+        ThreadAwareFileMapper mapper = createMapper(new RecordingMetadataMapper(), cache);
+
+        // Act
+        mapper.mapFrom(testFile.toFile(), Set.of(MetadataField.DIMENSIONS));
+
+        // Assert
+        verify(cache, never()).put(anyString(), anyLong(), anyLong(), any());
+    }
+
+    // ============================================================================
+    // Read context
+    // ============================================================================
+
+    @Test
+    void givenContextAwareMetadataMapper_whenMapped_thenEachFileIsOpenedOnce() throws IOException {
+        // Arrange — the metadata mapper reads through the context
+        Path first = tempDir.resolve("first.jpg");
+        Path second = tempDir.resolve("second.jpg");
+        Files.writeString(first, "fake jpg content");
+        Files.writeString(second, "fake jpg content");
+        AtomicInteger headerReads = new AtomicInteger();
+        FileMetadataMapper metadataMapper = new RecordingMetadataMapper() {
+            @Override
+            public FileMeta extract(FileReadContext context, Category category, String mimeType,
+                                    Set<MetadataField> fields) {
+                try {
+                    context.getHeader();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                headerReads.incrementAndGet();
+                return FileMeta.empty();
+            }
+        };
+        ThreadAwareFileMapper mapper = createMapper(metadataMapper, FileMetadataCache.disabled());
+
+        // Act
+        mapper.mapFrom(first.toFile());
+        mapper.mapFrom(second.toFile());
+
+        // Assert
+        ThreadAwareFileMapper.ReadStats stats = mapper.getReadStats();
+        assertEquals(2, headerReads.get());
+        assertEquals(2, stats.files());
+        assertEquals(2, stats.opens());
+        assertEquals(1.0, stats.opensPerFile());
+    }
+
+    @Test
+    void givenDirectory_whenMapped_thenNoFileIsOpened() throws IOException {
+        // Arrange
+        Path directory = Files.createDirectory(tempDir.resolve("folder"));
+        ThreadAwareFileMapper mapper = createMapper((file, category, mimeType) -> FileMeta.empty());
+
+        // Act
+        mapper.mapFrom(directory.toFile());
+
+        // Assert
+        assertEquals(1, mapper.getReadStats().files());
+        assertEquals(0, mapper.getReadStats().opens());
+    }
+
+    /**
+     * Records the field set of the last field-selective extraction.
+     */
+    private static class RecordingMetadataMapper implements FileMetadataMapper {
+        private Set<MetadataField> requested;
+
+        @Override
+        public FileMeta extract(File file, Category category, String mimeType) {
+            return extract(file, category, mimeType, MetadataField.all());
+        }
+
+        @Override
+        public FileMeta extract(File file, Category category, String mimeType, Set<MetadataField> fields) {
+            requested = fields;
+            return FileMeta.empty();
+        }
+    }
 }
@@ -8,6 +8,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import ua.renamer.app.api.enums.Category;
 import ua.renamer.app.api.interfaces.DateTimeUtils;
+import ua.renamer.app.api.interfaces.FileMetadataCache;
 import ua.renamer.app.api.interfaces.FileMetadataMapper;
 import ua.renamer.app.api.interfaces.FileUtils;
 import ua.renamer.app.api.model.FileModel;
@@ -63,7 +64,7 @@ class ThreadAwareFileMapperIntegrationTest {
         // Simple mock metadata mapper that returns empty metadata
         FileMetadataMapper mockMetadataMapper = (file, category, mimeType) -> FileMeta.empty();
 
-        fileMapper = new ThreadAwareFileMapper(fileUtils, mockMetadataMapper);
+        fileMapper = new ThreadAwareFileMapper(fileUtils, mockMetadataMapper, FileMetadataCache.disabled());
     }
 
     // ============================================================================
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.io.TempDir;
 import ua.renamer.app.api.interfaces.DateTimeUtils;
+import ua.renamer.app.api.interfaces.FileMetadataCache;
 import ua.renamer.app.api.interfaces.FileMetadataMapper;
 import ua.renamer.app.api.interfaces.FileUtils;
 import ua.renamer.app.api.model.meta.FileMeta;
@@ -13,7 +14,10 @@ import ua.renamer.app.api.service.ProgressCallback;
 import ua.renamer.app.core.mapper.ThreadAwareFileMapper;
 import ua.renamer.app.core.service.DuplicateNameResolver;
 import ua.renamer.app.core.service.RenameExecutionService;
+import ua.renamer.app.core.service.impl.ContentFingerprinterImpl;
 import ua.renamer.app.core.service.impl.DuplicateNameResolverImpl;
+import ua.renamer.app.core.service.impl.DirectoryRenameSchedulerImpl;
+import ua.renamer.app.core.service.impl.ExtractionSchedulerImpl;
 import ua.renamer.app.core.service.impl.FileRenameOrchestratorImpl;
 import ua.renamer.app.core.service.impl.RenameExecutionServiceImpl;
 import ua.renamer.app.core.service.transformation.AddTextTransformer;
@@ -70,7 +74,7 @@ public abstract class BaseTransformationIntegrationTest {
         // Simple mock metadata mapper for testing (doesn't need full metadata extraction)
         FileMetadataMapper mockMetadataMapper = (file, category, mimeType) -> FileMeta.empty();
 
-        ThreadAwareFileMapper fileMapper = new ThreadAwareFileMapper(fileUtils, mockMetadataMapper);
+        ThreadAwareFileMapper fileMapper = new ThreadAwareFileMapper(fileUtils, mockMetadataMapper, FileMetadataCache.disabled());
         DuplicateNameResolver duplicateResolver = new DuplicateNameResolverImpl();
         RenameExecutionService renameExecutor = new RenameExecutionServiceImpl(new NameValidator());
 
@@ -90,6 +94,9 @@ public abstract class BaseTransformationIntegrationTest {
                 fileMapper,
                 duplicateResolver,
                 renameExecutor,
+                new ExtractionSchedulerImpl(),
+                new DirectoryRenameSchedulerImpl(),
+                new ContentFingerprinterImpl(new ExtractionSchedulerImpl()),
                 addTextTransformer,
                 removeTextTransformer,
                 replaceTextTransformer,
@@ -2,16 +2,23 @@ package ua.renamer.app.metadata.config;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Singleton;
+import com.google.inject.multibindings.MapBinder;
+import ua.renamer.app.api.enums.AppMimeTypes;
+import ua.renamer.app.api.enums.Category;
 import ua.renamer.app.api.interfaces.DateTimeUtils;
+import ua.renamer.app.api.interfaces.FileMetadataExtractor;
 import ua.renamer.app.api.interfaces.FileMetadataExtractorResolver;
 import ua.renamer.app.api.interfaces.FileMetadataMapper;
 import ua.renamer.app.api.interfaces.FileUtils;
 import ua.renamer.app.metadata.extractor.CategoryFileMetadataExtractorResolver;
 import ua.renamer.app.metadata.extractor.ThreadAwareFileMetadataMapper;
 import ua.renamer.app.metadata.extractor.strategy.AudioFileMetadataExtractor;
+import ua.renamer.app.metadata.extractor.strategy.FormatExtractorRegistry;
+import ua.renamer.app.metadata.extractor.strategy.FormatExtractorRegistry.FormatKey;
 import ua.renamer.app.metadata.extractor.strategy.GenericFileMetadataExtractor;
 import ua.renamer.app.metadata.extractor.strategy.ImageFileMetadataExtractionExtractor;
 import ua.renamer.app.metadata.extractor.strategy.VideoFileMetadataExtractor;
+import ua.renamer.app.metadata.extractor.strategy.format.audio.AudioTagReader;
 import ua.renamer.app.metadata.extractor.strategy.format.audio.UnifiedAudioFileMetadataExtractor;
 import ua.renamer.app.metadata.extractor.strategy.format.image.ArwFileMetadataExtractor;
 import ua.renamer.app.metadata.extractor.strategy.format.image.AvifFileMetadataExtractor;
@@ -23,6 +30,7 @@ import ua.renamer.app.metadata.extractor.strategy.format.image.EpsFileMetadataEx
 import ua.renamer.app.metadata.extractor.strategy.format.image.GifFileMetadataExtractor;
 import ua.renamer.app.metadata.extractor.strategy.format.image.HeifFileMetadataExtractor;
 import ua.renamer.app.metadata.extractor.strategy.format.image.IcoFileMetadataExtractor;
+import ua.renamer.app.metadata.extractor.strategy.format.image.ImageHeaderReader;
 import ua.renamer.app.metadata.extractor.strategy.format.image.JpegFileMetadataExtractor;
 import ua.renamer.app.metadata.extractor.strategy.format.image.NefFileMetadataExtractor;
 import ua.renamer.app.metadata.extractor.strategy.format.image.OrfFileMetadataExtractor;
@@ -34,6 +42,7 @@ import ua.renamer.app.metadata.extractor.strategy.format.image.Rw2FileMetadataEx
 import ua.renamer.app.metadata.extractor.strategy.format.image.TiffFileMetadataExtractor;
 import ua.renamer.app.metadata.extractor.strategy.format.image.WebPFileMetadataExtractor;
 import ua.renamer.app.metadata.extractor.strategy.format.video.AviFileMetadataExtractor;
+import ua.renamer.app.metadata.extractor.strategy.format.video.IsoBmffBoxReader;
 import ua.renamer.app.metadata.extractor.strategy.format.video.Mp4FileMetadataExtractor;
 import ua.renamer.app.metadata.extractor.strategy.format.video.QuickTimeFileMetadataExtractor;
 import ua.renamer.app.metadata.util.CommonFileUtils;
@@ -41,6 +50,9 @@ import ua.renamer.app.metadata.util.DateTimeConverter;
 
 /**
  * Guice module that wires all metadata extractors, resolvers, and utilities.
+ *
+ * <p>Each format-level extractor registers the MIME types it handles with {@code registerFormat}; the
+ * category dispatchers find it through {@link FormatExtractorRegistry} and need no change for a new format.
  */
 public class DIMetadataModule extends AbstractModule {
 
@@ -62,6 +74,9 @@ public class DIMetadataModule extends AbstractModule {
         bind(AudioFileMetadataExtractor.class).in(Singleton.class);
         bind(VideoFileMetadataExtractor.class).in(Singleton.class);
 
+        // Shared by the RAW extractors; stateful (header size from settings) — must be a singleton
+        bind(ImageHeaderReader.class).in(Singleton.class);
+
         // Format-level image extractors
         bind(ArwFileMetadataExtractor.class).in(Singleton.class);
         bind(AvifFileMetadataExtractor.class).in(Singleton.class);
@@ -84,12 +99,66 @@ public class DIMetadataModule extends AbstractModule {
         bind(TiffFileMetadataExtractor.class).in(Singleton.class);
         bind(WebPFileMetadataExtractor.class).in(Singleton.class);
 
+        // Shared by the MP4 and QuickTime extractors
+        bind(IsoBmffBoxReader.class).in(Singleton.class);
+
         // Format-level video extractors
         bind(AviFileMetadataExtractor.class).in(Singleton.class);
         bind(Mp4FileMetadataExtractor.class).in(Singleton.class);
         bind(QuickTimeFileMetadataExtractor.class).in(Singleton.class);
 
-        // Audio extractor (unified, handles all 19+ audio formats)
+        // Audio extractor (unified, handles all 19+ audio formats) and its MP3/FLAC fast path
+        bind(AudioTagReader.class).in(Singleton.class);
         bind(UnifiedAudioFileMetadataExtractor.class).in(Singleton.class);
+
+        // MIME type -> format extractor lookup used by the category dispatchers
+        bind(FormatExtractorRegistry.class).in(Singleton.class);
+        MapBinder<FormatKey, FileMetadataExtractor> formats =
+                MapBinder.newMapBinder(binder(), FormatKey.class, FileMetadataExtractor.class);
+
+        registerFormat(formats, Category.IMAGE, ArwFileMetadataExtractor.class, AppMimeTypes.IMAGE_X_SONY_ARW);
+        registerFormat(formats, Category.IMAGE, AvifFileMetadataExtractor.class, AppMimeTypes.IMAGE_AVIF);
+        registerFormat(formats, Category.IMAGE, BmpFileMetadataExtractor.class, AppMimeTypes.IMAGE_BMP);
+        registerFormat(formats, Category.IMAGE, Cr2FileMetadataExtractor.class, AppMimeTypes.IMAGE_X_CANON_CR2);
+        registerFormat(formats, Category.IMAGE, Cr3FileMetadataExtractor.class, AppMimeTypes.IMAGE_X_CANON_CR3);
+        registerFormat(formats, Category.IMAGE, DngFileMetadataExtractor.class, AppMimeTypes.IMAGE_X_ADOBE_DNG);
+        registerFormat(formats, Category.IMAGE, EpsFileMetadataExtractor.class, AppMimeTypes.APPLICATION_POSTSCRIPT);
+        registerFormat(formats, Category.IMAGE, GifFileMetadataExtractor.class, AppMimeTypes.IMAGE_GIF);
+        registerFormat(formats, Category.IMAGE, HeifFileMetadataExtractor.class,
+                AppMimeTypes.IMAGE_HEIC, AppMimeTypes.IMAGE_HEIF);
+        registerFormat(formats, Category.IMAGE, IcoFileMetadataExtractor.class, AppMimeTypes.IMAGE_X_ICON);
+        registerFormat(formats, Category.IMAGE, JpegFileMetadataExtractor.class, AppMimeTypes.IMAGE_JPEG);
+        registerFormat(formats, Category.IMAGE, NefFileMetadataExtractor.class, AppMimeTypes.IMAGE_X_NIKON_NEF);
+        registerFormat(formats, Category.IMAGE, OrfFileMetadataExtractor.class, AppMimeTypes.IMAGE_X_OLYMPUS_ORF);
+        registerFormat(formats, Category.IMAGE, PcxFileMetadataExtractor.class, AppMimeTypes.IMAGE_X_PCX);
+        registerFormat(formats, Category.IMAGE, PngFileMetadataExtractor.class, AppMimeTypes.IMAGE_PNG);
+        registerFormat(formats, Category.IMAGE, PsdFileMetadataExtractor.class, AppMimeTypes.IMAGE_VND_ADOBE_PHOTOSHOP);
+        registerFormat(formats, Category.IMAGE, RafFileMetadataExtractor.class, AppMimeTypes.IMAGE_X_FUJIFILM_RAF);
+        registerFormat(formats, Category.IMAGE, Rw2FileMetadataExtractor.class, AppMimeTypes.IMAGE_X_PANASONIC_RW2);
+        registerFormat(formats, Category.IMAGE, TiffFileMetadataExtractor.class, AppMimeTypes.IMAGE_TIFF);
+        registerFormat(formats, Category.IMAGE, WebPFileMetadataExtractor.class, AppMimeTypes.IMAGE_WEBP);
+
+        registerFormat(formats, Category.VIDEO, AviFileMetadataExtractor.class, AppMimeTypes.VIDEO_X_MS_VIDEO);
+        registerFormat(formats, Category.VIDEO, Mp4FileMetadataExtractor.class, AppMimeTypes.VIDEO_MP4);
+        registerFormat(formats, Category.VIDEO, QuickTimeFileMetadataExtractor.class, AppMimeTypes.VIDEO_QUICKTIME);
+
+        registerFormat(formats, Category.AUDIO, UnifiedAudioFileMetadataExtractor.class,
+                AppMimeTypes.AUDIO_MP4, AppMimeTypes.AUDIO_MPEG, AppMimeTypes.AUDIO_MP2, AppMimeTypes.AUDIO_WAV,
+                AppMimeTypes.AUDIO_FLAC, AppMimeTypes.AUDIO_OGG, AppMimeTypes.AUDIO_X_MS_WMA,
+                AppMimeTypes.AUDIO_AIFF, AppMimeTypes.AUDIO_X_AIFF, AppMimeTypes.AUDIO_APE,
+                AppMimeTypes.AUDIO_MUSEPACK, AppMimeTypes.AUDIO_WAVPACK, AppMimeTypes.AUDIO_SPEEX,
+                AppMimeTypes.AUDIO_OPUS, AppMimeTypes.AUDIO_BASIC, AppMimeTypes.AUDIO_DSF,
+                AppMimeTypes.AUDIO_X_REALAUDIO, AppMimeTypes.AUDIO_X_OPTIMFROG, AppMimeTypes.AUDIO_X_TTA);
+    }
+
+    /**
+     * Register {@code extractor} as the format extractor of {@code mimeTypes} within {@code category}.
+     * The extractor keeps its own (singleton) binding.
+     */
+    private static void registerFormat(MapBinder<FormatKey, FileMetadataExtractor> formats, Category category,
+                                       Class<? extends FileMetadataExtractor> extractor, AppMimeTypes... mimeTypes) {
+        for (AppMimeTypes mimeType : mimeTypes) {
+            formats.addBinding(new FormatKey(category, mimeType.getMime())).to(extractor);
+        }
     }
 }
@@ -11,15 +11,19 @@ import ua.renamer.app.metadata.extractor.strategy.GenericFileMetadataExtractor;
 import ua.renamer.app.metadata.extractor.strategy.ImageFileMetadataExtractionExtractor;
 import ua.renamer.app.metadata.extractor.strategy.VideoFileMetadataExtractor;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * Resolves the correct {@link FileMetadataExtractor} strategy based on the file {@link Category}.
+ *
+ * <p>The strategies are looked up in an {@link EnumMap} filled once at construction; categories without a
+ * dedicated strategy resolve to the generic extractor.
  */
 @Slf4j
 public class CategoryFileMetadataExtractorResolver implements FileMetadataExtractorResolver {
     private final GenericFileMetadataExtractor genericFileMetadataExtractor;
-    private final ImageFileMetadataExtractionExtractor imageFileMetadataExtractor;
-    private final AudioFileMetadataExtractor audioFileMetadataExtractor;
-    private final VideoFileMetadataExtractor videoFileMetadataExtractor;
+    private final Map<Category, FileMetadataExtractor> extractorsByCategory = new EnumMap<>(Category.class);
 
 
     /**
@@ -34,23 +38,18 @@ public class CategoryFileMetadataExtractorResolver implements FileMetadataExtrac
                                                  AudioFileMetadataExtractor audioFileMetadataExtractor,
                                                  VideoFileMetadataExtractor videoFileMetadataExtractor) {
         this.genericFileMetadataExtractor = genericFileMetadataExtractor;
-        this.imageFileMetadataExtractor = imageFileMetadataExtractor;
-        this.audioFileMetadataExtractor = audioFileMetadataExtractor;
-        this.videoFileMetadataExtractor = videoFileMetadataExtractor;
+        extractorsByCategory.put(Category.IMAGE, imageFileMetadataExtractor);
+        extractorsByCategory.put(Category.AUDIO, audioFileMetadataExtractor);
+        extractorsByCategory.put(Category.VIDEO, videoFileMetadataExtractor);
     }
 
 
     @Override
     public FileMetadataExtractor getFileMetadataExtractor(@NonNull Category category) {
-        if (category == Category.IMAGE) {
-            log.debug("Image extractor group selected");
-            return imageFileMetadataExtractor;
-        } else if (category == Category.AUDIO) {
-            log.debug("Audio extractor group selected");
-            return audioFileMetadataExtractor;
-        } else if (category == Category.VIDEO) {
-            log.debug("Video extractor group selected");
-            return videoFileMetadataExtractor;
+        FileMetadataExtractor extractor = extractorsByCategory.get(category);
+        if (extractor != null) {
+            log.debug("{} extractor group selected", category);
+            return extractor;
         }
         log.debug("Generic extractor group selected");
         return genericFileMetadataExtractor;
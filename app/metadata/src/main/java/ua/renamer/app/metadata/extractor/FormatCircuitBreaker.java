@@ -0,0 +1,97 @@
+package ua.renamer.app.metadata.extractor;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-MIME-type circuit breaker for metadata extractions that exceed their deadline.
+ *
+ * <p>After {@code threshold} consecutive timeouts of one MIME type the breaker of that type opens and
+ * {@link #allows} rejects its files for {@code openDuration}. The first file after that period is let
+ * through as a trial and starts another period: if it completes in time the breaker closes, if it times
+ * out the breaker stays open. Extractions that complete, including those that fail quickly, reset the count.
+ *
+ * <p>Thread-safe.
+ */
+class FormatCircuitBreaker {
+
+    private final int threshold;
+    private final long openNanos;
+    private final LongSupplier nanoTime;
+    private final Map<String, State> states = new ConcurrentHashMap<>();
+
+    /**
+     * @param threshold    consecutive timeouts that open the breaker of a MIME type
+     * @param openDuration how long an open breaker rejects files before letting a trial through
+     * @param nanoTime     monotonic time source, {@link System#nanoTime()} outside tests
+     */
+    FormatCircuitBreaker(int threshold, Duration openDuration, LongSupplier nanoTime) {
+        this.threshold = threshold;
+        this.openNanos = openDuration.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * @param mimeType the MIME type of the file about to be extracted
+     * @return {@code true} when the file may be extracted; {@code false} while the breaker of its type is open
+     */
+    boolean allows(String mimeType) {
+        State state = states.get(mimeType);
+        if (state == null) {
+            return true;
+        }
+        synchronized (state) {
+            if (!state.open) {
+                return true;
+            }
+            long now = nanoTime.getAsLong();
+            if (now - state.openedAt < openNanos) {
+                return false;
+            }
+            // Let one trial through; the files after it wait for another open period unless it completes
+            state.openedAt = now;
+            return true;
+        }
+    }
+
+    /**
+     * Record an extraction of {@code mimeType} that finished within the deadline; closes its breaker.
+     */
+    void recordCompletion(String mimeType) {
+        State state = states.get(mimeType);
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            state.consecutiveTimeouts = 0;
+            state.open = false;
+        }
+    }
+
+    /**
+     * Record an extraction of {@code mimeType} that exceeded the deadline.
+     *
+     * @return {@code true} when this timeout opened a closed breaker
+     */
+    boolean recordTimeout(String mimeType) {
+        State state = states.computeIfAbsent(mimeType, key -> new State());
+        synchronized (state) {
+            state.consecutiveTimeouts++;
+            if (state.consecutiveTimeouts < threshold) {
+                return false;
+            }
+            boolean wasOpen = state.open;
+            state.open = true;
+            state.openedAt = nanoTime.getAsLong();
+            return !wasOpen;
+        }
+    }
+
+    private static final class State {
+        private int consecutiveTimeouts;
+        private boolean open;
+        private long openedAt;
+    }
+}
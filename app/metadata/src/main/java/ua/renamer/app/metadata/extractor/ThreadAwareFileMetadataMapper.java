@@ -4,19 +4,76 @@ import jakarta.inject.Inject;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import ua.renamer.app.api.enums.Category;
+import ua.renamer.app.api.enums.MetadataField;
 import ua.renamer.app.api.interfaces.FileMetadataExtractor;
 import ua.renamer.app.api.interfaces.FileMetadataExtractorResolver;
 import ua.renamer.app.api.interfaces.FileMetadataMapper;
+import ua.renamer.app.api.interfaces.FileReadContext;
 import ua.renamer.app.api.model.meta.FileMeta;
 
 import java.io.File;
+import java.time.Duration;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Dispatches metadata extraction to the appropriate strategy resolved by {@link FileMetadataExtractorResolver}.
+ *
+ * <p>When only some {@link MetadataField}s are requested and none of them applies to the file's category,
+ * the file is not opened at all. Extraction through a {@link FileReadContext} reuses the context's
+ * open channel where the format extractor supports it.
+ *
+ * <p>Each extraction runs on its own virtual thread and is abandoned once it exceeds the extraction
+ * deadline: the caller gets a {@link FileMeta#withError(String)} result and the extraction thread is
+ * interrupted. A MIME type whose extractions time out {@value #BREAKER_TIMEOUT_THRESHOLD} times in a row
+ * trips a {@link FormatCircuitBreaker}, and its files are skipped for {@link #BREAKER_OPEN_DURATION}, so a
+ * batch of corrupt files costs at most a few deadlines. {@link #getTimeoutStats()} reports the slow files.
+ * An abandoned extraction through a {@link FileReadContext} has the context closed under it, so its next
+ * read fails instead of reopening the file after the caller has released it.
  */
 @Slf4j
 public class ThreadAwareFileMetadataMapper implements FileMetadataMapper {
+
+    /**
+     * Default time one file's metadata extraction may take before it is abandoned.
+     */
+    public static final Duration DEFAULT_EXTRACTION_DEADLINE = Duration.ofSeconds(10);
+
+    /**
+     * Consecutive timeouts of one MIME type that open its circuit breaker.
+     */
+    static final int BREAKER_TIMEOUT_THRESHOLD = 3;
+
+    /**
+     * How long an open circuit breaker skips the files of its MIME type.
+     */
+    static final Duration BREAKER_OPEN_DURATION = Duration.ofMinutes(1);
+
+    private static final int MAX_REPORTED_SLOW_FILES = 100;
+
+    /**
+     * File-based extractions open and close the file themselves.
+     */
+    private static final Runnable NOTHING_TO_RELEASE = () -> {
+    };
+
     private final FileMetadataExtractorResolver fileMetadataExtractorResolver;
+    private final FormatCircuitBreaker circuitBreaker;
+    private final ExecutorService extractionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final Deque<SlowFile> slowFiles = new ConcurrentLinkedDeque<>();
+    private volatile Duration extractionDeadline = DEFAULT_EXTRACTION_DEADLINE;
 
 
     /**
@@ -24,18 +81,144 @@ public class ThreadAwareFileMetadataMapper implements FileMetadataMapper {
      */
     @Inject
     public ThreadAwareFileMetadataMapper(FileMetadataExtractorResolver fileMetadataExtractorResolver) {
+        this(fileMetadataExtractorResolver,
+                new FormatCircuitBreaker(BREAKER_TIMEOUT_THRESHOLD, BREAKER_OPEN_DURATION, System::nanoTime));
+    }
+
+    ThreadAwareFileMetadataMapper(FileMetadataExtractorResolver fileMetadataExtractorResolver,
+                                  FormatCircuitBreaker circuitBreaker) {
         this.fileMetadataExtractorResolver = fileMetadataExtractorResolver;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * Set the time one file's extraction may take before it is abandoned.
+     *
+     * @param extractionDeadline a positive deadline, or {@link Duration#ZERO} to extract on the calling thread without one
+     * @throws IllegalArgumentException when {@code extractionDeadline} is negative
+     */
+    public void setExtractionDeadline(@NonNull Duration extractionDeadline) {
+        if (extractionDeadline.isNegative()) {
+            throw new IllegalArgumentException("Extraction deadline must not be negative, was " + extractionDeadline);
+        }
+        this.extractionDeadline = extractionDeadline;
+    }
+
+    /**
+     * @return the number of extractions that timed out and of files skipped by an open circuit breaker,
+     * with the most recent slow files
+     */
+    public TimeoutStats getTimeoutStats() {
+        return new TimeoutStats(timeouts.sum(), skipped.sum(), List.copyOf(slowFiles));
     }
 
     @Override
     public FileMeta extract(@NonNull File file, @NonNull Category category, @NonNull String mimeType) {
         FileMetadataExtractor strategy = fileMetadataExtractorResolver.getFileMetadataExtractor(category);
+        return extractWithDeadline(file, category, mimeType,
+                () -> strategy.extract(file, mimeType), NOTHING_TO_RELEASE);
+    }
+
+    @Override
+    public FileMeta extract(@NonNull File file, @NonNull Category category, @NonNull String mimeType,
+                            @NonNull Set<MetadataField> fields) {
+        if (fields.stream().noneMatch(field -> field.appliesTo(category))) {
+            return FileMeta.empty();
+        }
+        FileMetadataExtractor strategy = fileMetadataExtractorResolver.getFileMetadataExtractor(category);
+        return extractWithDeadline(file, category, mimeType,
+                () -> strategy.extract(file, mimeType, fields), NOTHING_TO_RELEASE);
+    }
+
+    @Override
+    public FileMeta extract(@NonNull FileReadContext context, @NonNull Category category, @NonNull String mimeType,
+                            @NonNull Set<MetadataField> fields) {
+        if (fields.stream().noneMatch(field -> field.appliesTo(category))) {
+            return FileMeta.empty();
+        }
+        FileMetadataExtractor strategy = fileMetadataExtractorResolver.getFileMetadataExtractor(category);
+        return extractWithDeadline(context.getFile(), category, mimeType,
+                () -> strategy.extract(context, mimeType, fields), context::close);
+    }
 
+    /**
+     * @param onAbandoned releases what the extraction reads from once it is no longer waited for
+     */
+    private FileMeta extractWithDeadline(File file, Category category, String mimeType, Callable<FileMeta> extraction,
+                                         Runnable onAbandoned) {
+        Duration deadline = extractionDeadline;
+        if (deadline.isZero()) {
+            return extractOnCallingThread(file, category, mimeType, extraction);
+        }
+        if (!circuitBreaker.allows(mimeType)) {
+            skipped.increment();
+            log.debug("Metadata extraction skipped for file '{}': circuit breaker open for {}", file.getName(), mimeType);
+            return FileMeta.withError("Metadata extraction skipped: " + mimeType
+                    + " files repeatedly exceeded the extraction deadline");
+        }
+
+        Future<FileMeta> future = extractionExecutor.submit(extraction);
         try {
-            return strategy.extract(file, mimeType);
+            FileMeta result = future.get(deadline.toNanos(), TimeUnit.NANOSECONDS);
+            circuitBreaker.recordCompletion(mimeType);
+            return result;
+        } catch (TimeoutException e) {
+            // The extraction thread may ignore the interrupt; it is no longer waited for either way
+            future.cancel(true);
+            onAbandoned.run();
+            return timedOut(file, mimeType, deadline);
+        } catch (ExecutionException e) {
+            circuitBreaker.recordCompletion(mimeType);
+            Throwable cause = e.getCause();
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            log.debug("Metadata extraction failed for file '{}' (category={}, mimeType={}): {}", file.getName(), category, mimeType, cause.getMessage());
+            return FileMeta.withError((Exception) cause);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            onAbandoned.run();
+            Thread.currentThread().interrupt();
+            return FileMeta.withError(e);
+        }
+    }
+
+    private FileMeta extractOnCallingThread(File file, Category category, String mimeType, Callable<FileMeta> extraction) {
+        try {
+            return extraction.call();
         } catch (Exception e) {
             log.debug("Metadata extraction failed for file '{}' (category={}, mimeType={}): {}", file.getName(), category, mimeType, e.getMessage());
             return FileMeta.withError(e);
         }
     }
+
+    private FileMeta timedOut(File file, String mimeType, Duration deadline) {
+        timeouts.increment();
+        slowFiles.addLast(new SlowFile(file.getAbsolutePath(), mimeType));
+        while (slowFiles.size() > MAX_REPORTED_SLOW_FILES) {
+            slowFiles.pollFirst();
+        }
+        log.warn("Metadata extraction of '{}' ({}) exceeded {} ms and was abandoned", file.getAbsolutePath(), mimeType, deadline.toMillis());
+        if (circuitBreaker.recordTimeout(mimeType)) {
+            log.warn("{} extractions timed out {} times in a row; skipping {} files for {} s", mimeType, BREAKER_TIMEOUT_THRESHOLD, mimeType, BREAKER_OPEN_DURATION.toSeconds());
+        }
+        return FileMeta.withError("Metadata extraction timed out after " + deadline.toMillis() + " ms");
+    }
+
+    /**
+     * Snapshot of extraction deadline counters.
+     *
+     * @param timeouts  number of extractions abandoned at the deadline
+     * @param skipped   number of files not extracted because the circuit breaker of their MIME type was open
+     * @param slowFiles the most recent files that timed out, oldest first
+     */
+    public record TimeoutStats(long timeouts, long skipped, List<SlowFile> slowFiles) {
+    }
+
+    /**
+     * @param path     absolute path of the file whose extraction timed out
+     * @param mimeType its detected MIME type
+     */
+    public record SlowFile(String path, String mimeType) {
+    }
 }
@@ -2,57 +2,50 @@ package ua.renamer.app.metadata.extractor.strategy;
 
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
-import ua.renamer.app.api.enums.AppMimeTypes;
+import ua.renamer.app.api.enums.Category;
+import ua.renamer.app.api.enums.MetadataField;
 import ua.renamer.app.api.interfaces.FileMetadataExtractor;
+import ua.renamer.app.api.interfaces.FileReadContext;
 import ua.renamer.app.api.model.meta.FileMeta;
-import ua.renamer.app.metadata.extractor.strategy.format.audio.UnifiedAudioFileMetadataExtractor;
 
 import java.io.File;
+import java.util.Set;
 
 /**
- * Dispatches audio metadata extraction to {@link UnifiedAudioFileMetadataExtractor}.
+ * Dispatches audio metadata extraction to the format-level extractor registered for the MIME type in
+ * {@link FormatExtractorRegistry}. All supported audio formats are currently registered to
+ * {@link ua.renamer.app.metadata.extractor.strategy.format.audio.UnifiedAudioFileMetadataExtractor}.
  */
 @Slf4j
 public class AudioFileMetadataExtractor implements FileMetadataExtractor {
-    private final UnifiedAudioFileMetadataExtractor unifiedAudioFileMetadataExtractor;
+    private final FormatExtractorRegistry formatExtractorRegistry;
 
 
     /**
-     * @param unifiedAudioFileMetadataExtractor the unified extractor covering all supported audio formats
+     * @param formatExtractorRegistry the format-level extractors keyed by MIME type
      */
     @Inject
-    public AudioFileMetadataExtractor(UnifiedAudioFileMetadataExtractor unifiedAudioFileMetadataExtractor) {
-        this.unifiedAudioFileMetadataExtractor = unifiedAudioFileMetadataExtractor;
+    public AudioFileMetadataExtractor(FormatExtractorRegistry formatExtractorRegistry) {
+        this.formatExtractorRegistry = formatExtractorRegistry;
     }
 
     @Override
     public FileMeta extract(File file, String mimeType) {
         log.debug("Extracting audio metadata for file: {}, mimeType: {}", file.getName(), mimeType);
+        FileMetadataExtractor extractor = formatExtractorRegistry.find(Category.AUDIO, mimeType);
+        return extractor != null ? extractor.extract(file, mimeType) : unsupported(file, mimeType);
+    }
 
-        // UnifiedAudioFileMetadataExtractor handles all audio formats via jaudiotagger library
-        // Routes all audio MIME types to the same extractor
-        if (AppMimeTypes.AUDIO_MP4.getMime().equals(mimeType) ||
-                AppMimeTypes.AUDIO_MPEG.getMime().equals(mimeType) ||
-                AppMimeTypes.AUDIO_MP2.getMime().equals(mimeType) ||
-                AppMimeTypes.AUDIO_WAV.getMime().equals(mimeType) ||
-                AppMimeTypes.AUDIO_FLAC.getMime().equals(mimeType) ||
-                AppMimeTypes.AUDIO_OGG.getMime().equals(mimeType) ||
-                AppMimeTypes.AUDIO_X_MS_WMA.getMime().equals(mimeType) ||
-                AppMimeTypes.AUDIO_AIFF.getMime().equals(mimeType) ||
-                AppMimeTypes.AUDIO_X_AIFF.getMime().equals(mimeType) ||
-                AppMimeTypes.AUDIO_APE.getMime().equals(mimeType) ||
-                AppMimeTypes.AUDIO_MUSEPACK.getMime().equals(mimeType) ||
-                AppMimeTypes.AUDIO_WAVPACK.getMime().equals(mimeType) ||
-                AppMimeTypes.AUDIO_SPEEX.getMime().equals(mimeType) ||
-                AppMimeTypes.AUDIO_OPUS.getMime().equals(mimeType) ||
-                AppMimeTypes.AUDIO_BASIC.getMime().equals(mimeType) ||
-                AppMimeTypes.AUDIO_DSF.getMime().equals(mimeType) ||
-                AppMimeTypes.AUDIO_X_REALAUDIO.getMime().equals(mimeType) ||
-                AppMimeTypes.AUDIO_X_OPTIMFROG.getMime().equals(mimeType) ||
-                AppMimeTypes.AUDIO_X_TTA.getMime().equals(mimeType)) {
-            return unifiedAudioFileMetadataExtractor.extract(file, mimeType);
-        }
+    @Override
+    public FileMeta extract(FileReadContext context, String mimeType, Set<MetadataField> fields) {
+        log.debug("Extracting audio metadata for file: {}, mimeType: {}", context.getFile().getName(), mimeType);
+        FileMetadataExtractor extractor = formatExtractorRegistry.find(Category.AUDIO, mimeType);
+        return extractor != null
+                ? extractor.extract(context, mimeType, fields)
+                : unsupported(context.getFile(), mimeType);
+    }
 
+    private FileMeta unsupported(File file, String mimeType) {
         log.warn("Unsupported audio MIME type: {} for file: {}", mimeType, file.getName());
         return FileMeta.withError("Not Supported File MimeType: " + mimeType);
     }
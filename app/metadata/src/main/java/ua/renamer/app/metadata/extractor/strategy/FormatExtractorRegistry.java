@@ -0,0 +1,185 @@
+package ua.renamer.app.metadata.extractor.strategy;
+
+import jakarta.inject.Inject;
+import org.jspecify.annotations.Nullable;
+import ua.renamer.app.api.enums.Category;
+import ua.renamer.app.api.enums.MetadataField;
+import ua.renamer.app.api.interfaces.FileMetadataExtractor;
+import ua.renamer.app.api.interfaces.FileReadContext;
+import ua.renamer.app.api.model.meta.FileMeta;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Immutable MIME type lookup of the format-level extractors, built from the registrations in
+ * {@link ua.renamer.app.metadata.config.DIMetadataModule}.
+ *
+ * <p>The category dispatchers resolve a format extractor with two hash lookups instead of comparing the
+ * MIME type against every known format, so a new format is added by registering it in the module alone.
+ * Every extractor returned by {@link #find} counts its invocations and records their latency in a
+ * histogram; {@link #getStats()} reports both per extractor.
+ *
+ * <p>Thread-safe.
+ */
+public class FormatExtractorRegistry {
+
+    /**
+     * Upper bounds, in milliseconds, of the latency histogram buckets. A last bucket collects every
+     * invocation slower than the largest bound.
+     */
+    public static final List<Long> LATENCY_BUCKET_BOUNDS_MILLIS = List.of(1L, 4L, 16L, 64L, 256L, 1024L);
+
+    private final Map<Category, Map<String, FileMetadataExtractor>> extractors;
+    private final Map<String, Recorder> recorders;
+
+    /**
+     * @param registrations format extractor for each category and MIME type it handles
+     */
+    @Inject
+    public FormatExtractorRegistry(Map<FormatKey, FileMetadataExtractor> registrations) {
+        // One recorder per extractor instance, shared by all MIME types it handles
+        Map<FileMetadataExtractor, TimedExtractor> timed = new IdentityHashMap<>();
+        Map<Category, Map<String, FileMetadataExtractor>> byCategory = new EnumMap<>(Category.class);
+        registrations.forEach((key, extractor) -> byCategory
+                .computeIfAbsent(key.category(), category -> new HashMap<>())
+                .put(key.mimeType(), timed.computeIfAbsent(extractor, TimedExtractor::new)));
+        byCategory.replaceAll((category, byMimeType) -> Map.copyOf(byMimeType));
+
+        Map<String, Recorder> byName = new TreeMap<>();
+        timed.values().forEach(extractor -> byName.put(extractor.name(), extractor.recorder));
+        this.extractors = byCategory;
+        this.recorders = byName;
+    }
+
+    /**
+     * Find the format extractor registered for {@code mimeType} within {@code category}.
+     *
+     * @param category the file category the caller dispatches
+     * @param mimeType the detected MIME type of the file
+     * @return the extractor, wrapped to record its invocations; {@code null} when none is registered
+     */
+    public @Nullable FileMetadataExtractor find(Category category, String mimeType) {
+        Map<String, FileMetadataExtractor> byMimeType = extractors.get(category);
+        return byMimeType == null ? null : byMimeType.get(mimeType);
+    }
+
+    /**
+     * @return invocation count and latency histogram of each registered extractor, keyed by its simple class name
+     */
+    public Map<String, ExtractorStats> getStats() {
+        Map<String, ExtractorStats> stats = new TreeMap<>();
+        recorders.forEach((name, recorder) -> stats.put(name, recorder.snapshot()));
+        return stats;
+    }
+
+    /**
+     * Registration key of a format extractor.
+     *
+     * @param category the category dispatcher that serves the MIME type
+     * @param mimeType the MIME type handled by the extractor
+     */
+    public record FormatKey(Category category, String mimeType) {
+    }
+
+    /**
+     * Snapshot of the invocations of one format extractor.
+     *
+     * @param invocations      number of completed invocations, including those that threw
+     * @param totalNanos       summed latency of those invocations
+     * @param latencyHistogram invocation count per bucket of {@link #LATENCY_BUCKET_BOUNDS_MILLIS}, plus the overflow bucket
+     */
+    public record ExtractorStats(long invocations, long totalNanos, List<Long> latencyHistogram) {
+
+        /**
+         * @return mean latency in milliseconds, or 0 when there were no invocations
+         */
+        public double averageMillis() {
+            return invocations == 0 ? 0.0 : (double) totalNanos / invocations / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+
+    private static final class Recorder {
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder[] buckets = new LongAdder[LATENCY_BUCKET_BOUNDS_MILLIS.size() + 1];
+        private final long[] boundsNanos = new long[LATENCY_BUCKET_BOUNDS_MILLIS.size()];
+
+        Recorder() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+            for (int i = 0; i < boundsNanos.length; i++) {
+                boundsNanos[i] = TimeUnit.MILLISECONDS.toNanos(LATENCY_BUCKET_BOUNDS_MILLIS.get(i));
+            }
+        }
+
+        void record(long nanos) {
+            invocations.increment();
+            totalNanos.add(nanos);
+            int bucket = 0;
+            while (bucket < boundsNanos.length && nanos > boundsNanos[bucket]) {
+                bucket++;
+            }
+            buckets[bucket].increment();
+        }
+
+        ExtractorStats snapshot() {
+            List<Long> histogram = new ArrayList<>(buckets.length);
+            for (LongAdder bucket : buckets) {
+                histogram.add(bucket.sum());
+            }
+            return new ExtractorStats(invocations.sum(), totalNanos.sum(), List.copyOf(histogram));
+        }
+    }
+
+    /**
+     * Delegates every overload to the registered extractor and records the time it took.
+     */
+    private static final class TimedExtractor implements FileMetadataExtractor {
+        private final FileMetadataExtractor delegate;
+        private final Recorder recorder = new Recorder();
+
+        TimedExtractor(FileMetadataExtractor delegate) {
+            this.delegate = delegate;
+        }
+
+        String name() {
+            return delegate.getClass().getSimpleName();
+        }
+
+        @Override
+        public FileMeta extract(File file, String mimeType) {
+            return timed(() -> delegate.extract(file, mimeType));
+        }
+
+        @Override
+        public FileMeta extract(File file, String mimeType, Set<MetadataField> fields) {
+            return timed(() -> delegate.extract(file, mimeType, fields));
+        }
+
+        @Override
+        public FileMeta extract(FileReadContext context, String mimeType, Set<MetadataField> fields) {
+            return timed(() -> delegate.extract(context, mimeType, fields));
+        }
+
+        private FileMeta timed(Supplier<FileMeta> extraction) {
+            long start = System.nanoTime();
+            try {
+                return extraction.get();
+            } finally {
+                recorder.record(System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -2,47 +2,55 @@ package ua.renamer.app.metadata.extractor.strategy;
 
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
-import ua.renamer.app.api.enums.AppMimeTypes;
+import ua.renamer.app.api.enums.Category;
+import ua.renamer.app.api.enums.MetadataField;
 import ua.renamer.app.api.interfaces.FileMetadataExtractor;
+import ua.renamer.app.api.interfaces.FileReadContext;
 import ua.renamer.app.api.model.meta.FileMeta;
-import ua.renamer.app.metadata.extractor.strategy.format.video.AviFileMetadataExtractor;
-import ua.renamer.app.metadata.extractor.strategy.format.video.Mp4FileMetadataExtractor;
-import ua.renamer.app.metadata.extractor.strategy.format.video.QuickTimeFileMetadataExtractor;
 
 import java.io.File;
+import java.util.Set;
 
 /**
- * Dispatches video metadata extraction to the appropriate format-level extractor based on MIME type.
+ * Dispatches video metadata extraction to the format-level extractor registered for the MIME type in
+ * {@link FormatExtractorRegistry}.
  */
 @Slf4j
 public class VideoFileMetadataExtractor implements FileMetadataExtractor {
-    private final AviFileMetadataExtractor aviFileMetadataExtractor;
-    private final Mp4FileMetadataExtractor mp4FileMetadataExtractor;
-    private final QuickTimeFileMetadataExtractor quickTimeFileMetadataExtractor;
+    private final FormatExtractorRegistry formatExtractorRegistry;
 
+    /**
+     * @param formatExtractorRegistry the format-level extractors keyed by MIME type
+     */
     @Inject
-    public VideoFileMetadataExtractor(AviFileMetadataExtractor aviFileMetadataExtractor,
-                                      Mp4FileMetadataExtractor mp4FileMetadataExtractor,
-                                      QuickTimeFileMetadataExtractor quickTimeFileMetadataExtractor) {
-        this.aviFileMetadataExtractor = aviFileMetadataExtractor;
-        this.mp4FileMetadataExtractor = mp4FileMetadataExtractor;
-        this.quickTimeFileMetadataExtractor = quickTimeFileMetadataExtractor;
+    public VideoFileMetadataExtractor(FormatExtractorRegistry formatExtractorRegistry) {
+        this.formatExtractorRegistry = formatExtractorRegistry;
     }
 
     @Override
     public FileMeta extract(File file, String mimeType) {
         log.debug("Extracting video metadata for file: {}, mimeType: {}", file.getName(), mimeType);
+        FileMetadataExtractor extractor = formatExtractorRegistry.find(Category.VIDEO, mimeType);
+        return extractor != null ? extractor.extract(file, mimeType) : unsupported(file, mimeType);
+    }
 
-        if (AppMimeTypes.VIDEO_X_MS_VIDEO.getMime().equals(mimeType)) {
-            return aviFileMetadataExtractor.extract(file, mimeType);
-        }
-        if (AppMimeTypes.VIDEO_MP4.getMime().equals(mimeType)) {
-            return mp4FileMetadataExtractor.extract(file, mimeType);
-        }
-        if (AppMimeTypes.VIDEO_QUICKTIME.getMime().equals(mimeType)) {
-            return quickTimeFileMetadataExtractor.extract(file, mimeType);
-        }
+    @Override
+    public FileMeta extract(File file, String mimeType, Set<MetadataField> fields) {
+        log.debug("Extracting video metadata for file: {}, mimeType: {}", file.getName(), mimeType);
+        FileMetadataExtractor extractor = formatExtractorRegistry.find(Category.VIDEO, mimeType);
+        return extractor != null ? extractor.extract(file, mimeType, fields) : unsupported(file, mimeType);
+    }
+
+    @Override
+    public FileMeta extract(FileReadContext context, String mimeType, Set<MetadataField> fields) {
+        log.debug("Extracting video metadata for file: {}, mimeType: {}", context.getFile().getName(), mimeType);
+        FileMetadataExtractor extractor = formatExtractorRegistry.find(Category.VIDEO, mimeType);
+        return extractor != null
+                ? extractor.extract(context, mimeType, fields)
+                : unsupported(context.getFile(), mimeType);
+    }
 
+    private FileMeta unsupported(File file, String mimeType) {
         log.warn("Unsupported video MIME type: {} for file: {}", mimeType, file.getName());
         return FileMeta.withError("Not Supported File MimeType: " + mimeType);
     }
@@ -1,11 +1,19 @@
 package ua.renamer.app.metadata.extractor.strategy.format;
 
+import com.drew.imaging.ImageMetadataReader;
+import com.drew.imaging.ImageProcessingException;
 import com.drew.metadata.Directory;
 import com.drew.metadata.Metadata;
 import com.drew.metadata.Tag;
+import com.drew.metadata.file.FileSystemDirectory;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import ua.renamer.app.api.interfaces.FileReadContext;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -39,4 +47,29 @@ public class MetadataCommons {
 
         return metadataMap;
     }
+
+    /**
+     * Parses metadata from the shared stream of {@code context}. Like
+     * {@link ImageMetadataReader#readMetadata(java.io.File)}, the result includes a
+     * {@link FileSystemDirectory}, filled from the context's attributes instead of new file system queries.
+     *
+     * @param context the read context of the file
+     * @return the parsed metadata; never null
+     * @throws IOException              if the file cannot be read
+     * @throws ImageProcessingException if the file format cannot be parsed
+     */
+    public static Metadata readMetadata(FileReadContext context) throws IOException, ImageProcessingException {
+        BasicFileAttributes attributes = context.getAttributes();
+        Metadata metadata;
+        try (InputStream stream = context.newInputStream()) {
+            metadata = ImageMetadataReader.readMetadata(stream, attributes.size());
+        }
+
+        FileSystemDirectory fileSystem = new FileSystemDirectory();
+        fileSystem.setString(FileSystemDirectory.TAG_FILE_NAME, context.getFile().getName());
+        fileSystem.setLong(FileSystemDirectory.TAG_FILE_SIZE, attributes.size());
+        fileSystem.setDate(FileSystemDirectory.TAG_FILE_MODIFIED_DATE, new Date(attributes.lastModifiedTime().toMillis()));
+        metadata.addDirectory(fileSystem);
+        return metadata;
+    }
 }
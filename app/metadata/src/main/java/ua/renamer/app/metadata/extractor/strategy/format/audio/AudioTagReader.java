@@ -0,0 +1,485 @@
+package ua.renamer.app.metadata.extractor.strategy.format.audio;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import ua.renamer.app.api.enums.AppMimeTypes;
+import ua.renamer.app.api.interfaces.FileReadContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Reads artist, album, title, year and length from MP3 and FLAC files by parsing their tag blocks directly.
+ *
+ * <p>MP3: ID3v2.2–2.4 text frames, or the ID3v1 trailer when there is no ID3v2 tag. The length comes from
+ * the Xing/Info or VBRI header of the first MPEG frame, or from the bitrate of that frame for CBR files;
+ * no other frame is read. FLAC: the Vorbis comment block, with the length from STREAMINFO. Frames and
+ * blocks that are not needed, such as embedded pictures, are skipped by their declared size.
+ *
+ * <p>Returns empty for any other format and for structures this reader does not handle (unsynchronised,
+ * compressed or encrypted ID3v2 frames, missing MPEG frame), so the caller can fall back to jaudiotagger.
+ *
+ * <p>Stateless and thread-safe.
+ */
+@Slf4j
+public class AudioTagReader {
+
+    private static final int WINDOW_SIZE = 16 * 1024;
+    private static final int MAX_BLOCK_SIZE = 1024 * 1024;
+    private static final int ID3V2_HEADER_SIZE = 10;
+    private static final int ID3V1_SIZE = 128;
+    private static final int MPEG_FRAME_SEARCH_BYTES = 64 * 1024;
+    private static final int FLAC_STREAMINFO = 0;
+    private static final int FLAC_VORBIS_COMMENT = 4;
+    private static final int MAX_FLAC_BLOCKS = 128;
+
+    private static final int[] MPEG1_SAMPLE_RATES = {44_100, 48_000, 32_000};
+    private static final int[][] BITRATES_KBPS = {
+            // MPEG-1 Layer I, II, III
+            {0, 32, 64, 96, 128, 160, 192, 224, 256, 288, 320, 352, 384, 416, 448},
+            {0, 32, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320, 384},
+            {0, 32, 40, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320},
+            // MPEG-2/2.5 Layer I, Layer II and III
+            {0, 32, 48, 56, 64, 80, 96, 112, 128, 144, 160, 176, 192, 224, 256},
+            {0, 8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160},
+    };
+
+    /**
+     * Read the tags of {@code file}.
+     *
+     * @param file     the audio file
+     * @param mimeType the detected MIME type; only MP3 and FLAC are read
+     * @return the tags, or empty when the format or tag structure is not handled or the file cannot be read
+     */
+    public Optional<AudioTags> read(File file, String mimeType) {
+        if (!isSupported(mimeType)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return read(file, mimeType, new Source(channel::read, channel.size()));
+        } catch (IOException e) {
+            log.debug("Fast tag read failed for '{}': {}", file.getName(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Read the tags of the file behind {@code context}, through its shared channel.
+     *
+     * @param context  the read context of the audio file
+     * @param mimeType the detected MIME type; only MP3 and FLAC are read
+     * @return the tags, or empty under the same conditions as {@link #read(File, String)}
+     */
+    public Optional<AudioTags> read(FileReadContext context, String mimeType) {
+        if (!isSupported(mimeType)) {
+            return Optional.empty();
+        }
+        return read(context.getFile(), mimeType, new Source(context::read, context.getAttributes().size()));
+    }
+
+    private static boolean isSupported(String mimeType) {
+        return AppMimeTypes.AUDIO_MPEG.getMime().equals(mimeType) || AppMimeTypes.AUDIO_FLAC.getMime().equals(mimeType);
+    }
+
+    private Optional<AudioTags> read(File file, String mimeType, Source source) {
+        try {
+            return Optional.ofNullable(AppMimeTypes.AUDIO_FLAC.getMime().equals(mimeType)
+                    ? readFlac(source)
+                    : readMp3(source));
+        } catch (IOException | RuntimeException e) {
+            // Malformed sizes are expected in damaged files; the caller falls back to jaudiotagger
+            log.debug("Fast tag read failed for '{}': {}", file.getName(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // ============================================================================
+    // MP3
+    // ============================================================================
+
+    private @Nullable AudioTags readMp3(Source source) throws IOException {
+        TagBuilder tags = new TagBuilder();
+        long audioStart = 0;
+        boolean hasId3v2 = startsWith(source.read(0, ID3V2_HEADER_SIZE), "ID3");
+        if (hasId3v2) {
+            ByteBuffer header = source.read(0, ID3V2_HEADER_SIZE);
+            int flags = header.get(5);
+            long tagSize = synchsafe(header, 6);
+            audioStart = ID3V2_HEADER_SIZE + tagSize + ((flags & 0x10) != 0 ? ID3V2_HEADER_SIZE : 0);
+            if (!readId3v2(source, header.get(3), flags, tagSize, tags)) {
+                return null;
+            }
+        }
+        boolean hasId3v1 = source.size() - audioStart >= ID3V1_SIZE
+                && startsWith(source.read(source.size() - ID3V1_SIZE, ID3V1_SIZE), "TAG");
+        // Like jaudiotagger, an ID3v2 tag hides the ID3v1 trailer even when it lacks a field
+        if (!hasId3v2 && hasId3v1) {
+            readId3v1(source.read(source.size() - ID3V1_SIZE, ID3V1_SIZE), tags);
+        }
+        long audioEnd = source.size() - (hasId3v1 ? ID3V1_SIZE : 0);
+        Double seconds = mpegDuration(source, audioStart, audioEnd);
+        if (seconds == null) {
+            return null;
+        }
+        return tags.build(seconds);
+    }
+
+    /**
+     * @return {@code false} if the tag uses a feature this reader does not decode
+     */
+    private boolean readId3v2(Source source, int version, int flags, long tagSize, TagBuilder tags) throws IOException {
+        if (version < 2 || version > 4 || (flags & 0x80) != 0 || version == 2 && (flags & 0x40) != 0) {
+            // Tag-level unsynchronisation and ID3v2.2 compression
+            return false;
+        }
+        long position = ID3V2_HEADER_SIZE;
+        long end = ID3V2_HEADER_SIZE + tagSize;
+        if (version > 2 && (flags & 0x40) != 0) {
+            ByteBuffer extended = source.read(position, 4);
+            // ID3v2.4 counts the size field, ID3v2.3 does not
+            position += version == 4 ? synchsafe(extended, 0) : 4 + Integer.toUnsignedLong(extended.getInt(0));
+        }
+        int idLength = version == 2 ? 3 : 4;
+        int headerSize = version == 2 ? 6 : 10;
+        while (position + headerSize <= end) {
+            ByteBuffer frameHeader = source.read(position, headerSize);
+            if (frameHeader.get(0) == 0) {
+                // Padding
+                break;
+            }
+            String id = ascii(frameHeader, 0, idLength);
+            long frameSize = switch (version) {
+                case 2 -> ((frameHeader.get(3) & 0xFF) << 16) | ((frameHeader.get(4) & 0xFF) << 8) | (frameHeader.get(5) & 0xFF);
+                case 3 -> Integer.toUnsignedLong(frameHeader.getInt(4));
+                default -> synchsafe(frameHeader, 4);
+            };
+            long bodyStart = position + headerSize;
+            if (frameSize > end - bodyStart) {
+                return false;
+            }
+            Field field = Field.ofId3(id);
+            if (field != null && frameSize > 0) {
+                int formatFlags = version == 2 ? 0 : frameHeader.get(9);
+                // Compression, encryption, grouping, unsynchronisation and data length indicator
+                int unsupported = version == 3 ? 0xE0 : 0x4F;
+                if ((formatFlags & unsupported) != 0 || frameSize > MAX_BLOCK_SIZE) {
+                    return false;
+                }
+                tags.put(field, decodeText(source.read(bodyStart, (int) frameSize)));
+            }
+            position = bodyStart + frameSize;
+        }
+        return true;
+    }
+
+    private void readId3v1(ByteBuffer tag, TagBuilder tags) {
+        tags.put(Field.TITLE, latin1(tag, 3, 30));
+        tags.put(Field.ARTIST, latin1(tag, 33, 30));
+        tags.put(Field.ALBUM, latin1(tag, 63, 30));
+        tags.put(Field.YEAR, latin1(tag, 93, 4));
+    }
+
+    /**
+     * Length of the MPEG stream from its first frame.
+     *
+     * @return seconds, or {@code null} when no valid frame follows the tag
+     */
+    private @Nullable Double mpegDuration(Source source, long audioStart, long audioEnd) throws IOException {
+        int searchLength = (int) Math.min(MPEG_FRAME_SEARCH_BYTES, audioEnd - audioStart);
+        if (searchLength < 4) {
+            return null;
+        }
+        ByteBuffer search = source.read(audioStart, searchLength);
+        for (int offset = 0; offset + 4 <= search.limit(); offset++) {
+            MpegFrame frame = MpegFrame.parse(search.getInt(offset));
+            if (frame == null) {
+                continue;
+            }
+            long frameStart = audioStart + offset;
+            Long frameCount = vbrFrameCount(source.read(frameStart, (int) Math.min(frame.vbriOffset() + 18L,
+                    audioEnd - frameStart)), frame);
+            if (frameCount != null) {
+                return (double) frameCount * frame.samplesPerFrame() / frame.sampleRate();
+            }
+            int next = offset + frame.length();
+            if (next + 4 > search.limit() || MpegFrame.parse(search.getInt(next)) == null) {
+                // A CBR stream is trusted only when a second frame follows; otherwise this is a false sync
+                continue;
+            }
+            return (audioEnd - frameStart) * 8.0 / (frame.bitrateKbps() * 1000.0);
+        }
+        return null;
+    }
+
+    private static @Nullable Long vbrFrameCount(ByteBuffer frame, MpegFrame header) {
+        int xing = header.xingOffset();
+        if (frame.limit() >= xing + 12) {
+            String id = ascii(frame, xing, 4);
+            if (("Xing".equals(id) || "Info".equals(id)) && (frame.getInt(xing + 4) & 0x1) != 0) {
+                return Integer.toUnsignedLong(frame.getInt(xing + 8));
+            }
+        }
+        int vbri = header.vbriOffset();
+        if (frame.limit() >= vbri + 18 && "VBRI".equals(ascii(frame, vbri, 4))) {
+            return Integer.toUnsignedLong(frame.getInt(vbri + 14));
+        }
+        return null;
+    }
+
+    /**
+     * @param sampleRate      samples per second
+     * @param bitrateKbps     bitrate of this frame
+     * @param samplesPerFrame samples encoded in one frame
+     * @param length          frame length in bytes
+     * @param xingOffset      offset of a Xing/Info header from the frame start
+     */
+    private record MpegFrame(int sampleRate, int bitrateKbps, int samplesPerFrame, int length, int xingOffset) {
+
+        private static final int VBRI_OFFSET = 36;
+
+        static @Nullable MpegFrame parse(int header) {
+            if ((header >>> 21) != 0x7FF) {
+                return null;
+            }
+            int version = (header >>> 19) & 0x3;   // 0 = 2.5, 1 = reserved, 2 = 2, 3 = 1
+            int layer = (header >>> 17) & 0x3;     // 1 = III, 2 = II, 3 = I
+            int bitrateIndex = (header >>> 12) & 0xF;
+            int sampleRateIndex = (header >>> 10) & 0x3;
+            if (version == 1 || layer == 0 || bitrateIndex == 0 || bitrateIndex == 15 || sampleRateIndex == 3) {
+                return null;
+            }
+            boolean mpeg1 = version == 3;
+            int sampleRate = MPEG1_SAMPLE_RATES[sampleRateIndex] >> (mpeg1 ? 0 : version == 2 ? 1 : 2);
+            int table = mpeg1 ? 3 - layer : layer == 3 ? 3 : 4;
+            int bitrate = BITRATES_KBPS[table][bitrateIndex];
+            int padding = (header >>> 9) & 0x1;
+            boolean mono = ((header >>> 6) & 0x3) == 3;
+            int samplesPerFrame = layer == 3 ? 384 : layer == 2 || mpeg1 ? 1152 : 576;
+            int length = layer == 3
+                    ? (12 * bitrate * 1000 / sampleRate + padding) * 4
+                    : samplesPerFrame / 8 * bitrate * 1000 / sampleRate + padding;
+            int sideInfo = mpeg1 ? (mono ? 17 : 32) : (mono ? 9 : 17);
+            return new MpegFrame(sampleRate, bitrate, samplesPerFrame, length, 4 + sideInfo);
+        }
+
+        int vbriOffset() {
+            return VBRI_OFFSET;
+        }
+    }
+
+    // ============================================================================
+    // FLAC
+    // ============================================================================
+
+    private @Nullable AudioTags readFlac(Source source) throws IOException {
+        long position = 0;
+        if (startsWith(source.read(0, ID3V2_HEADER_SIZE), "ID3")) {
+            // Some taggers prepend an ID3v2 tag; FLAC readers skip it
+            ByteBuffer header = source.read(0, ID3V2_HEADER_SIZE);
+            position = ID3V2_HEADER_SIZE + synchsafe(header, 6) + ((header.get(5) & 0x10) != 0 ? ID3V2_HEADER_SIZE : 0);
+        }
+        if (!startsWith(source.read(position, 4), "fLaC")) {
+            return null;
+        }
+        position += 4;
+        TagBuilder tags = new TagBuilder();
+        Double seconds = null;
+        boolean last = false;
+        for (int i = 0; i < MAX_FLAC_BLOCKS && !last; i++) {
+            ByteBuffer header = source.read(position, 4);
+            last = (header.get(0) & 0x80) != 0;
+            int type = header.get(0) & 0x7F;
+            int length = header.getInt(0) & 0xFFFFFF;
+            long bodyStart = position + 4;
+            if (length > source.size() - bodyStart) {
+                return null;
+            }
+            if (type == FLAC_STREAMINFO) {
+                seconds = streamInfoDuration(source.read(bodyStart, length));
+            } else if (type == FLAC_VORBIS_COMMENT) {
+                if (length > MAX_BLOCK_SIZE) {
+                    return null;
+                }
+                readVorbisComments(source.read(bodyStart, length).order(ByteOrder.LITTLE_ENDIAN), tags);
+            }
+            position = bodyStart + length;
+        }
+        return tags.build(seconds);
+    }
+
+    private static @Nullable Double streamInfoDuration(ByteBuffer streamInfo) {
+        int sampleRate = ((streamInfo.get(10) & 0xFF) << 12) | ((streamInfo.get(11) & 0xFF) << 4)
+                | ((streamInfo.get(12) & 0xFF) >>> 4);
+        long totalSamples = ((long) (streamInfo.get(13) & 0x0F) << 32) | Integer.toUnsignedLong(streamInfo.getInt(14));
+        // Zero total samples means the encoder did not know the length
+        return sampleRate == 0 || totalSamples == 0 ? null : (double) totalSamples / sampleRate;
+    }
+
+    private static void readVorbisComments(ByteBuffer block, TagBuilder tags) {
+        int position = 4 + block.getInt(0);
+        int count = block.getInt(position);
+        position += 4;
+        for (int i = 0; i < count; i++) {
+            int length = block.getInt(position);
+            String comment = new String(block.array(), block.arrayOffset() + position + 4, length, StandardCharsets.UTF_8);
+            position += 4 + length;
+            int separator = comment.indexOf('=');
+            if (separator > 0) {
+                Field field = Field.ofVorbis(comment.substring(0, separator));
+                if (field != null) {
+                    tags.put(field, comment.substring(separator + 1));
+                }
+            }
+        }
+    }
+
+    // ============================================================================
+    // Decoding helpers
+    // ============================================================================
+
+    private static @Nullable String decodeText(ByteBuffer frame) {
+        Charset charset = switch (frame.get(0)) {
+            case 0 -> StandardCharsets.ISO_8859_1;
+            case 1 -> StandardCharsets.UTF_16;
+            case 2 -> StandardCharsets.UTF_16BE;
+            case 3 -> StandardCharsets.UTF_8;
+            default -> null;
+        };
+        if (charset == null) {
+            return null;
+        }
+        String text = new String(frame.array(), frame.arrayOffset() + 1, frame.limit() - 1, charset);
+        // ID3v2.4 separates multiple values with NUL; keep the first like jaudiotagger's getFirst
+        int terminator = text.indexOf('\0');
+        return terminator >= 0 ? text.substring(0, terminator) : text;
+    }
+
+    private static String latin1(ByteBuffer buffer, int offset, int length) {
+        String text = new String(buffer.array(), buffer.arrayOffset() + offset, length, StandardCharsets.ISO_8859_1);
+        int terminator = text.indexOf('\0');
+        return (terminator >= 0 ? text.substring(0, terminator) : text).strip();
+    }
+
+    private static String ascii(ByteBuffer buffer, int offset, int length) {
+        return new String(buffer.array(), buffer.arrayOffset() + offset, length, StandardCharsets.US_ASCII);
+    }
+
+    private static boolean startsWith(ByteBuffer buffer, String magic) {
+        return buffer.limit() >= magic.length() && ascii(buffer, 0, magic.length()).equals(magic);
+    }
+
+    private static long synchsafe(ByteBuffer buffer, int offset) {
+        return ((buffer.get(offset) & 0x7FL) << 21) | ((buffer.get(offset + 1) & 0x7FL) << 14)
+                | ((buffer.get(offset + 2) & 0x7FL) << 7) | (buffer.get(offset + 3) & 0x7FL);
+    }
+
+    /**
+     * Tags read from an audio file. Text fields are {@code null} when absent; no fallbacks are applied.
+     *
+     * @param artist        lead artist ({@code TPE1}, {@code ARTIST})
+     * @param albumArtist   album artist ({@code TPE2}, {@code ALBUMARTIST})
+     * @param album         album ({@code TALB}, {@code ALBUM})
+     * @param title         title ({@code TIT2}, {@code TITLE})
+     * @param year          raw year or date string ({@code TYER}, {@code TDRC}, {@code DATE})
+     * @param lengthSeconds length rounded to whole seconds; {@code null} when unknown
+     */
+    public record AudioTags(@Nullable String artist, @Nullable String albumArtist, @Nullable String album,
+                            @Nullable String title, @Nullable String year, @Nullable Integer lengthSeconds) {
+    }
+
+    private enum Field {
+        ARTIST, ALBUM_ARTIST, ALBUM, TITLE, YEAR;
+
+        static @Nullable Field ofId3(String id) {
+            return switch (id) {
+                case "TPE1", "TP1" -> ARTIST;
+                case "TPE2", "TP2" -> ALBUM_ARTIST;
+                case "TALB", "TAL" -> ALBUM;
+                case "TIT2", "TT2" -> TITLE;
+                case "TYER", "TDRC", "TYE" -> YEAR;
+                default -> null;
+            };
+        }
+
+        static @Nullable Field ofVorbis(String key) {
+            return switch (key.toUpperCase(Locale.ROOT)) {
+                case "ARTIST" -> ARTIST;
+                case "ALBUMARTIST", "ALBUM ARTIST" -> ALBUM_ARTIST;
+                case "ALBUM" -> ALBUM;
+                case "TITLE" -> TITLE;
+                case "DATE", "YEAR" -> YEAR;
+                default -> null;
+            };
+        }
+    }
+
+    private static final class TagBuilder {
+        private final String[] values = new String[Field.values().length];
+
+        void put(Field field, @Nullable String value) {
+            // The first occurrence wins, like jaudiotagger's getFirst
+            if (values[field.ordinal()] == null && value != null && !value.isBlank()) {
+                values[field.ordinal()] = value;
+            }
+        }
+
+        AudioTags build(@Nullable Double seconds) {
+            Integer length = seconds == null ? null : (int) Math.round(seconds);
+            return new AudioTags(values[Field.ARTIST.ordinal()], values[Field.ALBUM_ARTIST.ordinal()],
+                    values[Field.ALBUM.ordinal()], values[Field.TITLE.ordinal()], values[Field.YEAR.ordinal()],
+                    length);
+        }
+    }
+
+    /**
+     * Positional reads through a window, so consecutive small reads such as frame headers share one read.
+     */
+    private static final class Source {
+        private final PositionalReader reader;
+        private final long size;
+        private ByteBuffer window = ByteBuffer.allocate(0);
+        private long windowStart;
+
+        private Source(PositionalReader reader, long size) {
+            this.reader = reader;
+            this.size = size;
+        }
+
+        long size() {
+            return size;
+        }
+
+        /**
+         * @return a heap buffer positioned at 0 holding {@code length} bytes from {@code position}, or fewer at
+         * end of file
+         */
+        ByteBuffer read(long position, int length) throws IOException {
+            if (position < windowStart || position + length > windowStart + window.limit()) {
+                int fetch = (int) Math.max(0, Math.min(Math.max(length, WINDOW_SIZE), size - position));
+                ByteBuffer buffer = ByteBuffer.allocate(fetch);
+                int read = 0;
+                // Positional reads do not move a shared file pointer; repeat until the buffer is full
+                while (buffer.hasRemaining() && read >= 0) {
+                    read = reader.read(buffer, position + buffer.position());
+                }
+                window = buffer.flip();
+                windowStart = position;
+            }
+            int offset = (int) (position - windowStart);
+            return window.slice(offset, Math.min(length, window.limit() - offset));
+        }
+    }
+
+    @FunctionalInterface
+    private interface PositionalReader {
+        int read(ByteBuffer target, long position) throws IOException;
+    }
+}
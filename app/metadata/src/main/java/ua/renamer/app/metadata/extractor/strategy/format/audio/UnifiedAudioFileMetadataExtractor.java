@@ -1,5 +1,7 @@
 package ua.renamer.app.metadata.extractor.strategy.format.audio;
 
+import jakarta.inject.Inject;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jaudiotagger.audio.AudioFile;
 import org.jaudiotagger.audio.AudioFileIO;
@@ -7,7 +9,9 @@ import org.jaudiotagger.audio.AudioHeader;
 import org.jaudiotagger.tag.FieldKey;
 import org.jaudiotagger.tag.Tag;
 import org.jspecify.annotations.Nullable;
+import ua.renamer.app.api.enums.MetadataField;
 import ua.renamer.app.api.interfaces.FileMetadataExtractor;
+import ua.renamer.app.api.interfaces.FileReadContext;
 import ua.renamer.app.api.model.meta.FileMeta;
 import ua.renamer.app.api.model.meta.category.AudioMeta;
 import ua.renamer.app.metadata.extractor.strategy.format.ExtractionResult;
@@ -15,19 +19,61 @@ import ua.renamer.app.metadata.extractor.strategy.format.ExtractionResult;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Unified audio metadata extractor using jaudiotagger library.
  * Supports MP3, WAV, FLAC, M4A, OGG, WMA, and many other audio formats.
  * Uses a common API regardless of the underlying audio format.
+ *
+ * <p>MP3 and FLAC files are first read by {@link AudioTagReader}, which parses only the tag blocks;
+ * jaudiotagger reads them only when that reader cannot.
  */
 @Slf4j
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
 public class UnifiedAudioFileMetadataExtractor implements FileMetadataExtractor {
 
     private static final int YEAR_DIGIT_LENGTH = 4;
 
+    private final AudioTagReader tagReader;
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>MP3 and FLAC tags are read through the shared channel of {@code context}. jaudiotagger reads
+     * only from a {@link File}, so for other formats this opens the file separately from the context and
+     * records that open on it.
+     */
+    @Override
+    public FileMeta extract(FileReadContext context, String mimeType, Set<MetadataField> fields) {
+        Optional<AudioTagReader.AudioTags> tags = tagReader.read(context, mimeType);
+        if (tags.isPresent()) {
+            return toFileMeta(tags.get());
+        }
+        context.recordExternalOpen();
+        return extractWithJaudiotagger(context.getFile());
+    }
+
     @Override
     public FileMeta extract(File file, String mimeType) {
+        return tagReader.read(file, mimeType)
+                .map(this::toFileMeta)
+                .orElseGet(() -> extractWithJaudiotagger(file));
+    }
+
+    private FileMeta toFileMeta(AudioTagReader.AudioTags tags) {
+        AudioMeta audioMeta = AudioMeta.builder()
+                .withArtistName(tags.artist() != null ? tags.artist() : tags.albumArtist())
+                .withAlbumName(tags.album())
+                .withSongName(tags.title())
+                .withYear(parseYear(tags.year()))
+                .withLength(tags.lengthSeconds() != null && tags.lengthSeconds() > 0 ? tags.lengthSeconds() : null)
+                .build();
+        return FileMeta.builder().withAudio(audioMeta).build();
+    }
+
+    private FileMeta extractWithJaudiotagger(File file) {
         try {
             AudioFile audioFile = AudioFileIO.read(file);
             Tag tag = audioFile.getTag();
@@ -115,29 +161,33 @@ public class UnifiedAudioFileMetadataExtractor implements FileMetadataExtractor
 
     private ExtractionResult<Integer> extractYearSafely(Tag tag) {
         try {
-            String yearStr = getFirstNonEmpty(tag, FieldKey.YEAR);
-            if (yearStr != null && !yearStr.trim().isEmpty()) {
-                try {
-                    // Year might be "2023" or "2023-05-15", extract first 4 consecutive digits
-                    String digits = yearStr.replaceAll("\\D", "");
-                    if (digits.length() >= YEAR_DIGIT_LENGTH) {
-                        int year = Integer.parseInt(digits.substring(0, YEAR_DIGIT_LENGTH));
-                        // Sanity check: year should be reasonable
-                        if (year >= 1900 && year <= 2100) {
-                            return ExtractionResult.success(year);
-                        }
-                    }
-                } catch (NumberFormatException e) {
-                    log.debug("Invalid year format: {}", yearStr);
-                }
-            }
-            return ExtractionResult.success(null);
+            return ExtractionResult.success(parseYear(getFirstNonEmpty(tag, FieldKey.YEAR)));
         } catch (Exception e) {
             log.debug("Error extracting year", e);
             return ExtractionResult.failure("Failed to extract year: " + e.getMessage());
         }
     }
 
+    @Nullable
+    private Integer parseYear(@Nullable String yearStr) {
+        if (yearStr != null && !yearStr.trim().isEmpty()) {
+            try {
+                // Year might be "2023" or "2023-05-15", extract first 4 consecutive digits
+                String digits = yearStr.replaceAll("\\D", "");
+                if (digits.length() >= YEAR_DIGIT_LENGTH) {
+                    int year = Integer.parseInt(digits.substring(0, YEAR_DIGIT_LENGTH));
+                    // Sanity check: year should be reasonable
+                    if (year >= 1900 && year <= 2100) {
+                        return year;
+                    }
+                }
+            } catch (NumberFormatException e) {
+                log.debug("Invalid year format: {}", yearStr);
+            }
+        }
+        return null;
+    }
+
     private ExtractionResult<Integer> extractDurationSafely(AudioHeader header) {
         try {
             if (header != null) {
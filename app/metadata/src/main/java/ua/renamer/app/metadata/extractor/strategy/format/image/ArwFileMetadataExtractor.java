@@ -9,14 +9,15 @@ import ua.renamer.app.api.interfaces.DateTimeUtils;
  * Metadata extractor for Sony ARW (Sony Raw) camera files.
  * ARW files contain EXIF metadata with datetime information.
  */
-public class ArwFileMetadataExtractor extends BaseImageMetadataExtractor {
+public class ArwFileMetadataExtractor extends BaseRawImageMetadataExtractor {
 
     /**
      * @param dateTimeUtils provides date/time parsing utilities
+     * @param headerReader  reads metadata from the file header before falling back to a full read
      */
     @Inject
-    public ArwFileMetadataExtractor(DateTimeUtils dateTimeUtils) {
-        super(dateTimeUtils);
+    public ArwFileMetadataExtractor(DateTimeUtils dateTimeUtils, ImageHeaderReader headerReader) {
+        super(dateTimeUtils, headerReader);
     }
 
     @Override
@@ -11,8 +11,10 @@ import com.drew.metadata.exif.ExifSubIFDDirectory;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.Nullable;
+import ua.renamer.app.api.enums.MetadataField;
 import ua.renamer.app.api.interfaces.DateTimeUtils;
 import ua.renamer.app.api.interfaces.FileMetadataExtractor;
+import ua.renamer.app.api.interfaces.FileReadContext;
 import ua.renamer.app.api.model.meta.FileMeta;
 import ua.renamer.app.api.model.meta.category.ImageMeta;
 import ua.renamer.app.metadata.extractor.strategy.format.ExtractionResult;
@@ -23,8 +25,10 @@ import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -38,9 +42,20 @@ public abstract class BaseImageMetadataExtractor implements FileMetadataExtracto
 
     @Override
     public FileMeta extract(File file, String mimeType) {
+        return extract(file, mimeType, MetadataField.all());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The tag map ({@code metaInfo}) is built only when {@link MetadataField#TAG_DUMP} is requested;
+     * formatting every tag description is the bulk of the per-file allocation.
+     */
+    @Override
+    public FileMeta extract(File file, String mimeType, Set<MetadataField> fields) {
         Metadata metadata;
         try {
-            metadata = ImageMetadataReader.readMetadata(file);
+            metadata = readMetadata(file);
         } catch (IOException e) {
             log.warn("File I/O error processing image: {}", file.getAbsolutePath(), e);
             return FileMeta.withError(e);
@@ -48,7 +63,55 @@ public abstract class BaseImageMetadataExtractor implements FileMetadataExtracto
             log.warn("Image processing failed for: {}", file.getName(), e);
             return FileMeta.withError(e);
         }
+        return toFileMeta(metadata, fields);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Parses the shared stream of {@code context} instead of opening the file again.
+     */
+    @Override
+    public FileMeta extract(FileReadContext context, String mimeType, Set<MetadataField> fields) {
+        Metadata metadata;
+        try {
+            metadata = readMetadata(context);
+        } catch (IOException e) {
+            log.warn("File I/O error processing image: {}", context.getFile().getAbsolutePath(), e);
+            return FileMeta.withError(e);
+        } catch (ImageProcessingException e) {
+            log.warn("Image processing failed for: {}", context.getFile().getName(), e);
+            return FileMeta.withError(e);
+        }
+        return toFileMeta(metadata, fields);
+    }
+
+    /**
+     * Parse the metadata of {@code file}. The default implementation reads the whole file.
+     *
+     * @param file the image file
+     * @return the parsed metadata; never null
+     * @throws IOException              if the file cannot be read
+     * @throws ImageProcessingException if the file format cannot be parsed
+     */
+    protected Metadata readMetadata(File file) throws IOException, ImageProcessingException {
+        return ImageMetadataReader.readMetadata(file);
+    }
+
+    /**
+     * Parse the metadata of the file behind {@code context}. The default implementation reads the
+     * whole file through the context's shared channel.
+     *
+     * @param context the read context of the image file
+     * @return the parsed metadata; never null
+     * @throws IOException              if the file cannot be read
+     * @throws ImageProcessingException if the file format cannot be parsed
+     */
+    protected Metadata readMetadata(FileReadContext context) throws IOException, ImageProcessingException {
+        return MetadataCommons.readMetadata(context);
+    }
 
+    private FileMeta toFileMeta(Metadata metadata, Set<MetadataField> fields) {
         var exifDirectories = extractAvailableExifDirectories(metadata);
         List<String> errors = new ArrayList<>();
 
@@ -70,7 +133,9 @@ public abstract class BaseImageMetadataExtractor implements FileMetadataExtracto
                 .build();
 
         // Extract all metadata tags as a map
-        var metadataMap = MetadataCommons.buildMetadataMap(metadata);
+        var metadataMap = fields.contains(MetadataField.TAG_DUMP)
+                ? MetadataCommons.buildMetadataMap(metadata)
+                : Map.<String, String>of();
 
         return FileMeta.builder().withImage(imgMeta).withErrors(errors).withMetaInfo(metadataMap).build();
     }
@@ -164,7 +229,7 @@ public abstract class BaseImageMetadataExtractor implements FileMetadataExtracto
         return directories.stream().map(dir -> dir.getInteger(tag)).filter(Objects::nonNull).findFirst();
     }
 
-    private List<ExifDirectoryBase> extractAvailableExifDirectories(Metadata metadata) {
+    protected List<ExifDirectoryBase> extractAvailableExifDirectories(Metadata metadata) {
         var exifImageDirectory = metadata.getFirstDirectoryOfType(ExifImageDirectory.class);
         var exifIFD0Directory = metadata.getFirstDirectoryOfType(ExifIFD0Directory.class);
         var exifSubIFDDirectory = metadata.getFirstDirectoryOfType(ExifSubIFDDirectory.class);
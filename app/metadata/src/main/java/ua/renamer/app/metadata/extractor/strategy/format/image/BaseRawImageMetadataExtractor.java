@@ -0,0 +1,66 @@
+package ua.renamer.app.metadata.extractor.strategy.format.image;
+
+import com.drew.imaging.ImageProcessingException;
+import com.drew.metadata.Metadata;
+import com.drew.metadata.exif.ExifDirectoryBase;
+import lombok.extern.slf4j.Slf4j;
+import ua.renamer.app.api.interfaces.DateTimeUtils;
+import ua.renamer.app.api.interfaces.FileReadContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Base class for RAW camera formats. Metadata is first parsed from the file header through
+ * {@link ImageHeaderReader}; the whole file is read only when the header lacks the width, the height
+ * or a creation date.
+ *
+ * <p>The tag map of a header-only read omits tags stored beyond the header, such as late maker-note blocks.
+ */
+@Slf4j
+public abstract class BaseRawImageMetadataExtractor extends BaseImageMetadataExtractor {
+
+    private final ImageHeaderReader headerReader;
+
+    /**
+     * @param dateTimeUtils provides date/time parsing utilities
+     * @param headerReader  reads metadata from the file header
+     */
+    protected BaseRawImageMetadataExtractor(DateTimeUtils dateTimeUtils, ImageHeaderReader headerReader) {
+        super(dateTimeUtils);
+        this.headerReader = headerReader;
+    }
+
+    @Override
+    protected Metadata readMetadata(File file) throws IOException, ImageProcessingException {
+        Optional<Metadata> header = headerReader.readHeader(file);
+        if (header.isPresent() && hasRequiredTags(header.get())) {
+            return header.get();
+        }
+        log.debug("Header of '{}' is incomplete, reading the whole file", file.getName());
+        return super.readMetadata(file);
+    }
+
+    @Override
+    protected Metadata readMetadata(FileReadContext context) throws IOException, ImageProcessingException {
+        Optional<Metadata> header = headerReader.readHeader(context);
+        if (header.isPresent() && hasRequiredTags(header.get())) {
+            return header.get();
+        }
+        log.debug("Header of '{}' is incomplete, reading the whole file", context.getFile().getName());
+        return super.readMetadata(context);
+    }
+
+    private boolean hasRequiredTags(Metadata metadata) {
+        try {
+            List<ExifDirectoryBase> directories = extractAvailableExifDirectories(metadata);
+            return extractWidth(metadata, directories) != null
+                    && extractHeight(metadata, directories) != null
+                    && extractCreationDateTimeFromExif(directories) != null;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
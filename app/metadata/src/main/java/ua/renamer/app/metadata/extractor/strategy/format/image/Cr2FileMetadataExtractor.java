@@ -9,14 +9,15 @@ import ua.renamer.app.api.interfaces.DateTimeUtils;
  * Metadata extractor for Canon CR2 (Canon Raw 2) camera files.
  * CR2 files contain EXIF metadata with datetime information.
  */
-public class Cr2FileMetadataExtractor extends BaseImageMetadataExtractor {
+public class Cr2FileMetadataExtractor extends BaseRawImageMetadataExtractor {
 
     /**
      * @param dateTimeUtils provides date/time parsing utilities
+     * @param headerReader  reads metadata from the file header before falling back to a full read
      */
     @Inject
-    public Cr2FileMetadataExtractor(DateTimeUtils dateTimeUtils) {
-        super(dateTimeUtils);
+    public Cr2FileMetadataExtractor(DateTimeUtils dateTimeUtils, ImageHeaderReader headerReader) {
+        super(dateTimeUtils, headerReader);
     }
 
     @Override
@@ -9,14 +9,15 @@ import ua.renamer.app.api.interfaces.DateTimeUtils;
  * Metadata extractor for Canon CR3 (Canon Raw 3) camera files.
  * CR3 files contain EXIF metadata with datetime information.
  */
-public class Cr3FileMetadataExtractor extends BaseImageMetadataExtractor {
+public class Cr3FileMetadataExtractor extends BaseRawImageMetadataExtractor {
 
     /**
      * @param dateTimeUtils provides date/time parsing utilities
+     * @param headerReader  reads metadata from the file header before falling back to a full read
      */
     @Inject
-    public Cr3FileMetadataExtractor(DateTimeUtils dateTimeUtils) {
-        super(dateTimeUtils);
+    public Cr3FileMetadataExtractor(DateTimeUtils dateTimeUtils, ImageHeaderReader headerReader) {
+        super(dateTimeUtils, headerReader);
     }
 
     @Override
@@ -9,14 +9,15 @@ import ua.renamer.app.api.interfaces.DateTimeUtils;
  * Metadata extractor for Adobe DNG (Digital Negative) camera files.
  * DNG is an open standard RAW format that contains EXIF metadata with datetime information.
  */
-public class DngFileMetadataExtractor extends BaseImageMetadataExtractor {
+public class DngFileMetadataExtractor extends BaseRawImageMetadataExtractor {
 
     /**
      * @param dateTimeUtils provides date/time parsing utilities
+     * @param headerReader  reads metadata from the file header before falling back to a full read
      */
     @Inject
-    public DngFileMetadataExtractor(DateTimeUtils dateTimeUtils) {
-        super(dateTimeUtils);
+    public DngFileMetadataExtractor(DateTimeUtils dateTimeUtils, ImageHeaderReader headerReader) {
+        super(dateTimeUtils, headerReader);
     }
 
     @Override
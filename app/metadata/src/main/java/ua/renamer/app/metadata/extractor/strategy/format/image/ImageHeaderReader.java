@@ -0,0 +1,129 @@
+package ua.renamer.app.metadata.extractor.strategy.format.image;
+
+import com.drew.imaging.ImageMetadataReader;
+import com.drew.imaging.ImageProcessingException;
+import com.drew.metadata.Metadata;
+import com.drew.metadata.exif.ExifIFD0Directory;
+import lombok.extern.slf4j.Slf4j;
+import ua.renamer.app.api.interfaces.FileReadContext;
+import ua.renamer.app.api.settings.AppDefaults;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * Reads image metadata from the leading region of a file only.
+ *
+ * <p>RAW camera files keep their EXIF block near the start, followed by tens of megabytes of sensor
+ * data. Reading the header with positional {@link FileChannel} reads and parsing it in memory avoids
+ * streaming that data over slow links such as USB or SMB. The result may lack tags stored further
+ * into the file, so callers fall back to a full read when a tag they need is missing.
+ *
+ * <p>Thread-safe. Bound as a singleton so the header size set from the application settings
+ * reaches every extractor.
+ */
+@Slf4j
+public class ImageHeaderReader {
+
+    private static final int BYTES_PER_KB = 1024;
+
+    private volatile int headerReadKb = AppDefaults.DEFAULT_IMAGE_HEADER_READ_KB;
+
+    /**
+     * @return the header size in KiB; {@code 0} when header-only reads are disabled
+     */
+    public int getHeaderReadKb() {
+        return headerReadKb;
+    }
+
+    /**
+     * Set the size of the header region to read.
+     *
+     * @param headerReadKb size in KiB; {@code 0} disables header-only reads
+     * @throws IllegalArgumentException if the value is outside
+     *                                  [{@link AppDefaults#MIN_IMAGE_HEADER_READ_KB},
+     *                                  {@link AppDefaults#MAX_IMAGE_HEADER_READ_KB}]
+     */
+    public void setHeaderReadKb(int headerReadKb) {
+        if (headerReadKb < AppDefaults.MIN_IMAGE_HEADER_READ_KB
+                || headerReadKb > AppDefaults.MAX_IMAGE_HEADER_READ_KB) {
+            throw new IllegalArgumentException("headerReadKb must be between "
+                    + AppDefaults.MIN_IMAGE_HEADER_READ_KB + " and " + AppDefaults.MAX_IMAGE_HEADER_READ_KB
+                    + ", got: " + headerReadKb);
+        }
+        this.headerReadKb = headerReadKb;
+    }
+
+    /**
+     * Parse the metadata found in the header region of {@code file}.
+     *
+     * @param file the image file
+     * @return the header metadata, or empty when header reads are disabled, the file is not larger than
+     *         the header (a full read costs the same), or the header cannot be parsed completely
+     */
+    public Optional<Metadata> readHeader(File file) {
+        long limit = (long) headerReadKb * BYTES_PER_KB;
+        if (limit == 0) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() <= limit) {
+                return Optional.empty();
+            }
+            return parseHeader(file, (int) limit, channel::read);
+        } catch (IOException | RuntimeException e) {
+            log.debug("Header-only read failed for '{}': {}", file.getName(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Parse the metadata found in the header region of the file behind {@code context}, reading
+     * through its shared channel.
+     *
+     * @param context the read context of the image file
+     * @return the header metadata, or empty under the same conditions as {@link #readHeader(File)}
+     */
+    public Optional<Metadata> readHeader(FileReadContext context) {
+        long limit = (long) headerReadKb * BYTES_PER_KB;
+        if (limit == 0 || context.getAttributes().size() <= limit) {
+            return Optional.empty();
+        }
+        return parseHeader(context.getFile(), (int) limit, context::read);
+    }
+
+    private Optional<Metadata> parseHeader(File file, int limit, PositionalReader reader) {
+        try {
+            ByteBuffer header = ByteBuffer.allocate(limit);
+            // Positional reads do not move a shared file pointer; repeat until the header is full
+            int read = 0;
+            while (header.hasRemaining() && read >= 0) {
+                read = reader.read(header, header.position());
+            }
+            int length = header.position();
+            Metadata metadata = ImageMetadataReader.readMetadata(
+                    new ByteArrayInputStream(header.array(), 0, length), length);
+            // A directory cut off by the header end is recorded as a directory error rather than thrown
+            ExifIFD0Directory ifd0 = metadata.getFirstDirectoryOfType(ExifIFD0Directory.class);
+            if (metadata.hasErrors() || ifd0 == null || !ifd0.containsTag(ExifIFD0Directory.TAG_IMAGE_WIDTH)) {
+                log.debug("Header of '{}' holds incomplete metadata, reading the whole file", file.getName());
+                return Optional.empty();
+            }
+            return Optional.of(metadata);
+        } catch (IOException | ImageProcessingException | RuntimeException e) {
+            // Truncated structures are expected here; the caller reads the whole file instead
+            log.debug("Header-only read failed for '{}': {}", file.getName(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @FunctionalInterface
+    private interface PositionalReader {
+        int read(ByteBuffer target, long position) throws IOException;
+    }
+}
@@ -9,14 +9,15 @@ import ua.renamer.app.api.interfaces.DateTimeUtils;
  * Metadata extractor for Nikon NEF (Nikon Electronic Format) camera files.
  * NEF files contain EXIF metadata with datetime information.
  */
-public class NefFileMetadataExtractor extends BaseImageMetadataExtractor {
+public class NefFileMetadataExtractor extends BaseRawImageMetadataExtractor {
 
     /**
      * @param dateTimeUtils provides date/time parsing utilities
+     * @param headerReader  reads metadata from the file header before falling back to a full read
      */
     @Inject
-    public NefFileMetadataExtractor(DateTimeUtils dateTimeUtils) {
-        super(dateTimeUtils);
+    public NefFileMetadataExtractor(DateTimeUtils dateTimeUtils, ImageHeaderReader headerReader) {
+        super(dateTimeUtils, headerReader);
     }
 
     @Override
@@ -0,0 +1,75 @@
+package ua.renamer.app.metadata.extractor.strategy.format.video;
+
+import lombok.extern.slf4j.Slf4j;
+import ua.renamer.app.api.enums.MetadataField;
+import ua.renamer.app.api.interfaces.DateTimeUtils;
+import ua.renamer.app.api.interfaces.FileReadContext;
+import ua.renamer.app.api.model.meta.FileMeta;
+import ua.renamer.app.api.model.meta.category.VideoMeta;
+
+import java.io.File;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Base class for ISO-BMFF video formats (MP4, QuickTime). The typed fields are first read by walking the
+ * box tree through {@link IsoBmffBoxReader}; the metadata-extractor library parses the file only when
+ * the tag map is requested or the boxes lack a requested field.
+ */
+@Slf4j
+public abstract class BaseIsoBmffVideoMetadataExtractor extends BaseVideoMetadataExtractor {
+
+    private final IsoBmffBoxReader boxReader;
+
+    /**
+     * @param dateTimeUtils provides date/time parsing utilities
+     * @param boxReader     reads the movie boxes before falling back to the full parser
+     */
+    protected BaseIsoBmffVideoMetadataExtractor(DateTimeUtils dateTimeUtils, IsoBmffBoxReader boxReader) {
+        super(dateTimeUtils);
+        this.boxReader = boxReader;
+    }
+
+    @Override
+    public FileMeta extract(File file, String mimeType, Set<MetadataField> fields) {
+        if (!fields.contains(MetadataField.TAG_DUMP)) {
+            Optional<FileMeta> fromBoxes = toFileMeta(boxReader.read(file), fields);
+            if (fromBoxes.isPresent()) {
+                return fromBoxes.get();
+            }
+            log.debug("Movie boxes of '{}' are incomplete, using the full parser", file.getName());
+        }
+        return super.extract(file, mimeType, fields);
+    }
+
+    @Override
+    public FileMeta extract(FileReadContext context, String mimeType, Set<MetadataField> fields) {
+        if (!fields.contains(MetadataField.TAG_DUMP)) {
+            Optional<FileMeta> fromBoxes = toFileMeta(boxReader.read(context), fields);
+            if (fromBoxes.isPresent()) {
+                return fromBoxes.get();
+            }
+            log.debug("Movie boxes of '{}' are incomplete, using the full parser", context.getFile().getName());
+        }
+        return super.extract(context, mimeType, fields);
+    }
+
+    private Optional<FileMeta> toFileMeta(Optional<IsoBmffBoxReader.MovieInfo> info, Set<MetadataField> fields) {
+        return info.filter(movie -> hasRequestedFields(movie, fields))
+                .map(movie -> VideoMeta.builder()
+                        .withContentCreationDate(movie.creationTime() == null
+                                ? null
+                                : dateTimeUtils.toLocalDateTime(FileTime.from(movie.creationTime())))
+                        .withWidth(movie.width())
+                        .withHeight(movie.height())
+                        .withDuration(movie.durationSeconds())
+                        .build())
+                .map(videoMeta -> FileMeta.builder().withVideo(videoMeta).build());
+    }
+
+    private static boolean hasRequestedFields(IsoBmffBoxReader.MovieInfo movie, Set<MetadataField> fields) {
+        return (!fields.contains(MetadataField.DIMENSIONS) || movie.width() != null && movie.height() != null)
+                && (!fields.contains(MetadataField.CONTENT_DATE) || movie.creationTime() != null);
+    }
+}
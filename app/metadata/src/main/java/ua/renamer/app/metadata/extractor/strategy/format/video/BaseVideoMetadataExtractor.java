@@ -7,8 +7,10 @@ import com.drew.metadata.Metadata;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.Nullable;
+import ua.renamer.app.api.enums.MetadataField;
 import ua.renamer.app.api.interfaces.DateTimeUtils;
 import ua.renamer.app.api.interfaces.FileMetadataExtractor;
+import ua.renamer.app.api.interfaces.FileReadContext;
 import ua.renamer.app.api.model.meta.FileMeta;
 import ua.renamer.app.api.model.meta.category.VideoMeta;
 import ua.renamer.app.metadata.extractor.strategy.format.ExtractionResult;
@@ -19,7 +21,9 @@ import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Base class for format-specific video metadata extractors using the metadata-extractor library.
@@ -32,6 +36,17 @@ public abstract class BaseVideoMetadataExtractor implements FileMetadataExtracto
 
     @Override
     public FileMeta extract(File file, String mimeType) {
+        return extract(file, mimeType, MetadataField.all());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The tag map ({@code metaInfo}) is built only when {@link MetadataField#TAG_DUMP} is requested;
+     * formatting every tag description is the bulk of the per-file allocation.
+     */
+    @Override
+    public FileMeta extract(File file, String mimeType, Set<MetadataField> fields) {
         Metadata metadata;
         try {
             metadata = ImageMetadataReader.readMetadata(file);
@@ -42,7 +57,30 @@ public abstract class BaseVideoMetadataExtractor implements FileMetadataExtracto
             log.warn("Video processing failed for: {}", file.getName(), e);
             return FileMeta.withError(e);
         }
+        return toFileMeta(metadata, fields);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Parses the shared stream of {@code context} instead of opening the file again.
+     */
+    @Override
+    public FileMeta extract(FileReadContext context, String mimeType, Set<MetadataField> fields) {
+        Metadata metadata;
+        try {
+            metadata = MetadataCommons.readMetadata(context);
+        } catch (IOException e) {
+            log.warn("File I/O error processing video: {}", context.getFile().getAbsolutePath(), e);
+            return FileMeta.withError(e);
+        } catch (ImageProcessingException e) {
+            log.warn("Video processing failed for: {}", context.getFile().getName(), e);
+            return FileMeta.withError(e);
+        }
+        return toFileMeta(metadata, fields);
+    }
 
+    private FileMeta toFileMeta(Metadata metadata, Set<MetadataField> fields) {
         var directories = extractAvailableDirectories(metadata);
         List<String> errors = new ArrayList<>();
 
@@ -67,7 +105,9 @@ public abstract class BaseVideoMetadataExtractor implements FileMetadataExtracto
                 .build();
 
         // Extract all metadata tags as a map
-        var metadataMap = MetadataCommons.buildMetadataMap(metadata);
+        var metadataMap = fields.contains(MetadataField.TAG_DUMP)
+                ? MetadataCommons.buildMetadataMap(metadata)
+                : Map.<String, String>of();
 
         return FileMeta.builder().withVideo(videoMeta).withErrors(errors).withMetaInfo(metadataMap).build();
     }
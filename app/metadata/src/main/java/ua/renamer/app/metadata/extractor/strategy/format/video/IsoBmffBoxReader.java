@@ -0,0 +1,239 @@
+package ua.renamer.app.metadata.extractor.strategy.format.video;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import ua.renamer.app.api.interfaces.FileReadContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Reads the creation time, dimensions and duration of an MP4 or QuickTime file by walking its
+ * ISO-BMFF box tree directly.
+ *
+ * <p>Only box headers and the small {@code mvhd} and {@code tkhd} bodies are read, each with one
+ * positional read; every other box, including {@code mdat}, is skipped by its declared size. A video
+ * with {@code moov} at the end therefore costs a few dozen bytes per top-level box instead of a scan
+ * of the whole file.
+ *
+ * <p>Stateless and thread-safe.
+ */
+@Slf4j
+public class IsoBmffBoxReader {
+
+    /**
+     * Seconds between the ISO-BMFF epoch (1904-01-01T00:00:00Z) and the Unix epoch.
+     */
+    static final long EPOCH_OFFSET_SECONDS = 2_082_844_800L;
+
+    private static final int BOX_HEADER_SIZE = 8;
+    private static final int LARGE_BOX_HEADER_SIZE = 16;
+    private static final int MAX_BOXES_PER_LEVEL = 256;
+    // Version 1 layouts, the larger of the two versions
+    private static final int MVHD_BODY_SIZE = 32;
+    private static final int TKHD_BODY_SIZE = 96;
+
+    /**
+     * Read the movie information of {@code file}.
+     *
+     * @param file the MP4 or QuickTime file
+     * @return the movie information, or empty when the file has no well-formed {@code moov} box or cannot be read
+     */
+    public Optional<MovieInfo> read(File file) {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return read(file, channel.size(), channel::read);
+        } catch (IOException e) {
+            log.debug("Box walk failed for '{}': {}", file.getName(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Read the movie information of the file behind {@code context}, through its shared channel.
+     *
+     * @param context the read context of the MP4 or QuickTime file
+     * @return the movie information, or empty under the same conditions as {@link #read(File)}
+     */
+    public Optional<MovieInfo> read(FileReadContext context) {
+        return read(context.getFile(), context.getAttributes().size(), context::read);
+    }
+
+    private Optional<MovieInfo> read(File file, long fileSize, PositionalReader reader) {
+        try {
+            Box moov = findChild(reader, 0, fileSize, "moov");
+            if (moov == null) {
+                return Optional.empty();
+            }
+            return Optional.of(readMovie(reader, moov));
+        } catch (IOException | RuntimeException e) {
+            // Malformed box sizes are expected in damaged files; the caller falls back to the full parser
+            log.debug("Box walk failed for '{}': {}", file.getName(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private MovieInfo readMovie(PositionalReader reader, Box moov) throws IOException {
+        Instant creationTime = null;
+        Integer durationSeconds = null;
+        Integer width = null;
+        Integer height = null;
+
+        long position = moov.bodyStart();
+        for (int i = 0; i < MAX_BOXES_PER_LEVEL && position < moov.end(); i++) {
+            Box child = readBoxHeader(reader, position, moov.end());
+            if (child == null) {
+                break;
+            }
+            if (child.is("mvhd")) {
+                ByteBuffer body = readBody(reader, child, MVHD_BODY_SIZE);
+                creationTime = mvhdCreationTime(body);
+                durationSeconds = mvhdDurationSeconds(body);
+            } else if (child.is("trak") && width == null) {
+                ByteBuffer tkhd = readTrackHeader(reader, child);
+                if (tkhd != null) {
+                    width = tkhdDimension(tkhd, 0);
+                    height = tkhdDimension(tkhd, 4);
+                    if (width == null || height == null) {
+                        // Audio and metadata tracks declare no dimensions
+                        width = null;
+                        height = null;
+                    }
+                }
+            }
+            position = child.end();
+        }
+        return new MovieInfo(creationTime, width, height, durationSeconds);
+    }
+
+    private @Nullable ByteBuffer readTrackHeader(PositionalReader reader, Box trak) throws IOException {
+        Box tkhd = findChild(reader, trak.bodyStart(), trak.end(), "tkhd");
+        return tkhd == null ? null : readBody(reader, tkhd, TKHD_BODY_SIZE);
+    }
+
+    private @Nullable Box findChild(PositionalReader reader, long start, long end, String type) throws IOException {
+        long position = start;
+        for (int i = 0; i < MAX_BOXES_PER_LEVEL && position < end; i++) {
+            Box box = readBoxHeader(reader, position, end);
+            if (box == null) {
+                return null;
+            }
+            if (box.is(type)) {
+                return box;
+            }
+            position = box.end();
+        }
+        return null;
+    }
+
+    private @Nullable Box readBoxHeader(PositionalReader reader, long position, long parentEnd) throws IOException {
+        if (parentEnd - position < BOX_HEADER_SIZE) {
+            return null;
+        }
+        ByteBuffer header = readFully(reader, position, (int) Math.min(LARGE_BOX_HEADER_SIZE, parentEnd - position));
+        if (header.limit() < BOX_HEADER_SIZE) {
+            return null;
+        }
+        long size = Integer.toUnsignedLong(header.getInt(0));
+        byte[] typeBytes = new byte[4];
+        header.get(4, typeBytes);
+        for (byte b : typeBytes) {
+            if (b < 0x20 || b > 0x7E) {
+                // Not a box header: this is not an ISO-BMFF file or a size was wrong
+                return null;
+            }
+        }
+        int headerSize = BOX_HEADER_SIZE;
+        if (size == 1) {
+            if (header.limit() < LARGE_BOX_HEADER_SIZE) {
+                return null;
+            }
+            size = header.getLong(8);
+            headerSize = LARGE_BOX_HEADER_SIZE;
+        } else if (size == 0) {
+            // The box extends to the end of its parent
+            size = parentEnd - position;
+        }
+        if (size < headerSize || size > parentEnd - position) {
+            return null;
+        }
+        return new Box(new String(typeBytes, StandardCharsets.US_ASCII), position + headerSize, position + size);
+    }
+
+    private ByteBuffer readBody(PositionalReader reader, Box box, int maxSize) throws IOException {
+        return readFully(reader, box.bodyStart(), (int) Math.min(maxSize, box.end() - box.bodyStart()));
+    }
+
+    private ByteBuffer readFully(PositionalReader reader, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        // Positional reads do not move a shared file pointer; repeat until the buffer is full
+        int read = 0;
+        while (buffer.hasRemaining() && read >= 0) {
+            read = reader.read(buffer, position + buffer.position());
+        }
+        return buffer.flip();
+    }
+
+    private static @Nullable Instant mvhdCreationTime(ByteBuffer body) {
+        int version = body.get(0);
+        long seconds = version == 1 ? body.getLong(4) : Integer.toUnsignedLong(body.getInt(4));
+        // Zero means the writer did not set the time
+        return seconds == 0 ? null : Instant.ofEpochSecond(seconds - EPOCH_OFFSET_SECONDS);
+    }
+
+    private static @Nullable Integer mvhdDurationSeconds(ByteBuffer body) {
+        int version = body.get(0);
+        long timescale = Integer.toUnsignedLong(body.getInt(version == 1 ? 20 : 12));
+        long duration = version == 1 ? body.getLong(24) : Integer.toUnsignedLong(body.getInt(16));
+        boolean unknown = version == 1 ? duration == -1L : duration == 0xFFFF_FFFFL;
+        if (timescale == 0 || unknown) {
+            return null;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, duration / timescale);
+    }
+
+    /**
+     * @param offset 0 for the width, 4 for the height
+     */
+    private static @Nullable Integer tkhdDimension(ByteBuffer body, int offset) {
+        int version = body.get(0);
+        int value = body.getInt((version == 1 ? 88 : 76) + offset);
+        // 16.16 fixed point
+        int pixels = value >>> 16;
+        return pixels == 0 ? null : pixels;
+    }
+
+    /**
+     * Movie information read from the {@code moov} box.
+     *
+     * @param creationTime    {@code mvhd} creation time; {@code null} when unset
+     * @param width           width of the first track with dimensions, in pixels; {@code null} when no track has any
+     * @param height          height of the same track, in pixels
+     * @param durationSeconds {@code mvhd} duration in whole seconds; {@code null} when unknown
+     */
+    public record MovieInfo(@Nullable Instant creationTime, @Nullable Integer width, @Nullable Integer height,
+                            @Nullable Integer durationSeconds) {
+    }
+
+    /**
+     * @param type      four-character box type
+     * @param bodyStart file offset of the first byte after the box header
+     * @param end       file offset of the first byte after the box
+     */
+    private record Box(String type, long bodyStart, long end) {
+
+        boolean is(String expected) {
+            return type.equals(expected);
+        }
+    }
+
+    @FunctionalInterface
+    private interface PositionalReader {
+        int read(ByteBuffer target, long position) throws IOException;
+    }
+}
@@ -14,14 +14,15 @@ import java.util.List;
 /**
  * Metadata extractor for MP4 video files.
  */
-public class Mp4FileMetadataExtractor extends BaseVideoMetadataExtractor {
+public class Mp4FileMetadataExtractor extends BaseIsoBmffVideoMetadataExtractor {
 
     /**
      * @param dateTimeUtils provides date/time parsing utilities
+     * @param boxReader     reads the movie boxes before falling back to the full parser
      */
     @Inject
-    public Mp4FileMetadataExtractor(DateTimeUtils dateTimeUtils) {
-        super(dateTimeUtils);
+    public Mp4FileMetadataExtractor(DateTimeUtils dateTimeUtils, IsoBmffBoxReader boxReader) {
+        super(dateTimeUtils, boxReader);
     }
 
     @Override
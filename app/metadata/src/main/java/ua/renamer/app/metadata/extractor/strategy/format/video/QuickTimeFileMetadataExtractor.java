@@ -12,14 +12,15 @@ import java.util.List;
 /**
  * Metadata extractor for QuickTime (MOV) video files.
  */
-public class QuickTimeFileMetadataExtractor extends BaseVideoMetadataExtractor {
+public class QuickTimeFileMetadataExtractor extends BaseIsoBmffVideoMetadataExtractor {
 
     /**
      * @param dateTimeUtils provides date/time parsing utilities
+     * @param boxReader     reads the movie boxes before falling back to the full parser
      */
     @Inject
-    public QuickTimeFileMetadataExtractor(DateTimeUtils dateTimeUtils) {
-        super(dateTimeUtils);
+    public QuickTimeFileMetadataExtractor(DateTimeUtils dateTimeUtils, IsoBmffBoxReader boxReader) {
+        super(dateTimeUtils, boxReader);
     }
 
     @Override
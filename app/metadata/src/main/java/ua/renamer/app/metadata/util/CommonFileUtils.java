@@ -3,27 +3,38 @@ package ua.renamer.app.metadata.util;
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.tika.Tika;
+import org.jspecify.annotations.Nullable;
 import ua.renamer.app.api.exception.FileAttributesReadException;
 import ua.renamer.app.api.exception.FileNotFoundException;
 import ua.renamer.app.api.exception.MimeTypeNotFoundException;
 import ua.renamer.app.api.interfaces.DateTimeUtils;
+import ua.renamer.app.api.interfaces.FileReadContext;
 import ua.renamer.app.api.interfaces.FileUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.FileTime;
 import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Implements {@link FileUtils} using Apache Tika for MIME detection and {@code java.nio} for attribute reads.
+ * Implements {@link FileUtils} using {@code java.nio} for attribute reads. MIME types of the supported
+ * media formats are read from the file signature by {@link MimeSignatures}; Apache Tika handles the rest.
  */
 @Slf4j
 public class CommonFileUtils implements FileUtils {
     private static final ThreadLocal<Tika> TIKA_INSTANCE = ThreadLocal.withInitial(Tika::new);
     private final DateTimeUtils dateTimeUtils;
+    private final AtomicLong signatureHits = new AtomicLong();
+    private final AtomicLong tikaFallbacks = new AtomicLong();
 
 
     /**
@@ -45,6 +56,25 @@ public class CommonFileUtils implements FileUtils {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Existence is checked by the attribute read itself, so the file system is queried once.
+     */
+    @Override
+    public FileReadContext openReadContext(File file) {
+        if (file == null) {
+            throw new NullPointerException("File is null");
+        }
+        try {
+            return FileReadContext.open(file, Files.readAttributes(file.toPath(), BasicFileAttributes.class));
+        } catch (NoSuchFileException _) {
+            throw new FileNotFoundException(file.getAbsolutePath());
+        } catch (IOException e) {
+            throw new FileAttributesReadException(String.format("Failed to read attributes for file: %s", file), e);
+        }
+    }
+
     @Override
     public BasicFileAttributes getBasicFileAttributes(Path path) {
         try {
@@ -72,12 +102,72 @@ public class CommonFileUtils implements FileUtils {
     @Override
     public String getFileMimeType(Path path) {
         try {
-            return TIKA_INSTANCE.get().detect(path);
+            String mimeType = detectBySignature(readHeader(path), path);
+            return mimeType != null ? mimeType : TIKA_INSTANCE.get().detect(path);
+        } catch (IOException e) {
+            throw new MimeTypeNotFoundException(String.format("Failed to detect MIME type for: %s", path), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Reads only the header buffered by the context; the Tika fallback reads through the
+     * context's shared channel as well.
+     */
+    @Override
+    public String getFileMimeType(FileReadContext context) {
+        Path path = context.getFile().toPath();
+        try {
+            String mimeType = detectBySignature(context.getHeader(), path);
+            if (mimeType != null) {
+                return mimeType;
+            }
+            try (InputStream stream = context.newInputStream()) {
+                return TIKA_INSTANCE.get().detect(stream, fileNameOf(path));
+            }
         } catch (IOException e) {
             throw new MimeTypeNotFoundException(String.format("Failed to detect MIME type for: %s", path), e);
         }
     }
 
+    /**
+     * @return how many MIME detections were answered from the file signature and how many fell back to Tika
+     */
+    public MimeDetectionStats getMimeDetectionStats() {
+        return new MimeDetectionStats(signatureHits.get(), tikaFallbacks.get());
+    }
+
+    private @Nullable String detectBySignature(ByteBuffer header, Path path) {
+        byte[] leading = new byte[Math.min(MimeSignatures.HEADER_LENGTH, header.remaining())];
+        header.get(leading);
+        String mimeType = MimeSignatures.detect(leading, leading.length, fileNameOf(path));
+        if (mimeType != null) {
+            signatureHits.incrementAndGet();
+            return mimeType;
+        }
+        long fallbacks = tikaFallbacks.incrementAndGet();
+        log.debug("No signature match for '{}', falling back to Tika ({} of {} detections)",
+                path.getFileName(), fallbacks, fallbacks + signatureHits.get());
+        return null;
+    }
+
+    private static ByteBuffer readHeader(Path path) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(MimeSignatures.HEADER_LENGTH);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            int read = 0;
+            while (header.hasRemaining() && read >= 0) {
+                read = channel.read(header);
+            }
+        }
+        return header.flip();
+    }
+
+    private static @Nullable String fileNameOf(Path path) {
+        Path fileName = path.getFileName();
+        return fileName == null ? null : fileName.toString();
+    }
+
     @Override
     public LocalDateTime getFileCreationDate(BasicFileAttributes attributes) {
         FileTime creationTime = null;
@@ -101,4 +191,21 @@ public class CommonFileUtils implements FileUtils {
 
         return dateTimeUtils.toLocalDateTime(modificationTime);
     }
+
+    /**
+     * Snapshot of MIME detection counters.
+     *
+     * @param signatureHits number of detections decided from the leading bytes of the file
+     * @param tikaFallbacks number of detections delegated to Tika
+     */
+    public record MimeDetectionStats(long signatureHits, long tikaFallbacks) {
+
+        /**
+         * @return Tika fallbacks divided by total detections, or 0 when there were no detections
+         */
+        public double fallbackRate() {
+            long total = signatureHits + tikaFallbacks;
+            return total == 0 ? 0.0 : (double) tikaFallbacks / total;
+        }
+    }
 }
@@ -0,0 +1,255 @@
+package ua.renamer.app.metadata.util;
+
+import org.jspecify.annotations.Nullable;
+import ua.renamer.app.api.enums.AppMimeTypes;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Detects the MIME type of the media formats in {@link AppMimeTypes} from the first bytes of a file.
+ *
+ * <p>Covers JPEG, PNG, GIF, WebP, TIFF and the TIFF-based RAW formats, HEIF/HEIC/AVIF and CR3 by their
+ * {@code ftyp} brands, MP3, FLAC, Ogg (Vorbis, Opus, Speex), WAV, MP4/M4A/MOV and AVI. Every other
+ * input yields {@code null} and is left to the caller's general-purpose detector.
+ *
+ * <p>NEF, ARW and DNG files share the plain TIFF header; for these the file extension picks the RAW
+ * type, and a TIFF header under any other extension is reported as {@code image/tiff}.
+ */
+public final class MimeSignatures {
+
+    /**
+     * Number of leading bytes the detection looks at.
+     */
+    public static final int HEADER_LENGTH = 64;
+
+    private static final List<Signature> FIXED_SIGNATURES = List.of(
+            new Signature(0, bytes(0xFF, 0xD8, 0xFF), AppMimeTypes.IMAGE_JPEG),
+            new Signature(0, bytes(0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A), AppMimeTypes.IMAGE_PNG),
+            new Signature(0, ascii("GIF87a"), AppMimeTypes.IMAGE_GIF),
+            new Signature(0, ascii("GIF89a"), AppMimeTypes.IMAGE_GIF),
+            new Signature(0, ascii("FUJIFILMCCD-RAW"), AppMimeTypes.IMAGE_X_FUJIFILM_RAF),
+            new Signature(0, ascii("IIRO"), AppMimeTypes.IMAGE_X_OLYMPUS_ORF),
+            new Signature(0, ascii("IIRS"), AppMimeTypes.IMAGE_X_OLYMPUS_ORF),
+            new Signature(0, ascii("MMOR"), AppMimeTypes.IMAGE_X_OLYMPUS_ORF),
+            new Signature(0, bytes('I', 'I', 'U', 0x00), AppMimeTypes.IMAGE_X_PANASONIC_RW2),
+            new Signature(0, ascii("fLaC"), AppMimeTypes.AUDIO_FLAC),
+            new Signature(0, ascii("ID3"), AppMimeTypes.AUDIO_MPEG));
+
+    private static final byte[] TIFF_LITTLE_ENDIAN = bytes('I', 'I', 0x2A, 0x00);
+    private static final byte[] TIFF_BIG_ENDIAN = bytes('M', 'M', 0x00, 0x2A);
+    private static final byte[] CR2_MARKER = ascii("CR");
+    private static final byte[] RIFF = ascii("RIFF");
+    private static final byte[] OGG = ascii("OggS");
+    private static final byte[] FTYP = ascii("ftyp");
+
+    private static final Map<String, AppMimeTypes> RIFF_FORMATS = Map.of(
+            "WEBP", AppMimeTypes.IMAGE_WEBP,
+            "AVI ", AppMimeTypes.VIDEO_X_MS_VIDEO,
+            "WAVE", AppMimeTypes.AUDIO_WAV);
+
+    /**
+     * Ogg codec identification headers, found at the start of the first page payload (offset 28).
+     */
+    private static final Map<String, AppMimeTypes> OGG_CODECS = Map.of(
+            "\u0001vorbis", AppMimeTypes.AUDIO_OGG,
+            "OpusHead", AppMimeTypes.AUDIO_OPUS,
+            "Speex   ", AppMimeTypes.AUDIO_SPEEX);
+    private static final int OGG_PAYLOAD_OFFSET = 28;
+
+    private static final Map<String, AppMimeTypes> FTYP_BRANDS = Map.ofEntries(
+            Map.entry("heic", AppMimeTypes.IMAGE_HEIC),
+            Map.entry("heix", AppMimeTypes.IMAGE_HEIC),
+            Map.entry("heim", AppMimeTypes.IMAGE_HEIC),
+            Map.entry("heis", AppMimeTypes.IMAGE_HEIC),
+            Map.entry("hevc", AppMimeTypes.IMAGE_HEIC),
+            Map.entry("hevx", AppMimeTypes.IMAGE_HEIC),
+            Map.entry("avif", AppMimeTypes.IMAGE_AVIF),
+            Map.entry("avis", AppMimeTypes.IMAGE_AVIF),
+            Map.entry("crx ", AppMimeTypes.IMAGE_X_CANON_CR3),
+            Map.entry("qt  ", AppMimeTypes.VIDEO_QUICKTIME),
+            Map.entry("M4A ", AppMimeTypes.AUDIO_MP4),
+            Map.entry("M4B ", AppMimeTypes.AUDIO_MP4),
+            Map.entry("M4P ", AppMimeTypes.AUDIO_MP4),
+            Map.entry("isom", AppMimeTypes.VIDEO_MP4),
+            Map.entry("iso2", AppMimeTypes.VIDEO_MP4),
+            Map.entry("iso4", AppMimeTypes.VIDEO_MP4),
+            Map.entry("iso5", AppMimeTypes.VIDEO_MP4),
+            Map.entry("iso6", AppMimeTypes.VIDEO_MP4),
+            Map.entry("mp41", AppMimeTypes.VIDEO_MP4),
+            Map.entry("mp42", AppMimeTypes.VIDEO_MP4),
+            Map.entry("avc1", AppMimeTypes.VIDEO_MP4),
+            Map.entry("dash", AppMimeTypes.VIDEO_MP4),
+            Map.entry("M4V ", AppMimeTypes.VIDEO_MP4));
+    /**
+     * Generic HEIF brands; the compatible brands tell whether the content is HEVC, AV1 or neither.
+     */
+    private static final Set<String> HEIF_STRUCTURAL_BRANDS = Set.of("mif1", "msf1");
+
+    /**
+     * RAW formats that start with a plain TIFF header and differ only by extension.
+     */
+    private static final List<AppMimeTypes> PLAIN_TIFF_RAWS = List.of(
+            AppMimeTypes.IMAGE_X_NIKON_NEF,
+            AppMimeTypes.IMAGE_X_SONY_ARW,
+            AppMimeTypes.IMAGE_X_ADOBE_DNG);
+
+    private MimeSignatures() {
+    }
+
+    /**
+     * Detect the MIME type from the leading bytes of a file.
+     *
+     * @param header   the leading bytes; only the first {@code length} are read
+     * @param length   number of valid bytes in {@code header}
+     * @param fileName the file name, consulted only where the bytes are ambiguous; may be null
+     * @return one of the {@link AppMimeTypes} MIME strings, or {@code null} when no signature matches
+     */
+    public static @Nullable String detect(byte[] header, int length, @Nullable String fileName) {
+        for (Signature signature : FIXED_SIGNATURES) {
+            if (startsWith(header, length, signature.offset(), signature.magic())) {
+                return signature.type().getMime();
+            }
+        }
+        if (startsWith(header, length, 0, TIFF_LITTLE_ENDIAN) || startsWith(header, length, 0, TIFF_BIG_ENDIAN)) {
+            return detectTiff(header, length, extensionOf(fileName));
+        }
+        if (startsWith(header, length, 0, RIFF)) {
+            String format = readAscii(header, length, 8, 4);
+            return format == null ? null : mimeOf(RIFF_FORMATS.get(format));
+        }
+        if (startsWith(header, length, 4, FTYP)) {
+            return detectFtyp(header, length, extensionOf(fileName));
+        }
+        if (startsWith(header, length, 0, OGG)) {
+            return detectOgg(header, length);
+        }
+        if (isMpegAudioFrame(header, length)) {
+            return AppMimeTypes.AUDIO_MPEG.getMime();
+        }
+        return null;
+    }
+
+    private static String detectTiff(byte[] header, int length, String extension) {
+        if (startsWith(header, length, 8, CR2_MARKER)) {
+            return AppMimeTypes.IMAGE_X_CANON_CR2.getMime();
+        }
+        for (AppMimeTypes raw : PLAIN_TIFF_RAWS) {
+            if (raw.getExtensions().contains(extension)) {
+                return raw.getMime();
+            }
+        }
+        return AppMimeTypes.IMAGE_TIFF.getMime();
+    }
+
+    private static @Nullable String detectFtyp(byte[] header, int length, String extension) {
+        String majorBrand = readAscii(header, length, 8, 4);
+        if (majorBrand == null) {
+            return null;
+        }
+        if (HEIF_STRUCTURAL_BRANDS.contains(majorBrand)) {
+            return detectHeifByCompatibleBrands(header, length);
+        }
+        AppMimeTypes type = FTYP_BRANDS.get(majorBrand);
+        // Audio-only MP4 files often carry a generic video brand; the extension tells them apart
+        if (type == AppMimeTypes.VIDEO_MP4 && AppMimeTypes.AUDIO_MP4.getExtensions().contains(extension)) {
+            return AppMimeTypes.AUDIO_MP4.getMime();
+        }
+        return mimeOf(type);
+    }
+
+    private static String detectHeifByCompatibleBrands(byte[] header, int length) {
+        // Box layout: size(4) 'ftyp'(4) major(4) minor(4) compatible brands(4 each) up to size
+        int boxEnd = Math.min(length, readInt(header, 0));
+        for (int offset = 16; offset + 4 <= boxEnd; offset += 4) {
+            AppMimeTypes type = FTYP_BRANDS.get(readAscii(header, length, offset, 4));
+            if (type == AppMimeTypes.IMAGE_HEIC || type == AppMimeTypes.IMAGE_AVIF) {
+                return type.getMime();
+            }
+        }
+        return AppMimeTypes.IMAGE_HEIF.getMime();
+    }
+
+    private static @Nullable String detectOgg(byte[] header, int length) {
+        for (Map.Entry<String, AppMimeTypes> codec : OGG_CODECS.entrySet()) {
+            if (startsWith(header, length, OGG_PAYLOAD_OFFSET, codec.getKey().getBytes(StandardCharsets.ISO_8859_1))) {
+                return codec.getValue().getMime();
+            }
+        }
+        // Theora, FLAC-in-Ogg and other streams are left to the fallback detector
+        return null;
+    }
+
+    /**
+     * Check for an MPEG-1/2/2.5 Layer III frame header without a leading ID3 tag: an 11-bit sync
+     * word, layer bits {@code 01}, and a bitrate and sample-rate index that are not reserved.
+     */
+    private static boolean isMpegAudioFrame(byte[] header, int length) {
+        if (length < 3) {
+            return false;
+        }
+        int b1 = header[1] & 0xFF;
+        int b2 = header[2] & 0xFF;
+        return (header[0] & 0xFF) == 0xFF
+                && (b1 & 0xE6) == 0xE2
+                && (b1 & 0x18) != 0x08
+                && (b2 >> 4) != 0x0F
+                && ((b2 >> 2) & 0x03) != 0x03;
+    }
+
+    private static boolean startsWith(byte[] header, int length, int offset, byte[] magic) {
+        if (offset + magic.length > length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if (header[offset + i] != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static @Nullable String readAscii(byte[] header, int length, int offset, int count) {
+        if (offset + count > length) {
+            return null;
+        }
+        return new String(header, offset, count, StandardCharsets.ISO_8859_1);
+    }
+
+    private static int readInt(byte[] header, int offset) {
+        return ((header[offset] & 0xFF) << 24)
+                | ((header[offset + 1] & 0xFF) << 16)
+                | ((header[offset + 2] & 0xFF) << 8)
+                | (header[offset + 3] & 0xFF);
+    }
+
+    private static String extensionOf(@Nullable String fileName) {
+        if (fileName == null) {
+            return "";
+        }
+        int dot = fileName.lastIndexOf('.');
+        return dot <= 0 ? "" : fileName.substring(dot).toLowerCase(Locale.ROOT);
+    }
+
+    private static @Nullable String mimeOf(@Nullable AppMimeTypes type) {
+        return type == null ? null : type.getMime();
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] result = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = (byte) values[i];
+        }
+        return result;
+    }
+
+    private record Signature(int offset, byte[] magic, AppMimeTypes type) {
+    }
+}
@@ -0,0 +1,86 @@
+package ua.renamer.app.metadata.extractor;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FormatCircuitBreakerTest {
+
+    private static final String PSD = "image/vnd.adobe.photoshop";
+    private static final Duration OPEN = Duration.ofSeconds(60);
+
+    private final AtomicLong now = new AtomicLong();
+    private final FormatCircuitBreaker breaker = new FormatCircuitBreaker(3, OPEN, now::get);
+
+    @Test
+    void allows_unknownMimeType_returnsTrue() {
+        assertThat(breaker.allows(PSD)).isTrue();
+    }
+
+    @Test
+    void recordTimeout_belowThreshold_keepsBreakerClosed() {
+        assertThat(breaker.recordTimeout(PSD)).isFalse();
+        assertThat(breaker.recordTimeout(PSD)).isFalse();
+
+        assertThat(breaker.allows(PSD)).isTrue();
+    }
+
+    @Test
+    void recordTimeout_atThreshold_opensBreakerForThatMimeTypeOnly() {
+        openBreaker();
+
+        assertThat(breaker.allows(PSD)).isFalse();
+        assertThat(breaker.allows("image/jpeg")).isTrue();
+    }
+
+    @Test
+    void recordCompletion_resetsConsecutiveTimeouts() {
+        breaker.recordTimeout(PSD);
+        breaker.recordTimeout(PSD);
+        breaker.recordCompletion(PSD);
+
+        assertThat(breaker.recordTimeout(PSD)).isFalse();
+        assertThat(breaker.allows(PSD)).isTrue();
+    }
+
+    @Test
+    void allows_afterOpenPeriod_letsOneTrialThrough() {
+        openBreaker();
+        now.addAndGet(OPEN.toNanos());
+
+        assertThat(breaker.allows(PSD)).isTrue();
+        assertThat(breaker.allows(PSD)).isFalse();
+    }
+
+    @Test
+    void recordCompletion_ofTrial_closesBreaker() {
+        openBreaker();
+        now.addAndGet(OPEN.toNanos());
+        breaker.allows(PSD);
+
+        breaker.recordCompletion(PSD);
+
+        assertThat(breaker.allows(PSD)).isTrue();
+        assertThat(breaker.allows(PSD)).isTrue();
+    }
+
+    @Test
+    void recordTimeout_ofTrial_keepsBreakerOpenWithoutReportingItAgain() {
+        openBreaker();
+        now.addAndGet(OPEN.toNanos());
+        breaker.allows(PSD);
+
+        assertThat(breaker.recordTimeout(PSD)).isFalse();
+        now.addAndGet(OPEN.toNanos() - 1);
+        assertThat(breaker.allows(PSD)).isFalse();
+    }
+
+    private void openBreaker() {
+        breaker.recordTimeout(PSD);
+        breaker.recordTimeout(PSD);
+        assertThat(breaker.recordTimeout(PSD)).isTrue();
+    }
+}
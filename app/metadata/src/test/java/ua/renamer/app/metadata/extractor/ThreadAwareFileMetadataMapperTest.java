@@ -3,22 +3,43 @@ package ua.renamer.app.metadata.extractor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import ua.renamer.app.api.enums.Category;
+import ua.renamer.app.api.enums.MetadataField;
 import ua.renamer.app.api.interfaces.FileMetadataExtractor;
 import ua.renamer.app.api.interfaces.FileMetadataExtractorResolver;
+import ua.renamer.app.api.interfaces.FileReadContext;
 import ua.renamer.app.api.model.meta.FileMeta;
 
 import java.io.File;
-
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -77,4 +98,132 @@ class ThreadAwareFileMetadataMapperTest {
         assertNotNull(result);
         verify(resolver).getFileMetadataExtractor(Category.VIDEO);
     }
+
+    @Test
+    void testExtract_RequestedFieldsForwardedToStrategy() {
+        FileMeta expected = FileMeta.empty();
+        Set<MetadataField> fields = Set.of(MetadataField.DIMENSIONS);
+        when(resolver.getFileMetadataExtractor(Category.IMAGE)).thenReturn(strategyExtractor);
+        when(strategyExtractor.extract(mockFile, "image/jpeg", fields)).thenReturn(expected);
+
+        FileMeta result = mapper.extract(mockFile, Category.IMAGE, "image/jpeg", fields);
+
+        assertSame(expected, result);
+    }
+
+    @Test
+    void testExtract_NoRequestedFieldAppliesToCategory_FileNotRead() {
+        FileMeta result = mapper.extract(mockFile, Category.AUDIO, "audio/mpeg", Set.of(MetadataField.DIMENSIONS));
+
+        assertSame(FileMeta.empty(), result);
+        verifyNoInteractions(resolver);
+    }
+
+    // ============================================================================
+    // Extraction deadline
+    // ============================================================================
+
+    @Test
+    void testExtract_StrategyExceedsDeadline_ReturnsErrorAndReportsSlowFile() {
+        mapper.setExtractionDeadline(Duration.ofMillis(50));
+        when(mockFile.getAbsolutePath()).thenReturn("/photos/corrupt.psd");
+        when(resolver.getFileMetadataExtractor(Category.IMAGE)).thenReturn(strategyExtractor);
+        when(strategyExtractor.extract(any(), any())).thenAnswer(invocation -> hang());
+
+        FileMeta result = mapper.extract(mockFile, Category.IMAGE, "image/vnd.adobe.photoshop");
+
+        assertFalse(result.getErrors().isEmpty(), "Should report the timeout as an error");
+        ThreadAwareFileMetadataMapper.TimeoutStats stats = mapper.getTimeoutStats();
+        assertEquals(1, stats.timeouts());
+        assertEquals(List.of(new ThreadAwareFileMetadataMapper.SlowFile("/photos/corrupt.psd", "image/vnd.adobe.photoshop")),
+                stats.slowFiles());
+    }
+
+    @Test
+    void testExtract_RepeatedTimeoutsOfOneMimeType_SkipsFurtherFilesOfThatType() {
+        mapper.setExtractionDeadline(Duration.ofMillis(50));
+        when(resolver.getFileMetadataExtractor(Category.IMAGE)).thenReturn(strategyExtractor);
+        when(strategyExtractor.extract(any(), eq("image/vnd.adobe.photoshop"))).thenAnswer(invocation -> hang());
+        when(strategyExtractor.extract(any(), eq("image/jpeg"))).thenReturn(FileMeta.empty());
+
+        for (int i = 0; i < ThreadAwareFileMetadataMapper.BREAKER_TIMEOUT_THRESHOLD; i++) {
+            mapper.extract(mockFile, Category.IMAGE, "image/vnd.adobe.photoshop");
+        }
+        FileMeta skipped = mapper.extract(mockFile, Category.IMAGE, "image/vnd.adobe.photoshop");
+        FileMeta otherFormat = mapper.extract(mockFile, Category.IMAGE, "image/jpeg");
+
+        assertFalse(skipped.getErrors().isEmpty(), "Should report the skipped file as an error");
+        assertSame(FileMeta.empty(), otherFormat);
+        verify(strategyExtractor, times(ThreadAwareFileMetadataMapper.BREAKER_TIMEOUT_THRESHOLD))
+                .extract(any(), eq("image/vnd.adobe.photoshop"));
+        assertEquals(1, mapper.getTimeoutStats().skipped());
+    }
+
+    @Test
+    void testExtract_ContextExtractionExceedsDeadline_AbandonedReaderCannotReopenFile(@TempDir Path tempDir)
+            throws Exception {
+        mapper.setExtractionDeadline(Duration.ofMillis(50));
+        Path path = Files.write(tempDir.resolve("slow.psd"), new byte[FileReadContext.HEADER_SIZE * 2]);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Throwable> lateRead = new CompletableFuture<>();
+        when(resolver.getFileMetadataExtractor(Category.IMAGE)).thenReturn(strategyExtractor);
+        when(strategyExtractor.extract(any(FileReadContext.class), any(), any())).thenAnswer(invocation -> {
+            FileReadContext context = invocation.getArgument(0);
+            context.getHeader();
+            // A parser that ignores interrupts and keeps reading after the caller has given up
+            awaitUninterruptibly(release);
+            try {
+                context.read(ByteBuffer.allocate(16), FileReadContext.HEADER_SIZE);
+                lateRead.complete(null);
+            } catch (IOException e) {
+                lateRead.complete(e);
+            }
+            return FileMeta.empty();
+        });
+
+        FileReadContext context = FileReadContext.open(path.toFile(), Files.readAttributes(path, BasicFileAttributes.class));
+        FileMeta result;
+        try (context) {
+            result = mapper.extract(context, Category.IMAGE, "image/vnd.adobe.photoshop", MetadataField.typed());
+        }
+        release.countDown();
+
+        assertFalse(result.getErrors().isEmpty(), "Should report the timeout as an error");
+        assertInstanceOf(ClosedChannelException.class, lateRead.get(5, TimeUnit.SECONDS));
+        assertEquals(1, context.getOpenCount());
+    }
+
+    @Test
+    void testExtract_ZeroDeadline_ExtractsOnCallingThread() {
+        mapper.setExtractionDeadline(Duration.ZERO);
+        Thread caller = Thread.currentThread();
+        when(resolver.getFileMetadataExtractor(Category.IMAGE)).thenReturn(strategyExtractor);
+        when(strategyExtractor.extract(any(), any())).thenAnswer(invocation ->
+                Thread.currentThread() == caller ? FileMeta.empty() : FileMeta.withError("wrong thread"));
+
+        FileMeta result = mapper.extract(mockFile, Category.IMAGE, "image/jpeg");
+
+        assertSame(FileMeta.empty(), result);
+    }
+
+    @Test
+    void testSetExtractionDeadline_Negative_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> mapper.setExtractionDeadline(Duration.ofMillis(-1)));
+    }
+
+    private static FileMeta hang() throws InterruptedException {
+        Thread.sleep(Duration.ofMinutes(1));
+        return FileMeta.empty();
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (InterruptedException _) {
+                // Deliberately ignored, like a parser stuck in native code
+            }
+        }
+    }
 }
@@ -5,14 +5,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import ua.renamer.app.api.enums.MetadataField;
+import ua.renamer.app.api.interfaces.FileReadContext;
 import ua.renamer.app.api.model.meta.FileMeta;
 import ua.renamer.app.api.model.meta.category.ImageMeta;
 import ua.renamer.app.metadata.extractor.strategy.format.image.JpegFileMetadataExtractor;
 import ua.renamer.app.metadata.util.DateTimeConverter;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.LocalDateTime;
 import java.util.stream.Stream;
 
@@ -472,4 +477,41 @@ class JpegMetadataExtractorIntegrationTest {
         assertTrue(result.getErrors().isEmpty(),
                 "Should not have extraction errors");
     }
+
+    @Test
+    void testExtract_TypedFieldsOnly_SkipsTagMap() {
+        File testFile = getTestFile("test_jpg_gps_2025-12-11_21-00-35_lat48.8566_lon2.3522.jpg");
+
+        FileMeta result = extractor.extract(testFile, "image/jpeg", MetadataField.typed());
+
+        assertTrue(result.getMetaInfo().isEmpty(), "Tag map should only be built on request");
+        assertEquals(LocalDateTime.of(2025, 12, 11, 21, 0, 35),
+                result.getImageMeta().orElseThrow().getContentCreationDate().orElseThrow());
+        assertTrue(result.getImageMeta().orElseThrow().getWidth().isPresent());
+    }
+
+    @Test
+    void testExtract_TagDumpRequested_BuildsTagMap() {
+        File testFile = getTestFile("test_jpg_gps_2025-12-11_21-00-35_lat48.8566_lon2.3522.jpg");
+
+        FileMeta result = extractor.extract(testFile, "image/jpeg", MetadataField.all());
+
+        assertTrue(result.getMetaInfo().keySet().stream().anyMatch(key -> key.contains("GPS")),
+                "Should have GPS-related metadata keys");
+    }
+
+    @Test
+    void testExtract_ThroughReadContext_MatchesFileExtractionWithOneOpen() throws IOException {
+        File testFile = getTestFile("test_jpg_gps_2025-12-11_21-00-35_lat48.8566_lon2.3522.jpg");
+        FileMeta expected = extractor.extract(testFile, "image/jpeg", MetadataField.all());
+
+        try (FileReadContext context = FileReadContext.open(testFile,
+                Files.readAttributes(testFile.toPath(), BasicFileAttributes.class))) {
+            FileMeta result = extractor.extract(context, "image/jpeg", MetadataField.all());
+
+            assertEquals(expected.getImageMeta(), result.getImageMeta());
+            assertEquals(expected.getMetaInfo(), result.getMetaInfo());
+            assertEquals(1, context.getOpenCount());
+        }
+    }
 }
@@ -7,6 +7,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import ua.renamer.app.api.model.meta.FileMeta;
 import ua.renamer.app.api.model.meta.category.VideoMeta;
+import ua.renamer.app.metadata.extractor.strategy.format.video.IsoBmffBoxReader;
 import ua.renamer.app.metadata.extractor.strategy.format.video.QuickTimeFileMetadataExtractor;
 import ua.renamer.app.metadata.util.DateTimeConverter;
 
@@ -44,7 +45,7 @@ class MovMetadataExtractorIntegrationTest {
     @BeforeEach
     void setUp() {
         DateTimeConverter dateTimeConverter = new DateTimeConverter();
-        extractor = new QuickTimeFileMetadataExtractor(dateTimeConverter);
+        extractor = new QuickTimeFileMetadataExtractor(dateTimeConverter, new IsoBmffBoxReader());
     }
 
     private File getTestFile(String filename) {
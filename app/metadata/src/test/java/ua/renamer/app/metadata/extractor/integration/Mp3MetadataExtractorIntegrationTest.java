@@ -7,6 +7,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import ua.renamer.app.api.model.meta.FileMeta;
 import ua.renamer.app.api.model.meta.category.AudioMeta;
+import ua.renamer.app.metadata.extractor.strategy.format.audio.AudioTagReader;
 import ua.renamer.app.metadata.extractor.strategy.format.audio.UnifiedAudioFileMetadataExtractor;
 
 import java.io.File;
@@ -46,7 +47,7 @@ class Mp3MetadataExtractorIntegrationTest {
 
     @BeforeEach
     void setUp() {
-        extractor = new UnifiedAudioFileMetadataExtractor();
+        extractor = new UnifiedAudioFileMetadataExtractor(new AudioTagReader());
     }
 
     // ============================================================================
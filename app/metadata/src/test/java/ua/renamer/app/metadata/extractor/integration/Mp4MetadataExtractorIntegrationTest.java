@@ -7,6 +7,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import ua.renamer.app.api.model.meta.FileMeta;
 import ua.renamer.app.api.model.meta.category.VideoMeta;
+import ua.renamer.app.metadata.extractor.strategy.format.video.IsoBmffBoxReader;
 import ua.renamer.app.metadata.extractor.strategy.format.video.Mp4FileMetadataExtractor;
 import ua.renamer.app.metadata.util.DateTimeConverter;
 
@@ -54,7 +55,7 @@ class Mp4MetadataExtractorIntegrationTest {
     @BeforeEach
     void setUp() {
         DateTimeConverter dateTimeConverter = new DateTimeConverter();
-        extractor = new Mp4FileMetadataExtractor(dateTimeConverter);
+        extractor = new Mp4FileMetadataExtractor(dateTimeConverter, new IsoBmffBoxReader());
     }
 
     // ============================================================================
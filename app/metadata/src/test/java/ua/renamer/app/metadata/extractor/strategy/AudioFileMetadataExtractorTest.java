@@ -9,10 +9,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import ua.renamer.app.api.enums.Category;
 import ua.renamer.app.api.model.meta.FileMeta;
 import ua.renamer.app.metadata.extractor.strategy.format.audio.UnifiedAudioFileMetadataExtractor;
 
 import java.io.File;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -25,6 +28,11 @@ import static org.mockito.Mockito.when;
 @MockitoSettings(strictness = Strictness.LENIENT)
 class AudioFileMetadataExtractorTest {
 
+    private static final List<String> SUPPORTED_MIME_TYPES = List.of(
+            "audio/mp4", "audio/mpeg", "audio/mp2", "audio/wav", "audio/flac", "audio/ogg", "audio/x-ms-wma",
+            "audio/aiff", "audio/x-aiff", "audio/x-ape", "audio/x-musepack", "audio/x-wavpack", "audio/speex",
+            "audio/opus", "audio/basic", "audio/dsf", "audio/x-pn-realaudio", "audio/x-optimfrog", "audio/x-tta");
+
     @Mock
     private UnifiedAudioFileMetadataExtractor unifiedAudioFileMetadataExtractor;
 
@@ -35,7 +43,9 @@ class AudioFileMetadataExtractorTest {
 
     @BeforeEach
     void setUp() {
-        extractor = new AudioFileMetadataExtractor(unifiedAudioFileMetadataExtractor);
+        extractor = new AudioFileMetadataExtractor(new FormatExtractorRegistry(SUPPORTED_MIME_TYPES.stream()
+                .collect(Collectors.toMap(mimeType -> new FormatExtractorRegistry.FormatKey(Category.AUDIO, mimeType),
+                        mimeType -> unifiedAudioFileMetadataExtractor))));
         when(mockFile.getName()).thenReturn("test.audio");
         when(unifiedAudioFileMetadataExtractor.extract(any(), any())).thenReturn(FileMeta.empty());
     }
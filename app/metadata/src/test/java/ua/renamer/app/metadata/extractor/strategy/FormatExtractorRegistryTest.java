@@ -0,0 +1,131 @@
+package ua.renamer.app.metadata.extractor.strategy;
+
+import org.junit.jupiter.api.Test;
+import ua.renamer.app.api.enums.Category;
+import ua.renamer.app.api.interfaces.FileMetadataExtractor;
+import ua.renamer.app.api.model.meta.FileMeta;
+import ua.renamer.app.metadata.extractor.strategy.FormatExtractorRegistry.ExtractorStats;
+import ua.renamer.app.metadata.extractor.strategy.FormatExtractorRegistry.FormatKey;
+
+import java.io.File;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FormatExtractorRegistryTest {
+
+    private static final File FILE = new File("photo.heic");
+
+    private final HeifExtractor heif = new HeifExtractor();
+    private final PngExtractor png = new PngExtractor();
+    private final FormatExtractorRegistry registry = new FormatExtractorRegistry(Map.of(
+            new FormatKey(Category.IMAGE, "image/heic"), heif,
+            new FormatKey(Category.IMAGE, "image/heif"), heif,
+            new FormatKey(Category.IMAGE, "image/png"), png));
+
+    // ============================================================================
+    // find
+    // ============================================================================
+
+    @Test
+    void find_registeredMimeType_delegatesToExtractor() {
+        FileMetadataExtractor extractor = registry.find(Category.IMAGE, "image/png");
+
+        assertThat(extractor).isNotNull();
+        assertThat(extractor.extract(FILE, "image/png")).isSameAs(png.result);
+    }
+
+    @Test
+    void find_unknownMimeType_returnsNull() {
+        assertThat(registry.find(Category.IMAGE, "image/unknown")).isNull();
+    }
+
+    @Test
+    void find_mimeTypeOfOtherCategory_returnsNull() {
+        assertThat(registry.find(Category.VIDEO, "image/png")).isNull();
+        assertThat(registry.find(Category.GENERIC, "image/png")).isNull();
+    }
+
+    // ============================================================================
+    // getStats
+    // ============================================================================
+
+    @Test
+    void getStats_beforeAnyInvocation_reportsZeroPerExtractor() {
+        Map<String, ExtractorStats> stats = registry.getStats();
+
+        assertThat(stats).containsOnlyKeys("HeifExtractor", "PngExtractor");
+        assertThat(stats.get("PngExtractor").invocations()).isZero();
+        assertThat(stats.get("PngExtractor").averageMillis()).isZero();
+        assertThat(stats.get("PngExtractor").latencyHistogram())
+                .hasSize(FormatExtractorRegistry.LATENCY_BUCKET_BOUNDS_MILLIS.size() + 1)
+                .containsOnly(0L);
+    }
+
+    @Test
+    void getStats_extractorRegisteredForTwoMimeTypes_countsBoth() {
+        registry.find(Category.IMAGE, "image/heic").extract(FILE, "image/heic");
+        registry.find(Category.IMAGE, "image/heif").extract(FILE, "image/heif", Set.of());
+
+        ExtractorStats stats = registry.getStats().get("HeifExtractor");
+
+        assertThat(stats.invocations()).isEqualTo(2);
+        assertThat(stats.latencyHistogram().stream().mapToLong(Long::longValue).sum()).isEqualTo(2);
+        assertThat(registry.getStats().get("PngExtractor").invocations()).isZero();
+    }
+
+    @Test
+    void getStats_slowInvocation_landsInItsLatencyBucket() {
+        png.delayMillis = 5;
+
+        registry.find(Category.IMAGE, "image/png").extract(FILE, "image/png");
+
+        ExtractorStats stats = registry.getStats().get("PngExtractor");
+        assertThat(stats.latencyHistogram().subList(0, 2)).containsOnly(0L);
+        assertThat(stats.averageMillis()).isGreaterThanOrEqualTo(5.0);
+    }
+
+    @Test
+    void getStats_invocationThatThrows_isCounted() {
+        png.failure = new IllegalStateException("corrupt");
+
+        FileMetadataExtractor extractor = registry.find(Category.IMAGE, "image/png");
+
+        assertThatThrownBy(() -> extractor.extract(FILE, "image/png")).isSameAs(png.failure);
+        assertThat(registry.getStats().get("PngExtractor").invocations()).isEqualTo(1);
+    }
+
+    // ============================================================================
+    // Test extractors
+    // ============================================================================
+
+    private static class HeifExtractor implements FileMetadataExtractor {
+        @Override
+        public FileMeta extract(File file, String mimeType) {
+            return FileMeta.empty();
+        }
+    }
+
+    private static class PngExtractor implements FileMetadataExtractor {
+        private final FileMeta result = FileMeta.builder().build();
+        private long delayMillis;
+        private RuntimeException failure;
+
+        @Override
+        public FileMeta extract(File file, String mimeType) {
+            if (failure != null) {
+                throw failure;
+            }
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return result;
+        }
+    }
+}
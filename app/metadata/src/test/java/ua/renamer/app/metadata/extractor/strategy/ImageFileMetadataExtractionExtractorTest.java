@@ -7,6 +7,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import ua.renamer.app.api.enums.Category;
+import ua.renamer.app.api.interfaces.FileMetadataExtractor;
 import ua.renamer.app.api.model.meta.FileMeta;
 import ua.renamer.app.metadata.extractor.strategy.format.image.ArwFileMetadataExtractor;
 import ua.renamer.app.metadata.extractor.strategy.format.image.AvifFileMetadataExtractor;
@@ -30,6 +32,7 @@ import ua.renamer.app.metadata.extractor.strategy.format.image.TiffFileMetadataE
 import ua.renamer.app.metadata.extractor.strategy.format.image.WebPFileMetadataExtractor;
 
 import java.io.File;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -88,11 +91,28 @@ class ImageFileMetadataExtractionExtractorTest {
 
     @BeforeEach
     void setUp() {
-        extractor = new ImageFileMetadataExtractionExtractor(
-                bmpExtractor, epsExtractor, gifExtractor, heifExtractor, icoExtractor,
-                jpegExtractor, pcxExtractor, pngExtractor, psdExtractor, tiffExtractor,
-                webPExtractor, avifExtractor, arwExtractor, cr2Extractor, cr3Extractor,
-                nefExtractor, orfExtractor, rafExtractor, rw2Extractor, dngExtractor);
+        extractor = new ImageFileMetadataExtractionExtractor(new FormatExtractorRegistry(Map.ofEntries(
+                image("image/bmp", bmpExtractor),
+                image("application/postscript", epsExtractor),
+                image("image/gif", gifExtractor),
+                image("image/heic", heifExtractor),
+                image("image/heif", heifExtractor),
+                image("image/x-icon", icoExtractor),
+                image("image/jpeg", jpegExtractor),
+                image("image/x-pcx", pcxExtractor),
+                image("image/png", pngExtractor),
+                image("image/vnd.adobe.photoshop", psdExtractor),
+                image("image/tiff", tiffExtractor),
+                image("image/webp", webPExtractor),
+                image("image/avif", avifExtractor),
+                image("image/x-sony-arw", arwExtractor),
+                image("image/x-canon-cr2", cr2Extractor),
+                image("image/x-canon-cr3", cr3Extractor),
+                image("image/x-nikon-nef", nefExtractor),
+                image("image/x-olympus-orf", orfExtractor),
+                image("image/x-fujifilm-raf", rafExtractor),
+                image("image/x-panasonic-rw2", rw2Extractor),
+                image("image/x-adobe-dng", dngExtractor))));
         when(mockFile.getName()).thenReturn("test.img");
         when(bmpExtractor.extract(any(), any())).thenReturn(FileMeta.empty());
         when(epsExtractor.extract(any(), any())).thenReturn(FileMeta.empty());
@@ -249,4 +269,17 @@ class ImageFileMetadataExtractionExtractorTest {
         assertNotNull(result);
         assertFalse(result.getErrors().isEmpty(), "Should return error for unsupported MIME type");
     }
+
+    @Test
+    void testExtract_VideoMimeType_ReturnsError() {
+        FileMeta result = extractor.extract(mockFile, "video/mp4");
+
+        assertNotNull(result);
+        assertFalse(result.getErrors().isEmpty(), "Image dispatcher should not resolve MIME types of other categories");
+    }
+
+    private static Map.Entry<FormatExtractorRegistry.FormatKey, FileMetadataExtractor> image(
+            String mimeType, FileMetadataExtractor extractor) {
+        return Map.entry(new FormatExtractorRegistry.FormatKey(Category.IMAGE, mimeType), extractor);
+    }
 }
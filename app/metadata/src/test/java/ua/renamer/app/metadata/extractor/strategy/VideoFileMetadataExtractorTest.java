@@ -5,12 +5,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ua.renamer.app.api.enums.Category;
 import ua.renamer.app.api.model.meta.FileMeta;
 import ua.renamer.app.metadata.extractor.strategy.format.video.AviFileMetadataExtractor;
 import ua.renamer.app.metadata.extractor.strategy.format.video.Mp4FileMetadataExtractor;
 import ua.renamer.app.metadata.extractor.strategy.format.video.QuickTimeFileMetadataExtractor;
 
 import java.io.File;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -35,7 +37,10 @@ class VideoFileMetadataExtractorTest {
 
     @BeforeEach
     void setUp() {
-        extractor = new VideoFileMetadataExtractor(aviFileMetadataExtractor, mp4FileMetadataExtractor, quickTimeFileMetadataExtractor);
+        extractor = new VideoFileMetadataExtractor(new FormatExtractorRegistry(Map.of(
+                new FormatExtractorRegistry.FormatKey(Category.VIDEO, "video/x-msvideo"), aviFileMetadataExtractor,
+                new FormatExtractorRegistry.FormatKey(Category.VIDEO, "video/mp4"), mp4FileMetadataExtractor,
+                new FormatExtractorRegistry.FormatKey(Category.VIDEO, "video/quicktime"), quickTimeFileMetadataExtractor)));
         when(mockFile.getName()).thenReturn("test.video");
     }
 
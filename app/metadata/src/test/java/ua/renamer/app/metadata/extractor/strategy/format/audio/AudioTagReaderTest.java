@@ -0,0 +1,305 @@
+package ua.renamer.app.metadata.extractor.strategy.format.audio;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ua.renamer.app.api.model.meta.FileMeta;
+import ua.renamer.app.api.model.meta.category.AudioMeta;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link AudioTagReader} and the fast path of {@link UnifiedAudioFileMetadataExtractor}.
+ *
+ * <p>The test data files carry no text tags, so tagged files are built in a temporary directory:
+ * ID3v2 frames or a Vorbis comment block followed by MPEG-1 Layer III frames (128 kbps, 44.1 kHz, 417 bytes each).
+ */
+class AudioTagReaderTest {
+
+    private static final String MPEG = "audio/mpeg";
+    private static final String FLAC = "audio/flac";
+    private static final int CBR_FRAME_HEADER = 0xFFFB9000;
+    private static final int CBR_FRAME_LENGTH = 417;
+    // 120 frames * 417 bytes * 8 bits / 128 kbps = 3.1 s
+    private static final int CBR_FRAME_COUNT = 120;
+
+    private final AudioTagReader reader = new AudioTagReader();
+
+    @TempDir
+    Path tempDir;
+
+    private File getTestFile(String resourcePath) throws URISyntaxException {
+        URL resource = getClass().getClassLoader().getResource(resourcePath);
+        assertThat(resource).as("Test resource not found: " + resourcePath).isNotNull();
+        return new File(resource.toURI());
+    }
+
+    // ============================================================================
+    // MP3
+    // ============================================================================
+
+    @Test
+    void read_id3v24_returnsTextFramesAndSkipsOthers() throws IOException {
+        byte[] tag = id3v2(4, concat(
+                textFrame(4, "TPE1", 3, "Artist", StandardCharsets.UTF_8),
+                frame(4, "APIC", new byte[20_000]),
+                textFrame(4, "TALB", 3, "Album", StandardCharsets.UTF_8),
+                textFrame(4, "TIT2", 3, "Title\0Second value", StandardCharsets.UTF_8),
+                textFrame(4, "TDRC", 3, "2021-05-04", StandardCharsets.UTF_8)));
+        File file = write("tagged.mp3", tag, cbrFrames());
+
+        AudioTagReader.AudioTags tags = reader.read(file, MPEG).orElseThrow();
+
+        assertThat(tags.artist()).isEqualTo("Artist");
+        assertThat(tags.album()).isEqualTo("Album");
+        assertThat(tags.title()).isEqualTo("Title");
+        assertThat(tags.year()).isEqualTo("2021-05-04");
+        assertThat(tags.lengthSeconds()).isEqualTo(3);
+    }
+
+    @Test
+    void read_id3v23Utf16_decodesWithByteOrderMark() throws IOException {
+        byte[] tag = id3v2(3, concat(
+                textFrame(3, "TPE2", 1, "Альбомний виконавець", StandardCharsets.UTF_16),
+                textFrame(3, "TYER", 0, "1999", StandardCharsets.ISO_8859_1)));
+        File file = write("utf16.mp3", tag, cbrFrames());
+
+        AudioTagReader.AudioTags tags = reader.read(file, MPEG).orElseThrow();
+
+        assertThat(tags.artist()).isNull();
+        assertThat(tags.albumArtist()).isEqualTo("Альбомний виконавець");
+        assertThat(tags.year()).isEqualTo("1999");
+    }
+
+    @Test
+    void read_id3v22_readsThreeCharacterFrames() throws IOException {
+        byte[] body = concat(v22TextFrame("TP1", "Old Artist"), v22TextFrame("TT2", "Old Title"));
+        File file = write("v22.mp3", id3v2(2, body), cbrFrames());
+
+        AudioTagReader.AudioTags tags = reader.read(file, MPEG).orElseThrow();
+
+        assertThat(tags.artist()).isEqualTo("Old Artist");
+        assertThat(tags.title()).isEqualTo("Old Title");
+    }
+
+    @Test
+    void read_id3v1Only_readsTrailer() throws IOException {
+        File file = write("v1.mp3", cbrFrames(), id3v1("V1 Title", "V1 Artist", "V1 Album", "1987"));
+
+        AudioTagReader.AudioTags tags = reader.read(file, MPEG).orElseThrow();
+
+        assertThat(tags.title()).isEqualTo("V1 Title");
+        assertThat(tags.artist()).isEqualTo("V1 Artist");
+        assertThat(tags.album()).isEqualTo("V1 Album");
+        assertThat(tags.year()).isEqualTo("1987");
+        assertThat(tags.lengthSeconds()).isEqualTo(3);
+    }
+
+    @Test
+    void read_xingHeader_usesFrameCount() throws IOException {
+        byte[] first = new byte[CBR_FRAME_LENGTH];
+        ByteBuffer.wrap(first).putInt(CBR_FRAME_HEADER)
+                .put(36, "Xing".getBytes(StandardCharsets.US_ASCII))
+                .putInt(40, 0x1)
+                .putInt(44, 1000);
+        File file = write("vbr.mp3", first, cbrFrames());
+
+        // 1000 frames * 1152 samples / 44100 Hz = 26.1 s
+        assertThat(reader.read(file, MPEG).orElseThrow().lengthSeconds()).isEqualTo(26);
+    }
+
+    @Test
+    void read_unsynchronisedTag_returnsEmpty() throws IOException {
+        byte[] tag = id3v2(3, textFrame(3, "TIT2", 0, "Title", StandardCharsets.ISO_8859_1));
+        tag[5] = (byte) 0x80;
+        File file = write("unsync.mp3", tag, cbrFrames());
+
+        assertThat(reader.read(file, MPEG)).isEmpty();
+    }
+
+    @Test
+    void read_noMpegFrame_returnsEmpty() throws IOException {
+        File file = write("text.mp3", "this is not audio data at all".getBytes(StandardCharsets.US_ASCII));
+
+        assertThat(reader.read(file, MPEG)).isEmpty();
+    }
+
+    @Test
+    void read_testDataMp3_returnsLength() throws URISyntaxException {
+        File file = getTestFile("test-data/audio/mp3/test_mp3_std_2025-12-11_21-00-35.mp3");
+
+        assertThat(reader.read(file, MPEG).orElseThrow().lengthSeconds()).isEqualTo(1);
+    }
+
+    // ============================================================================
+    // FLAC
+    // ============================================================================
+
+    @Test
+    void read_flac_returnsVorbisCommentsAndLength() throws IOException {
+        byte[] comments = vorbisComments("artist=Flac Artist", "ALBUM=Flac Album", "Title=Flac Title", "DATE=2010");
+        File file = write("tagged.flac", "fLaC".getBytes(StandardCharsets.US_ASCII),
+                flacBlock(0, false, streamInfo(48_000, 48_000 * 125L)),
+                flacBlock(6, false, new byte[10_000]),
+                flacBlock(4, true, comments));
+
+        AudioTagReader.AudioTags tags = reader.read(file, FLAC).orElseThrow();
+
+        assertThat(tags.artist()).isEqualTo("Flac Artist");
+        assertThat(tags.album()).isEqualTo("Flac Album");
+        assertThat(tags.title()).isEqualTo("Flac Title");
+        assertThat(tags.year()).isEqualTo("2010");
+        assertThat(tags.lengthSeconds()).isEqualTo(125);
+    }
+
+    @Test
+    void read_testDataFlac_returnsLength() throws URISyntaxException {
+        File file = getTestFile("test-data/audio/flac/test_flac_std_2025-12-11_21-00-35.flac");
+
+        assertThat(reader.read(file, FLAC).orElseThrow().lengthSeconds()).isEqualTo(1);
+    }
+
+    @Test
+    void read_notFlac_returnsEmpty() throws IOException {
+        File file = write("fake.flac", "OggS".getBytes(StandardCharsets.US_ASCII), new byte[64]);
+
+        assertThat(reader.read(file, FLAC)).isEmpty();
+    }
+
+    // ============================================================================
+    // Other formats
+    // ============================================================================
+
+    @Test
+    void read_unsupportedMimeType_returnsEmpty() throws URISyntaxException {
+        File file = getTestFile("test-data/audio/ogg/test_ogg_std_2025-12-11_21-00-35.ogg");
+
+        assertThat(reader.read(file, "audio/ogg")).isEmpty();
+    }
+
+    @Test
+    void read_fileMissing_returnsEmpty() {
+        assertThat(reader.read(tempDir.resolve("missing.mp3").toFile(), MPEG)).isEmpty();
+    }
+
+    // ============================================================================
+    // UnifiedAudioFileMetadataExtractor — fast path
+    // ============================================================================
+
+    @Test
+    void extractor_fastPath_appliesArtistFallbackAndYearParsing() throws IOException {
+        byte[] tag = id3v2(4, concat(
+                textFrame(4, "TPE2", 3, "Album Artist", StandardCharsets.UTF_8),
+                textFrame(4, "TDRC", 3, "2021-05-04T10:00", StandardCharsets.UTF_8)));
+        File file = write("fallback.mp3", tag, cbrFrames());
+        UnifiedAudioFileMetadataExtractor extractor = new UnifiedAudioFileMetadataExtractor(reader);
+
+        FileMeta result = extractor.extract(file, MPEG);
+
+        AudioMeta audioMeta = result.getAudioMeta().orElseThrow();
+        assertThat(audioMeta.getArtistName()).contains("Album Artist");
+        assertThat(audioMeta.getYear()).contains(2021);
+        assertThat(audioMeta.getLength()).contains(3);
+        assertThat(result.getErrors()).isEmpty();
+    }
+
+    // ============================================================================
+    // Builders
+    // ============================================================================
+
+    private File write(String name, byte[]... parts) throws IOException {
+        return Files.write(tempDir.resolve(name), concat(parts)).toFile();
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] cbrFrames() {
+        ByteBuffer frames = ByteBuffer.allocate(CBR_FRAME_LENGTH * CBR_FRAME_COUNT);
+        for (int i = 0; i < CBR_FRAME_COUNT; i++) {
+            frames.putInt(i * CBR_FRAME_LENGTH, CBR_FRAME_HEADER);
+        }
+        return frames.array();
+    }
+
+    private static byte[] id3v2(int version, byte[] frames) {
+        byte[] padding = new byte[64];
+        int size = frames.length + padding.length;
+        return concat(new byte[]{'I', 'D', '3', (byte) version, 0, 0}, synchsafe(size), frames, padding);
+    }
+
+    private static byte[] synchsafe(int value) {
+        return new byte[]{(byte) (value >> 21 & 0x7F), (byte) (value >> 14 & 0x7F),
+                (byte) (value >> 7 & 0x7F), (byte) (value & 0x7F)};
+    }
+
+    private static byte[] frame(int version, String id, byte[] body) {
+        byte[] size = version == 4 ? synchsafe(body.length) : ByteBuffer.allocate(4).putInt(body.length).array();
+        return concat(id.getBytes(StandardCharsets.US_ASCII), size, new byte[2], body);
+    }
+
+    private static byte[] textFrame(int version, String id, int encoding, String text, Charset charset) {
+        return frame(version, id, concat(new byte[]{(byte) encoding}, text.getBytes(charset)));
+    }
+
+    private static byte[] v22TextFrame(String id, String text) {
+        byte[] body = concat(new byte[]{0}, text.getBytes(StandardCharsets.ISO_8859_1));
+        return concat(id.getBytes(StandardCharsets.US_ASCII),
+                new byte[]{0, (byte) (body.length >> 8), (byte) body.length}, body);
+    }
+
+    private static byte[] id3v1(String title, String artist, String album, String year) {
+        ByteBuffer tag = ByteBuffer.allocate(128).put("TAG".getBytes(StandardCharsets.US_ASCII));
+        tag.put(3, title.getBytes(StandardCharsets.ISO_8859_1))
+                .put(33, artist.getBytes(StandardCharsets.ISO_8859_1))
+                .put(63, album.getBytes(StandardCharsets.ISO_8859_1))
+                .put(93, year.getBytes(StandardCharsets.ISO_8859_1));
+        return tag.array();
+    }
+
+    private static byte[] flacBlock(int type, boolean last, byte[] body) {
+        return concat(ByteBuffer.allocate(4).putInt((last ? 0x80 : 0) << 24 | type << 24 | body.length).array(), body);
+    }
+
+    private static byte[] streamInfo(int sampleRate, long totalSamples) {
+        ByteBuffer info = ByteBuffer.allocate(34);
+        // 20-bit sample rate, 3-bit channels - 1 (stereo), 5-bit bits per sample - 1 (16), 36-bit total samples
+        long packed = (long) sampleRate << 44 | 1L << 41 | 15L << 36 | totalSamples;
+        info.putLong(10, packed);
+        return info.array();
+    }
+
+    private static byte[] vorbisComments(String... comments) {
+        byte[] vendor = "test".getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(littleEndianInt(vendor.length));
+        out.writeBytes(vendor);
+        out.writeBytes(littleEndianInt(comments.length));
+        for (String comment : comments) {
+            byte[] bytes = comment.getBytes(StandardCharsets.UTF_8);
+            out.writeBytes(littleEndianInt(bytes.length));
+            out.writeBytes(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] littleEndianInt(int value) {
+        return ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(value).array();
+    }
+}
@@ -88,7 +88,7 @@ class UnifiedAudioFileMetadataExtractorTest {
 
     @BeforeEach
     void setUp() {
-        extractor = new UnifiedAudioFileMetadataExtractor();
+        extractor = new UnifiedAudioFileMetadataExtractor(new AudioTagReader());
     }
 
     private File getTestFile(String resourcePath) {
@@ -0,0 +1,146 @@
+package ua.renamer.app.metadata.extractor.strategy.format.image;
+
+import com.drew.metadata.Metadata;
+import com.drew.metadata.exif.ExifIFD0Directory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ua.renamer.app.api.model.meta.FileMeta;
+import ua.renamer.app.api.model.meta.category.ImageMeta;
+import ua.renamer.app.api.settings.AppDefaults;
+import ua.renamer.app.metadata.util.DateTimeConverter;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link ImageHeaderReader} and the header-first read of
+ * {@link BaseRawImageMetadataExtractor}.
+ *
+ * <p>No RAW camera files are available in the test data, so TIFF files stand in for them:
+ * {@code test_tiff_std_*} keeps its IFD at the start of the file, {@code test_tiff_clean}
+ * keeps it at the end, past any header region.
+ */
+class ImageHeaderReaderTest {
+
+    private static final String TEST_DATA_PATH = "test-data/image/tiff/";
+    private static final String HEADER_FIRST_TIFF = "test_tiff_std_2025-12-11_21-00-35.tiff";
+    private static final String TRAILING_IFD_TIFF = "test_tiff_clean.tiff";
+
+    @TempDir
+    Path tempDir;
+
+    private File getTestFile(String filename) throws URISyntaxException {
+        URL resource = getClass().getClassLoader().getResource(TEST_DATA_PATH + filename);
+        assertThat(resource).as("Test file not found: " + filename).isNotNull();
+        return new File(resource.toURI());
+    }
+
+    // ============================================================================
+    // readHeader
+    // ============================================================================
+
+    @Test
+    void readHeader_whenMetadataIsInHeader_returnsMetadata() throws URISyntaxException {
+        ImageHeaderReader reader = new ImageHeaderReader();
+
+        Optional<Metadata> result = reader.readHeader(getTestFile(HEADER_FIRST_TIFF));
+
+        assertThat(result).isPresent();
+        ExifIFD0Directory ifd0 = result.get().getFirstDirectoryOfType(ExifIFD0Directory.class);
+        assertThat(ifd0).isNotNull();
+        assertThat(ifd0.getInteger(ExifIFD0Directory.TAG_IMAGE_WIDTH)).isEqualTo(1920);
+    }
+
+    @Test
+    void readHeader_whenMetadataIsBeyondHeader_returnsEmpty() throws URISyntaxException {
+        ImageHeaderReader reader = new ImageHeaderReader();
+
+        assertThat(reader.readHeader(getTestFile(TRAILING_IFD_TIFF))).isEmpty();
+    }
+
+    @Test
+    void readHeader_whenFileNotLargerThanHeader_returnsEmpty() throws IOException {
+        Path small = tempDir.resolve("small.dng");
+        Files.write(small, new byte[1024]);
+        ImageHeaderReader reader = new ImageHeaderReader();
+
+        assertThat(reader.readHeader(small.toFile())).isEmpty();
+    }
+
+    @Test
+    void readHeader_whenDisabled_returnsEmpty() throws URISyntaxException {
+        ImageHeaderReader reader = new ImageHeaderReader();
+        reader.setHeaderReadKb(0);
+
+        assertThat(reader.readHeader(getTestFile(HEADER_FIRST_TIFF))).isEmpty();
+    }
+
+    @Test
+    void readHeader_whenFileMissing_returnsEmpty() {
+        ImageHeaderReader reader = new ImageHeaderReader();
+
+        assertThat(reader.readHeader(tempDir.resolve("missing.dng").toFile())).isEmpty();
+    }
+
+    // ============================================================================
+    // setHeaderReadKb
+    // ============================================================================
+
+    @Test
+    void defaultHeaderReadKb_matchesAppDefaults() {
+        assertThat(new ImageHeaderReader().getHeaderReadKb()).isEqualTo(AppDefaults.DEFAULT_IMAGE_HEADER_READ_KB);
+    }
+
+    @Test
+    void setHeaderReadKb_whenBelowMinimum_throws() {
+        ImageHeaderReader reader = new ImageHeaderReader();
+
+        assertThatThrownBy(() -> reader.setHeaderReadKb(AppDefaults.MIN_IMAGE_HEADER_READ_KB - 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void setHeaderReadKb_whenAboveMaximum_throws() {
+        ImageHeaderReader reader = new ImageHeaderReader();
+
+        assertThatThrownBy(() -> reader.setHeaderReadKb(AppDefaults.MAX_IMAGE_HEADER_READ_KB + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ============================================================================
+    // BaseRawImageMetadataExtractor — header first, full read as fallback
+    // ============================================================================
+
+    @Test
+    void rawExtractor_whenHeaderHasRequiredTags_extractsFromHeader() throws URISyntaxException {
+        DngFileMetadataExtractor extractor =
+                new DngFileMetadataExtractor(new DateTimeConverter(), new ImageHeaderReader());
+
+        FileMeta result = extractor.extract(getTestFile(HEADER_FIRST_TIFF), "image/x-adobe-dng");
+
+        assertThat(result.getErrors()).isEmpty();
+        ImageMeta imageMeta = result.getImageMeta().orElseThrow();
+        assertThat(imageMeta.getWidth()).contains(1920);
+        assertThat(imageMeta.getContentCreationDate()).contains(LocalDateTime.of(2025, 12, 11, 21, 0, 35));
+    }
+
+    @Test
+    void rawExtractor_whenHeaderIsIncomplete_fallsBackToFullRead() throws URISyntaxException {
+        DngFileMetadataExtractor extractor =
+                new DngFileMetadataExtractor(new DateTimeConverter(), new ImageHeaderReader());
+
+        FileMeta result = extractor.extract(getTestFile(TRAILING_IFD_TIFF), "image/x-adobe-dng");
+
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(result.getImageMeta().orElseThrow().getWidth()).contains(1920);
+    }
+}
@@ -38,14 +38,14 @@ class RawFormatExtractorsTest {
     static Stream<BaseImageMetadataExtractor> allRawExtractors() {
         DateTimeConverter dtc = new DateTimeConverter();
         return Stream.of(
-                new OrfFileMetadataExtractor(dtc),
-                new Cr2FileMetadataExtractor(dtc),
-                new Cr3FileMetadataExtractor(dtc),
-                new NefFileMetadataExtractor(dtc),
-                new ArwFileMetadataExtractor(dtc),
-                new RafFileMetadataExtractor(dtc),
-                new Rw2FileMetadataExtractor(dtc),
-                new DngFileMetadataExtractor(dtc),
+                new OrfFileMetadataExtractor(dtc, new ImageHeaderReader()),
+                new Cr2FileMetadataExtractor(dtc, new ImageHeaderReader()),
+                new Cr3FileMetadataExtractor(dtc, new ImageHeaderReader()),
+                new NefFileMetadataExtractor(dtc, new ImageHeaderReader()),
+                new ArwFileMetadataExtractor(dtc, new ImageHeaderReader()),
+                new RafFileMetadataExtractor(dtc, new ImageHeaderReader()),
+                new Rw2FileMetadataExtractor(dtc, new ImageHeaderReader()),
+                new DngFileMetadataExtractor(dtc, new ImageHeaderReader()),
                 new AvifFileMetadataExtractor(dtc),
                 new IcoFileMetadataExtractor(dtc),
                 new PcxFileMetadataExtractor(dtc),
@@ -75,49 +75,49 @@ class RawFormatExtractorsTest {
 
     @Test
     void orFExtractor_construct_doesNotThrow() {
-        assertThatCode(() -> new OrfFileMetadataExtractor(dateTimeConverter()))
+        assertThatCode(() -> new OrfFileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader()))
                 .doesNotThrowAnyException();
     }
 
     @Test
     void cr2Extractor_construct_doesNotThrow() {
-        assertThatCode(() -> new Cr2FileMetadataExtractor(dateTimeConverter()))
+        assertThatCode(() -> new Cr2FileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader()))
                 .doesNotThrowAnyException();
     }
 
     @Test
     void cr3Extractor_construct_doesNotThrow() {
-        assertThatCode(() -> new Cr3FileMetadataExtractor(dateTimeConverter()))
+        assertThatCode(() -> new Cr3FileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader()))
                 .doesNotThrowAnyException();
     }
 
     @Test
     void nefExtractor_construct_doesNotThrow() {
-        assertThatCode(() -> new NefFileMetadataExtractor(dateTimeConverter()))
+        assertThatCode(() -> new NefFileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader()))
                 .doesNotThrowAnyException();
     }
 
     @Test
     void arwExtractor_construct_doesNotThrow() {
-        assertThatCode(() -> new ArwFileMetadataExtractor(dateTimeConverter()))
+        assertThatCode(() -> new ArwFileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader()))
                 .doesNotThrowAnyException();
     }
 
     @Test
     void rafExtractor_construct_doesNotThrow() {
-        assertThatCode(() -> new RafFileMetadataExtractor(dateTimeConverter()))
+        assertThatCode(() -> new RafFileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader()))
                 .doesNotThrowAnyException();
     }
 
     @Test
     void rw2Extractor_construct_doesNotThrow() {
-        assertThatCode(() -> new Rw2FileMetadataExtractor(dateTimeConverter()))
+        assertThatCode(() -> new Rw2FileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader()))
                 .doesNotThrowAnyException();
     }
 
     @Test
     void dngExtractor_construct_doesNotThrow() {
-        assertThatCode(() -> new DngFileMetadataExtractor(dateTimeConverter()))
+        assertThatCode(() -> new DngFileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader()))
                 .doesNotThrowAnyException();
     }
 
@@ -158,7 +158,7 @@ class RawFormatExtractorsTest {
     @Test
     void orfExtractor_extractFromEmptyFile_returnsFileMetaWithError() throws IOException {
         File empty = createEmptyFile("empty.orf");
-        OrfFileMetadataExtractor extractor = new OrfFileMetadataExtractor(dateTimeConverter());
+        OrfFileMetadataExtractor extractor = new OrfFileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader());
 
         FileMeta result = extractor.extract(empty, "image/x-olympus-orf");
 
@@ -170,7 +170,7 @@ class RawFormatExtractorsTest {
     @Test
     void cr2Extractor_extractFromEmptyFile_returnsFileMetaWithError() throws IOException {
         File empty = createEmptyFile("empty.cr2");
-        Cr2FileMetadataExtractor extractor = new Cr2FileMetadataExtractor(dateTimeConverter());
+        Cr2FileMetadataExtractor extractor = new Cr2FileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader());
 
         FileMeta result = extractor.extract(empty, "image/x-canon-cr2");
 
@@ -181,7 +181,7 @@ class RawFormatExtractorsTest {
     @Test
     void cr3Extractor_extractFromEmptyFile_returnsFileMetaWithError() throws IOException {
         File empty = createEmptyFile("empty.cr3");
-        Cr3FileMetadataExtractor extractor = new Cr3FileMetadataExtractor(dateTimeConverter());
+        Cr3FileMetadataExtractor extractor = new Cr3FileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader());
 
         FileMeta result = extractor.extract(empty, "image/x-canon-cr3");
 
@@ -192,7 +192,7 @@ class RawFormatExtractorsTest {
     @Test
     void nefExtractor_extractFromEmptyFile_returnsFileMetaWithError() throws IOException {
         File empty = createEmptyFile("empty.nef");
-        NefFileMetadataExtractor extractor = new NefFileMetadataExtractor(dateTimeConverter());
+        NefFileMetadataExtractor extractor = new NefFileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader());
 
         FileMeta result = extractor.extract(empty, "image/x-nikon-nef");
 
@@ -203,7 +203,7 @@ class RawFormatExtractorsTest {
     @Test
     void arwExtractor_extractFromEmptyFile_returnsFileMetaWithError() throws IOException {
         File empty = createEmptyFile("empty.arw");
-        ArwFileMetadataExtractor extractor = new ArwFileMetadataExtractor(dateTimeConverter());
+        ArwFileMetadataExtractor extractor = new ArwFileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader());
 
         FileMeta result = extractor.extract(empty, "image/x-sony-arw");
 
@@ -214,7 +214,7 @@ class RawFormatExtractorsTest {
     @Test
     void rafExtractor_extractFromEmptyFile_returnsFileMetaWithError() throws IOException {
         File empty = createEmptyFile("empty.raf");
-        RafFileMetadataExtractor extractor = new RafFileMetadataExtractor(dateTimeConverter());
+        RafFileMetadataExtractor extractor = new RafFileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader());
 
         FileMeta result = extractor.extract(empty, "image/x-fujifilm-raf");
 
@@ -225,7 +225,7 @@ class RawFormatExtractorsTest {
     @Test
     void rw2Extractor_extractFromEmptyFile_returnsFileMetaWithError() throws IOException {
         File empty = createEmptyFile("empty.rw2");
-        Rw2FileMetadataExtractor extractor = new Rw2FileMetadataExtractor(dateTimeConverter());
+        Rw2FileMetadataExtractor extractor = new Rw2FileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader());
 
         FileMeta result = extractor.extract(empty, "image/x-panasonic-rw2");
 
@@ -236,7 +236,7 @@ class RawFormatExtractorsTest {
     @Test
     void dngExtractor_extractFromEmptyFile_returnsFileMetaWithError() throws IOException {
         File empty = createEmptyFile("empty.dng");
-        DngFileMetadataExtractor extractor = new DngFileMetadataExtractor(dateTimeConverter());
+        DngFileMetadataExtractor extractor = new DngFileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader());
 
         FileMeta result = extractor.extract(empty, "image/x-adobe-dng");
 
@@ -373,61 +373,61 @@ class RawFormatExtractorsTest {
     // RAW formats — width/height tags are null (rely on EXIF fallback)
     @Test
     void orfExtractor_getBaseWidthTag_returnsNull() {
-        OrfFileMetadataExtractor extractor = new OrfFileMetadataExtractor(dateTimeConverter());
+        OrfFileMetadataExtractor extractor = new OrfFileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader());
         assertThat(extractor.getBaseWidthTag()).isNull();
     }
 
     @Test
     void orfExtractor_getBaseHeightTag_returnsNull() {
-        OrfFileMetadataExtractor extractor = new OrfFileMetadataExtractor(dateTimeConverter());
+        OrfFileMetadataExtractor extractor = new OrfFileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader());
         assertThat(extractor.getBaseHeightTag()).isNull();
     }
 
     @Test
     void cr2Extractor_getBaseWidthTag_returnsNull() {
-        Cr2FileMetadataExtractor extractor = new Cr2FileMetadataExtractor(dateTimeConverter());
+        Cr2FileMetadataExtractor extractor = new Cr2FileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader());
         assertThat(extractor.getBaseWidthTag()).isNull();
     }
 
     @Test
     void cr2Extractor_getBaseHeightTag_returnsNull() {
-        Cr2FileMetadataExtractor extractor = new Cr2FileMetadataExtractor(dateTimeConverter());
+        Cr2FileMetadataExtractor extractor = new Cr2FileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader());
         assertThat(extractor.getBaseHeightTag()).isNull();
     }
 
     @Test
     void cr3Extractor_getBaseWidthTag_returnsNull() {
-        Cr3FileMetadataExtractor extractor = new Cr3FileMetadataExtractor(dateTimeConverter());
+        Cr3FileMetadataExtractor extractor = new Cr3FileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader());
         assertThat(extractor.getBaseWidthTag()).isNull();
     }
 
     @Test
     void nefExtractor_getBaseWidthTag_returnsNull() {
-        NefFileMetadataExtractor extractor = new NefFileMetadataExtractor(dateTimeConverter());
+        NefFileMetadataExtractor extractor = new NefFileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader());
         assertThat(extractor.getBaseWidthTag()).isNull();
     }
 
     @Test
     void arwExtractor_getBaseWidthTag_returnsNull() {
-        ArwFileMetadataExtractor extractor = new ArwFileMetadataExtractor(dateTimeConverter());
+        ArwFileMetadataExtractor extractor = new ArwFileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader());
         assertThat(extractor.getBaseWidthTag()).isNull();
     }
 
     @Test
     void rafExtractor_getBaseWidthTag_returnsNull() {
-        RafFileMetadataExtractor extractor = new RafFileMetadataExtractor(dateTimeConverter());
+        RafFileMetadataExtractor extractor = new RafFileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader());
         assertThat(extractor.getBaseWidthTag()).isNull();
     }
 
     @Test
     void rw2Extractor_getBaseWidthTag_returnsNull() {
-        Rw2FileMetadataExtractor extractor = new Rw2FileMetadataExtractor(dateTimeConverter());
+        Rw2FileMetadataExtractor extractor = new Rw2FileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader());
         assertThat(extractor.getBaseWidthTag()).isNull();
     }
 
     @Test
     void dngExtractor_getBaseWidthTag_returnsNull() {
-        DngFileMetadataExtractor extractor = new DngFileMetadataExtractor(dateTimeConverter());
+        DngFileMetadataExtractor extractor = new DngFileMetadataExtractor(dateTimeConverter(), new ImageHeaderReader());
         assertThat(extractor.getBaseWidthTag()).isNull();
     }
 
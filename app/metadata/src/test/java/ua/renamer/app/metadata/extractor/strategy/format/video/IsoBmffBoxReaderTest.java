@@ -0,0 +1,230 @@
+package ua.renamer.app.metadata.extractor.strategy.format.video;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ua.renamer.app.api.enums.MetadataField;
+import ua.renamer.app.api.model.meta.FileMeta;
+import ua.renamer.app.api.model.meta.category.VideoMeta;
+import ua.renamer.app.metadata.util.DateTimeConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link IsoBmffBoxReader} and the box-first read of {@link BaseIsoBmffVideoMetadataExtractor}.
+ *
+ * <p>The test data files keep {@code moov} before {@code mdat}; synthetic files built in a temporary
+ * directory cover {@code moov} at the end, 64-bit box sizes and version 1 headers.
+ */
+class IsoBmffBoxReaderTest {
+
+    private static final String TEST_DATA_PATH = "test-data/video/";
+    private static final String DATED_MP4 = "mp4/test_mp4_std_2025-12-11_21-00-35.mp4";
+    private static final String UNDATED_MP4 = "mp4/test_mp4_clean.mp4";
+    private static final String DATED_MOV = "mov/test_mov_std_2025-12-11_21-00-35.mov";
+    private static final Instant RECORDED_AT = Instant.parse("2025-12-11T21:00:35Z");
+
+    private final IsoBmffBoxReader reader = new IsoBmffBoxReader();
+
+    @TempDir
+    Path tempDir;
+
+    private File getTestFile(String filename) throws URISyntaxException {
+        URL resource = getClass().getClassLoader().getResource(TEST_DATA_PATH + filename);
+        assertThat(resource).as("Test file not found: " + filename).isNotNull();
+        return new File(resource.toURI());
+    }
+
+    // ============================================================================
+    // read
+    // ============================================================================
+
+    @Test
+    void read_mp4_returnsMovieInfo() throws URISyntaxException {
+        IsoBmffBoxReader.MovieInfo info = reader.read(getTestFile(DATED_MP4)).orElseThrow();
+
+        assertThat(info.creationTime()).isEqualTo(RECORDED_AT);
+        assertThat(info.width()).isEqualTo(320);
+        assertThat(info.height()).isEqualTo(240);
+        assertThat(info.durationSeconds()).isEqualTo(1);
+    }
+
+    @Test
+    void read_mov_returnsMovieInfo() throws URISyntaxException {
+        IsoBmffBoxReader.MovieInfo info = reader.read(getTestFile(DATED_MOV)).orElseThrow();
+
+        assertThat(info.creationTime()).isEqualTo(RECORDED_AT);
+        assertThat(info.width()).isEqualTo(320);
+        assertThat(info.height()).isEqualTo(240);
+    }
+
+    @Test
+    void read_whenCreationTimeUnset_returnsNullCreationTime() throws URISyntaxException {
+        IsoBmffBoxReader.MovieInfo info = reader.read(getTestFile(UNDATED_MP4)).orElseThrow();
+
+        assertThat(info.creationTime()).isNull();
+        assertThat(info.width()).isEqualTo(320);
+    }
+
+    @Test
+    void read_whenMoovFollowsLargeMdat_skipsMdatAndReturnsMovieInfo() throws IOException {
+        byte[] mdat = box("mdat", new byte[1024 * 1024]);
+        byte[] moov = box("moov", concat(mvhd(1, RECORDED_AT, 600, 600 * 90), trak(tkhd(0, 3840, 2160))));
+        Path file = write("moov-last.mp4", box("ftyp", "isom".getBytes(StandardCharsets.US_ASCII)), mdat, moov);
+
+        IsoBmffBoxReader.MovieInfo info = reader.read(file.toFile()).orElseThrow();
+
+        assertThat(info.creationTime()).isEqualTo(RECORDED_AT);
+        assertThat(info.width()).isEqualTo(3840);
+        assertThat(info.height()).isEqualTo(2160);
+        assertThat(info.durationSeconds()).isEqualTo(90);
+    }
+
+    @Test
+    void read_whenBoxUsesLargeSize_followsIt() throws IOException {
+        byte[] moov = box("moov", concat(mvhd(0, RECORDED_AT, 1000, 5000), trak(tkhd(1, 1920, 1080))));
+        Path file = write("large-size.mp4", largeBox("mdat", new byte[4096]), moov);
+
+        IsoBmffBoxReader.MovieInfo info = reader.read(file.toFile()).orElseThrow();
+
+        assertThat(info.width()).isEqualTo(1920);
+        assertThat(info.height()).isEqualTo(1080);
+        assertThat(info.durationSeconds()).isEqualTo(5);
+    }
+
+    @Test
+    void read_whenFirstTrackHasNoDimensions_usesNextTrack() throws IOException {
+        byte[] moov = box("moov", concat(mvhd(0, RECORDED_AT, 1000, 1000),
+                trak(tkhd(0, 0, 0)), trak(tkhd(0, 1280, 720))));
+        Path file = write("audio-first.mp4", moov);
+
+        IsoBmffBoxReader.MovieInfo info = reader.read(file.toFile()).orElseThrow();
+
+        assertThat(info.width()).isEqualTo(1280);
+        assertThat(info.height()).isEqualTo(720);
+    }
+
+    @Test
+    void read_whenNotIsoBmff_returnsEmpty() throws URISyntaxException {
+        assertThat(reader.read(getTestFile("avi/test_avi_clean.avi"))).isEmpty();
+    }
+
+    @Test
+    void read_whenBoxSizeExceedsFile_returnsEmpty() throws IOException {
+        ByteBuffer truncated = ByteBuffer.allocate(16).putInt(1_000_000).put("moov".getBytes(StandardCharsets.US_ASCII));
+        Path file = write("truncated.mp4", truncated.array());
+
+        assertThat(reader.read(file.toFile())).isEmpty();
+    }
+
+    @Test
+    void read_whenFileMissing_returnsEmpty() {
+        assertThat(reader.read(tempDir.resolve("missing.mp4").toFile())).isEmpty();
+    }
+
+    // ============================================================================
+    // BaseIsoBmffVideoMetadataExtractor — boxes first, full parser as fallback
+    // ============================================================================
+
+    @Test
+    void extractor_whenTypedFieldsRequested_readsFromBoxes() throws URISyntaxException {
+        Mp4FileMetadataExtractor extractor = new Mp4FileMetadataExtractor(new DateTimeConverter(), reader);
+
+        FileMeta result = extractor.extract(getTestFile(DATED_MP4), "video/mp4", MetadataField.typed());
+
+        VideoMeta videoMeta = result.getVideoMeta().orElseThrow();
+        assertThat(videoMeta.getContentCreationDate())
+                .contains(LocalDateTime.ofInstant(RECORDED_AT, ZoneId.systemDefault()));
+        assertThat(videoMeta.getWidth()).contains(320);
+        assertThat(videoMeta.getHeight()).contains(240);
+        assertThat(result.getMetaInfo()).isEmpty();
+    }
+
+    @Test
+    void extractor_whenTagDumpRequested_usesFullParser() throws URISyntaxException {
+        QuickTimeFileMetadataExtractor extractor = new QuickTimeFileMetadataExtractor(new DateTimeConverter(), reader);
+
+        FileMeta result = extractor.extract(getTestFile(DATED_MOV), "video/quicktime", MetadataField.all());
+
+        assertThat(result.getMetaInfo()).isNotEmpty();
+        assertThat(result.getVideoMeta().orElseThrow().getWidth()).contains(320);
+    }
+
+    @Test
+    void extractor_whenCreationTimeUnsetButNotRequested_readsFromBoxes() throws URISyntaxException {
+        Mp4FileMetadataExtractor extractor = new Mp4FileMetadataExtractor(new DateTimeConverter(), reader);
+
+        FileMeta result = extractor.extract(getTestFile(UNDATED_MP4), "video/mp4",
+                EnumSet.of(MetadataField.DIMENSIONS));
+
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(result.getVideoMeta().orElseThrow().getWidth()).contains(320);
+    }
+
+    // ============================================================================
+    // Box builders
+    // ============================================================================
+
+    private Path write(String name, byte[]... boxes) throws IOException {
+        return Files.write(tempDir.resolve(name), concat(boxes));
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] box(String type, byte[] body) {
+        return ByteBuffer.allocate(8 + body.length)
+                .putInt(8 + body.length)
+                .put(type.getBytes(StandardCharsets.US_ASCII))
+                .put(body)
+                .array();
+    }
+
+    private static byte[] largeBox(String type, byte[] body) {
+        return ByteBuffer.allocate(16 + body.length)
+                .putInt(1)
+                .put(type.getBytes(StandardCharsets.US_ASCII))
+                .putLong(16L + body.length)
+                .put(body)
+                .array();
+    }
+
+    private static byte[] trak(byte[] tkhd) {
+        return box("trak", tkhd);
+    }
+
+    private static byte[] mvhd(int version, Instant creationTime, int timescale, long duration) {
+        long created = creationTime.getEpochSecond() + IsoBmffBoxReader.EPOCH_OFFSET_SECONDS;
+        ByteBuffer body = ByteBuffer.allocate(version == 1 ? 112 : 100).put((byte) version).put(new byte[3]);
+        if (version == 1) {
+            body.putLong(created).putLong(created).putInt(timescale).putLong(duration);
+        } else {
+            body.putInt((int) created).putInt((int) created).putInt(timescale).putInt((int) duration);
+        }
+        return box("mvhd", body.array());
+    }
+
+    private static byte[] tkhd(int version, int width, int height) {
+        ByteBuffer body = ByteBuffer.allocate(version == 1 ? 96 : 84).put((byte) version);
+        body.putInt(version == 1 ? 88 : 76, width << 16).putInt(version == 1 ? 92 : 80, height << 16);
+        return box("tkhd", body.array());
+    }
+}
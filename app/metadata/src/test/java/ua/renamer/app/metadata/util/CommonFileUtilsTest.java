@@ -6,6 +6,7 @@ import org.junit.jupiter.api.io.TempDir;
 import ua.renamer.app.api.exception.FileAttributesReadException;
 import ua.renamer.app.api.exception.FileNotFoundException;
 import ua.renamer.app.api.exception.MimeTypeNotFoundException;
+import ua.renamer.app.api.interfaces.FileReadContext;
 
 import java.io.File;
 import java.io.IOException;
@@ -232,6 +233,73 @@ class CommonFileUtilsTest {
                 () -> fileUtils.getFileMimeType(nonExistent));
     }
 
+    @Test
+    void testGetFileMimeType_SignatureDecidesOverExtension() throws IOException {
+        Path testFile = tempDir.resolve("photo.txt");
+        Files.write(testFile, new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0x00, 0x10});
+
+        assertEquals("image/jpeg", fileUtils.getFileMimeType(testFile));
+    }
+
+    @Test
+    void testGetMimeDetectionStats_CountsSignatureHitsAndFallbacks() throws IOException {
+        Path image = tempDir.resolve("image.png");
+        Files.write(image, new byte[]{(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A});
+        Path text = tempDir.resolve("notes.txt");
+        Files.writeString(text, "Hello World");
+
+        fileUtils.getFileMimeType(image);
+        fileUtils.getFileMimeType(text);
+        fileUtils.getFileMimeType(text);
+
+        CommonFileUtils.MimeDetectionStats stats = fileUtils.getMimeDetectionStats();
+        assertEquals(1, stats.signatureHits());
+        assertEquals(2, stats.tikaFallbacks());
+        assertEquals(2.0 / 3.0, stats.fallbackRate(), 1e-9);
+    }
+
+    @Test
+    void testGetMimeDetectionStats_NoDetections() {
+        assertEquals(0.0, fileUtils.getMimeDetectionStats().fallbackRate());
+    }
+
+    @Test
+    void testOpenReadContext_WithNonExistentFile() {
+        File nonExistent = tempDir.resolve("non_existent.txt").toFile();
+
+        assertThrows(FileNotFoundException.class, () -> fileUtils.openReadContext(nonExistent));
+    }
+
+    @Test
+    void testOpenReadContext_WithNull() {
+        assertThrows(NullPointerException.class, () -> fileUtils.openReadContext(null));
+    }
+
+    @Test
+    void testGetFileMimeType_ThroughReadContext_SignatureOpensOnce() throws IOException {
+        Path testFile = tempDir.resolve("photo.jpg");
+        Files.write(testFile, new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0x00, 0x10});
+
+        try (FileReadContext context = fileUtils.openReadContext(testFile.toFile())) {
+            assertEquals("image/jpeg", fileUtils.getFileMimeType(context));
+            assertEquals(1, context.getOpenCount());
+        }
+    }
+
+    @Test
+    void testGetFileMimeType_ThroughReadContext_TikaFallbackOpensOnce() throws IOException {
+        Path testFile = tempDir.resolve("notes.txt");
+        Files.writeString(testFile, "Hello World");
+
+        try (FileReadContext context = fileUtils.openReadContext(testFile.toFile())) {
+            String mimeType = fileUtils.getFileMimeType(context);
+
+            assertTrue(mimeType.startsWith("text/"));
+            assertEquals(1, context.getOpenCount());
+        }
+        assertEquals(1, fileUtils.getMimeDetectionStats().tikaFallbacks());
+    }
+
     // ============================================================================
     // G. File Creation Date Tests
     // ============================================================================
@@ -0,0 +1,145 @@
+package ua.renamer.app.metadata.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class MimeSignaturesTest {
+
+    static Stream<Arguments> testDataFiles() {
+        return Stream.of(
+                arguments("test-data/image/jpg/test_jpg_clean.jpg", "image/jpeg"),
+                arguments("test-data/image/png/test_png_clean.png", "image/png"),
+                arguments("test-data/image/gif/test_gif_clean.gif", "image/gif"),
+                arguments("test-data/image/webp/test_webp_clean.webp", "image/webp"),
+                arguments("test-data/image/heic/test_heic_clean.heic", "image/heic"),
+                arguments("test-data/image/tiff/test_tiff_clean.tiff", "image/tiff"),
+                arguments("test-data/audio/mp3/test_mp3_clean.mp3", "audio/mpeg"),
+                arguments("test-data/audio/mp3/test_mp3_no_tags.mp3", "audio/mpeg"),
+                arguments("test-data/audio/flac/test_flac_clean.flac", "audio/flac"),
+                arguments("test-data/audio/ogg/test_ogg_clean.ogg", "audio/ogg"),
+                arguments("test-data/audio/wav/test_wav_clean.wav", "audio/wav"),
+                arguments("test-data/video/mp4/test_mp4_clean.mp4", "video/mp4"),
+                arguments("test-data/video/mov/test_mov_clean.mov", "video/quicktime"),
+                arguments("test-data/video/avi/test_avi_clean.avi", "video/x-msvideo"));
+    }
+
+    private static byte[] readHeader(String resource) throws IOException {
+        try (InputStream in = MimeSignaturesTest.class.getClassLoader().getResourceAsStream(resource)) {
+            assertThat(in).as("Test file not found: " + resource).isNotNull();
+            return in.readNBytes(MimeSignatures.HEADER_LENGTH);
+        }
+    }
+
+    private static String detect(byte[] header, String fileName) {
+        return MimeSignatures.detect(header, header.length, fileName);
+    }
+
+    private static byte[] ftyp(String majorBrand, String... compatibleBrands) {
+        int size = 16 + 4 * compatibleBrands.length;
+        StringBuilder box = new StringBuilder();
+        box.append((char) 0).append((char) 0).append((char) 0).append((char) size)
+           .append("ftyp").append(majorBrand).append("\0\0\0\0");
+        for (String brand : compatibleBrands) {
+            box.append(brand);
+        }
+        return box.toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    @ParameterizedTest
+    @MethodSource("testDataFiles")
+    void detect_withTestDataFile_returnsExpectedMimeType(String resource, String expectedMimeType) throws IOException {
+        byte[] header = readHeader(resource);
+
+        assertThat(MimeSignatures.detect(header, header.length, resource)).isEqualTo(expectedMimeType);
+    }
+
+    @Test
+    void detect_withUnsupportedContainer_returnsNull() throws IOException {
+        byte[] header = readHeader("test-data/video/mkv/test_mkv_clean.mkv");
+
+        assertThat(detect(header, "test_mkv_clean.mkv")).isNull();
+    }
+
+    @Test
+    void detect_withPlainText_returnsNull() {
+        assertThat(detect("Hello World".getBytes(StandardCharsets.US_ASCII), "notes.txt")).isNull();
+    }
+
+    @Test
+    void detect_withEmptyHeader_returnsNull() {
+        assertThat(MimeSignatures.detect(new byte[MimeSignatures.HEADER_LENGTH], 0, "empty.jpg")).isNull();
+    }
+
+    @Test
+    void detect_withTruncatedSignature_returnsNull() {
+        byte[] header = {(byte) 0x89, 'P', 'N', 'G'};
+
+        assertThat(detect(header, "cut.png")).isNull();
+    }
+
+    @Test
+    void detect_withTiffHeader_usesExtensionForPlainTiffRaws() {
+        byte[] header = {'I', 'I', 0x2A, 0x00, 0x08, 0x00, 0x00, 0x00, 0x00, 0x00};
+
+        assertThat(detect(header, "DSC_0001.NEF")).isEqualTo("image/x-nikon-nef");
+        assertThat(detect(header, "DSC00001.arw")).isEqualTo("image/x-sony-arw");
+        assertThat(detect(header, "IMG_0001.dng")).isEqualTo("image/x-adobe-dng");
+        assertThat(detect(header, "scan.tif")).isEqualTo("image/tiff");
+        assertThat(detect(header, "misnamed.jpg")).isEqualTo("image/tiff");
+    }
+
+    @Test
+    void detect_withCanonCr2Marker_ignoresExtension() {
+        byte[] header = {'I', 'I', 0x2A, 0x00, 0x10, 0x00, 0x00, 0x00, 'C', 'R', 0x02, 0x00};
+
+        assertThat(detect(header, "IMG_0001.tif")).isEqualTo("image/x-canon-cr2");
+    }
+
+    @Test
+    void detect_withVendorRawHeaders_returnsVendorType() {
+        assertThat(detect("IIRO\u0008\0\0\0".getBytes(StandardCharsets.ISO_8859_1), "a.orf"))
+                .isEqualTo("image/x-olympus-orf");
+        assertThat(detect("IIU\0\u0008\0\0\0".getBytes(StandardCharsets.ISO_8859_1), "a.rw2"))
+                .isEqualTo("image/x-panasonic-rw2");
+        assertThat(detect("FUJIFILMCCD-RAW 0201".getBytes(StandardCharsets.ISO_8859_1), "a.raf"))
+                .isEqualTo("image/x-fujifilm-raf");
+    }
+
+    @Test
+    void detect_withFtypBrands_returnsBrandType() {
+        assertThat(detect(ftyp("avif", "avif", "mif1"), "a.avif")).isEqualTo("image/avif");
+        assertThat(detect(ftyp("crx ", "crx ", "isom"), "a.cr3")).isEqualTo("image/x-canon-cr3");
+        assertThat(detect(ftyp("M4A ", "M4A ", "mp42"), "a.m4a")).isEqualTo("audio/mp4");
+        assertThat(detect(ftyp("3gp4", "3gp4"), "a.3gp")).isNull();
+    }
+
+    @Test
+    void detect_withStructuralHeifBrand_usesCompatibleBrands() {
+        assertThat(detect(ftyp("mif1", "mif1", "heic"), "a.heic")).isEqualTo("image/heic");
+        assertThat(detect(ftyp("mif1", "mif1", "avif"), "a.avif")).isEqualTo("image/avif");
+        assertThat(detect(ftyp("mif1", "mif1"), "a.heif")).isEqualTo("image/heif");
+    }
+
+    @Test
+    void detect_withGenericMp4BrandAndAudioExtension_returnsAudioMp4() {
+        assertThat(detect(ftyp("isom", "isom", "mp41"), "song.m4a")).isEqualTo("audio/mp4");
+        assertThat(detect(ftyp("isom", "isom", "mp41"), "clip.mp4")).isEqualTo("video/mp4");
+    }
+
+    @Test
+    void detect_withAdtsAacFrame_returnsNull() {
+        byte[] header = {(byte) 0xFF, (byte) 0xF1, 0x50, (byte) 0x80};
+
+        assertThat(detect(header, "a.aac")).isNull();
+    }
+}
@@ -7,6 +7,7 @@ import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 import lombok.extern.slf4j.Slf4j;
+import ua.renamer.app.backend.service.impl.PersistentFileMetadataCache;
 import ua.renamer.app.ui.config.DIAppModule;
 import ua.renamer.app.ui.config.DICoreModule;
 import ua.renamer.app.ui.config.DIUIModule;
@@ -71,4 +72,11 @@ public class RenamerApplication extends Application {
         stage.show();
     }
 
+    // The stop method runs when the application exits; flush state that is written lazily
+    @Override
+    public void stop() {
+        injector.getInstance(PersistentFileMetadataCache.class).close();
+        log.debug("Application stopped");
+    }
+
 }
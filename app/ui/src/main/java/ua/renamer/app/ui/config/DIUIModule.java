@@ -24,6 +24,7 @@ import ua.renamer.app.ui.controller.mode.impl.ModeRemoveTextController;
 import ua.renamer.app.ui.controller.mode.impl.ModeReplaceTextController;
 import ua.renamer.app.ui.controller.mode.impl.ModeTrimNameController;
 import ua.renamer.app.ui.converter.AppModesConverter;
+import ua.renamer.app.ui.converter.ContentDuplicatePolicyConverter;
 import ua.renamer.app.ui.converter.DateFormatConverter;
 import ua.renamer.app.ui.converter.DateTimeFormatConverter;
 import ua.renamer.app.ui.converter.DateTimeSourceConverter;
@@ -92,6 +93,7 @@ public class DIUIModule extends AbstractModule {
 
     private void bindStringConverters() {
         bind(AppModesConverter.class).in(Singleton.class);
+        bind(ContentDuplicatePolicyConverter.class).in(Singleton.class);
         bind(DateFormatConverter.class).in(Singleton.class);
         bind(DateTimeFormatConverter.class).in(Singleton.class);
         bind(DateTimeSourceConverter.class).in(Singleton.class);
@@ -39,15 +39,18 @@ import javafx.stage.Modality;
 import javafx.util.Duration;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import ua.renamer.app.api.enums.PipelineStage;
 import ua.renamer.app.api.model.FolderDropOptions;
 import ua.renamer.app.api.model.RenameStatus;
 import ua.renamer.app.api.model.TransformationMode;
 import ua.renamer.app.api.session.ModeApi;
 import ua.renamer.app.api.session.ModeParameters;
+import ua.renamer.app.api.session.ProgressSnapshot;
 import ua.renamer.app.api.session.RenameCandidate;
 import ua.renamer.app.api.session.RenamePreview;
 import ua.renamer.app.api.session.RenameSessionResult;
 import ua.renamer.app.api.session.SessionApi;
+import ua.renamer.app.api.session.TaskHandle;
 import ua.renamer.app.backend.service.FolderExpansionService;
 import ua.renamer.app.ui.controller.mode.ModeControllerV2Api;
 import ua.renamer.app.ui.converter.AppModesConverter;
@@ -72,6 +75,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -255,6 +259,9 @@ public class ApplicationMainViewController implements Initializable {
                             new SimpleStringProperty(languageTextRetriever.getString(TextKeys.NOT_RENAMED_BECAUSE_OF_ERROR));
                 };
             }
+            if (p.duplicateOf() != null) {
+                return new SimpleStringProperty(languageTextRetriever.getString(TextKeys.CONTENT_DUPLICATE_OF_EARLIER_FILE));
+            }
             if (p.newName() != null && !p.newName().equals(p.originalName())) {
                 return new SimpleStringProperty(languageTextRetriever.getString(TextKeys.NO_ACTIONS_HAPPEN));
             }
@@ -311,14 +318,18 @@ public class ApplicationMainViewController implements Initializable {
                     if (result != null) {
                         badgeClass = switch (result.status()) {
                             case SUCCESS -> "badge-success";
-                            case SKIPPED -> "badge-warning";
+                            case SKIPPED, CANCELLED -> "badge-warning";
                             default -> "badge-error";
                         };
                         badgeText = switch (result.status()) {
                             case SUCCESS -> "✓ Renamed";
                             case SKIPPED -> "⚠ Skipped";
+                            case CANCELLED -> "⚠ Cancelled";
                             default -> "✕ Error";
                         };
+                    } else if (preview.duplicateOf() != null) {
+                        badgeClass = "badge-warning";
+                        badgeText = "⚠ Duplicate";
                     } else if (preview.newName() != null && !preview.newName().equals(preview.originalName())) {
                         badgeClass = "badge-pending";
                         badgeText = "● Pending";
@@ -640,24 +651,36 @@ public class ApplicationMainViewController implements Initializable {
             }
         }
 
-        var metaOpt = sessionApi.getFileMetadata(preview.fileId());
-        metaOpt.ifPresent(dto -> {
-            String na = languageTextRetriever.getString(TextKeys.METADATA_NOT_AVAILABLE);
-            boolean isDir = candidate != null && Files.isDirectory(candidate.path());
-            if (dto.mimeType() != null && !dto.mimeType().isBlank()) {
-                addRow.accept(leftCol, new String[]{languageTextRetriever.getString(TextKeys.FILE_MIME_TYPE), dto.mimeType()});
-            }
-            if (!isDir && ("IMAGE".equals(dto.category()) || "VIDEO".equals(dto.category()))) {
-                addRow.accept(rightCol, new String[]{languageTextRetriever.getString(TextKeys.FILE_CONTENT_CREATION_TIME), dto.contentCreationDate() != null ? dto.contentCreationDate().format(fmt) : na});
-                addRow.accept(rightCol, new String[]{languageTextRetriever.getString(TextKeys.WIDTH), dto.widthPx() != null ? dto.widthPx() + " px" : na});
-                addRow.accept(rightCol, new String[]{languageTextRetriever.getString(TextKeys.HEIGHT), dto.heightPx() != null ? dto.heightPx() + " px" : na});
-            }
-            if (!isDir && "AUDIO".equals(dto.category())) {
-                addRow.accept(rightCol, new String[]{languageTextRetriever.getString(TextKeys.SONG_AUTHOR), dto.audioArtist() != null ? dto.audioArtist() : na});
-                addRow.accept(rightCol, new String[]{languageTextRetriever.getString(TextKeys.SONG_NAME), dto.audioTitle() != null ? dto.audioTitle() : na});
-                addRow.accept(rightCol, new String[]{languageTextRetriever.getString(TextKeys.SONG_ALBUM), dto.audioAlbum() != null ? dto.audioAlbum() : na});
-                addRow.accept(rightCol, new String[]{languageTextRetriever.getString(TextKeys.SONG_YEAR), dto.audioYear() != null ? String.valueOf(dto.audioYear()) : na});
+        // Metadata may need a disk read, so its rows are filled in once the work pool has loaded it
+        var leftMeta = new VBox();
+        leftCol.getChildren().add(leftMeta);
+        var rightMeta = new VBox();
+        rightCol.getChildren().add(rightMeta);
+        sessionApi.getFileMetadata(preview.fileId()).thenAcceptAsync(metaOpt -> {
+            if (lastFileInfoPreview != preview) {
+                return;
             }
+            metaOpt.ifPresent(dto -> {
+                String na = languageTextRetriever.getString(TextKeys.METADATA_NOT_AVAILABLE);
+                boolean isDir = candidate != null && Files.isDirectory(candidate.path());
+                if (dto.mimeType() != null && !dto.mimeType().isBlank()) {
+                    addRow.accept(leftMeta, new String[]{languageTextRetriever.getString(TextKeys.FILE_MIME_TYPE), dto.mimeType()});
+                }
+                if (!isDir && ("IMAGE".equals(dto.category()) || "VIDEO".equals(dto.category()))) {
+                    addRow.accept(rightMeta, new String[]{languageTextRetriever.getString(TextKeys.FILE_CONTENT_CREATION_TIME), dto.contentCreationDate() != null ? dto.contentCreationDate().format(fmt) : na});
+                    addRow.accept(rightMeta, new String[]{languageTextRetriever.getString(TextKeys.WIDTH), dto.widthPx() != null ? dto.widthPx() + " px" : na});
+                    addRow.accept(rightMeta, new String[]{languageTextRetriever.getString(TextKeys.HEIGHT), dto.heightPx() != null ? dto.heightPx() + " px" : na});
+                }
+                if (!isDir && "AUDIO".equals(dto.category())) {
+                    addRow.accept(rightMeta, new String[]{languageTextRetriever.getString(TextKeys.SONG_AUTHOR), dto.audioArtist() != null ? dto.audioArtist() : na});
+                    addRow.accept(rightMeta, new String[]{languageTextRetriever.getString(TextKeys.SONG_NAME), dto.audioTitle() != null ? dto.audioTitle() : na});
+                    addRow.accept(rightMeta, new String[]{languageTextRetriever.getString(TextKeys.SONG_ALBUM), dto.audioAlbum() != null ? dto.audioAlbum() : na});
+                    addRow.accept(rightMeta, new String[]{languageTextRetriever.getString(TextKeys.SONG_YEAR), dto.audioYear() != null ? String.valueOf(dto.audioYear()) : na});
+                }
+            });
+        }, Platform::runLater).exceptionally(e -> {
+            log.debug("Failed to load metadata for '{}': {}", preview.fileId(), e.getMessage());
+            return null;
         });
 
         if (preview.hasError() && preview.errorMessage() != null) {
@@ -685,15 +708,7 @@ public class ApplicationMainViewController implements Initializable {
         }
         log.debug("handleRenameBtnClicked. Confirmed");
         var handle = sessionApi.execute();
-        handle.addProgressListener((workDone, totalWork, message) -> Platform.runLater(() -> {
-            if (totalWork > 0) {
-                appProgressBar.setProgress(workDone / totalWork);
-                progressLabel.setText(MessageFormat.format(languageTextRetriever.getString(TextKeys.PROGRESS_RENAMING_N), (long) workDone, (long) totalWork));
-            } else {
-                appProgressBar.setProgress(ProgressBar.INDETERMINATE_PROGRESS);
-                progressLabel.setText(languageTextRetriever.getString(TextKeys.PROGRESS_RENAMING));
-            }
-        }));
+        handle.addProgressListener(new RenameProgressListener());
         handle.result().thenRunAsync(() -> {
             appProgressBar.setProgress(0);
             progressLabel.setText(languageTextRetriever.getString(TextKeys.PROGRESS_DONE));
@@ -702,6 +717,61 @@ public class ApplicationMainViewController implements Initializable {
         }, Platform::runLater);
     }
 
+    private void showRenameProgress(ProgressSnapshot snapshot) {
+        if (snapshot.totalWork() <= 0) {
+            appProgressBar.setProgress(ProgressBar.INDETERMINATE_PROGRESS);
+            progressLabel.setText(languageTextRetriever.getString(TextKeys.PROGRESS_RENAMING));
+            return;
+        }
+        appProgressBar.setProgress((double) snapshot.workDone() / snapshot.totalWork());
+        // workDone counts pipeline units (several per file); the label shows whole files
+        if (snapshot.totalFiles() <= 0) {
+            progressLabel.setText(languageTextRetriever.getString(TextKeys.PROGRESS_RENAMING));
+            return;
+        }
+        if (snapshot.stage() == null || snapshot.eta() == null || snapshot.filesPerSecond() <= 0) {
+            progressLabel.setText(MessageFormat.format(languageTextRetriever.getString(TextKeys.PROGRESS_RENAMING_N),
+                                                       snapshot.filesDone(), snapshot.totalFiles()));
+            return;
+        }
+        long etaSeconds = snapshot.eta().toSeconds();
+        String eta = "%d:%02d".formatted(etaSeconds / 60, etaSeconds % 60);
+        progressLabel.setText(MessageFormat.format(languageTextRetriever.getString(TextKeys.PROGRESS_RENAMING_RATE),
+                                                   snapshot.filesDone(), snapshot.totalFiles(),
+                                                   languageTextRetriever.getString(stageTextKey(snapshot.stage())),
+                                                   Math.round(snapshot.filesPerSecond()),
+                                                   formatFileSize(Math.round(snapshot.bytesPerSecond())), eta));
+    }
+
+    private static TextKeys stageTextKey(PipelineStage stage) {
+        return switch (stage) {
+            case EXTRACT -> TextKeys.PROGRESS_STAGE_EXTRACT;
+            case TRANSFORM -> TextKeys.PROGRESS_STAGE_TRANSFORM;
+            case RENAME -> TextKeys.PROGRESS_STAGE_RENAME;
+        };
+    }
+
+    /**
+     * Keeps at most one progress update queued on the FX thread; samples arriving while one is
+     * pending replace it, so the label always shows the latest state.
+     */
+    private final class RenameProgressListener implements TaskHandle.ProgressListener {
+
+        private final AtomicReference<ProgressSnapshot> pending = new AtomicReference<>();
+
+        @Override
+        public void onProgress(double workDone, double totalWork, String message) {
+            onProgress(new ProgressSnapshot(null, (long) workDone, (long) totalWork, -1, -1, 0, 0, null));
+        }
+
+        @Override
+        public void onProgress(ProgressSnapshot snapshot) {
+            if (pending.getAndSet(snapshot) == null) {
+                Platform.runLater(() -> showRenameProgress(pending.getAndSet(null)));
+            }
+        }
+    }
+
     private boolean showConfirmationDialog() {
         var alert = new Alert(Alert.AlertType.CONFIRMATION);
         alert.setTitle(languageTextRetriever.getString(TextKeys.DIALOG_CONFIRM_HEADER));
@@ -13,6 +13,8 @@ import javafx.scene.control.CheckBox;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.Dialog;
 import javafx.scene.control.ListCell;
+import javafx.scene.control.Spinner;
+import javafx.scene.control.SpinnerValueFactory;
 import javafx.scene.control.TextField;
 import javafx.scene.input.Clipboard;
 import javafx.scene.input.ClipboardContent;
@@ -24,10 +26,12 @@ import javafx.stage.Modality;
 import javafx.stage.Window;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import ua.renamer.app.api.settings.AppDefaults;
 import ua.renamer.app.api.settings.AppSettings;
 import ua.renamer.app.api.settings.LogLevel;
 import ua.renamer.app.api.settings.SettingsService;
 import ua.renamer.app.backend.settings.LoggingConfigService;
+import ua.renamer.app.backend.settings.PerformanceConfigService;
 import ua.renamer.app.ui.enums.TextKeys;
 import ua.renamer.app.ui.enums.ViewNames;
 import ua.renamer.app.ui.service.AppResourceRegistryApi;
@@ -87,6 +91,7 @@ public class SettingsDialogController implements Initializable {
     private final SettingsService settingsService;
     private final LanguageTextRetrieverApi languageTextRetriever;
     private final LoggingConfigService loggingConfigService;
+    private final PerformanceConfigService performanceConfigService;
     private final ViewLoaderApi viewLoader;
     private final AppResourceRegistryApi appResources;
 
@@ -108,6 +113,12 @@ public class SettingsDialogController implements Initializable {
     private ComboBox<LogLevel> logLevelComboBox;
     @FXML
     private TextField logFilePathField;
+    @FXML
+    private Spinner<Integer> extractionPermitsSpinner;
+    @FXML
+    private Spinner<Integer> renameParallelismSpinner;
+    @FXML
+    private Spinner<Integer> imageHeaderReadSpinner;
 
     @Override
     public void initialize(URL url, ResourceBundle resources) {
@@ -115,6 +126,19 @@ public class SettingsDialogController implements Initializable {
         logLevelComboBox.getItems().setAll(LogLevel.values());
         logLevelComboBox.setCellFactory(_ -> new LogLevelCell());
         logLevelComboBox.setButtonCell(new LogLevelCell());
+        extractionPermitsSpinner.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(
+                AppDefaults.MIN_EXTRACTION_PERMITS_PER_DEVICE,
+                AppDefaults.MAX_EXTRACTION_PERMITS_PER_DEVICE,
+                AppDefaults.DEFAULT_EXTRACTION_PERMITS_PER_DEVICE));
+        renameParallelismSpinner.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(
+                AppDefaults.MIN_RENAME_PARALLELISM,
+                AppDefaults.MAX_RENAME_PARALLELISM,
+                AppDefaults.DEFAULT_RENAME_PARALLELISM));
+        imageHeaderReadSpinner.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(
+                AppDefaults.MIN_IMAGE_HEADER_READ_KB,
+                AppDefaults.MAX_IMAGE_HEADER_READ_KB,
+                AppDefaults.DEFAULT_IMAGE_HEADER_READ_KB,
+                64));
     }
 
     public void show(Window owner) {
@@ -156,6 +180,7 @@ public class SettingsDialogController implements Initializable {
             try {
                 settingsService.save(updated);
                 loggingConfigService.reconfigure(updated);
+                performanceConfigService.reconfigure(updated);
             } catch (IOException e) {
                 log.error("Failed to save settings", e);
                 Alert alert = new Alert(Alert.AlertType.ERROR,
@@ -275,6 +300,10 @@ public class SettingsDialogController implements Initializable {
                 logFilePathField.setText(logPath.toString());
             }
         }
+
+        extractionPermitsSpinner.getValueFactory().setValue(settings.getExtractionPermitsPerDevice());
+        renameParallelismSpinner.getValueFactory().setValue(settings.getRenameParallelism());
+        imageHeaderReadSpinner.getValueFactory().setValue(settings.getImageHeaderReadKb());
     }
 
     private AppSettings collectSettings() {
@@ -290,6 +319,12 @@ public class SettingsDialogController implements Initializable {
                 .withCustomConfigPath(settingsService.getCurrent().getCustomConfigPath())
                 .withLoggingEnabled(loggingCheckbox.isSelected())
                 .withLogLevel(level)
+                .withExtractionPermitsPerDevice(extractionPermitsSpinner.getValue() != null
+                        ? extractionPermitsSpinner.getValue() : AppDefaults.DEFAULT_EXTRACTION_PERMITS_PER_DEVICE)
+                .withRenameParallelism(renameParallelismSpinner.getValue() != null
+                        ? renameParallelismSpinner.getValue() : AppDefaults.DEFAULT_RENAME_PARALLELISM)
+                .withImageHeaderReadKb(imageHeaderReadSpinner.getValue() != null
+                        ? imageHeaderReadSpinner.getValue() : AppDefaults.DEFAULT_IMAGE_HEADER_READ_KB)
                 .build();
     }
 
@@ -10,11 +10,13 @@ import javafx.scene.control.Spinner;
 import javafx.scene.control.SpinnerValueFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import ua.renamer.app.api.enums.ContentDuplicatePolicy;
 import ua.renamer.app.api.enums.SortSource;
 import ua.renamer.app.api.model.TransformationMode;
 import ua.renamer.app.api.session.ModeApi;
 import ua.renamer.app.api.session.SequenceParams;
 import ua.renamer.app.ui.controller.mode.ModeControllerV2Api;
+import ua.renamer.app.ui.converter.ContentDuplicatePolicyConverter;
 import ua.renamer.app.ui.converter.SortSourceConverter;
 
 import java.net.URL;
@@ -29,6 +31,7 @@ public class ModeNumberFilesController
         implements ModeControllerV2Api<SequenceParams>, Initializable {
 
     private final SortSourceConverter converter;
+    private final ContentDuplicatePolicyConverter contentDuplicatesConverter;
 
     @FXML
     private Spinner<Integer> startSeqNumberSpinner;
@@ -40,12 +43,15 @@ public class ModeNumberFilesController
     private ChoiceBox<SortSource> sortingSourceChoiceBox;
     @FXML
     private CheckBox perFolderCountingCheckBox;
+    @FXML
+    private ChoiceBox<ContentDuplicatePolicy> contentDuplicatesChoiceBox;
 
     private ChangeListener<Integer> startListener;
     private ChangeListener<Integer> stepListener;
     private ChangeListener<Integer> paddingListener;
     private ChangeListener<SortSource> sortSourceListener;
     private ChangeListener<Boolean> perFolderListener;
+    private ChangeListener<ContentDuplicatePolicy> contentDuplicatesListener;
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
@@ -53,6 +59,7 @@ public class ModeNumberFilesController
         configStepValueSpinner();
         configMinDigitAmountSpinner();
         configSortingSourceChoiceBox();
+        configContentDuplicatesChoiceBox();
     }
 
     private void configStartSeqNumberSpinner() {
@@ -86,6 +93,13 @@ public class ModeNumberFilesController
         sortingSourceChoiceBox.setConverter(converter);
     }
 
+    private void configContentDuplicatesChoiceBox() {
+        log.info("configContentDuplicatesChoiceBox()");
+        contentDuplicatesChoiceBox.getItems().addAll(ContentDuplicatePolicy.values());
+        contentDuplicatesChoiceBox.setValue(ContentDuplicatePolicy.IGNORE);
+        contentDuplicatesChoiceBox.setConverter(contentDuplicatesConverter);
+    }
+
     @Override
     public TransformationMode supportedMode() {
         return TransformationMode.NUMBER_FILES;
@@ -111,12 +125,18 @@ public class ModeNumberFilesController
         if (perFolderListener != null) {
             perFolderCountingCheckBox.selectedProperty().removeListener(perFolderListener);
         }
+        if (contentDuplicatesListener != null) {
+            contentDuplicatesChoiceBox.getSelectionModel().selectedItemProperty().removeListener(contentDuplicatesListener);
+        }
 
         // ── Init ──────────────────────────────────────────────────────────────
         startSeqNumberSpinner.getValueFactory().setValue(params.startNumber());
         stepValueSpinner.getValueFactory().setValue(params.stepValue());
         minDigitAmountSpinner.getValueFactory().setValue(params.paddingDigits());
         perFolderCountingCheckBox.setSelected(params.perFolderCounting());
+        if (params.contentDuplicates() != null) {
+            contentDuplicatesChoiceBox.setValue(params.contentDuplicates());
+        }
 
         if (params.sortSource() != null) {
             var coreSort = ua.renamer.app.api.enums.SortSource.valueOf(params.sortSource().name());
@@ -162,6 +182,14 @@ public class ModeNumberFilesController
             modeApi.updateParameters(p -> p.withPerFolderCounting(newVal));
         };
         perFolderCountingCheckBox.selectedProperty().addListener(perFolderListener);
+
+        contentDuplicatesListener = (obs, oldVal, newVal) -> {
+            if (newVal != null) {
+                log.debug("bind: contentDuplicates changed → {}", newVal);
+                modeApi.updateParameters(p -> p.withContentDuplicates(newVal));
+            }
+        };
+        contentDuplicatesChoiceBox.getSelectionModel().selectedItemProperty().addListener(contentDuplicatesListener);
     }
 
 }
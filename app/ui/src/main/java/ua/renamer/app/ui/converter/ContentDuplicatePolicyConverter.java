@@ -0,0 +1,47 @@
+package ua.renamer.app.ui.converter;
+
+import com.google.inject.Inject;
+import javafx.util.StringConverter;
+import lombok.RequiredArgsConstructor;
+import ua.renamer.app.api.enums.ContentDuplicatePolicy;
+import ua.renamer.app.ui.enums.TextKeys;
+import ua.renamer.app.ui.service.LanguageTextRetrieverApi;
+
+/**
+ * A converter class that extends {@link StringConverter} to convert between
+ * {@link ContentDuplicatePolicy} and their corresponding string representations.
+ */
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class ContentDuplicatePolicyConverter extends StringConverter<ContentDuplicatePolicy> {
+
+    private final LanguageTextRetrieverApi languageTextRetriever;
+
+    /**
+     * Converts a {@link ContentDuplicatePolicy} enum constant to its corresponding string
+     * representation using {@link LanguageTextRetrieverApi}.
+     *
+     * @param object The {@link ContentDuplicatePolicy} enum constant to be converted to a string.
+     * @return The string representation of the provided {@link ContentDuplicatePolicy} constant.
+     */
+    @Override
+    public String toString(ContentDuplicatePolicy object) {
+        return switch (object) {
+            case IGNORE -> languageTextRetriever.getString(TextKeys.CONTENT_DUPLICATES_IGNORE);
+            case FLAG -> languageTextRetriever.getString(TextKeys.CONTENT_DUPLICATES_FLAG);
+            case SKIP -> languageTextRetriever.getString(TextKeys.CONTENT_DUPLICATES_SKIP);
+        };
+    }
+
+    /**
+     * Converts a string back to a {@link ContentDuplicatePolicy} enum constant.
+     *
+     * @param string The string to be converted back to a {@link ContentDuplicatePolicy} enum constant.
+     * @return The corresponding {@link ContentDuplicatePolicy} enum constant, or {@code null} if not implemented.
+     * @implNote This method is not yet implemented and always returns {@code null}.
+     */
+    @Override
+    public ContentDuplicatePolicy fromString(String string) {
+        return null;
+    }
+
+}
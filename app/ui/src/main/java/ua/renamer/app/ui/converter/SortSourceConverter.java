@@ -27,6 +27,7 @@ public class SortSourceConverter extends StringConverter<SortSource> {
         // @formatter:off
         return switch (object) {
             case FILE_NAME -> languageTextRetriever.getString(TextKeys.FILE_SORTING_SOURCE_FILE_NAME);
+            case FILE_NAME_NATURAL -> languageTextRetriever.getString(TextKeys.FILE_SORTING_SOURCE_FILE_NAME_NATURAL);
             case FILE_PATH -> languageTextRetriever.getString(TextKeys.FILE_SORTING_SOURCE_FILE_PATH);
             case FILE_SIZE -> languageTextRetriever.getString(TextKeys.FILE_SORTING_SOURCE_FILE_SIZE);
             case FILE_CREATION_DATETIME -> languageTextRetriever.getString(TextKeys.FILE_SORTING_SOURCE_FILE_CREATION_DATETIME);
@@ -62,6 +62,7 @@ public enum TextKeys {
     MODE_NUMBER_FILES_LABEL_STEP_VALUE("mode_number_files_label_step_value"),
     MODE_NUMBER_FILES_LABEL_AMOUNT_OF_DIGITS("mode_number_files_label_amount_of_digits"),
     MODE_NUMBER_FILES_LABEL_SORTING_SOURCE("mode_number_files_label_sorting_source"),
+    MODE_NUMBER_FILES_LABEL_CONTENT_DUPLICATES("mode_number_files_label_content_duplicates"),
     MODE_TRUNCATE_LABEL_POSITION("mode_truncate_label_position"),
     MODE_TRUNCATE_LABEL_AMOUNT_OF_SYMBOLS("mode_truncate_label_amount_of_symbols"),
     MODE_CHANGE_EXTENSION_LABEL_NEW_EXTENSION("mode_change_extension_label_new_extension"),
@@ -75,6 +76,7 @@ public enum TextKeys {
     DATE_TIME_SOURCE_CURRENT_DATETIME("date_time_source_current_datetime"),
     DATE_TIME_SOURCE_CUSTOM_DATETIME("date_time_source_custom_datetime"),
     FILE_SORTING_SOURCE_FILE_NAME("file_sorting_source_file_name"),
+    FILE_SORTING_SOURCE_FILE_NAME_NATURAL("file_sorting_source_file_name_natural"),
     FILE_SORTING_SOURCE_FILE_PATH("file_sorting_source_file_path"),
     FILE_SORTING_SOURCE_FILE_SIZE("file_sorting_source_file_size"),
     FILE_SORTING_SOURCE_FILE_CREATION_DATETIME("file_sorting_source_file_creation_datetime"),
@@ -82,6 +84,9 @@ public enum TextKeys {
     FILE_SORTING_SOURCE_FILE_CONTENT_CREATION_DATETIME("file_sorting_source_file_content_creation_datetime"),
     FILE_SORTING_SOURCE_IMG_VID_WIDTH("file_sorting_source_img_vid_width"),
     FILE_SORTING_SOURCE_IMG_VID_HEIGHT("file_sorting_source_img_vid_height"),
+    CONTENT_DUPLICATES_IGNORE("content_duplicates_ignore"),
+    CONTENT_DUPLICATES_FLAG("content_duplicates_flag"),
+    CONTENT_DUPLICATES_SKIP("content_duplicates_skip"),
     TYPE_FILE("type_file"),
     TYPE_FOLDER("type_folder"),
     EMPTY_FILES_TABLE_PLACEHOLDER("empty_files_table_placeholder"),
@@ -121,6 +126,7 @@ public enum TextKeys {
     NO_ACTIONS_HAPPEN("no_actions_happen"),
     RENAMED_WITHOUT_ERRORS("renamed_without_errors"),
     NOT_RENAMED_BECAUSE_NOT_NEEDED("not_renamed_because_not_needed"),
+    CONTENT_DUPLICATE_OF_EARLIER_FILE("content_duplicate_of_earlier_file"),
     NOT_RENAMED_BECAUSE_OF_ERROR("not_renamed_because_of_error"),
     FILE_NEW_NAME("file_new_name"),
     FILE_SIZE("file_size"),
@@ -129,6 +135,10 @@ public enum TextKeys {
     PROGRESS_LOADING("progress_loading"),
     PROGRESS_RENAMING("progress_renaming"),
     PROGRESS_RENAMING_N("progress_renaming_n"),
+    PROGRESS_RENAMING_RATE("progress_renaming_rate"),
+    PROGRESS_STAGE_EXTRACT("progress_stage_extract"),
+    PROGRESS_STAGE_TRANSFORM("progress_stage_transform"),
+    PROGRESS_STAGE_RENAME("progress_stage_rename"),
     PROGRESS_DONE("progress_done"),
     FILE_INFO_NO_SELECTION("file_info_no_selection"),
     MENU_MODE("menu_mode"),
@@ -153,6 +163,13 @@ public enum TextKeys {
     SETTINGS_LOGGING_ENABLE("settings_logging_enable"),
     SETTINGS_LOGGING_LEVEL_LABEL("settings_logging_level_label"),
     SETTINGS_LOGGING_OPEN_BTN("settings_logging_open_btn"),
+    SETTINGS_SECTION_PERFORMANCE("settings_section_performance"),
+    SETTINGS_EXTRACTION_PERMITS_LABEL("settings_extraction_permits_label"),
+    SETTINGS_EXTRACTION_PERMITS_ANNOTATION("settings_extraction_permits_annotation"),
+    SETTINGS_RENAME_PARALLELISM_LABEL("settings_rename_parallelism_label"),
+    SETTINGS_RENAME_PARALLELISM_ANNOTATION("settings_rename_parallelism_annotation"),
+    SETTINGS_IMAGE_HEADER_READ_LABEL("settings_image_header_read_label"),
+    SETTINGS_IMAGE_HEADER_READ_ANNOTATION("settings_image_header_read_annotation"),
     SETTINGS_BTN_SAVE("settings_btn_save"),
     SETTINGS_BTN_CANCEL("settings_btn_cancel"),
     MENU_SETTINGS_OPEN("menu_settings_open"),
@@ -16,7 +16,9 @@ import ua.renamer.app.api.session.RenameSessionResult;
 import ua.renamer.app.api.session.SessionStatus;
 import ua.renamer.app.api.session.StatePublisher;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * FX-thread-safe bridge between backend state and JavaFX observable properties.
@@ -130,6 +132,20 @@ public class FxStateMirror implements StatePublisher {
         Platform.runLater(() -> previewList.setAll(preview));
     }
 
+    @Override
+    public void publishPreviewRowsChanged(List<RenamePreview> changedRows) {
+        Map<String, RenamePreview> byId = new HashMap<>();
+        changedRows.forEach(row -> byId.put(row.fileId(), row));
+        Platform.runLater(() -> {
+            for (int i = 0; i < previewList.size() && !byId.isEmpty(); i++) {
+                RenamePreview replacement = byId.remove(previewList.get(i).fileId());
+                if (replacement != null) {
+                    previewList.set(i, replacement);
+                }
+            }
+        });
+    }
+
     @Override
     public void publishModeChanged(TransformationMode mode, ModeParameters params) {
         Platform.runLater(() -> {
@@ -17,10 +17,12 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ua.renamer.app.api.enums.ContentDuplicatePolicy;
 import ua.renamer.app.api.model.TransformationMode;
 import ua.renamer.app.api.session.ModeApi;
 import ua.renamer.app.api.session.SequenceParams;
 import ua.renamer.app.api.session.ValidationResult;
+import ua.renamer.app.ui.converter.ContentDuplicatePolicyConverter;
 import ua.renamer.app.ui.converter.SortSourceConverter;
 import ua.renamer.app.ui.service.LanguageTextRetrieverApi;
 
@@ -128,6 +130,26 @@ class ModeNumberFilesControllerTest {
         f.set(target, checkBox);
     }
 
+    private static void injectContentDuplicatesChoiceBox(
+            ModeNumberFilesController target,
+            ChoiceBox<ContentDuplicatePolicy> box) throws Exception {
+        Field f = ModeNumberFilesController.class.getDeclaredField("contentDuplicatesChoiceBox");
+        f.setAccessible(true);
+        f.set(target, box);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ChoiceBox<ContentDuplicatePolicy> readContentDuplicatesBoxUnchecked(
+            ModeNumberFilesController target) {
+        try {
+            Field f = ModeNumberFilesController.class.getDeclaredField("contentDuplicatesChoiceBox");
+            f.setAccessible(true);
+            return (ChoiceBox<ContentDuplicatePolicy>) f.get(target);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private static CheckBox readPerFolderCheckBoxUnchecked(ModeNumberFilesController target) {
         try {
             Field f = ModeNumberFilesController.class.getDeclaredField("perFolderCountingCheckBox");
@@ -245,7 +267,8 @@ class ModeNumberFilesControllerTest {
     @BeforeEach
     void setUp() throws Exception {
         SortSourceConverter converter = new SortSourceConverter(languageTextRetriever);
-        controller = new ModeNumberFilesController(converter);
+        controller = new ModeNumberFilesController(converter,
+                new ContentDuplicatePolicyConverter(languageTextRetriever));
 
         // @FXML field 1: startSeqNumberSpinner — range [0, MAX_VALUE], initial = 0
         Spinner<Integer> startSpinner = new Spinner<>(
@@ -272,6 +295,9 @@ class ModeNumberFilesControllerTest {
         // @FXML field 5: perFolderCountingCheckBox — unchecked by default
         injectPerFolderCountingCheckBox(controller, new CheckBox());
 
+        // @FXML field 6: contentDuplicatesChoiceBox — populated by initialize(), initial = IGNORE
+        injectContentDuplicatesChoiceBox(controller, new ChoiceBox<>());
+
         // Run initialize on the FX thread (mirrors FXML-loader lifecycle)
         runOnFxThreadAndWait(() -> controller.initialize(null, null));
     }
@@ -511,6 +537,41 @@ class ModeNumberFilesControllerTest {
             assertThat(updated.sortSource()).isEqualTo(apiSort);
         }
 
+        // ── Listener: contentDuplicatesChoiceBox → modeApi ───────────────────
+
+        @Test
+        void bind_initializesContentDuplicatesChoiceBoxFromParams() throws Exception {
+            when(modeApi.currentParameters()).thenReturn(
+                    defaultParams().withContentDuplicates(ContentDuplicatePolicy.SKIP));
+
+            runOnFxThreadAndWait(() -> controller.bind(modeApi));
+
+            assertThat(readContentDuplicatesBoxUnchecked(controller).getValue())
+                    .isEqualTo(ContentDuplicatePolicy.SKIP);
+        }
+
+        @Test
+        void contentDuplicates_change_propagatesPolicy() throws Exception {
+            when(modeApi.currentParameters()).thenReturn(defaultParams());
+            when(modeApi.updateParameters(any()))
+                    .thenReturn(CompletableFuture.completedFuture(ValidationResult.valid()));
+
+            runOnFxThreadAndWait(() -> controller.bind(modeApi));
+            clearInvocations(modeApi);
+            when(modeApi.updateParameters(any()))
+                    .thenReturn(CompletableFuture.completedFuture(ValidationResult.valid()));
+
+            runOnFxThreadAndWait(() -> readContentDuplicatesBoxUnchecked(controller)
+                    .setValue(ContentDuplicatePolicy.FLAG));
+
+            ArgumentCaptor<ModeApi.ParamMutator<SequenceParams>> captor =
+                    ArgumentCaptor.forClass(ModeApi.ParamMutator.class);
+            verify(modeApi, atLeastOnce()).updateParameters(captor.capture());
+
+            SequenceParams updated = captor.getValue().apply(defaultParams());
+            assertThat(updated.contentDuplicates()).isEqualTo(ContentDuplicatePolicy.FLAG);
+        }
+
         // ── Enum bridge — pure (no FX) ───────────────────────────────────────
 
         @ParameterizedTest(name = "api SortSource [{0}] maps to core enum without exception")
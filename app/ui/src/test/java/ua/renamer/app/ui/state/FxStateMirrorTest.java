@@ -112,6 +112,37 @@ class FxStateMirrorTest {
         assertThat(mirror.preview().get()).isEmpty();
     }
 
+    // --- publishPreviewRowsChanged ---
+
+    @Test
+    void publishPreviewRowsChanged_replacesOnlyMatchingRowsInPlace() throws InterruptedException {
+        var first = new RenamePreview("id1", "a.txt", "a_v1.txt", false, null);
+        var second = new RenamePreview("id2", "b.txt", "b_v1.txt", false, null);
+        var third = new RenamePreview("id3", "c.txt", "c_v1.txt", false, null);
+        var secondUpdated = new RenamePreview("id2", "b.txt", "b_v2.txt", false, null);
+        CountDownLatch latch = new CountDownLatch(1);
+
+        mirror.publishPreviewChanged(List.of(first, second, third));
+        mirror.publishPreviewRowsChanged(List.of(secondUpdated));
+        Platform.runLater(latch::countDown);
+        assertThat(latch.await(TIMEOUT_MS, TimeUnit.MILLISECONDS)).isTrue();
+
+        assertThat(mirror.preview().get()).containsExactly(first, secondUpdated, third);
+    }
+
+    @Test
+    void publishPreviewRowsChanged_unknownFileId_isIgnored() throws InterruptedException {
+        var row = new RenamePreview("id1", "a.txt", "a_v1.txt", false, null);
+        CountDownLatch latch = new CountDownLatch(1);
+
+        mirror.publishPreviewChanged(List.of(row));
+        mirror.publishPreviewRowsChanged(List.of(new RenamePreview("other", "x.txt", "y.txt", false, null)));
+        Platform.runLater(latch::countDown);
+        assertThat(latch.await(TIMEOUT_MS, TimeUnit.MILLISECONDS)).isTrue();
+
+        assertThat(mirror.preview().get()).containsExactly(row);
+    }
+
     // --- publishModeChanged ---
 
     @Test
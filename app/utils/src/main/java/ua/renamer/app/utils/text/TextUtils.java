@@ -62,4 +62,77 @@ public class TextUtils {
         return "%s%s".formatted(name, fixedExt);
     }
 
+    /**
+     * Compares two strings in natural (human) order: runs of ASCII digits compare by numeric value, other
+     * characters compare case-insensitively, so "file2" sorts before "file10" and "File3" between them.
+     * Strings equal in natural order (e.g. "a01" and "a1", or "a" and "A") fall back to
+     * {@link String#compareTo(String)}, so the order is consistent with {@code equals}.
+     * Numbers of any length are compared without parsing or allocating.
+     *
+     * @param left  the first string, not null
+     * @param right the second string, not null
+     * @return a negative integer, zero, or a positive integer as {@code left} sorts before, equal to, or after
+     * {@code right}
+     */
+    public static int compareNatural(final String left, final String right) {
+        int leftLength = left.length();
+        int rightLength = right.length();
+        int i = 0;
+        int j = 0;
+        while (i < leftLength && j < rightLength) {
+            char a = left.charAt(i);
+            char b = right.charAt(j);
+            if (isAsciiDigit(a) && isAsciiDigit(b)) {
+                // Compare the digit runs by value: skip leading zeros, then the longer run is the larger number
+                int leftStart = skipZeros(left, i);
+                int rightStart = skipZeros(right, j);
+                int leftEnd = skipDigits(left, leftStart);
+                int rightEnd = skipDigits(right, rightStart);
+                int leftDigits = leftEnd - leftStart;
+                int rightDigits = rightEnd - rightStart;
+                if (leftDigits != rightDigits) {
+                    return Integer.compare(leftDigits, rightDigits);
+                }
+                for (int k = 0; k < leftDigits; k++) {
+                    int digit = Character.compare(left.charAt(leftStart + k), right.charAt(rightStart + k));
+                    if (digit != 0) {
+                        return digit;
+                    }
+                }
+                i = leftEnd;
+                j = rightEnd;
+                continue;
+            }
+            if (a != b) {
+                int letter = Character.compare(Character.toLowerCase(a), Character.toLowerCase(b));
+                if (letter != 0) {
+                    return letter;
+                }
+            }
+            i++;
+            j++;
+        }
+        int remaining = Integer.compare(leftLength - i, rightLength - j);
+        return remaining != 0 ? remaining : left.compareTo(right);
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int skipZeros(String text, int index) {
+        // Keep the last zero of an all-zero run so "0" still has one digit
+        while (index + 1 < text.length() && text.charAt(index) == '0' && isAsciiDigit(text.charAt(index + 1))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int skipDigits(String text, int index) {
+        while (index < text.length() && isAsciiDigit(text.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
 }
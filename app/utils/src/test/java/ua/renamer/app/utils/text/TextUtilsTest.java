@@ -44,6 +44,21 @@ class TextUtilsTest {
         );
     }
 
+    static Stream<Arguments> compareNaturalOrderedArguments() {
+        return Stream.of(
+                arguments("file2", "file10"),
+                arguments("file9.txt", "file10.txt"),
+                arguments("img_1_2", "img_1_10"),
+                arguments("a", "B"),
+                arguments("File3", "file10"),
+                arguments("file", "file1"),
+                arguments("2", "a"),
+                arguments("x0", "x00001"),
+                arguments("A1", "a01"),
+                arguments("file99999999999999999999", "file100000000000000000000")
+        );
+    }
+
     @ParameterizedTest
     @NullAndEmptySource
     @ValueSource(strings = {" ", "  ", "\n", "\t"})
@@ -78,4 +93,17 @@ class TextUtilsTest {
         assertEquals(expected, result);
     }
 
+    @ParameterizedTest
+    @MethodSource("compareNaturalOrderedArguments")
+    void testCompareNaturalOrdersLeftBeforeRight(String left, String right) {
+        assertTrue(TextUtils.compareNatural(left, right) < 0);
+        assertTrue(TextUtils.compareNatural(right, left) > 0);
+    }
+
+    @Test
+    void testCompareNaturalOfEqualStringsIsZero() {
+        assertEquals(0, TextUtils.compareNatural("photo 007.jpg", "photo 007.jpg"));
+        assertEquals(0, TextUtils.compareNatural("", ""));
+    }
+
 }